@@ -78,4 +78,15 @@ public @interface AnalyzeClasses {
      * @return The {@link CacheMode} to use for this test class.
      */
     CacheMode cacheMode() default CacheMode.FOREVER;
+
+    /**
+     * Controls, how many rules of the test class may be evaluated concurrently by the {@link ArchUnitRunner}.
+     * The rules share the imported {@link JavaClasses}, i.e. the classes are still imported only once.
+     * By default all rules are evaluated one after another.
+     * Frozen rules and methods annotated with {@link ArchTest} are never evaluated at the same time,
+     * since they might update the same violation store.
+     *
+     * @return The maximum number of rules to evaluate in parallel, must be positive
+     */
+    int parallelism() default 1;
 }
@@ -19,6 +19,7 @@ import java.lang.reflect.Field;
 
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.library.freeze.FreezingArchRule;
 import org.junit.runner.Description;
 
 class ArchRuleExecution extends ArchTestExecution {
@@ -38,13 +39,23 @@ class ArchRuleExecution extends ArchTestExecution {
     Result evaluateOn(JavaClasses classes) {
         ArchRule rule = getValue(ruleField, testClass);
         try {
-            rule.check(classes);
+            check(rule, classes);
         } catch (Exception | AssertionError e) {
             return new NegativeResult(describeSelf(), e);
         }
         return new PositiveResult();
     }
 
+    private void check(ArchRule rule, JavaClasses classes) {
+        if (rule instanceof FreezingArchRule) {
+            synchronized (FREEZE_STORE_LOCK) {
+                rule.check(classes);
+            }
+        } else {
+            rule.check(classes);
+        }
+    }
+
     @Override
     Description describeSelf() {
         return Description.createTestDescription(testClass, ruleField.getName());
@@ -26,6 +26,10 @@ import static com.tngtech.archunit.junit.ArchTestInitializationException.WRAP_CA
 import static com.tngtech.archunit.junit.ReflectionUtils.getValueOrThrowException;
 
 abstract class ArchTestExecution {
+    // NOTE: Violation stores (e.g. the default text file based store) are not necessarily safe to be updated concurrently,
+    //       so in case of parallel execution frozen rules must not be checked at the same time
+    static final Object FREEZE_STORE_LOCK = new Object();
+
     final Class<?> testClass;
     private final boolean ignore;
 
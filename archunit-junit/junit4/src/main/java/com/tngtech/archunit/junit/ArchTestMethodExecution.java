@@ -47,7 +47,10 @@ class ArchTestMethodExecution extends ArchTestExecution {
                 "Methods annotated with @%s must have exactly one parameter of type %s",
                 ArchTest.class.getSimpleName(), JavaClasses.class.getSimpleName());
 
-        invokeMethod(testMethod, testClass, classes);
+        // NOTE: The method might check frozen rules, thus it must not run at the same time as any other frozen rule
+        synchronized (FREEZE_STORE_LOCK) {
+            invokeMethod(testMethod, testClass, classes);
+        }
     }
 
     @Override
@@ -22,8 +22,16 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.core.domain.JavaClasses;
@@ -35,8 +43,10 @@ import org.junit.runners.ParentRunner;
 import org.junit.runners.model.FrameworkField;
 import org.junit.runners.model.FrameworkMethod;
 import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerScheduler;
 import org.junit.runners.model.Statement;
 
+import static com.google.common.base.Throwables.throwIfUnchecked;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.junit.ArchRuleDeclaration.elementShouldBeIgnored;
 import static com.tngtech.archunit.junit.ArchRuleDeclaration.toDeclarations;
@@ -59,6 +69,8 @@ import static com.tngtech.archunit.junit.ArchTestExecution.getValue;
  * </code></pre>
  *
  * The runner will cache classes between test runs, for details please refer to {@link ClassCache}.
+ * <br><br>
+ * The rules of a test class can be evaluated in parallel by configuring {@link AnalyzeClasses#parallelism()}.
  */
 @PublicAPI(usage = ACCESS)
 public class ArchUnitRunner extends ParentRunner<ArchTestExecution> {
@@ -67,7 +79,13 @@ public class ArchUnitRunner extends ParentRunner<ArchTestExecution> {
     @Internal
     public ArchUnitRunner(Class<?> testClass) throws InitializationError {
         super(testClass);
-        checkAnnotation(testClass);
+        int parallelism = checkAnnotation(testClass).parallelism();
+        ArchTestInitializationException.check(parallelism > 0,
+                "@%s.parallelism() of class %s must be positive, but was %d",
+                AnalyzeClasses.class.getSimpleName(), testClass.getSimpleName(), parallelism);
+        if (parallelism > 1) {
+            setScheduler(new ParallelScheduler(parallelism));
+        }
     }
 
     private static AnalyzeClasses checkAnnotation(Class<?> testClass) {
@@ -149,13 +167,19 @@ public class ArchUnitRunner extends ParentRunner<ArchTestExecution> {
             notifier.fireTestIgnored(describeChild(child));
         } else {
             notifier.fireTestStarted(describeChild(child));
-            Class<?> testClass = getTestClass().getJavaClass();
-            JavaClasses classes = cache.get().getClassesToAnalyzeFor(testClass, new JUnit4ClassAnalysisRequest(testClass));
+            JavaClasses classes = getClassesToAnalyze();
             child.evaluateOn(classes).notify(notifier);
             notifier.fireTestFinished(describeChild(child));
         }
     }
 
+    // NOTE: If the children run in parallel, only the first one must import the classes, all others must wait for the import
+    //       to be cached, since the classes are only cached by test class after the import has finished
+    private synchronized JavaClasses getClassesToAnalyze() {
+        Class<?> testClass = getTestClass().getJavaClass();
+        return cache.get().getClassesToAnalyzeFor(testClass, new JUnit4ClassAnalysisRequest(testClass));
+    }
+
     static class SharedCache {
         private static final ClassCache cache = new ClassCache();
 
@@ -168,6 +192,56 @@ public class ArchUnitRunner extends ParentRunner<ArchTestExecution> {
         }
     }
 
+    // NOTE: The RunNotifier is thread-safe, and ParentRunner only clears the cache after finished() has returned,
+    //       i.e. after all children have been run
+    private static class ParallelScheduler implements RunnerScheduler {
+        private static final ThreadFactory RULE_EXECUTION_THREAD_FACTORY = new ThreadFactoryBuilder()
+                .setNameFormat("archunit-rule-execution-%d")
+                .setDaemon(true)
+                .build();
+
+        private final int parallelism;
+        private final List<Future<?>> children = new ArrayList<>();
+        private ExecutorService executor;
+
+        ParallelScheduler(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        @Override
+        public void schedule(Runnable childStatement) {
+            if (executor == null) {
+                executor = Executors.newFixedThreadPool(parallelism, RULE_EXECUTION_THREAD_FACTORY);
+            }
+            children.add(executor.submit(childStatement));
+        }
+
+        // NOTE: Failures of a child should surface the same way they would for a sequential run, but only after all children are done
+        @Override
+        public void finished() {
+            try {
+                Throwable firstFailure = null;
+                for (Future<?> child : children) {
+                    try {
+                        Futures.getUnchecked(child);
+                    } catch (UncheckedExecutionException | ExecutionError e) {
+                        firstFailure = firstFailure != null ? firstFailure : e.getCause();
+                    }
+                }
+                if (firstFailure != null) {
+                    throwIfUnchecked(firstFailure);
+                    throw new IllegalStateException(firstFailure); // a Runnable can only throw unchecked exceptions
+                }
+            } finally {
+                children.clear();
+                if (executor != null) {
+                    executor.shutdownNow();
+                    executor = null;
+                }
+            }
+        }
+    }
+
     private static class ExecutionTransformer implements ArchRuleDeclaration.Handler {
         private final ImmutableSet.Builder<ArchTestExecution> executions = ImmutableSet.builder();
 
@@ -1,6 +1,12 @@
 package com.tngtech.archunit.junit;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
@@ -15,6 +21,9 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
 import org.junit.runner.notification.RunNotifier;
 import org.junit.runners.model.InitializationError;
 import org.mockito.ArgumentCaptor;
@@ -25,6 +34,7 @@ import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
 import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
+import static com.tngtech.archunit.junit.ArchUnitRunnerTestUtils.newRunnerFor;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -83,6 +93,46 @@ public class ArchUnitRunnerTest {
         verify(sharedCache).clear(SomeArchTest.class);
     }
 
+    @Test
+    public void runner_evaluates_rules_in_parallel_if_configured() {
+        ArchUnitRunner runnerOfParallelTest = newRunnerFor(ParallelArchTest.class, sharedCache);
+        when(cache.getClassesToAnalyzeFor(eq(ParallelArchTest.class), any(ClassAnalysisRequest.class))).thenReturn(importClasses(Object.class));
+        RecordingListener listener = new RecordingListener();
+        RunNotifier notifier = new RunNotifier();
+        notifier.addListener(listener);
+
+        runnerOfParallelTest.run(notifier);
+
+        assertThat(listener.failures).as("failures").isEmpty();
+        assertThat(listener.finished).as("finished rules").hasSize(2);
+        verify(sharedCache).clear(ParallelArchTest.class);
+    }
+
+    @Test
+    public void runner_evaluates_test_methods_one_after_another_even_if_parallel() {
+        ArchUnitRunner runnerOfParallelTest = newRunnerFor(ParallelArchTestMethods.class, sharedCache);
+        when(cache.getClassesToAnalyzeFor(eq(ParallelArchTestMethods.class), any(ClassAnalysisRequest.class))).thenReturn(importClasses(Object.class));
+        RecordingListener listener = new RecordingListener();
+        RunNotifier notifier = new RunNotifier();
+        notifier.addListener(listener);
+
+        runnerOfParallelTest.run(notifier);
+
+        assertThat(listener.failures).as("failures").isEmpty();
+        assertThat(listener.finished).as("finished methods").hasSize(2);
+        assertThat(ParallelArchTestMethods.maxConcurrentMethods.get()).as("max concurrent methods").isEqualTo(1);
+    }
+
+    @Test
+    public void rejects_non_positive_parallelism() throws InitializationError {
+        thrown.expect(ArchTestInitializationException.class);
+        thrown.expectMessage("parallelism()");
+        thrown.expectMessage(InvalidParallelismTest.class.getSimpleName());
+        thrown.expectMessage("must be positive");
+
+        new ArchUnitRunner(InvalidParallelismTest.class);
+    }
+
     @Test
     public void rejects_missing_analyze_annotation() throws InitializationError {
         thrown.expect(ArchTestInitializationException.class);
@@ -117,6 +167,80 @@ public class ArchUnitRunnerTest {
         }
     }
 
+    // NOTE: Both rules wait for each other, so the test can only succeed, if the rules are evaluated concurrently
+    @AnalyzeClasses(locations = DummyLocation.class, parallelism = 2)
+    public static class ParallelArchTest {
+        private static final CyclicBarrier bothRulesEvaluating = new CyclicBarrier(2);
+
+        @ArchTest
+        public static ArchRule rule1 = classes().should(awaitOtherRule());
+        @ArchTest
+        public static ArchRule rule2 = classes().should(awaitOtherRule());
+
+        private static ArchCondition<JavaClass> awaitOtherRule() {
+            return new ArchCondition<JavaClass>("await other rule") {
+                @Override
+                public void init(Iterable<JavaClass> allObjectsToTest) {
+                    try {
+                        bothRulesEvaluating.await(10, TimeUnit.SECONDS);
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+
+                @Override
+                public void check(JavaClass item, ConditionEvents events) {
+                }
+            };
+        }
+    }
+
+    // NOTE: @ArchTest methods might check frozen rules, so they must not overlap, even if the class is configured to run in parallel
+    @AnalyzeClasses(locations = DummyLocation.class, parallelism = 2)
+    public static class ParallelArchTestMethods {
+        private static final AtomicInteger concurrentMethods = new AtomicInteger();
+        static final AtomicInteger maxConcurrentMethods = new AtomicInteger();
+
+        @ArchTest
+        public static void method1(JavaClasses classes) throws InterruptedException {
+            recordConcurrency();
+        }
+
+        @ArchTest
+        public static void method2(JavaClasses classes) throws InterruptedException {
+            recordConcurrency();
+        }
+
+        private static void recordConcurrency() throws InterruptedException {
+            int current = concurrentMethods.incrementAndGet();
+            maxConcurrentMethods.set(Math.max(maxConcurrentMethods.get(), current));
+            Thread.sleep(200);
+            concurrentMethods.decrementAndGet();
+        }
+    }
+
+    @AnalyzeClasses(locations = DummyLocation.class, parallelism = 0)
+    public static class InvalidParallelismTest {
+        @ArchTest
+        public static void someTest(JavaClasses classes) {
+        }
+    }
+
+    private static class RecordingListener extends RunListener {
+        private final List<Description> finished = Collections.synchronizedList(new ArrayList<Description>());
+        private final List<Failure> failures = Collections.synchronizedList(new ArrayList<Failure>());
+
+        @Override
+        public void testFinished(Description description) {
+            finished.add(description);
+        }
+
+        @Override
+        public void testFailure(Failure failure) {
+            failures.add(failure);
+        }
+    }
+
     static class DummyLocation implements LocationProvider {
         @Override
         public Set<Location> get(Class<?> testClass) {
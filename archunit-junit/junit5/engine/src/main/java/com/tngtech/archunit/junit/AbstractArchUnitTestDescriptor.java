@@ -61,6 +61,15 @@ abstract class AbstractArchUnitTestDescriptor extends AbstractTestDescriptor imp
         return skipResult;
     }
 
+    // NOTE: All descriptors run in the default execution mode configured for the engine, which is held by the engine descriptor
+    @Override
+    public ExecutionMode getExecutionMode() {
+        return getParent()
+                .filter(parent -> parent instanceof Node<?>)
+                .map(parent -> ((Node<?>) parent).getExecutionMode())
+                .orElse(ExecutionMode.CONCURRENT);
+    }
+
     @Override
     public Set<TestTag> getTags() {
         Set<TestTag> result = new HashSet<>(tags);
@@ -20,7 +20,15 @@ import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 import org.junit.platform.engine.support.hierarchical.Node;
 
 class ArchUnitEngineDescriptor extends EngineDescriptor implements Node<ArchUnitEngineExecutionContext> {
-    ArchUnitEngineDescriptor(UniqueId uniqueId) {
+    private final ExecutionMode defaultExecutionMode;
+
+    ArchUnitEngineDescriptor(UniqueId uniqueId, ExecutionMode defaultExecutionMode) {
         super(uniqueId, "ArchUnit JUnit 5");
+        this.defaultExecutionMode = defaultExecutionMode;
+    }
+
+    @Override
+    public ExecutionMode getExecutionMode() {
+        return defaultExecutionMode;
     }
 }
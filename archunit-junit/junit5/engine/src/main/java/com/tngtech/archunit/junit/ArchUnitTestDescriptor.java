@@ -17,16 +17,20 @@ package com.tngtech.archunit.junit;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.ImportOption;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.library.freeze.FreezingArchRule;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,6 +42,7 @@ import static com.tngtech.archunit.junit.ReflectionUtils.getAllMethods;
 import static com.tngtech.archunit.junit.ReflectionUtils.getValueOrThrowException;
 import static com.tngtech.archunit.junit.ReflectionUtils.invokeMethod;
 import static com.tngtech.archunit.junit.ReflectionUtils.withAnnotation;
+import static java.util.Collections.singleton;
 
 class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements CreatesChildren {
     private static final Logger LOG = LoggerFactory.getLogger(ArchUnitTestDescriptor.class);
@@ -46,6 +51,11 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
     static final String FIELD_SEGMENT_TYPE = "field";
     static final String METHOD_SEGMENT_TYPE = "method";
 
+    // NOTE: Violation stores (e.g. the default text file based store) are not necessarily safe to be updated concurrently,
+    //       so in case of parallel execution frozen rules must not run at the same time. Since @ArchTest methods might
+    //       check frozen rules as well, they always hold this resource, too
+    static final ExclusiveResource FREEZE_STORE_RESOURCE = new ExclusiveResource("archunit.freeze.store", ExclusiveResource.LockMode.READ_WRITE);
+
     private final Class<?> testClass;
     private ClassCache classCache;
 
@@ -139,14 +149,27 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
         classCache.clear(testClass);
     }
 
+    // NOTE: The same rule instance can be part of several test classes (e.g. if a rule library is included via ArchRules.in(..)
+    //       by several test classes). Since conditions may keep state while checking (e.g. the cycle detection of slices),
+    //       checks of the same rule instance must never run at the same time
+    static ExclusiveResource ruleResource(ArchRule rule) {
+        return new ExclusiveResource(
+                String.format("archunit.rule.%s@%s", rule.getClass().getName(), Integer.toHexString(System.identityHashCode(rule))),
+                ExclusiveResource.LockMode.READ_WRITE);
+    }
+
     private static class ArchUnitRuleDescriptor extends AbstractArchUnitTestDescriptor {
         private final ArchRule rule;
         private final Supplier<JavaClasses> classes;
+        private final Set<ExclusiveResource> exclusiveResources;
 
         ArchUnitRuleDescriptor(UniqueId uniqueId, ArchRule rule, Supplier<JavaClasses> classes, Field field) {
             super(uniqueId, field.getName(), FieldSource.from(field), field);
             this.rule = rule;
             this.classes = classes;
+            this.exclusiveResources = rule instanceof FreezingArchRule
+                    ? ImmutableSet.of(ruleResource(rule), FREEZE_STORE_RESOURCE)
+                    : ImmutableSet.of(ruleResource(rule));
         }
 
         @Override
@@ -154,6 +177,11 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
             return Type.TEST;
         }
 
+        @Override
+        public Set<ExclusiveResource> getExclusiveResources() {
+            return exclusiveResources;
+        }
+
         @Override
         public ArchUnitEngineExecutionContext execute(ArchUnitEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) {
             rule.check(classes.get());
@@ -186,6 +214,11 @@ class ArchUnitTestDescriptor extends AbstractArchUnitTestDescriptor implements C
             return Type.TEST;
         }
 
+        @Override
+        public Set<ExclusiveResource> getExclusiveResources() {
+            return singleton(FREEZE_STORE_RESOURCE);
+        }
+
         @Override
         public ArchUnitEngineExecutionContext execute(ArchUnitEngineExecutionContext context, DynamicTestExecutor dynamicTestExecutor) {
             invokeMethod(method, method.getDeclaringClass(), classes.get());
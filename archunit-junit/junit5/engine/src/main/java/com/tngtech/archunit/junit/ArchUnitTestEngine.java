@@ -18,17 +18,22 @@ package com.tngtech.archunit.junit;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.core.MayResolveTypesViaReflection;
-import com.tngtech.archunit.core.domain.JavaClass;
-import com.tngtech.archunit.core.domain.JavaClasses;
-import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.ClassHeaderScanner;
+import com.tngtech.archunit.core.importer.ClassHeaderScanner.ClassHeader;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.Filter;
@@ -41,8 +46,13 @@ import org.junit.platform.engine.discovery.MethodSelector;
 import org.junit.platform.engine.discovery.PackageNameFilter;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.discovery.UniqueIdSelector;
+import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
 
+import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
 import static com.tngtech.archunit.junit.ReflectionUtils.getAllFields;
 import static com.tngtech.archunit.junit.ReflectionUtils.getAllMethods;
 import static com.tngtech.archunit.junit.ReflectionUtils.withAnnotation;
@@ -50,7 +60,18 @@ import static java.util.stream.Collectors.toList;
 
 /**
  * A simple test engine to discover and execute ArchUnit tests with JUnit 5. In particular the engine
- * uses a {@link ClassCache} to avoid the costly import process as much as possible.
+ * uses a {@link ClassCache} to avoid the costly import process as much as possible. To discover test classes within
+ * packages or classpath roots, the engine does not import any classes at all, but only scans the class file headers
+ * for {@link ArchTest @ArchTest} members.
+ * <br><br>
+ * Rules can be executed in parallel by setting the configuration parameter {@value #PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME}
+ * to {@code true}, the parallelism can then be configured by parameters prefixed with {@value #PARALLEL_EXECUTION_CONFIG_PREFIX},
+ * analogously to the parallel execution of JUnit Jupiter. The parallel execution must be enabled for ArchUnit explicitly,
+ * i.e. the configuration of JUnit Jupiter (like {@code junit.jupiter.execution.parallel.enabled}) does not apply to ArchUnit tests.
+ * Once enabled, all tests are executed concurrently, unless {@value #PARALLEL_EXECUTION_DEFAULT_MODE_PROPERTY_NAME}
+ * is set to {@code same_thread}. Checks of the same {@link com.tngtech.archunit.lang.ArchRule ArchRule} instance
+ * (e.g. a rule of a library included via {@link ArchRules#in(Class)} by several test classes) are never executed
+ * at the same time, since conditions might keep state while checking.
  * <br><br>
  * Mark classes to be executed by the {@link ArchUnitTestEngine} with {@link AnalyzeClasses @AnalyzeClasses} and
  * rule fields or methods with {@link ArchTest @ArchTest}. Example:
@@ -65,6 +86,9 @@ import static java.util.stream.Collectors.toList;
 @Internal
 public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEngineExecutionContext> {
     static final String UNIQUE_ID = "archunit";
+    static final String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "archunit.junit.execution.parallel.enabled";
+    static final String PARALLEL_EXECUTION_CONFIG_PREFIX = "archunit.junit.execution.parallel.config.";
+    static final String PARALLEL_EXECUTION_DEFAULT_MODE_PROPERTY_NAME = "archunit.junit.execution.parallel.mode.default";
 
     private SharedCache cache = new SharedCache(); // NOTE: We want to change this in tests -> no static/final reference
 
@@ -75,7 +99,7 @@ public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEng
 
     @Override
     public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
-        ArchUnitEngineDescriptor result = new ArchUnitEngineDescriptor(uniqueId);
+        ArchUnitEngineDescriptor result = new ArchUnitEngineDescriptor(uniqueId, getDefaultExecutionMode(discoveryRequest.getConfigurationParameters()));
 
         resolveRequestedClasspathRoot(discoveryRequest, uniqueId, result);
         resolveRequestedPackages(discoveryRequest, uniqueId, result);
@@ -88,28 +112,29 @@ public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEng
     }
 
     private void resolveRequestedClasspathRoot(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId, ArchUnitEngineDescriptor result) {
-        Stream<JavaClass> classes = discoveryRequest.getSelectorsByType(ClasspathRootSelector.class).stream()
-                .flatMap(this::getContainedClasses);
-        filterCandidatesAndLoadClasses(classes, discoveryRequest)
+        discoveryRequest.getSelectorsByType(ClasspathRootSelector.class).stream()
+                .map(this::getContainedClasses)
+                .flatMap(classes -> filterCandidatesAndLoadClasses(classes, discoveryRequest))
                 .forEach(clazz -> ArchUnitTestDescriptor.resolve(
                         result, ElementResolver.create(result, uniqueId, clazz), cache.get()));
     }
 
     private void resolveRequestedPackages(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId, ArchUnitEngineDescriptor result) {
-        String[] packages = discoveryRequest.getSelectorsByType(PackageSelector.class).stream()
+        List<String> packages = discoveryRequest.getSelectorsByType(PackageSelector.class).stream()
                 .map(PackageSelector::getPackageName)
-                .toArray(String[]::new);
-        Stream<JavaClass> classes = getContainedClasses(packages);
+                .collect(toList());
+        Map<String, ClassHeader> classes = getContainedClasses(packages);
 
         filterCandidatesAndLoadClasses(classes, discoveryRequest)
                 .forEach(clazz -> ArchUnitTestDescriptor.resolve(
                         result, ElementResolver.create(result, uniqueId, clazz), cache.get()));
     }
 
-    private Stream<Class<?>> filterCandidatesAndLoadClasses(Stream<JavaClass> classes, EngineDiscoveryRequest discoveryRequest) {
-        return classes
+    private Stream<Class<?>> filterCandidatesAndLoadClasses(Map<String, ClassHeader> classes, EngineDiscoveryRequest discoveryRequest) {
+        ClassHeaders headers = new ClassHeaders(classes);
+        return classes.values().stream()
                 .filter(isAllowedBy(discoveryRequest))
-                .filter(this::isArchUnitTestCandidate)
+                .filter(headers::hasArchTestMembersInHierarchy)
                 .flatMap(this::safelyReflect);
     }
 
@@ -142,37 +167,29 @@ public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEng
                         result, ElementResolver.create(result, uniqueId, selector.getUniqueId()), cache.get()));
     }
 
-    private Stream<JavaClass> getContainedClasses(String[] packages) {
-        return stream(new ClassFileImporter().importPackages(packages));
+    private Map<String, ClassHeader> getContainedClasses(List<String> packages) {
+        return new ClassHeaderScanner().scanPackages(packages);
     }
 
-    private Stream<JavaClass> getContainedClasses(ClasspathRootSelector selector) {
-        return stream(new ClassFileImporter().importUrl(toUrl(selector.getClasspathRoot())));
+    private Map<String, ClassHeader> getContainedClasses(ClasspathRootSelector selector) {
+        return new ClassHeaderScanner().scanUrl(toUrl(selector.getClasspathRoot()));
     }
 
-    private Stream<JavaClass> stream(JavaClasses classes) {
-        return StreamSupport.stream(classes.spliterator(), false);
-    }
-
-    private Predicate<JavaClass> isAllowedBy(EngineDiscoveryRequest discoveryRequest) {
+    private Predicate<ClassHeader> isAllowedBy(EngineDiscoveryRequest discoveryRequest) {
         List<Predicate<String>> filters = Stream
                 .concat(discoveryRequest.getFiltersByType(ClassNameFilter.class).stream(),
                         discoveryRequest.getFiltersByType(PackageNameFilter.class).stream())
                 .map(Filter::toPredicate)
                 .collect(toList());
 
-        return javaClass -> filters.stream().allMatch(p -> p.test(javaClass.getName()));
-    }
-
-    private boolean isArchUnitTestCandidate(JavaClass javaClass) {
-        return javaClass.getAllMembers().stream().anyMatch(m -> m.isAnnotatedWith(ArchTest.class));
+        return header -> filters.stream().allMatch(p -> p.test(header.getName()));
     }
 
     @MayResolveTypesViaReflection(reason = "Within the ArchUnitTestEngine we may resolve types via reflection, since they are needed anyway")
-    private Stream<Class<?>> safelyReflect(JavaClass javaClass) {
+    private Stream<Class<?>> safelyReflect(ClassHeader header) {
         try {
-            return Stream.of(javaClass.reflect());
-        } catch (NoClassDefFoundError | RuntimeException e) {
+            return Stream.of(Class.forName(header.getName(), false, getCurrentClassLoader(ArchUnitTestEngine.class)));
+        } catch (ClassNotFoundException | NoClassDefFoundError | RuntimeException e) {
             return Stream.empty();
         }
     }
@@ -194,11 +211,76 @@ public final class ArchUnitTestEngine extends HierarchicalTestEngine<ArchUnitEng
         }
     }
 
+    private ExecutionMode getDefaultExecutionMode(ConfigurationParameters parameters) {
+        return parameters.get(PARALLEL_EXECUTION_DEFAULT_MODE_PROPERTY_NAME)
+                .map(this::parseExecutionMode)
+                .orElse(ExecutionMode.CONCURRENT);
+    }
+
+    private ExecutionMode parseExecutionMode(String mode) {
+        String normalizedMode = mode.trim().toUpperCase(Locale.ROOT);
+        ArchTestInitializationException.check(
+                Arrays.stream(ExecutionMode.values()).anyMatch(m -> m.name().equals(normalizedMode)),
+                "Invalid value '%s' of configuration parameter %s, supported values are %s",
+                mode, PARALLEL_EXECUTION_DEFAULT_MODE_PROPERTY_NAME, "'same_thread' and 'concurrent'");
+        return ExecutionMode.valueOf(normalizedMode);
+    }
+
+    // NOTE: ArchUnit tests only run in parallel if requested for ArchUnit explicitly. Following the configuration of
+    //       JUnit Jupiter would make rule libraries, that were never written to be thread safe, run in parallel unasked
+    @Override
+    protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
+        ConfigurationParameters parameters = request.getConfigurationParameters();
+        return parameters.getBoolean(PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false)
+                ? new ForkJoinPoolHierarchicalTestExecutorService(new PrefixedConfigurationParameters(parameters, PARALLEL_EXECUTION_CONFIG_PREFIX))
+                : super.createExecutorService(request);
+    }
+
     @Override
     protected ArchUnitEngineExecutionContext createExecutionContext(ExecutionRequest request) {
         return new ArchUnitEngineExecutionContext();
     }
 
+    private static class ClassHeaders {
+        private final ClassHeaderScanner scanner = new ClassHeaderScanner();
+        private final Map<String, ClassHeader> scannedClasses;
+        private final Map<String, Optional<ClassHeader>> classesFromClassPath = new HashMap<>();
+
+        ClassHeaders(Map<String, ClassHeader> scannedClasses) {
+            this.scannedClasses = scannedClasses;
+        }
+
+        boolean hasArchTestMembersInHierarchy(ClassHeader header) {
+            return hasArchTestMembersInHierarchy(header, new HashSet<>());
+        }
+
+        private boolean hasArchTestMembersInHierarchy(ClassHeader header, Set<String> visited) {
+            if (!visited.add(header.getName())) {
+                return false;
+            }
+            if (header.getMemberAnnotationTypeNames().contains(ArchTest.class.getName())) {
+                return true;
+            }
+            return Stream.concat(header.getSuperclassName().asSet().stream(), header.getInterfaceNames().stream())
+                    .map(this::tryGet)
+                    .filter(Optional::isPresent)
+                    .anyMatch(supertype -> hasArchTestMembersInHierarchy(supertype.get(), visited));
+        }
+
+        // NOTE: Supertypes outside of the scanned classes are read from the classpath, like the import would have resolved them.
+        //       JDK types never declare ArchTest members, so we can skip those
+        private Optional<ClassHeader> tryGet(String typeName) {
+            if (scannedClasses.containsKey(typeName)) {
+                return Optional.of(scannedClasses.get(typeName));
+            }
+            if (typeName.startsWith("java.")) {
+                return Optional.empty();
+            }
+            return classesFromClassPath.computeIfAbsent(typeName,
+                    name -> Optional.ofNullable(scanner.tryScanFromClassPath(name).orNull()));
+        }
+    }
+
     static class SharedCache {
         private static final ClassCache cache = new ClassCache();
 
@@ -39,6 +39,9 @@ import com.tngtech.archunit.junit.testexamples.ignores.MetaIgnoredClass;
 import com.tngtech.archunit.junit.testexamples.ignores.MetaIgnoredField;
 import com.tngtech.archunit.junit.testexamples.ignores.MetaIgnoredLibrary;
 import com.tngtech.archunit.junit.testexamples.ignores.MetaIgnoredMethod;
+import com.tngtech.archunit.junit.testexamples.sharedrules.FirstTestIncludingSharedRules;
+import com.tngtech.archunit.junit.testexamples.sharedrules.SecondTestIncludingSharedRules;
+import com.tngtech.archunit.junit.testexamples.sharedrules.SharedStatefulRules;
 import com.tngtech.archunit.junit.testexamples.subone.SimpleRuleField;
 import com.tngtech.archunit.junit.testexamples.subone.SimpleRuleMethod;
 import com.tngtech.archunit.junit.testexamples.subtwo.SimpleRules;
@@ -58,6 +61,11 @@ import org.junit.platform.engine.discovery.MethodSelector;
 import org.junit.platform.engine.discovery.PackageSelector;
 import org.junit.platform.engine.support.descriptor.ClassSource;
 import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.Node;
+import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
@@ -203,6 +211,55 @@ class ArchUnitTestEngineTest {
             assertThat(testSource.getMethodParameterTypes()).isEqualTo(JavaClasses.class.getName());
         }
 
+        @Test
+        void a_class_with_simple_rule_method__exclusive_resources() {
+            EngineDiscoveryTestRequest discoveryRequest = new EngineDiscoveryTestRequest().withClass(SimpleRuleMethod.class);
+
+            TestDescriptor descriptor = testEngine.discover(discoveryRequest, engineId);
+
+            AbstractArchUnitTestDescriptor ruleDescriptor = (AbstractArchUnitTestDescriptor) getOnlyTest(descriptor);
+            assertThat(ruleDescriptor.getExclusiveResources()).containsOnly(ArchUnitTestDescriptor.FREEZE_STORE_RESOURCE);
+        }
+
+        @Test
+        void rules_shared_by_several_test_classes__exclusive_resources() {
+            EngineDiscoveryTestRequest discoveryRequest = new EngineDiscoveryTestRequest()
+                    .withClass(FirstTestIncludingSharedRules.class)
+                    .withClass(SecondTestIncludingSharedRules.class);
+
+            TestDescriptor descriptor = testEngine.discover(discoveryRequest, engineId);
+
+            Set<ExclusiveResource> firstResources = getExclusiveResources(descriptor, sharedStatefulRuleId(engineId, FirstTestIncludingSharedRules.class));
+            Set<ExclusiveResource> secondResources = getExclusiveResources(descriptor, sharedStatefulRuleId(engineId, SecondTestIncludingSharedRules.class));
+            assertThat(firstResources).isNotEmpty().isEqualTo(secondResources);
+
+            TestDescriptor otherDescriptor = testEngine.discover(new EngineDiscoveryTestRequest().withClass(SimpleRuleField.class), engineId);
+            Set<ExclusiveResource> otherResources = getExclusiveResources(otherDescriptor, simpleRuleFieldTestId(engineId));
+            assertThat(otherResources).as("resources of another rule").isNotEmpty().doesNotContainAnyElementsOf(firstResources);
+        }
+
+        @Test
+        void execution_mode_concurrent_by_default() {
+            EngineDiscoveryTestRequest discoveryRequest = new EngineDiscoveryTestRequest().withClass(SimpleRuleField.class);
+
+            TestDescriptor descriptor = testEngine.discover(discoveryRequest, engineId);
+
+            assertThat(((Node<?>) descriptor).getExecutionMode()).isEqualTo(ExecutionMode.CONCURRENT);
+            assertThat(((Node<?>) getOnlyTest(descriptor)).getExecutionMode()).isEqualTo(ExecutionMode.CONCURRENT);
+        }
+
+        @Test
+        void execution_mode_as_configured_by_default_mode() {
+            EngineDiscoveryTestRequest discoveryRequest = new EngineDiscoveryTestRequest()
+                    .withClass(SimpleRuleField.class)
+                    .withConfigurationParameter(ArchUnitTestEngine.PARALLEL_EXECUTION_DEFAULT_MODE_PROPERTY_NAME, "same_thread");
+
+            TestDescriptor descriptor = testEngine.discover(discoveryRequest, engineId);
+
+            assertThat(((Node<?>) descriptor).getExecutionMode()).isEqualTo(ExecutionMode.SAME_THREAD);
+            assertThat(((Node<?>) getOnlyTest(descriptor)).getExecutionMode()).isEqualTo(ExecutionMode.SAME_THREAD);
+        }
+
         @Test
         void a_class_with_simple_hierarchy__descriptor_types() {
             EngineDiscoveryTestRequest discoveryRequest = new EngineDiscoveryTestRequest().withClass(SimpleRuleLibrary.class);
@@ -737,6 +794,10 @@ class ArchUnitTestEngineTest {
                     .collect(onlyElement());
         }
 
+        private Set<ExclusiveResource> getExclusiveResources(TestDescriptor root, UniqueId ruleId) {
+            return ((Node<?>) root.findByUniqueId(ruleId).get()).getExclusiveResources();
+        }
+
         private TestDescriptor getOnlyTest(TestDescriptor descriptor) {
             TestDescriptor testClass = getOnlyElement(descriptor.getChildren());
             TestDescriptor ruleDescriptor = getOnlyElement(testClass.getChildren());
@@ -874,6 +935,45 @@ class ArchUnitTestEngineTest {
             testListener.verifyViolation(methodRuleInLibrary, UnwantedClass.CLASS_VIOLATING_RULES.getSimpleName());
         }
 
+        @Test
+        void rule_library_in_parallel_if_configured() {
+            simulateCachedClassesForTest(SimpleRuleLibrary.class, UnwantedClass.CLASS_VIOLATING_RULES);
+
+            EngineExecutionTestListener testListener = execute(engineId, new EngineDiscoveryTestRequest()
+                    .withClass(SimpleRuleLibrary.class)
+                    .withConfigurationParameter(ArchUnitTestEngine.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true"));
+
+            getExpectedIdsForSimpleRuleLibrary(engineId).forEach(testId ->
+                    testListener.verifyViolation(testId, UnwantedClass.CLASS_VIOLATING_RULES.getSimpleName()));
+        }
+
+        @Test
+        void not_in_parallel_if_only_configured_for_jupiter() {
+            EngineDiscoveryTestRequest discoveryRequest = new EngineDiscoveryTestRequest()
+                    .withClass(SimpleRuleLibrary.class)
+                    .withConfigurationParameter("junit.jupiter.execution.parallel.enabled", "true");
+            TestDescriptor descriptor = testEngine.discover(discoveryRequest, engineId);
+
+            HierarchicalTestExecutorService executorService = testEngine.createExecutorService(
+                    new ExecutionRequest(descriptor, new EngineExecutionTestListener(), discoveryRequest.getConfigurationParameters()));
+
+            assertThat(executorService).isNotInstanceOf(ForkJoinPoolHierarchicalTestExecutorService.class);
+        }
+
+        @Test
+        void shared_stateful_rule_of_several_test_classes_never_concurrently() {
+            simulateCachedClassesForTest(FirstTestIncludingSharedRules.class, UnwantedClass.CLASS_SATISFYING_RULES);
+            simulateCachedClassesForTest(SecondTestIncludingSharedRules.class, UnwantedClass.CLASS_SATISFYING_RULES);
+
+            EngineExecutionTestListener testListener = execute(engineId, new EngineDiscoveryTestRequest()
+                    .withClass(FirstTestIncludingSharedRules.class)
+                    .withClass(SecondTestIncludingSharedRules.class)
+                    .withConfigurationParameter(ArchUnitTestEngine.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME, "true"));
+
+            testListener.verifySuccessful(sharedStatefulRuleId(engineId, FirstTestIncludingSharedRules.class));
+            testListener.verifySuccessful(sharedStatefulRuleId(engineId, SecondTestIncludingSharedRules.class));
+        }
+
         @Test
         void passes_AnalyzeClasses_to_cache() {
             execute(createEngineId(), FullAnalyzeClassesSpec.class);
@@ -1130,6 +1230,14 @@ class ArchUnitTestEngineTest {
         return rootId.append(CLASS_SEGMENT_TYPE, SimpleRules.class.getName());
     }
 
+    private UniqueId sharedStatefulRuleId(UniqueId uniqueId, Class<?> testClassIncludingSharedRules) {
+        return uniqueId
+                .append(CLASS_SEGMENT_TYPE, testClassIncludingSharedRules.getName())
+                .append(FIELD_SEGMENT_TYPE, FirstTestIncludingSharedRules.SHARED_RULES_FIELD_NAME)
+                .append(CLASS_SEGMENT_TYPE, SharedStatefulRules.class.getName())
+                .append(FIELD_SEGMENT_TYPE, SharedStatefulRules.SHARED_STATEFUL_RULE_FIELD_NAME);
+    }
+
     private UniqueId simpleRulesInLibraryId(UniqueId uniqueId) {
         return simpleRulesId(uniqueId
                 .append(CLASS_SEGMENT_TYPE, SimpleRuleLibrary.class.getName())
@@ -5,7 +5,9 @@ import java.lang.reflect.Method;
 import java.net.URI;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.tngtech.archunit.core.domain.JavaClasses;
@@ -37,6 +39,8 @@ class EngineDiscoveryTestRequest implements EngineDiscoveryRequest {
     private final List<Field> fieldsToDiscover = new ArrayList<>();
     private final List<UniqueId> idsToDiscover = new ArrayList<>();
 
+    private final Map<String, String> configurationParameters = new HashMap<>();
+
     private final List<ClassNameFilter> classNameFilters = new ArrayList<>();
     private final List<PackageNameFilter> packageNameFilters = new ArrayList<>();
 
@@ -102,7 +106,12 @@ class EngineDiscoveryTestRequest implements EngineDiscoveryRequest {
 
     @Override
     public ConfigurationParameters getConfigurationParameters() {
-        return new EmptyConfigurationParameters();
+        return new MapConfigurationParameters(configurationParameters);
+    }
+
+    EngineDiscoveryTestRequest withConfigurationParameter(String key, String value) {
+        configurationParameters.put(key, value);
+        return this;
     }
 
     EngineDiscoveryTestRequest withClasspathRoot(URI uri) {
@@ -153,20 +162,26 @@ class EngineDiscoveryTestRequest implements EngineDiscoveryRequest {
         return this;
     }
 
-    private static class EmptyConfigurationParameters implements ConfigurationParameters {
+    private static class MapConfigurationParameters implements ConfigurationParameters {
+        private final Map<String, String> parameters;
+
+        MapConfigurationParameters(Map<String, String> parameters) {
+            this.parameters = new HashMap<>(parameters);
+        }
+
         @Override
         public Optional<String> get(String key) {
-            return Optional.empty();
+            return Optional.ofNullable(parameters.get(key));
         }
 
         @Override
         public Optional<Boolean> getBoolean(String key) {
-            return Optional.empty();
+            return get(key).map(Boolean::parseBoolean);
         }
 
         @Override
         public int size() {
-            return 0;
+            return parameters.size();
         }
     }
 }
@@ -0,0 +1,13 @@
+package com.tngtech.archunit.junit.testexamples.sharedrules;
+
+import com.tngtech.archunit.junit.AnalyzeClasses;
+import com.tngtech.archunit.junit.ArchRules;
+import com.tngtech.archunit.junit.ArchTest;
+
+@AnalyzeClasses(packages = "some.dummy.package")
+public class SecondTestIncludingSharedRules {
+    @ArchTest
+    public static final ArchRules shared_rules = ArchRules.in(SharedStatefulRules.class);
+
+    public static final String SHARED_RULES_FIELD_NAME = "shared_rules";
+}
@@ -0,0 +1,58 @@
+package com.tngtech.archunit.junit.testexamples.sharedrules;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.junit.ArchTest;
+import com.tngtech.archunit.lang.ArchCondition;
+import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ConditionEvents;
+import com.tngtech.archunit.lang.SimpleConditionEvent;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+
+public class SharedStatefulRules {
+    @ArchTest
+    public static final ArchRule shared_stateful_rule = classes().should(new ConditionDetectingConcurrentChecks());
+
+    public static final String SHARED_STATEFUL_RULE_FIELD_NAME = "shared_stateful_rule";
+
+    // Keeps state between init(..) and finish(..), like e.g. the cycle detection of slices
+    private static class ConditionDetectingConcurrentChecks extends ArchCondition<JavaClass> {
+        private final AtomicInteger runningChecks = new AtomicInteger();
+        private final AtomicBoolean checkedConcurrently = new AtomicBoolean();
+
+        ConditionDetectingConcurrentChecks() {
+            super("not be checked concurrently");
+        }
+
+        @Override
+        public void init(Iterable<JavaClass> allObjectsToTest) {
+            if (runningChecks.incrementAndGet() > 1) {
+                checkedConcurrently.set(true);
+            }
+            sleepToGiveOtherChecksTheChanceToStart();
+        }
+
+        @Override
+        public void check(JavaClass item, ConditionEvents events) {
+        }
+
+        @Override
+        public void finish(ConditionEvents events) {
+            runningChecks.decrementAndGet();
+            if (checkedConcurrently.get()) {
+                events.add(SimpleConditionEvent.violated(this, "Rule was checked concurrently"));
+            }
+        }
+
+        private void sleepToGiveOtherChecksTheChanceToStart() {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
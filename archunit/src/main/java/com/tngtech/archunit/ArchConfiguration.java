@@ -34,6 +34,7 @@ import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
@@ -50,6 +51,18 @@ public final class ArchConfiguration {
     static final String CLASS_RESOLVER_ARGS = "classResolver.args";
     @Internal
     public static final String ENABLE_MD5_IN_CLASS_SOURCES = "enableMd5InClassSources";
+    @Internal
+    public static final String IMPORT_PARALLELISM = "importParallelism";
+    @Internal
+    public static final String EVALUATION_PARALLELISM = "evaluationParallelism";
+    @Internal
+    public static final String STOP_EVALUATION_AT_FIRST_VIOLATION = "stopEvaluationAtFirstViolation";
+    @Internal
+    public static final String MAX_VIOLATIONS_PER_RULE = "maxViolationsPerRule";
+    @Internal
+    public static final String IMPORT_CACHE_DIRECTORY = "importCacheDirectory";
+    @Internal
+    public static final String RESOLVED_CLASS_CACHE_SIZE = "resolvedClassCacheSize";
     private static final String EXTENSION_PREFIX = "extension";
 
     private static final Logger LOG = LoggerFactory.getLogger(ArchConfiguration.class);
@@ -120,6 +133,132 @@ public final class ArchConfiguration {
         properties.setProperty(ENABLE_MD5_IN_CLASS_SOURCES, String.valueOf(enabled));
     }
 
+    /**
+     * @return The number of threads used to parse class files during an import. A value of {@code 1} (the default)
+     *         means that all class files are parsed sequentially by the importing thread.
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getImportParallelism() {
+        return Integer.parseInt(properties.getProperty(IMPORT_PARALLELISM));
+    }
+
+    /**
+     * @param parallelism The number of threads to use for parsing class files during an import. Any value greater than {@code 1}
+     *                    will cause class files to be parsed concurrently, the resulting {@link com.tngtech.archunit.core.domain.JavaClasses}
+     *                    will be the same as for a sequential import.
+     */
+    @PublicAPI(usage = ACCESS)
+    public void setImportParallelism(int parallelism) {
+        checkArgument(parallelism >= 1, "Import parallelism must be at least 1, but was %s", parallelism);
+        properties.setProperty(IMPORT_PARALLELISM, String.valueOf(parallelism));
+    }
+
+    /**
+     * @return The number of threads used to check the objects of a single rule. A value of {@code 1} (the default)
+     *         means that all objects are checked sequentially by the evaluating thread.
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getEvaluationParallelism() {
+        return Integer.parseInt(properties.getProperty(EVALUATION_PARALLELISM));
+    }
+
+    /**
+     * @param parallelism The number of threads to use for checking the objects of a single rule. Any value greater than {@code 1}
+     *                    will cause objects to be checked concurrently, if the condition of the rule
+     *                    {@link com.tngtech.archunit.lang.ArchCondition#supportsConcurrentCheck() supports concurrent checks}.
+     *                    The result of the evaluation will be the same as for a sequential evaluation.
+     */
+    @PublicAPI(usage = ACCESS)
+    public void setEvaluationParallelism(int parallelism) {
+        checkArgument(parallelism >= 1, "Evaluation parallelism must be at least 1, but was %s", parallelism);
+        properties.setProperty(EVALUATION_PARALLELISM, String.valueOf(parallelism));
+    }
+
+    /**
+     * @return Whether the evaluation of a rule stops as soon as the first violation has been found (by default {@code false})
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean stopEvaluationAtFirstViolation() {
+        return Boolean.parseBoolean(properties.getProperty(STOP_EVALUATION_AT_FIRST_VIOLATION));
+    }
+
+    /**
+     * @param stop Whether the evaluation of a rule should stop as soon as the first violation has been found.
+     *             This is useful if only the information whether a rule is violated is of interest. The report
+     *             will then contain the first violation and state that the rule has been violated at least that many times.
+     *             Allowed events will not be retained, i.e. {@link com.tngtech.archunit.lang.ConditionEvents#getAllowed()}
+     *             will be empty for the top level events of an evaluation.
+     */
+    @PublicAPI(usage = ACCESS)
+    public void setStopEvaluationAtFirstViolation(boolean stop) {
+        properties.setProperty(STOP_EVALUATION_AT_FIRST_VIOLATION, String.valueOf(stop));
+    }
+
+    /**
+     * @return The maximum number of violations reported for a single rule.
+     *         A value of {@code 0} (the default) means that all violations are reported.
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getMaxViolationsPerRule() {
+        return Integer.parseInt(properties.getProperty(MAX_VIOLATIONS_PER_RULE));
+    }
+
+    /**
+     * @param maxViolations The maximum number of violations to report for a single rule. Once another violation
+     *                      has been found, the evaluation of the rule stops and the report will state that the rule
+     *                      has been violated more than the reported number of times. As for
+     *                      {@link #setStopEvaluationAtFirstViolation(boolean)} allowed events will not be retained.
+     *                      A value of {@code 0} means that all violations are reported.
+     */
+    @PublicAPI(usage = ACCESS)
+    public void setMaxViolationsPerRule(int maxViolations) {
+        checkArgument(maxViolations >= 0, "Max violations per rule must not be negative, but was %s", maxViolations);
+        properties.setProperty(MAX_VIOLATIONS_PER_RULE, String.valueOf(maxViolations));
+    }
+
+    /**
+     * @return The directory where parsed class files are cached between imports, if configured. By default no cache is used.
+     */
+    @PublicAPI(usage = ACCESS)
+    public Optional<String> getImportCacheDirectory() {
+        return Optional.fromNullable(properties.getProperty(IMPORT_CACHE_DIRECTORY));
+    }
+
+    /**
+     * @param directory A directory where parsed class files should be cached. Class files with the same content will then
+     *                  not be parsed again by later imports, even from a different JVM, but the cached result will be reused.
+     */
+    @PublicAPI(usage = ACCESS)
+    public void setImportCacheDirectory(String directory) {
+        properties.setProperty(IMPORT_CACHE_DIRECTORY, directory);
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public void unsetImportCacheDirectory() {
+        properties.remove(IMPORT_CACHE_DIRECTORY);
+    }
+
+    /**
+     * @return The maximum number of classes resolved from the classpath, which are kept in memory to be reused by later imports.
+     *         A value of {@code 0} (the default) means that resolved classes are not cached.
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getResolvedClassCacheSize() {
+        return Integer.parseInt(properties.getProperty(RESOLVED_CLASS_CACHE_SIZE));
+    }
+
+    /**
+     * @param size The maximum number of classes resolved from the classpath (compare {@link #resolveMissingDependenciesFromClassPath()}),
+     *             which should be kept in memory and shared by all later imports within this JVM. Only classes from archives
+     *             (e.g. JARs or the JDK) are cached. A value of {@code 0} disables the cache.
+     * @see com.tngtech.archunit.core.importer.ResolvedClassCache
+     */
+    @PublicAPI(usage = ACCESS)
+    public void setResolvedClassCacheSize(int size) {
+        checkArgument(size >= 0, "Resolved class cache size must not be negative, but was %s", size);
+        properties.setProperty(RESOLVED_CLASS_CACHE_SIZE, String.valueOf(size));
+    }
+
     @PublicAPI(usage = ACCESS)
     public Optional<String> getClassResolver() {
         return Optional.fromNullable(properties.getProperty(CLASS_RESOLVER));
@@ -268,10 +407,15 @@ public final class ArchConfiguration {
     }
 
     private static class PropertiesOverwritableBySystemProperties {
-        private static final Properties PROPERTY_DEFAULTS = createProperties(ImmutableMap.of(
-                RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, Boolean.TRUE.toString(),
-                ENABLE_MD5_IN_CLASS_SOURCES, Boolean.FALSE.toString()
-        ));
+        private static final Properties PROPERTY_DEFAULTS = createProperties(ImmutableMap.<String, String>builder()
+                .put(RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, Boolean.TRUE.toString())
+                .put(ENABLE_MD5_IN_CLASS_SOURCES, Boolean.FALSE.toString())
+                .put(IMPORT_PARALLELISM, String.valueOf(1))
+                .put(EVALUATION_PARALLELISM, String.valueOf(1))
+                .put(STOP_EVALUATION_AT_FIRST_VIOLATION, Boolean.FALSE.toString())
+                .put(MAX_VIOLATIONS_PER_RULE, String.valueOf(0))
+                .put(RESOLVED_CLASS_CACHE_SIZE, String.valueOf(0))
+                .build());
 
         private final Properties properties = createProperties(PROPERTY_DEFAULTS);
 
@@ -105,6 +105,28 @@ public class ArchUnitException extends RuntimeException {
         }
     }
 
+    @Internal
+    public static class AccessInformationNotImportedException extends ArchUnitException {
+        public AccessInformationNotImportedException(String className) {
+            super(String.format("Accesses of class %s have not been imported, since classes were imported with declarations only. " +
+                    "Import classes without ClassFileImporter.withDeclarationsOnly() to evaluate accesses or dependencies", className));
+        }
+    }
+
+    @Internal
+    public static class SnapshotException extends ArchUnitException {
+        public SnapshotException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    @Internal
+    public static class ViolationSinkException extends ArchUnitException {
+        public ViolationSinkException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
     @Internal
     public static class InvalidSyntaxUsageException extends ArchUnitException {
         public InvalidSyntaxUsageException(String message) {
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.base;
+
+import com.tngtech.archunit.Internal;
+
+/**
+ * Marks a {@link DescribedPredicate} that only inspects simple properties of the object it is applied to,
+ * like its name or its modifiers, as opposed to predicates walking the dependencies, the type hierarchy
+ * or the annotations of an object.<br>
+ * Such a predicate must be free of side effects and defined for every input. Within
+ * {@link DescribedPredicate#and(DescribedPredicate) and} / {@link DescribedPredicate#or(DescribedPredicate) or}
+ * it will thus be evaluated before any predicate that is not cheap, since this does not change the result,
+ * but might spare the evaluation of the expensive predicate.
+ */
+@Internal
+public interface CheapToEvaluate {
+}
@@ -15,6 +15,8 @@
  */
 package com.tngtech.archunit.base;
 
+import java.util.Objects;
+
 import com.tngtech.archunit.PublicAPI;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -63,6 +65,13 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         return (DescribedPredicate<U>) this;
     }
 
+    /**
+     * @return {@code true}, if this predicate is {@link CheapToEvaluate}, or if it is only composed of such predicates
+     */
+    boolean isCheapToEvaluate() {
+        return this instanceof CheapToEvaluate;
+    }
+
     @Override
     public String toString() {
         return getDescription();
@@ -148,37 +157,114 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean apply(T input) {
             return current.apply(input);
         }
+
+        @Override
+        boolean isCheapToEvaluate() {
+            return current.isCheapToEvaluate();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(current, getDescription());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final AsPredicate<?> other = (AsPredicate<?>) obj;
+            return Objects.equals(this.current, other.current)
+                    && Objects.equals(this.getDescription(), other.getDescription());
+        }
     }
 
     private static class AndPredicate<T> extends DescribedPredicate<T> {
         private final DescribedPredicate<T> current;
         private final DescribedPredicate<? super T> other;
+        private final boolean evaluateOtherFirst;
 
         AndPredicate(DescribedPredicate<T> current, DescribedPredicate<? super T> other) {
             super(current.getDescription() + " and " + other.getDescription());
             this.current = checkNotNull(current);
             this.other = checkNotNull(other);
+            this.evaluateOtherFirst = other.isCheapToEvaluate() && !current.isCheapToEvaluate();
         }
 
         @Override
         public boolean apply(T input) {
-            return current.apply(input) && other.apply(input);
+            return evaluateOtherFirst
+                    ? other.apply(input) && current.apply(input)
+                    : current.apply(input) && other.apply(input);
+        }
+
+        @Override
+        boolean isCheapToEvaluate() {
+            return current.isCheapToEvaluate() && other.isCheapToEvaluate();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(current, other);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final AndPredicate<?> other = (AndPredicate<?>) obj;
+            return Objects.equals(this.current, other.current)
+                    && Objects.equals(this.other, other.other);
         }
     }
 
     private static class OrPredicate<T> extends DescribedPredicate<T> {
         private final DescribedPredicate<T> current;
         private final DescribedPredicate<? super T> other;
+        private final boolean evaluateOtherFirst;
 
         OrPredicate(DescribedPredicate<T> current, DescribedPredicate<? super T> other) {
             super(current.getDescription() + " or " + other.getDescription());
             this.current = checkNotNull(current);
             this.other = checkNotNull(other);
+            this.evaluateOtherFirst = other.isCheapToEvaluate() && !current.isCheapToEvaluate();
         }
 
         @Override
         public boolean apply(T input) {
-            return current.apply(input) || other.apply(input);
+            return evaluateOtherFirst
+                    ? other.apply(input) || current.apply(input)
+                    : current.apply(input) || other.apply(input);
+        }
+
+        @Override
+        boolean isCheapToEvaluate() {
+            return current.isCheapToEvaluate() && other.isCheapToEvaluate();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(current, other);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final OrPredicate<?> other = (OrPredicate<?>) obj;
+            return Objects.equals(this.current, other.current)
+                    && Objects.equals(this.other, other.other);
         }
     }
 
@@ -196,6 +282,24 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean apply(F input) {
             return current.apply(function.apply(input));
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(current, function);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final OnResultOfPredicate<?, ?> other = (OnResultOfPredicate<?, ?>) obj;
+            return Objects.equals(this.current, other.current)
+                    && Objects.equals(this.function, other.function);
+        }
     }
 
     private static class NotPredicate<T> extends DescribedPredicate<T> {
@@ -210,6 +314,28 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean apply(T input) {
             return !predicate.apply(input);
         }
+
+        @Override
+        boolean isCheapToEvaluate() {
+            return predicate.isCheapToEvaluate();
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(predicate);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final NotPredicate<?> other = (NotPredicate<?>) obj;
+            return Objects.equals(this.predicate, other.predicate);
+        }
     }
 
     private static class EqualToPredicate<T> extends DescribedPredicate<T> {
@@ -224,6 +350,23 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean apply(T input) {
             return value.equals(input);
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final EqualToPredicate<?> other = (EqualToPredicate<?>) obj;
+            return Objects.equals(this.value, other.value);
+        }
     }
 
     private static class LessThanPredicate<T extends Comparable<T>> extends DescribedPredicate<T> {
@@ -238,6 +381,23 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean apply(T input) {
             return input.compareTo(value) < 0;
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final LessThanPredicate<?> other = (LessThanPredicate<?>) obj;
+            return Objects.equals(this.value, other.value);
+        }
     }
 
     private static class GreaterThanPredicate<T extends Comparable<T>> extends DescribedPredicate<T> {
@@ -252,6 +412,23 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean apply(T input) {
             return input.compareTo(value) > 0;
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final GreaterThanPredicate<?> other = (GreaterThanPredicate<?>) obj;
+            return Objects.equals(this.value, other.value);
+        }
     }
 
     private static class LessThanOrEqualToPredicate<T extends Comparable<T>> extends DescribedPredicate<T> {
@@ -266,6 +443,23 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean apply(T input) {
             return input.compareTo(value) <= 0;
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final LessThanOrEqualToPredicate<?> other = (LessThanOrEqualToPredicate<?>) obj;
+            return Objects.equals(this.value, other.value);
+        }
     }
 
     private static class GreaterThanOrEqualToPredicate<T extends Comparable<T>> extends DescribedPredicate<T> {
@@ -280,6 +474,23 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean apply(T input) {
             return input.compareTo(value) >= 0;
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final GreaterThanOrEqualToPredicate<?> other = (GreaterThanOrEqualToPredicate<?>) obj;
+            return Objects.equals(this.value, other.value);
+        }
     }
 
     private static class DescribePredicate<T> extends DescribedPredicate<T> {
@@ -294,6 +505,24 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
         public boolean apply(T input) {
             return delegate.apply(input);
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(delegate, getDescription());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final DescribePredicate<?> other = (DescribePredicate<?>) obj;
+            return Objects.equals(this.delegate, other.delegate)
+                    && Objects.equals(this.getDescription(), other.getDescription());
+        }
     }
 
     private static class AnyElementPredicate<T> extends DescribedPredicate<Iterable<T>> {
@@ -313,6 +542,23 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
             }
             return false;
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(predicate);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final AnyElementPredicate<?> other = (AnyElementPredicate<?>) obj;
+            return Objects.equals(this.predicate, other.predicate);
+        }
     }
 
     private static class AllElementsPredicate<T> extends DescribedPredicate<Iterable<T>> {
@@ -332,5 +578,22 @@ public abstract class DescribedPredicate<T> implements Predicate<T> {
             }
             return true;
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(predicate);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final AllElementsPredicate<?> other = (AllElementsPredicate<?>) obj;
+            return Objects.equals(this.predicate, other.predicate);
+        }
     }
 }
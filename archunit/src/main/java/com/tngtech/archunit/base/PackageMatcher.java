@@ -18,8 +18,8 @@ package com.tngtech.archunit.base;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
@@ -47,7 +47,9 @@ import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
  * <li><b>{@code 'my.(*)..service.(**)'}</b> matches <b>{@code 'my.company.some.service.hello.more'}</b>
  * and group 1 would be <b>{@code 'company'}</b>, while group 2 would be <b>{@code 'hello.more'}</b></li>
  * </ul>
- * Create via {@link PackageMatcher#of(String) PackageMatcher.of(packageIdentifier)}
+ * Create via {@link PackageMatcher#of(String) PackageMatcher.of(packageIdentifier)}<br>
+ * The result of matching is memoized per package name, thus a {@link PackageMatcher} can be reused efficiently
+ * for all packages of the imported classes.
  */
 public final class PackageMatcher {
     private static final String OPT_LETTERS_AT_START = "(?:^\\w*)?";
@@ -61,14 +63,23 @@ public final class PackageMatcher {
 
     private static final Set<Character> PACKAGE_CONTROL_SYMBOLS = ImmutableSet.of('*', '(', ')', '.');
 
+    // there are seldom more distinct packages, if there are, further results are simply not memoized
+    static final int MAX_MEMOIZED_PACKAGES = 10_000;
+
     private final String packageIdentifier;
-    private final Pattern packagePattern;
+    private final PackagePattern packagePattern;
+    private final ConcurrentMap<String, Optional<Result>> resultsByPackage = new ConcurrentHashMap<>();
 
     private PackageMatcher(String packageIdentifier) {
         validate(packageIdentifier);
 
         this.packageIdentifier = packageIdentifier;
-        this.packagePattern = Pattern.compile(convertToRegex(packageIdentifier));
+        this.packagePattern = compile(packageIdentifier);
+    }
+
+    private static PackagePattern compile(String packageIdentifier) {
+        Optional<PackagePattern> compiled = PackagePattern.compile(packageIdentifier);
+        return compiled.isPresent() ? compiled.get() : PackagePattern.ofRegex(convertToRegex(packageIdentifier));
     }
 
     private void validate(String packageIdentifier) {
@@ -95,7 +106,7 @@ public final class PackageMatcher {
         }
     }
 
-    private String convertToRegex(String packageIdentifier) {
+    private static String convertToRegex(String packageIdentifier) {
         return packageIdentifier.
                 replace(TWO_STAR_CAPTURE_LITERAL, TWO_STAR_REGEX_MARKER).
                 replace("*", "\\w+").
@@ -118,7 +129,7 @@ public final class PackageMatcher {
 
     @PublicAPI(usage = ACCESS)
     public boolean matches(String aPackage) {
-        return packagePattern.matcher(aPackage).matches();
+        return match(aPackage).isPresent();
     }
 
     /**
@@ -132,8 +143,23 @@ public final class PackageMatcher {
      */
     @PublicAPI(usage = ACCESS)
     public Optional<Result> match(String aPackage) {
-        Matcher matcher = packagePattern.matcher(aPackage);
-        return matcher.matches() ? Optional.of(new Result(matcher)) : Optional.<Result>absent();
+        Optional<Result> result = resultsByPackage.get(aPackage);
+        if (result == null) {
+            result = matchUnmemoized(aPackage);
+            if (resultsByPackage.size() < MAX_MEMOIZED_PACKAGES) {
+                resultsByPackage.putIfAbsent(aPackage, result);
+            }
+        }
+        return result;
+    }
+
+    private Optional<Result> matchUnmemoized(String aPackage) {
+        Optional<List<String>> groups = packagePattern.match(aPackage);
+        return groups.isPresent() ? Optional.of(new Result(groups.get())) : Optional.<Result>absent();
+    }
+
+    PackagePattern getPattern() {
+        return packagePattern;
     }
 
     @Override
@@ -142,20 +168,21 @@ public final class PackageMatcher {
     }
 
     public static final class Result {
-        private final Matcher matcher;
+        // group 0 is the whole package
+        private final List<String> groups;
 
-        private Result(Matcher matcher) {
-            this.matcher = matcher;
+        private Result(List<String> groups) {
+            this.groups = groups;
         }
 
         @PublicAPI(usage = ACCESS)
         public int getNumberOfGroups() {
-            return matcher.groupCount();
+            return groups.size() - 1;
         }
 
         @PublicAPI(usage = ACCESS)
         public String getGroup(int number) {
-            return matcher.group(number);
+            return groups.get(number);
         }
     }
 
@@ -16,25 +16,43 @@
 package com.tngtech.archunit.base;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.tngtech.archunit.PublicAPI;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 
+/**
+ * Matches packages against several package identifiers (compare {@link PackageMatcher}) at once.
+ * The result is memoized per package name, i.e. each package is matched against all identifiers only once.
+ * Since the result only depends on the package identifiers, equal {@link PackageMatchers} share one instance
+ * and thus their memoized results, e.g. if several rules check {@code resideInAPackage("..foo..")} independently.
+ */
 @PublicAPI(usage = ACCESS)
 public final class PackageMatchers extends DescribedPredicate<String> {
-    private final Set<PackageMatcher> packageMatchers;
+    private static final Interner<PackageMatchers> instances = Interners.newWeakInterner();
+
+    private final Set<String> packageIdentifiers;
+    private final List<PackagePattern> packagePatterns;
+    private final ConcurrentMap<String, Boolean> resultsByPackage = new ConcurrentHashMap<>();
 
     private PackageMatchers(Set<String> packageIdentifiers) {
         super("matches any of ['%s']", Joiner.on("', '").join(packageIdentifiers));
-        ImmutableSet.Builder<PackageMatcher> matchers = ImmutableSet.builder();
+        this.packageIdentifiers = packageIdentifiers;
+        ImmutableList.Builder<PackagePattern> patterns = ImmutableList.builder();
         for (String identifier : packageIdentifiers) {
-            matchers.add(PackageMatcher.of(identifier));
+            patterns.add(PackageMatcher.of(identifier).getPattern());
         }
-        packageMatchers = matchers.build();
+        packagePatterns = patterns.build();
     }
 
     @PublicAPI(usage = ACCESS)
@@ -44,16 +62,45 @@ public final class PackageMatchers extends DescribedPredicate<String> {
 
     @PublicAPI(usage = ACCESS)
     public static PackageMatchers of(Collection<String> packageIdentifiers) {
-        return new PackageMatchers(ImmutableSet.copyOf(packageIdentifiers));
+        return instances.intern(new PackageMatchers(ImmutableSet.copyOf(packageIdentifiers)));
     }
 
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean apply(String aPackage) {
-        boolean matches = false;
-        for (PackageMatcher matcher : packageMatchers) {
-            matches = matches || matcher.matches(aPackage);
+        Boolean result = resultsByPackage.get(aPackage);
+        if (result == null) {
+            result = matchesAny(aPackage);
+            if (resultsByPackage.size() < PackageMatcher.MAX_MEMOIZED_PACKAGES) {
+                resultsByPackage.putIfAbsent(aPackage, result);
+            }
+        }
+        return result;
+    }
+
+    private boolean matchesAny(String aPackage) {
+        for (PackagePattern pattern : packagePatterns) {
+            if (pattern.matches(aPackage)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(packageIdentifiers);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
         }
-        return matches;
+        final PackageMatchers other = (PackageMatchers) obj;
+        return Objects.equals(this.packageIdentifiers, other.packageIdentifiers);
     }
 }
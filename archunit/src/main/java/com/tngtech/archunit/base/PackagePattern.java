@@ -0,0 +1,295 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.base;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The compiled form of a package identifier (compare {@link PackageMatcher}). The result of matching a package
+ * consists of the groups of the match, where group 0 is the whole package, like for a {@link Matcher}.
+ */
+abstract class PackagePattern {
+    abstract boolean matches(String aPackage);
+
+    abstract Optional<List<String>> match(String aPackage);
+
+    /**
+     * @return The identifier compiled into a sequence of tokens that are matched against the characters of a package
+     *         directly, if all symbols of the identifier can be expressed as such tokens (i.e. parentheses are only used
+     *         as '(*)' or '(**)'). Absent otherwise.
+     */
+    static Optional<PackagePattern> compile(String packageIdentifier) {
+        return TokenPattern.compile(packageIdentifier);
+    }
+
+    static PackagePattern ofRegex(String regex) {
+        return new RegexPattern(Pattern.compile(regex));
+    }
+
+    private static class RegexPattern extends PackagePattern {
+        private final Pattern pattern;
+
+        RegexPattern(Pattern pattern) {
+            this.pattern = pattern;
+        }
+
+        @Override
+        boolean matches(String aPackage) {
+            return pattern.matcher(aPackage).matches();
+        }
+
+        @Override
+        Optional<List<String>> match(String aPackage) {
+            Matcher matcher = pattern.matcher(aPackage);
+            if (!matcher.matches()) {
+                return Optional.absent();
+            }
+            List<String> groups = new ArrayList<>();
+            for (int i = 0; i <= matcher.groupCount(); i++) {
+                groups.add(matcher.group(i));
+            }
+            return Optional.of(groups);
+        }
+    }
+
+    /**
+     * Matches the tokens of an identifier against a package by backtracking, trying the possible extents of each token
+     * in the same order as the greedy quantifiers of the regular expression the identifier would be converted to
+     * (compare {@link PackageMatcher}). Thus matches, as well as the captured groups, are the same as for that regular expression.
+     */
+    private static class TokenPattern extends PackagePattern {
+        private final Token[] tokens;
+        private final int numberOfGroups;
+
+        private TokenPattern(List<Token> tokens) {
+            this.tokens = tokens.toArray(new Token[0]);
+            int groups = 0;
+            for (Token token : tokens) {
+                groups += token.captures() ? 1 : 0;
+            }
+            this.numberOfGroups = groups;
+        }
+
+        static Optional<PackagePattern> compile(String packageIdentifier) {
+            List<Token> tokens = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int group = 0;
+            int i = 0;
+            while (i < packageIdentifier.length()) {
+                Token token;
+                if (packageIdentifier.startsWith("(**)", i)) {
+                    token = new TwoStarCapture(group++);
+                    i += 4;
+                } else if (packageIdentifier.startsWith("(*)", i)) {
+                    token = new Word(Optional.of(group++));
+                    i += 3;
+                } else if (packageIdentifier.startsWith("..", i)) {
+                    token = new TwoDots();
+                    i += 2;
+                } else if (packageIdentifier.charAt(i) == '*') {
+                    token = new Word(Optional.<Integer>absent());
+                    i++;
+                } else if (isRegexSymbol(packageIdentifier.charAt(i))) {
+                    return Optional.absent();
+                } else {
+                    literal.append(packageIdentifier.charAt(i++));
+                    continue;
+                }
+                addLiteral(tokens, literal);
+                tokens.add(token);
+            }
+            addLiteral(tokens, literal);
+            return Optional.<PackagePattern>of(new TokenPattern(tokens));
+        }
+
+        private static boolean isRegexSymbol(char c) {
+            return c == '(' || c == ')' || c == '$';
+        }
+
+        private static void addLiteral(List<Token> tokens, StringBuilder literal) {
+            if (literal.length() > 0) {
+                tokens.add(new Literal(literal.toString()));
+                literal.setLength(0);
+            }
+        }
+
+        @Override
+        boolean matches(String aPackage) {
+            return new Match(aPackage).matches(0, 0);
+        }
+
+        @Override
+        Optional<List<String>> match(String aPackage) {
+            Match match = new Match(aPackage);
+            if (!match.matches(0, 0)) {
+                return Optional.absent();
+            }
+            List<String> groups = new ArrayList<>(numberOfGroups + 1);
+            groups.add(aPackage);
+            for (int i = 0; i < numberOfGroups; i++) {
+                groups.add(aPackage.substring(match.groupBounds[2 * i], match.groupBounds[2 * i + 1]));
+            }
+            return Optional.of(Collections.unmodifiableList(groups));
+        }
+
+        private class Match {
+            private final String aPackage;
+            private final int[] groupBounds = new int[2 * numberOfGroups];
+
+            Match(String aPackage) {
+                this.aPackage = aPackage;
+            }
+
+            boolean matches(int tokenIndex, int position) {
+                return tokenIndex == tokens.length
+                        ? position == aPackage.length()
+                        : tokens[tokenIndex].matches(this, tokenIndex, position);
+            }
+
+            void setGroup(int group, int start, int end) {
+                groupBounds[2 * group] = start;
+                groupBounds[2 * group + 1] = end;
+            }
+
+            // the end of the longest sequence of word characters (i.e. matching the regex '\w') starting at position
+            int endOfWord(int position) {
+                int end = position;
+                while (end < aPackage.length() && isWordCharacter(aPackage.charAt(end))) {
+                    end++;
+                }
+                return end;
+            }
+
+            boolean isDotAt(int position) {
+                return position < aPackage.length() && aPackage.charAt(position) == '.';
+            }
+
+            private boolean isWordCharacter(char c) {
+                return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+            }
+        }
+
+        private abstract static class Token {
+            boolean captures() {
+                return false;
+            }
+
+            abstract boolean matches(TokenPattern.Match match, int tokenIndex, int position);
+        }
+
+        private static class Literal extends Token {
+            private final String literal;
+
+            Literal(String literal) {
+                this.literal = literal;
+            }
+
+            @Override
+            boolean matches(Match match, int tokenIndex, int position) {
+                return match.aPackage.startsWith(literal, position) && match.matches(tokenIndex + 1, position + literal.length());
+            }
+        }
+
+        // '*' and '(*)', i.e. '\w+' and '(\w+)'
+        private static class Word extends Token {
+            private final Optional<Integer> group;
+
+            Word(Optional<Integer> group) {
+                this.group = group;
+            }
+
+            @Override
+            boolean captures() {
+                return group.isPresent();
+            }
+
+            @Override
+            boolean matches(Match match, int tokenIndex, int position) {
+                for (int end = match.endOfWord(position); end > position; end--) {
+                    if (group.isPresent()) {
+                        match.setGroup(group.get(), position, end);
+                    }
+                    if (match.matches(tokenIndex + 1, end)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+
+        // '(**)', i.e. '(\w+(?:\.\w+)*)'
+        private static class TwoStarCapture extends Token {
+            private final int group;
+
+            TwoStarCapture(int group) {
+                this.group = group;
+            }
+
+            @Override
+            boolean captures() {
+                return true;
+            }
+
+            @Override
+            boolean matches(Match match, int tokenIndex, int position) {
+                return matches(match, tokenIndex, position, position);
+            }
+
+            private boolean matches(Match match, int tokenIndex, int start, int position) {
+                int endOfWord = match.endOfWord(position);
+                for (int end = endOfWord; end > position; end--) {
+                    if (end == endOfWord && match.isDotAt(end) && matches(match, tokenIndex, start, end + 1)) {
+                        return true;
+                    }
+                    match.setGroup(group, start, end);
+                    if (match.matches(tokenIndex + 1, end)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }
+
+        // '..', i.e. '(?:(?:^\w*)?\.(?:\w+\.)*(?:\w*$)?)?'
+        private static class TwoDots extends Token {
+            @Override
+            boolean matches(Match match, int tokenIndex, int position) {
+                // '^\w*' can only precede the dot at the start of the package
+                int dot = position == 0 ? match.endOfWord(0) : position;
+                if (match.isDotAt(dot) && matchesAfterDot(match, tokenIndex, dot + 1)) {
+                    return true;
+                }
+                return match.matches(tokenIndex + 1, position);
+            }
+
+            private boolean matchesAfterDot(Match match, int tokenIndex, int position) {
+                int endOfWord = match.endOfWord(position);
+                if (endOfWord > position && match.isDotAt(endOfWord) && matchesAfterDot(match, tokenIndex, endOfWord + 1)) {
+                    return true;
+                }
+                int end = match.aPackage.length();
+                if (endOfWord == end && match.matches(tokenIndex + 1, end)) {
+                    return true;
+                }
+                return position != end && match.matches(tokenIndex + 1, position);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.domain;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.tngtech.archunit.core.domain.JavaClass.CachedEvaluation;
+
+/**
+ * Caches the results of built-in pure evaluations (compare {@link CachedEvaluation}) on the classes of one import.
+ * A single cache is shared by all classes completed together as one {@link JavaClasses}, so equal evaluations
+ * stemming from different rules (e.g. two rules both checking for some meta-annotation) are only done once per class.
+ * The cache is released together with the imported classes.
+ */
+class ClassEvaluationCache {
+    private final ConcurrentMap<CachedEvaluation, ConcurrentMap<JavaClass, Boolean>> resultsByEvaluation = new ConcurrentHashMap<>();
+    private final AtomicLong numberOfEvaluations = new AtomicLong();
+
+    boolean evaluate(JavaClass javaClass, CachedEvaluation evaluation) {
+        ConcurrentMap<JavaClass, Boolean> results = resultsOf(evaluation);
+        Boolean result = results.get(javaClass);
+        if (result == null) {
+            result = evaluation.evaluateOn(javaClass);
+            numberOfEvaluations.incrementAndGet();
+            results.putIfAbsent(javaClass, result);
+        }
+        return result;
+    }
+
+    private ConcurrentMap<JavaClass, Boolean> resultsOf(CachedEvaluation evaluation) {
+        ConcurrentMap<JavaClass, Boolean> results = resultsByEvaluation.get(evaluation);
+        if (results == null) {
+            results = new ConcurrentHashMap<>();
+            ConcurrentMap<JavaClass, Boolean> concurrentResults = resultsByEvaluation.putIfAbsent(evaluation, results);
+            results = concurrentResults != null ? concurrentResults : results;
+        }
+        return results;
+    }
+
+    long getNumberOfEvaluations() {
+        return numberOfEvaluations.get();
+    }
+}
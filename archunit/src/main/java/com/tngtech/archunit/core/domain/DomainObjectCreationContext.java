@@ -161,14 +161,15 @@ public class DomainObjectCreationContext {
             Part() {
             }
 
-            Part(JavaCodeUnit codeUnit) {
-                for (JavaFieldAccess access : codeUnit.getFieldAccesses()) {
+            // NOTE: We must not use the accessors of the code unit here, since they reject declarations only imports
+            Part(Set<JavaFieldAccess> fieldAccesses, Set<JavaMethodCall> methodCalls, Set<JavaConstructorCall> constructorCalls) {
+                for (JavaFieldAccess access : fieldAccesses) {
                     fieldAccessesByTarget.put(access.getTarget().getOwner(), access);
                 }
-                for (JavaMethodCall call : codeUnit.getMethodCallsFromSelf()) {
+                for (JavaMethodCall call : methodCalls) {
                     methodCallsByTarget.put(call.getTarget().getOwner(), call);
                 }
-                for (JavaConstructorCall call : codeUnit.getConstructorCallsFromSelf()) {
+                for (JavaConstructorCall call : constructorCalls) {
                     constructorCallsByTarget.put(call.getTarget().getFullName(), call);
                 }
             }
@@ -45,6 +45,8 @@ public interface ImportContext {
 
     Set<JavaConstructorCall> getConstructorCallsFor(JavaCodeUnit codeUnit);
 
+    boolean isAccessInformationImported();
+
     Set<JavaField> getFieldsOfType(JavaClass javaClass);
 
     Set<JavaMethod> getMethodsWithParameterOfType(JavaClass javaClass);
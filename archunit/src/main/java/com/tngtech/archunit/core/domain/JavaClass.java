@@ -17,23 +17,30 @@ package com.tngtech.archunit.core.domain;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.ArchUnitException.AccessInformationNotImportedException;
 import com.tngtech.archunit.base.ArchUnitException.InvalidSyntaxUsageException;
 import com.tngtech.archunit.base.ChainableFunction;
+import com.tngtech.archunit.base.CheapToEvaluate;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.base.PackageMatcher;
+import com.tngtech.archunit.base.PackageMatchers;
 import com.tngtech.archunit.core.MayResolveTypesViaReflection;
 import com.tngtech.archunit.core.ResolvesTypesViaReflection;
 import com.tngtech.archunit.core.domain.DomainObjectCreationContext.AccessContext;
@@ -47,12 +54,10 @@ import com.tngtech.archunit.core.importer.DomainBuilders.JavaClassBuilder;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.Iterables.concat;
-import static com.google.common.collect.Sets.union;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
 import static com.tngtech.archunit.base.DescribedPredicate.equalTo;
 import static com.tngtech.archunit.base.DescribedPredicate.not;
-import static com.tngtech.archunit.core.domain.JavaClass.Functions.GET_SIMPLE_NAME;
 import static com.tngtech.archunit.core.domain.JavaConstructor.CONSTRUCTOR_NAME;
 import static com.tngtech.archunit.core.domain.JavaModifier.ENUM;
 import static com.tngtech.archunit.core.domain.properties.CanBeAnnotated.Utils.toAnnotationOfType;
@@ -60,12 +65,13 @@ import static com.tngtech.archunit.core.domain.properties.HasName.Functions.GET_
 import static com.tngtech.archunit.core.domain.properties.HasType.Functions.GET_RAW_TYPE;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
 
 public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>, HasModifiers, HasSourceCodeLocation {
     private final Optional<Source> source;
     private final SourceCodeLocation sourceCodeLocation;
     private final JavaType javaType;
-    private JavaPackage javaPackage;
+    private volatile JavaPackage javaPackage;
     private final boolean isInterface;
     private final boolean isEnum;
     private final boolean isAnonymousClass;
@@ -83,6 +89,7 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
     private final Set<JavaClass> subClasses = new HashSet<>();
     private Optional<JavaClass> enclosingClass = Optional.absent();
     private Optional<JavaClass> componentType = Optional.absent();
+    private ClassEvaluationCache evaluationCache;
     private Map<String, JavaAnnotation<JavaClass>> annotations = emptyMap();
     private Supplier<Set<JavaMethod>> allMethods;
     private Supplier<Set<JavaConstructor>> allConstructors;
@@ -97,7 +104,177 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
                     .build();
         }
     });
+    // NOTE: The class hierarchy is complete, before it is queried for the first time, and does not change afterwards.
+    //       Indexing all super and sub types by name makes assignability checks by name constant time lookups
+    private final Supplier<List<JavaClass>> allSuperClasses = Suppliers.memoize(new Supplier<List<JavaClass>>() {
+        @Override
+        public List<JavaClass> get() {
+            ImmutableList.Builder<JavaClass> result = ImmutableList.builder();
+            JavaClass current = JavaClass.this;
+            while (current.getSuperClass().isPresent()) {
+                current = current.getSuperClass().get();
+                result.add(current);
+            }
+            return result.build();
+        }
+    });
+    private final Supplier<List<JavaClass>> classHierarchy = Suppliers.memoize(new Supplier<List<JavaClass>>() {
+        @Override
+        public List<JavaClass> get() {
+            return ImmutableList.<JavaClass>builder()
+                    .add(JavaClass.this)
+                    .addAll(getAllSuperClasses())
+                    .build();
+        }
+    });
+    private final Supplier<Set<JavaClass>> allInterfaces = Suppliers.memoize(new Supplier<Set<JavaClass>>() {
+        @Override
+        public Set<JavaClass> get() {
+            ImmutableSet.Builder<JavaClass> result = ImmutableSet.builder();
+            for (JavaClass i : interfaces) {
+                result.add(i);
+                result.addAll(i.getAllInterfaces());
+            }
+            if (superClass.isPresent()) {
+                result.addAll(superClass.get().getAllInterfaces());
+            }
+            return result.build();
+        }
+    });
+    private final Supplier<Set<JavaClass>> allSubClasses = Suppliers.memoize(new Supplier<Set<JavaClass>>() {
+        @Override
+        public Set<JavaClass> get() {
+            ImmutableSet.Builder<JavaClass> result = ImmutableSet.builder();
+            for (JavaClass subClass : subClasses) {
+                result.add(subClass);
+                result.addAll(subClass.getAllSubClasses());
+            }
+            return result.build();
+        }
+    });
+    private final Supplier<Set<JavaClass>> allClassesSelfIsAssignableTo = Suppliers.memoize(new Supplier<Set<JavaClass>>() {
+        @Override
+        public Set<JavaClass> get() {
+            return ImmutableSet.<JavaClass>builder()
+                    .addAll(getClassHierarchy())
+                    .addAll(getAllInterfaces())
+                    .build();
+        }
+    });
+    private final Supplier<Map<String, JavaClass>> allClassesSelfIsAssignableToByName = Suppliers.memoize(new Supplier<Map<String, JavaClass>>() {
+        @Override
+        public Map<String, JavaClass> get() {
+            return indexByName(getAllClassesSelfIsAssignableTo());
+        }
+    });
+    private final Supplier<Map<String, JavaClass>> allClassesAssignableFromSelfByName = Suppliers.memoize(new Supplier<Map<String, JavaClass>>() {
+        @Override
+        public Map<String, JavaClass> get() {
+            return indexByName(concat(singleton(JavaClass.this), getAllSubClasses()));
+        }
+    });
+    // NOTE: Rules typically query the accesses of each class again and again, thus we only collect them once
+    //       from all code units and members. Since they are only queried after the import, they are already complete by then
+    private final Supplier<Set<JavaFieldAccess>> fieldAccessesFromSelf = Suppliers.memoize(new Supplier<Set<JavaFieldAccess>>() {
+        @Override
+        public Set<JavaFieldAccess> get() {
+            ImmutableSet.Builder<JavaFieldAccess> result = ImmutableSet.builder();
+            for (JavaCodeUnit codeUnit : codeUnits) {
+                result.addAll(codeUnit.getFieldAccesses());
+            }
+            return result.build();
+        }
+    });
+    private final Supplier<Set<JavaMethodCall>> methodCallsFromSelf = Suppliers.memoize(new Supplier<Set<JavaMethodCall>>() {
+        @Override
+        public Set<JavaMethodCall> get() {
+            ImmutableSet.Builder<JavaMethodCall> result = ImmutableSet.builder();
+            for (JavaCodeUnit codeUnit : codeUnits) {
+                result.addAll(codeUnit.getMethodCallsFromSelf());
+            }
+            return result.build();
+        }
+    });
+    private final Supplier<Set<JavaConstructorCall>> constructorCallsFromSelf = Suppliers.memoize(new Supplier<Set<JavaConstructorCall>>() {
+        @Override
+        public Set<JavaConstructorCall> get() {
+            ImmutableSet.Builder<JavaConstructorCall> result = ImmutableSet.builder();
+            for (JavaCodeUnit codeUnit : codeUnits) {
+                result.addAll(codeUnit.getConstructorCallsFromSelf());
+            }
+            return result.build();
+        }
+    });
+    private final Supplier<Set<JavaCall<?>>> callsFromSelf = Suppliers.memoize(new Supplier<Set<JavaCall<?>>>() {
+        @Override
+        public Set<JavaCall<?>> get() {
+            return ImmutableSet.<JavaCall<?>>builder()
+                    .addAll(methodCallsFromSelf.get())
+                    .addAll(constructorCallsFromSelf.get())
+                    .build();
+        }
+    });
+    private final Supplier<Set<JavaAccess<?>>> accessesFromSelf = Suppliers.memoize(new Supplier<Set<JavaAccess<?>>>() {
+        @Override
+        public Set<JavaAccess<?>> get() {
+            return ImmutableSet.<JavaAccess<?>>builder()
+                    .addAll(fieldAccessesFromSelf.get())
+                    .addAll(callsFromSelf.get())
+                    .build();
+        }
+    });
+    private final Supplier<Set<JavaAccess<?>>> allAccessesFromSelf = Suppliers.memoize(new Supplier<Set<JavaAccess<?>>>() {
+        @Override
+        public Set<JavaAccess<?>> get() {
+            ImmutableSet.Builder<JavaAccess<?>> result = ImmutableSet.builder();
+            for (JavaClass clazz : getClassHierarchy()) {
+                result.addAll(clazz.getAccessesFromSelf());
+            }
+            return result.build();
+        }
+    });
+    private final Supplier<Set<JavaFieldAccess>> fieldAccessesToSelf = Suppliers.memoize(new Supplier<Set<JavaFieldAccess>>() {
+        @Override
+        public Set<JavaFieldAccess> get() {
+            ImmutableSet.Builder<JavaFieldAccess> result = ImmutableSet.builder();
+            for (JavaField field : fields) {
+                result.addAll(field.getAccessesToSelf());
+            }
+            return result.build();
+        }
+    });
+    private final Supplier<Set<JavaMethodCall>> methodCallsToSelf = Suppliers.memoize(new Supplier<Set<JavaMethodCall>>() {
+        @Override
+        public Set<JavaMethodCall> get() {
+            ImmutableSet.Builder<JavaMethodCall> result = ImmutableSet.builder();
+            for (JavaMethod method : methods) {
+                result.addAll(method.getCallsOfSelf());
+            }
+            return result.build();
+        }
+    });
+    private final Supplier<Set<JavaConstructorCall>> constructorCallsToSelf = Suppliers.memoize(new Supplier<Set<JavaConstructorCall>>() {
+        @Override
+        public Set<JavaConstructorCall> get() {
+            ImmutableSet.Builder<JavaConstructorCall> result = ImmutableSet.builder();
+            for (JavaConstructor constructor : constructors) {
+                result.addAll(constructor.getCallsOfSelf());
+            }
+            return result.build();
+        }
+    });
+    private final Supplier<Set<JavaAccess<?>>> accessesToSelf = Suppliers.memoize(new Supplier<Set<JavaAccess<?>>>() {
+        @Override
+        public Set<JavaAccess<?>> get() {
+            return ImmutableSet.<JavaAccess<?>>builder()
+                    .addAll(fieldAccessesToSelf.get())
+                    .addAll(methodCallsToSelf.get())
+                    .addAll(constructorCallsToSelf.get())
+                    .build();
+        }
+    });
     private JavaClassDependencies javaClassDependencies;
+    private boolean accessInformationImported = true;
 
     JavaClass(JavaClassBuilder builder) {
         source = checkNotNull(builder.getSource());
@@ -109,7 +286,6 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
         modifiers = checkNotNull(builder.getModifiers());
         reflectSupplier = Suppliers.memoize(new ReflectClassSupplier());
         sourceCodeLocation = SourceCodeLocation.of(this);
-        javaPackage = JavaPackage.simple(this);
     }
 
     /**
@@ -157,13 +333,28 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
 
     @PublicAPI(usage = ACCESS)
     public JavaPackage getPackage() {
-        return javaPackage;
+        // NOTE: The package is set when the class is completed as part of some JavaClasses. Only classes that are never
+        //       completed fall back to a package tree of their own, which we don't want to build for every class in advance
+        JavaPackage result = javaPackage;
+        if (result == null) {
+            result = JavaPackage.simple(this);
+            javaPackage = result;
+        }
+        return result;
     }
 
     void setPackage(JavaPackage javaPackage) {
         this.javaPackage = checkNotNull(javaPackage);
     }
 
+    ClassEvaluationCache getEvaluationCache() {
+        return evaluationCache;
+    }
+
+    void setEvaluationCache(ClassEvaluationCache evaluationCache) {
+        this.evaluationCache = checkNotNull(evaluationCache);
+    }
+
     @PublicAPI(usage = ACCESS)
     public String getPackageName() {
         return javaType.getPackageName();
@@ -236,7 +427,7 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
      * @return The component type, if this type is an array, otherwise {@link Optional#absent()}
      */
     @PublicAPI(usage = ACCESS)
-    Optional<JavaClass> tryGetComponentType() {
+    public Optional<JavaClass> tryGetComponentType() {
         return componentType;
     }
 
@@ -509,7 +700,7 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
     @Override
     @PublicAPI(usage = ACCESS)
     public boolean isMetaAnnotatedWith(String typeName) {
-        return isMetaAnnotatedWith(GET_RAW_TYPE.then(GET_NAME).is(equalTo(typeName)));
+        return evaluateCached(new MetaAnnotatedWithTypeName(typeName));
     }
 
     @Override
@@ -518,6 +709,11 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
         return CanBeAnnotated.Utils.isMetaAnnotatedWith(annotations.values(), predicate);
     }
 
+    // NOTE: Classes that have not been completed as part of some JavaClasses have no cache to share results with
+    private boolean evaluateCached(CachedEvaluation evaluation) {
+        return evaluationCache != null ? evaluationCache.evaluate(this, evaluation) : evaluation.evaluateOn(this);
+    }
+
     /**
      * @param type A given annotation type to match {@link JavaAnnotation JavaAnnotations} against
      * @return An {@link Annotation} of the given annotation type
@@ -576,10 +772,7 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
      */
     @PublicAPI(usage = ACCESS)
     public List<JavaClass> getClassHierarchy() {
-        ImmutableList.Builder<JavaClass> result = ImmutableList.builder();
-        result.add(this);
-        result.addAll(getAllSuperClasses());
-        return result.build();
+        return classHierarchy.get();
     }
 
     /**
@@ -588,13 +781,7 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
      */
     @PublicAPI(usage = ACCESS)
     public List<JavaClass> getAllSuperClasses() {
-        ImmutableList.Builder<JavaClass> result = ImmutableList.builder();
-        JavaClass current = this;
-        while (current.getSuperClass().isPresent()) {
-            current = current.getSuperClass().get();
-            result.add(current);
-        }
-        return result.build();
+        return allSuperClasses.get();
     }
 
     @PublicAPI(usage = ACCESS)
@@ -609,15 +796,7 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaClass> getAllInterfaces() {
-        ImmutableSet.Builder<JavaClass> result = ImmutableSet.builder();
-        for (JavaClass i : interfaces) {
-            result.add(i);
-            result.addAll(i.getAllInterfaces());
-        }
-        if (superClass.isPresent()) {
-            result.addAll(superClass.get().getAllInterfaces());
-        }
-        return result.build();
+        return allInterfaces.get();
     }
 
     /**
@@ -630,11 +809,7 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaClass> getAllClassesSelfIsAssignableTo() {
-        return ImmutableSet.<JavaClass>builder()
-                .add(this)
-                .addAll(getAllSuperClasses())
-                .addAll(getAllInterfaces())
-                .build();
+        return allClassesSelfIsAssignableTo.get();
     }
 
     @PublicAPI(usage = ACCESS)
@@ -644,12 +819,7 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaClass> getAllSubClasses() {
-        Set<JavaClass> result = new HashSet<>();
-        for (JavaClass subClass : subClasses) {
-            result.add(subClass);
-            result.addAll(subClass.getAllSubClasses());
-        }
-        return result;
+        return allSubClasses.get();
     }
 
     @PublicAPI(usage = ACCESS)
@@ -820,9 +990,27 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
         return staticInitializer;
     }
 
+    /**
+     * @return {@code true}, if the accesses of this class (e.g. field accesses or method calls) have been imported,
+     * {@code false}, if the class has been imported with declarations only (compare
+     * {@link com.tngtech.archunit.core.importer.ClassFileImporter#withDeclarationsOnly() ClassFileImporter.withDeclarationsOnly()}).
+     * In the latter case, all methods about accesses or dependencies will throw an exception.
+     */
+    @PublicAPI(usage = ACCESS)
+    public boolean isAccessInformationImported() {
+        return accessInformationImported;
+    }
+
+    void checkAccessInformationImported() {
+        if (!accessInformationImported) {
+            throw new AccessInformationNotImportedException(getName());
+        }
+    }
+
     @PublicAPI(usage = ACCESS)
     public Set<JavaAccess<?>> getAccessesFromSelf() {
-        return union(getFieldAccessesFromSelf(), getCallsFromSelf());
+        checkAccessInformationImported();
+        return accessesFromSelf.get();
     }
 
     /**
@@ -830,20 +1018,14 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaAccess<?>> getAllAccessesFromSelf() {
-        ImmutableSet.Builder<JavaAccess<?>> result = ImmutableSet.builder();
-        for (JavaClass clazz : getClassHierarchy()) {
-            result.addAll(clazz.getAccessesFromSelf());
-        }
-        return result.build();
+        checkAccessInformationImported();
+        return allAccessesFromSelf.get();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaFieldAccess> getFieldAccessesFromSelf() {
-        ImmutableSet.Builder<JavaFieldAccess> result = ImmutableSet.builder();
-        for (JavaCodeUnit codeUnit : codeUnits) {
-            result.addAll(codeUnit.getFieldAccesses());
-        }
-        return result.build();
+        checkAccessInformationImported();
+        return fieldAccessesFromSelf.get();
     }
 
     /**
@@ -854,25 +1036,20 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
      */
     @PublicAPI(usage = ACCESS)
     public Set<JavaCall<?>> getCallsFromSelf() {
-        return union(getMethodCallsFromSelf(), getConstructorCallsFromSelf());
+        checkAccessInformationImported();
+        return callsFromSelf.get();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodCall> getMethodCallsFromSelf() {
-        ImmutableSet.Builder<JavaMethodCall> result = ImmutableSet.builder();
-        for (JavaCodeUnit codeUnit : codeUnits) {
-            result.addAll(codeUnit.getMethodCallsFromSelf());
-        }
-        return result.build();
+        checkAccessInformationImported();
+        return methodCallsFromSelf.get();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorCall> getConstructorCallsFromSelf() {
-        ImmutableSet.Builder<JavaConstructorCall> result = ImmutableSet.builder();
-        for (JavaCodeUnit codeUnit : codeUnits) {
-            result.addAll(codeUnit.getConstructorCallsFromSelf());
-        }
-        return result.build();
+        checkAccessInformationImported();
+        return constructorCallsFromSelf.get();
     }
 
     /**
@@ -907,38 +1084,26 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaFieldAccess> getFieldAccessesToSelf() {
-        ImmutableSet.Builder<JavaFieldAccess> result = ImmutableSet.builder();
-        for (JavaField field : fields) {
-            result.addAll(field.getAccessesToSelf());
-        }
-        return result.build();
+        checkAccessInformationImported();
+        return fieldAccessesToSelf.get();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodCall> getMethodCallsToSelf() {
-        ImmutableSet.Builder<JavaMethodCall> result = ImmutableSet.builder();
-        for (JavaMethod method : methods) {
-            result.addAll(method.getCallsOfSelf());
-        }
-        return result.build();
+        checkAccessInformationImported();
+        return methodCallsToSelf.get();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorCall> getConstructorCallsToSelf() {
-        ImmutableSet.Builder<JavaConstructorCall> result = ImmutableSet.builder();
-        for (JavaConstructor constructor : constructors) {
-            result.addAll(constructor.getCallsOfSelf());
-        }
-        return result.build();
+        checkAccessInformationImported();
+        return constructorCallsToSelf.get();
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaAccess<?>> getAccessesToSelf() {
-        return ImmutableSet.<JavaAccess<?>>builder()
-                .addAll(getFieldAccessesToSelf())
-                .addAll(getMethodCallsToSelf())
-                .addAll(getConstructorCallsToSelf())
-                .build();
+        checkAccessInformationImported();
+        return accessesToSelf.get();
     }
 
     /**
@@ -1013,15 +1178,12 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableFrom(String typeName) {
-        return isAssignableFrom(GET_NAME.is(equalTo(typeName)));
+        return allClassesAssignableFromSelfByName.get().containsKey(typeName);
     }
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableFrom(DescribedPredicate<? super JavaClass> predicate) {
-        List<JavaClass> possibleTargets = ImmutableList.<JavaClass>builder()
-                .add(this).addAll(getAllSubClasses()).build();
-
-        return anyMatches(possibleTargets, predicate);
+        return anyMatches(allClassesAssignableFromSelfByName.get().values(), predicate);
     }
 
     @PublicAPI(usage = ACCESS)
@@ -1031,18 +1193,30 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableTo(final String typeName) {
-        return isAssignableTo(GET_NAME.is(equalTo(typeName)));
+        return allClassesSelfIsAssignableToByName.get().containsKey(typeName);
     }
 
     @PublicAPI(usage = ACCESS)
     public boolean isAssignableTo(DescribedPredicate<? super JavaClass> predicate) {
-        List<JavaClass> possibleTargets = ImmutableList.<JavaClass>builder()
-                .addAll(getClassHierarchy()).addAll(getAllInterfaces()).build();
+        return anyMatches(getAllClassesSelfIsAssignableTo(), predicate);
+    }
 
-        return anyMatches(possibleTargets, predicate);
+    private boolean implementsInterface(String typeName) {
+        JavaClass assignableTo = allClassesSelfIsAssignableToByName.get().get(typeName);
+        return !isInterface() && assignableTo != null && assignableTo.isInterface();
     }
 
-    private boolean anyMatches(List<JavaClass> possibleTargets, DescribedPredicate<? super JavaClass> predicate) {
+    private static Map<String, JavaClass> indexByName(Iterable<JavaClass> classes) {
+        Map<String, JavaClass> result = new LinkedHashMap<>();
+        for (JavaClass javaClass : classes) {
+            if (!result.containsKey(javaClass.getName())) {
+                result.put(javaClass.getName(), javaClass);
+            }
+        }
+        return ImmutableMap.copyOf(result);
+    }
+
+    private boolean anyMatches(Collection<JavaClass> possibleTargets, DescribedPredicate<? super JavaClass> predicate) {
         for (JavaClass javaClass : possibleTargets) {
             if (predicate.apply(javaClass)) {
                 return true;
@@ -1136,6 +1310,7 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
         completeComponentType(context);
         enclosingClass = context.createEnclosingClass(this);
         javaClassDependencies = new JavaClassDependencies(this, context);
+        accessInformationImported = context.isAccessInformationImported();
         return new CompletionProcess();
     }
 
@@ -1389,12 +1564,12 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> type(final Class<?> type) {
-            return equalTo(type.getName()).<JavaClass>onResultOf(GET_NAME).as("type " + type.getName());
+            return new TypeNamePredicate(type.getName());
         }
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> simpleName(final String name) {
-            return equalTo(name).onResultOf(GET_SIMPLE_NAME).as("simple name '%s'", name);
+            return new SimpleNamePredicate(name);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -1424,12 +1599,12 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> assignableTo(final String typeName) {
-            return assignableTo(GET_NAME.is(equalTo(typeName)).as(typeName));
+            return new AssignableToTypeNamePredicate(typeName);
         }
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> assignableFrom(final String typeName) {
-            return assignableFrom(GET_NAME.is(equalTo(typeName)).as(typeName));
+            return new AssignableFromTypeNamePredicate(typeName);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -1453,7 +1628,7 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<JavaClass> implement(final String typeName) {
-            return implement(GET_NAME.is(equalTo(typeName)).as(typeName));
+            return new ImplementTypeNamePredicate(typeName);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -1489,11 +1664,7 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
         }
 
         private static DescribedPredicate<JavaClass> resideInAnyPackage(final String[] packageIdentifiers, final String description) {
-            final Set<PackageMatcher> packageMatchers = new HashSet<>();
-            for (String identifier : packageIdentifiers) {
-                packageMatchers.add(PackageMatcher.of(identifier));
-            }
-            return new PackageMatchesPredicate(packageMatchers, description);
+            return new PackageMatchesPredicate(PackageMatchers.of(packageIdentifiers), description);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -1556,7 +1727,69 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
             }
         }
 
-        private static class SimpleNameStartingWithPredicate extends DescribedPredicate<JavaClass> {
+        private static class TypeNamePredicate extends DescribedPredicate<JavaClass> implements CheapToEvaluate {
+            private final String typeName;
+
+            TypeNamePredicate(String typeName) {
+                super("type " + typeName);
+                this.typeName = typeName;
+            }
+
+            @Override
+            public boolean apply(JavaClass input) {
+                return input.getName().equals(typeName);
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(typeName);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final TypeNamePredicate other = (TypeNamePredicate) obj;
+                return Objects.equals(this.typeName, other.typeName);
+            }
+        }
+
+        private static class SimpleNamePredicate extends DescribedPredicate<JavaClass> implements CheapToEvaluate {
+            private final String name;
+
+            SimpleNamePredicate(String name) {
+                super(String.format("simple name '%s'", name));
+                this.name = name;
+            }
+
+            @Override
+            public boolean apply(JavaClass input) {
+                return input.getSimpleName().equals(name);
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(name);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final SimpleNamePredicate other = (SimpleNamePredicate) obj;
+                return Objects.equals(this.name, other.name);
+            }
+        }
+
+        private static class SimpleNameStartingWithPredicate extends DescribedPredicate<JavaClass> implements CheapToEvaluate {
             private final String prefix;
 
             SimpleNameStartingWithPredicate(String prefix) {
@@ -1568,9 +1801,26 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
             public boolean apply(JavaClass input) {
                 return input.getSimpleName().startsWith(prefix);
             }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(prefix);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final SimpleNameStartingWithPredicate other = (SimpleNameStartingWithPredicate) obj;
+                return Objects.equals(this.prefix, other.prefix);
+            }
         }
 
-        private static class SimpleNameContainingPredicate extends DescribedPredicate<JavaClass> {
+        private static class SimpleNameContainingPredicate extends DescribedPredicate<JavaClass> implements CheapToEvaluate {
             private final String infix;
 
             SimpleNameContainingPredicate(String infix) {
@@ -1582,9 +1832,26 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
             public boolean apply(JavaClass input) {
                 return input.getSimpleName().contains(infix);
             }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(infix);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final SimpleNameContainingPredicate other = (SimpleNameContainingPredicate) obj;
+                return Objects.equals(this.infix, other.infix);
+            }
         }
 
-        private static class SimpleNameEndingWithPredicate extends DescribedPredicate<JavaClass> {
+        private static class SimpleNameEndingWithPredicate extends DescribedPredicate<JavaClass> implements CheapToEvaluate {
             private final String suffix;
 
             SimpleNameEndingWithPredicate(String suffix) {
@@ -1596,6 +1863,23 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
             public boolean apply(JavaClass input) {
                 return input.getSimpleName().endsWith(suffix);
             }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(suffix);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final SimpleNameEndingWithPredicate other = (SimpleNameEndingWithPredicate) obj;
+                return Objects.equals(this.suffix, other.suffix);
+            }
         }
 
         private static class AssignableToPredicate extends DescribedPredicate<JavaClass> {
@@ -1610,6 +1894,22 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
             public boolean apply(JavaClass input) {
                 return input.isAssignableTo(predicate);
             }
+
+            @Override
+            public int hashCode() {
+                return predicate.hashCode();
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                return predicate.equals(((AssignableToPredicate) obj).predicate);
+            }
         }
 
         private static class AssignableFromPredicate extends DescribedPredicate<JavaClass> {
@@ -1624,28 +1924,150 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
             public boolean apply(JavaClass input) {
                 return input.isAssignableFrom(predicate);
             }
+
+            @Override
+            public int hashCode() {
+                return predicate.hashCode();
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                return predicate.equals(((AssignableFromPredicate) obj).predicate);
+            }
+        }
+
+        private static class AssignableToTypeNamePredicate extends DescribedPredicate<JavaClass> {
+            private final String typeName;
+
+            AssignableToTypeNamePredicate(String typeName) {
+                super("assignable to " + typeName);
+                this.typeName = typeName;
+            }
+
+            @Override
+            public boolean apply(JavaClass input) {
+                return input.isAssignableTo(typeName);
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(typeName);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final AssignableToTypeNamePredicate other = (AssignableToTypeNamePredicate) obj;
+                return Objects.equals(this.typeName, other.typeName);
+            }
+        }
+
+        private static class AssignableFromTypeNamePredicate extends DescribedPredicate<JavaClass> {
+            private final String typeName;
+
+            AssignableFromTypeNamePredicate(String typeName) {
+                super("assignable from " + typeName);
+                this.typeName = typeName;
+            }
+
+            @Override
+            public boolean apply(JavaClass input) {
+                return input.isAssignableFrom(typeName);
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(typeName);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final AssignableFromTypeNamePredicate other = (AssignableFromTypeNamePredicate) obj;
+                return Objects.equals(this.typeName, other.typeName);
+            }
         }
 
-        private static class PackageMatchesPredicate extends DescribedPredicate<JavaClass> {
-            private final Set<PackageMatcher> packageMatchers;
+        private static class ImplementTypeNamePredicate extends DescribedPredicate<JavaClass> {
+            private final String typeName;
+
+            ImplementTypeNamePredicate(String typeName) {
+                super("implement " + typeName);
+                this.typeName = typeName;
+            }
 
-            PackageMatchesPredicate(Set<PackageMatcher> packageMatchers, String description) {
+            @Override
+            public boolean apply(JavaClass input) {
+                return input.implementsInterface(typeName);
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(typeName);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final ImplementTypeNamePredicate other = (ImplementTypeNamePredicate) obj;
+                return Objects.equals(this.typeName, other.typeName);
+            }
+        }
+
+        private static class PackageMatchesPredicate extends DescribedPredicate<JavaClass> implements CheapToEvaluate {
+            private final PackageMatchers packageMatchers;
+
+            PackageMatchesPredicate(PackageMatchers packageMatchers, String description) {
                 super(description);
                 this.packageMatchers = packageMatchers;
             }
 
             @Override
             public boolean apply(JavaClass input) {
-                for (PackageMatcher matcher : packageMatchers) {
-                    if (matcher.matches(input.getPackageName())) {
-                        return true;
-                    }
+                return packageMatchers.apply(input.getPackageName());
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hash(packageMatchers, getDescription());
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
                 }
-                return false;
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final PackageMatchesPredicate other = (PackageMatchesPredicate) obj;
+                return Objects.equals(this.packageMatchers, other.packageMatchers)
+                        && Objects.equals(this.getDescription(), other.getDescription());
             }
         }
 
-        private static class EquivalentToPredicate extends DescribedPredicate<JavaClass> {
+        private static class EquivalentToPredicate extends DescribedPredicate<JavaClass> implements CheapToEvaluate {
             private final Class<?> clazz;
 
             EquivalentToPredicate(Class<?> clazz) {
@@ -1657,6 +2079,23 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
             public boolean apply(JavaClass input) {
                 return input.isEquivalentTo(clazz);
             }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(clazz);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final EquivalentToPredicate other = (EquivalentToPredicate) obj;
+                return Objects.equals(this.clazz, other.clazz);
+            }
         }
     }
 
@@ -1678,4 +2117,44 @@ public class JavaClass implements HasName.AndFullName, HasAnnotations<JavaClass>
             return javaType.resolveClass(getCurrentClassLoader(getClass()));
         }
     }
+
+    /**
+     * Marks a built-in pure evaluation of some property of a {@link JavaClass}, which is expensive enough (e.g. walking
+     * the meta-annotations), that its result is cached for all classes of the same import (compare {@link ClassEvaluationCache}).
+     * Implementations must implement {@link Object#equals(Object)} and {@link Object#hashCode()} by value (e.g. by type name),
+     * such that equal evaluations always yield the same result for the same class. Predicates supplied by users must never
+     * be part of the key, since they neither have value semantics nor need to be pure.
+     */
+    interface CachedEvaluation {
+        boolean evaluateOn(JavaClass javaClass);
+    }
+
+    private static class MetaAnnotatedWithTypeName implements CachedEvaluation {
+        private final String typeName;
+
+        MetaAnnotatedWithTypeName(String typeName) {
+            this.typeName = checkNotNull(typeName);
+        }
+
+        @Override
+        public boolean evaluateOn(JavaClass javaClass) {
+            return javaClass.isMetaAnnotatedWith(GET_RAW_TYPE.then(GET_NAME).is(equalTo(typeName)));
+        }
+
+        @Override
+        public int hashCode() {
+            return typeName.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            return typeName.equals(((MetaAnnotatedWithTypeName) obj).typeName);
+        }
+    }
 }
@@ -198,8 +198,10 @@ public final class JavaClasses extends ForwardingCollection<JavaClass> implement
 
         CompletionProcess completionProcess = new CompletionProcess(allClasses.values(), importContext);
         JavaPackage defaultPackage = JavaPackage.from(allClasses.values());
+        ClassEvaluationCache evaluationCache = new ClassEvaluationCache();
         for (JavaClass clazz : allClasses.values()) {
             setPackage(clazz, defaultPackage);
+            clazz.setEvaluationCache(evaluationCache);
             completionProcess.completeClass(clazz);
         }
         completionProcess.finish();
@@ -98,16 +98,19 @@ public abstract class JavaCodeUnit extends JavaMember implements HasParameterTyp
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaFieldAccess> getFieldAccesses() {
+        getOwner().checkAccessInformationImported();
         return fieldAccesses;
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodCall> getMethodCallsFromSelf() {
+        getOwner().checkAccessInformationImported();
         return methodCalls;
     }
 
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorCall> getConstructorCallsFromSelf() {
+        getOwner().checkAccessInformationImported();
         return constructorCalls;
     }
 
@@ -155,7 +158,7 @@ public abstract class JavaCodeUnit extends JavaMember implements HasParameterTyp
         methodCalls = context.getMethodCallsFor(this);
         constructorCalls = context.getConstructorCallsFor(this);
 
-        return new AccessContext.Part(this);
+        return new AccessContext.Part(fieldAccesses, methodCalls, constructorCalls);
     }
 
     @ResolvesTypesViaReflection
@@ -67,6 +67,7 @@ public final class JavaConstructor extends JavaCodeUnit {
     @Override
     @PublicAPI(usage = ACCESS)
     public Set<JavaConstructorCall> getAccessesToSelf() {
+        getOwner().checkAccessInformationImported();
         return callsToSelf;
     }
 
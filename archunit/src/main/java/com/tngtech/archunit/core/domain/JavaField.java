@@ -61,6 +61,7 @@ public class JavaField extends JavaMember implements HasType {
     @Override
     @PublicAPI(usage = ACCESS)
     public Set<JavaFieldAccess> getAccessesToSelf() {
+        getOwner().checkAccessInformationImported();
         return accessesToSelf.get();
     }
 
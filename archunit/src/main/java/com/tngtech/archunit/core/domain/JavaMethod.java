@@ -71,6 +71,7 @@ public class JavaMethod extends JavaCodeUnit {
     @Override
     @PublicAPI(usage = ACCESS)
     public Set<JavaMethodCall> getAccessesToSelf() {
+        getOwner().checkAccessInformationImported();
         return callsToSelf.get();
     }
 
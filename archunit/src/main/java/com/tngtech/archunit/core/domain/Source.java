@@ -117,7 +117,10 @@ public class Source {
         }
 
         private Md5sum(byte[] input, MessageDigest md5Digest) {
-            this.md5Bytes = md5Digest.digest(input);
+            // MessageDigest is stateful, but class files might be imported concurrently
+            synchronized (md5Digest) {
+                this.md5Bytes = md5Digest.digest(input);
+            }
             text = toHex(md5Bytes);
         }
 
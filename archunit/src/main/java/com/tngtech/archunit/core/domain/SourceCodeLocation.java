@@ -78,6 +78,14 @@ public final class SourceCodeLocation {
         description = formatLocation(sourceClass, lineNumber);
     }
 
+    /**
+     * @return The line number of this location within the source of the class, {@code 0} if the line number is unknown
+     */
+    @PublicAPI(usage = ACCESS)
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
     @Override
     public int hashCode() {
         return Objects.hash(sourceClass, lineNumber);
@@ -19,6 +19,7 @@ import java.lang.annotation.Annotation;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.Collection;
+import java.util.Objects;
 
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.ArchUnitException.InvalidSyntaxUsageException;
@@ -27,10 +28,7 @@ import com.tngtech.archunit.base.Function;
 import com.tngtech.archunit.core.domain.JavaAnnotation;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
-import static com.tngtech.archunit.base.DescribedPredicate.equalTo;
 import static com.tngtech.archunit.core.domain.Formatters.ensureSimpleName;
-import static com.tngtech.archunit.core.domain.properties.HasName.Functions.GET_NAME;
-import static com.tngtech.archunit.core.domain.properties.HasType.Functions.GET_RAW_TYPE;
 
 public interface CanBeAnnotated {
     @PublicAPI(usage = ACCESS)
@@ -78,8 +76,7 @@ public interface CanBeAnnotated {
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<CanBeAnnotated> annotatedWith(final String annotationTypeName) {
-            DescribedPredicate<HasType> typeNameMatches = GET_RAW_TYPE.then(GET_NAME).is(equalTo(annotationTypeName));
-            return annotatedWith(typeNameMatches.as("@" + ensureSimpleName(annotationTypeName)));
+            return new AnnotatedWithTypeNamePredicate(annotationTypeName);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -87,6 +84,37 @@ public interface CanBeAnnotated {
             return new AnnotatedPredicate(predicate);
         }
 
+        private static class AnnotatedWithTypeNamePredicate extends DescribedPredicate<CanBeAnnotated> {
+            private final String annotationTypeName;
+
+            AnnotatedWithTypeNamePredicate(String annotationTypeName) {
+                super("annotated with @" + ensureSimpleName(annotationTypeName));
+                this.annotationTypeName = annotationTypeName;
+            }
+
+            @Override
+            public boolean apply(CanBeAnnotated input) {
+                return input.isAnnotatedWith(annotationTypeName);
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(annotationTypeName);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final AnnotatedWithTypeNamePredicate other = (AnnotatedWithTypeNamePredicate) obj;
+                return Objects.equals(this.annotationTypeName, other.annotationTypeName);
+            }
+        }
+
         private static class AnnotatedPredicate extends DescribedPredicate<CanBeAnnotated> {
             private final DescribedPredicate<? super JavaAnnotation<?>> predicate;
 
@@ -99,6 +127,23 @@ public interface CanBeAnnotated {
             public boolean apply(CanBeAnnotated input) {
                 return input.isAnnotatedWith(predicate);
             }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(predicate);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final AnnotatedPredicate other = (AnnotatedPredicate) obj;
+                return Objects.equals(this.predicate, other.predicate);
+            }
         }
 
         @PublicAPI(usage = ACCESS)
@@ -110,8 +155,7 @@ public interface CanBeAnnotated {
 
         @PublicAPI(usage = ACCESS)
         public static DescribedPredicate<CanBeAnnotated> metaAnnotatedWith(final String annotationTypeName) {
-            DescribedPredicate<HasType> typeNameMatches = GET_RAW_TYPE.then(GET_NAME).is(equalTo(annotationTypeName));
-            return metaAnnotatedWith(typeNameMatches.as("@" + ensureSimpleName(annotationTypeName)));
+            return new MetaAnnotatedWithTypeNamePredicate(annotationTypeName);
         }
 
         @PublicAPI(usage = ACCESS)
@@ -119,6 +163,38 @@ public interface CanBeAnnotated {
             return new MetaAnnotatedPredicate(predicate);
         }
 
+        private static class MetaAnnotatedWithTypeNamePredicate extends DescribedPredicate<CanBeAnnotated> {
+            private final String annotationTypeName;
+
+            MetaAnnotatedWithTypeNamePredicate(String annotationTypeName) {
+                super("meta-annotated with @" + ensureSimpleName(annotationTypeName));
+                this.annotationTypeName = annotationTypeName;
+            }
+
+            @Override
+            public boolean apply(CanBeAnnotated input) {
+                // dispatching by type name allows the annotated object to cache the result
+                return input.isMetaAnnotatedWith(annotationTypeName);
+            }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(annotationTypeName);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final MetaAnnotatedWithTypeNamePredicate other = (MetaAnnotatedWithTypeNamePredicate) obj;
+                return Objects.equals(this.annotationTypeName, other.annotationTypeName);
+            }
+        }
+
         private static class MetaAnnotatedPredicate extends DescribedPredicate<CanBeAnnotated> {
             private final DescribedPredicate<? super JavaAnnotation<?>> predicate;
 
@@ -131,6 +207,23 @@ public interface CanBeAnnotated {
             public boolean apply(CanBeAnnotated input) {
                 return input.isMetaAnnotatedWith(predicate);
             }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(predicate);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final MetaAnnotatedPredicate other = (MetaAnnotatedPredicate) obj;
+                return Objects.equals(this.predicate, other.predicate);
+            }
         }
     }
 
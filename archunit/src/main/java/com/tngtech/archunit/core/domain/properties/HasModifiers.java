@@ -15,9 +15,11 @@
  */
 package com.tngtech.archunit.core.domain.properties;
 
+import java.util.Objects;
 import java.util.Set;
 
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.CheapToEvaluate;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.core.domain.JavaModifier;
 
@@ -37,7 +39,7 @@ public interface HasModifiers {
             return new ModifierPredicate(modifier);
         }
 
-        private static class ModifierPredicate extends DescribedPredicate<HasModifiers> {
+        private static class ModifierPredicate extends DescribedPredicate<HasModifiers> implements CheapToEvaluate {
             private final JavaModifier modifier;
 
             ModifierPredicate(JavaModifier modifier) {
@@ -49,6 +51,23 @@ public interface HasModifiers {
             public boolean apply(HasModifiers input) {
                 return input.getModifiers().contains(modifier);
             }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(modifier);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final ModifierPredicate other = (ModifierPredicate) obj;
+                return Objects.equals(this.modifier, other.modifier);
+            }
         }
     }
 }
@@ -15,10 +15,12 @@
  */
 package com.tngtech.archunit.core.domain.properties;
 
+import java.util.Objects;
 import java.util.regex.Pattern;
 
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.ChainableFunction;
+import com.tngtech.archunit.base.CheapToEvaluate;
 import com.tngtech.archunit.base.DescribedPredicate;
 
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
@@ -51,7 +53,7 @@ public interface HasName {
                 return new FullNameMatchingPredicate(regex);
             }
 
-            private static class FullNameEqualsPredicate extends DescribedPredicate<HasName.AndFullName> {
+            private static class FullNameEqualsPredicate extends DescribedPredicate<HasName.AndFullName> implements CheapToEvaluate {
                 private final String fullName;
 
                 FullNameEqualsPredicate(String fullName) {
@@ -63,9 +65,26 @@ public interface HasName {
                 public boolean apply(HasName.AndFullName input) {
                     return input.getFullName().equals(fullName);
                 }
+
+                @Override
+                public int hashCode() {
+                    return Objects.hashCode(fullName);
+                }
+
+                @Override
+                public boolean equals(Object obj) {
+                    if (this == obj) {
+                        return true;
+                    }
+                    if (obj == null || getClass() != obj.getClass()) {
+                        return false;
+                    }
+                    final FullNameEqualsPredicate other = (FullNameEqualsPredicate) obj;
+                    return Objects.equals(this.fullName, other.fullName);
+                }
             }
 
-            private static class FullNameMatchingPredicate extends DescribedPredicate<HasName.AndFullName> {
+            private static class FullNameMatchingPredicate extends DescribedPredicate<HasName.AndFullName> implements CheapToEvaluate {
                 private final Pattern pattern;
 
                 FullNameMatchingPredicate(String regex) {
@@ -77,6 +96,23 @@ public interface HasName {
                 public boolean apply(HasName.AndFullName input) {
                     return pattern.matcher(input.getFullName()).matches();
                 }
+
+                @Override
+                public int hashCode() {
+                    return Objects.hashCode(pattern.pattern());
+                }
+
+                @Override
+                public boolean equals(Object obj) {
+                    if (this == obj) {
+                        return true;
+                    }
+                    if (obj == null || getClass() != obj.getClass()) {
+                        return false;
+                    }
+                    final FullNameMatchingPredicate other = (FullNameMatchingPredicate) obj;
+                    return Objects.equals(this.pattern.pattern(), other.pattern.pattern());
+                }
             }
         }
 
@@ -111,7 +147,7 @@ public interface HasName {
             return new NameMatchingPredicate(regex);
         }
 
-        private static class NameEqualsPredicate extends DescribedPredicate<HasName> {
+        private static class NameEqualsPredicate extends DescribedPredicate<HasName> implements CheapToEvaluate {
             private final String name;
 
             NameEqualsPredicate(String name) {
@@ -123,9 +159,26 @@ public interface HasName {
             public boolean apply(HasName input) {
                 return input.getName().equals(name);
             }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(name);
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final NameEqualsPredicate other = (NameEqualsPredicate) obj;
+                return Objects.equals(this.name, other.name);
+            }
         }
 
-        private static class NameMatchingPredicate extends DescribedPredicate<HasName> {
+        private static class NameMatchingPredicate extends DescribedPredicate<HasName> implements CheapToEvaluate {
             private final Pattern pattern;
 
             NameMatchingPredicate(String regex) {
@@ -137,6 +190,23 @@ public interface HasName {
             public boolean apply(HasName input) {
                 return pattern.matcher(input.getName()).matches();
             }
+
+            @Override
+            public int hashCode() {
+                return Objects.hashCode(pattern.pattern());
+            }
+
+            @Override
+            public boolean equals(Object obj) {
+                if (this == obj) {
+                    return true;
+                }
+                if (obj == null || getClass() != obj.getClass()) {
+                    return false;
+                }
+                final NameMatchingPredicate other = (NameMatchingPredicate) obj;
+                return Objects.equals(this.pattern.pattern(), other.pattern.pattern());
+            }
         }
     }
 
@@ -0,0 +1,805 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+import com.google.common.hash.Hashing;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.Optional;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERSION;
+
+/**
+ * Persistent cache for parsed class files. Instead of the domain builders, we record exactly those ASM events
+ * a {@link JavaClassProcessor} is interested in (declarations, annotations, line numbers, field accesses and calls)
+ * and replay them, if a class file with the same content is imported again. Replaying these events is much cheaper
+ * than running the {@link ClassReader}, because all other instructions, frames and attributes have already been dropped.
+ * <br><br>
+ * Entries are keyed by a hash of the class file content, thus an entry can never be stale. Entries are written
+ * to a temporary file first and then moved into place, so several JVMs can safely share the same cache directory.
+ * Each entry starts with a checksum of the recorded events, so corrupt entries are detected before any event is replayed
+ * and the class file is simply parsed and recorded again.
+ */
+class ClassFileImportCache {
+    private static final Logger LOG = LoggerFactory.getLogger(ClassFileImportCache.class);
+
+    // NOTE: Must be increased whenever the recorded events or their encoding change
+    private static final int FORMAT_VERSION = 2;
+    private static final int FORMAT_VERSION_LENGTH = 4;
+    private static final int CHECKSUM_LENGTH = 8;
+
+    private final Path directory;
+
+    private ClassFileImportCache(Path directory) {
+        this.directory = directory;
+    }
+
+    void accept(byte[] classFileBuffer, int length, ClassVisitor classVisitor) throws IOException {
+        Path entry = directory.resolve(keyOf(classFileBuffer, length));
+        Optional<byte[]> recordedEvents = Files.exists(entry) ? read(entry) : Optional.<byte[]>absent();
+        if (recordedEvents.isPresent()) {
+            replay(entry, recordedEvents.get(), classVisitor);
+        } else {
+            record(classFileBuffer, length, classVisitor, entry);
+        }
+    }
+
+    private String keyOf(byte[] classFileBuffer, int length) {
+        return Hashing.sha256().hashBytes(classFileBuffer, 0, length).toString();
+    }
+
+    // NOTE: The entry is completely verified before any event is passed on, because a visitor that has already received
+    //       some events of a corrupt entry could not be used to parse the class file anymore
+    private Optional<byte[]> read(Path entry) {
+        try {
+            Optional<byte[]> recordedEvents = verified(Files.readAllBytes(entry));
+            if (recordedEvents.isPresent()) {
+                return recordedEvents;
+            }
+        } catch (IOException e) {
+            LOG.debug(String.format("Couldn't read import cache entry %s", entry), e);
+        }
+        LOG.warn("Removing corrupt import cache entry {}", entry);
+        entry.toFile().delete();
+        return Optional.absent();
+    }
+
+    private void replay(Path entry, byte[] recordedEvents, ClassVisitor classVisitor) throws IOException {
+        try {
+            replayEvents(recordedEvents, classVisitor);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Removing import cache entry {} that couldn't be replayed", entry);
+            entry.toFile().delete();
+            throw e;
+        }
+    }
+
+    private static Optional<byte[]> verified(byte[] content) throws IOException {
+        if (content.length < CHECKSUM_LENGTH + FORMAT_VERSION_LENGTH) {
+            return Optional.absent();
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+        long checksum = in.readLong();
+        int formatVersion = in.readInt();
+        byte[] recordedEvents = Arrays.copyOfRange(content, CHECKSUM_LENGTH, content.length);
+        return checksum == checksumOf(recordedEvents) && formatVersion == FORMAT_VERSION
+                ? Optional.of(recordedEvents)
+                : Optional.<byte[]>absent();
+    }
+
+    private static long checksumOf(byte[] recordedEvents) {
+        CRC32 checksum = new CRC32();
+        checksum.update(recordedEvents, 0, recordedEvents.length);
+        return checksum.getValue();
+    }
+
+    private void record(byte[] classFileBuffer, int length, ClassVisitor classVisitor, Path entry) throws IOException {
+        store(entry, recordEvents(classFileBuffer, length, classVisitor, true));
+    }
+
+    /**
+     * Parses the class file, passing all events to the supplied {@link ClassVisitor}, and returns the recorded events,
+     * which can be replayed by {@link #replayEvents(byte[], ClassVisitor)}. If {@code recordInstructions} is {@code false},
+     * field and method instructions are passed on, but not recorded, i.e. the replayed events will not contain any accesses.
+     */
+    static byte[] recordEvents(byte[] classFileBuffer, int length, ClassVisitor classVisitor, boolean recordInstructions) throws IOException {
+        ByteArrayOutputStream recorded = new ByteArrayOutputStream(length / 2);
+        try (DataOutputStream out = new DataOutputStream(recorded)) {
+            out.writeInt(FORMAT_VERSION);
+            EventWriter writer = new EventWriter(out);
+            RecordingClassVisitor recordingClassVisitor = new RecordingClassVisitor(writer, classVisitor, recordInstructions);
+            new ClassReader(classFileBuffer, 0, length).accept(recordingClassVisitor, ClassReader.SKIP_FRAMES);
+            writer.checkNoError();
+        }
+        return recorded.toByteArray();
+    }
+
+    static void replayEvents(byte[] recordedEvents, ClassVisitor classVisitor) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(recordedEvents))) {
+            int formatVersion = in.readInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException(String.format("Unsupported format version %d of recorded events", formatVersion));
+            }
+            new EventReader(in).replayClass(classVisitor);
+        }
+    }
+
+    private void store(Path entry, byte[] recordedEvents) {
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(directory, entry.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                out.writeLong(checksumOf(recordedEvents));
+                out.write(recordedEvents);
+            }
+            Files.move(tempFile, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn(String.format("Couldn't write import cache entry %s", entry), e);
+        } finally {
+            if (tempFile != null) {
+                tempFile.toFile().delete();
+            }
+        }
+    }
+
+    static Optional<ClassFileImportCache> fromConfiguration() {
+        Optional<String> configuredDirectory = ArchConfiguration.get().getImportCacheDirectory();
+        if (!configuredDirectory.isPresent()) {
+            return Optional.absent();
+        }
+
+        File directory = new File(configuredDirectory.get());
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            LOG.warn("Couldn't create import cache directory {}, import cache is disabled", directory.getAbsolutePath());
+            return Optional.absent();
+        }
+        return Optional.of(new ClassFileImportCache(directory.toPath()));
+    }
+
+    private static final class Event {
+        static final byte END = 0;
+        static final byte VISIT = 1;
+        static final byte SOURCE = 2;
+        static final byte OUTER_CLASS = 3;
+        static final byte INNER_CLASS = 4;
+        static final byte FIELD = 5;
+        static final byte METHOD = 6;
+        static final byte ANNOTATION = 7;
+        static final byte CODE = 8;
+        static final byte LINE_NUMBER = 9;
+        static final byte FIELD_INSN = 10;
+        static final byte METHOD_INSN = 11;
+        static final byte ANNOTATION_DEFAULT = 12;
+        static final byte VALUE = 13;
+        static final byte ENUM = 14;
+        static final byte ARRAY = 15;
+    }
+
+    private static final class ValueType {
+        static final byte NULL = 0;
+        static final byte BOOLEAN = 1;
+        static final byte BYTE = 2;
+        static final byte CHAR = 3;
+        static final byte SHORT = 4;
+        static final byte INT = 5;
+        static final byte LONG = 6;
+        static final byte FLOAT = 7;
+        static final byte DOUBLE = 8;
+        static final byte STRING = 9;
+        static final byte TYPE = 10;
+        static final byte BOOLEAN_ARRAY = 11;
+        static final byte BYTE_ARRAY = 12;
+        static final byte CHAR_ARRAY = 13;
+        static final byte SHORT_ARRAY = 14;
+        static final byte INT_ARRAY = 15;
+        static final byte LONG_ARRAY = 16;
+        static final byte FLOAT_ARRAY = 17;
+        static final byte DOUBLE_ARRAY = 18;
+    }
+
+    // NOTE: Visitor methods can't throw IOExceptions, so we remember the first one and check it after the ClassReader is done
+    private static class EventWriter {
+        private final DataOutputStream out;
+        private IOException error;
+
+        EventWriter(DataOutputStream out) {
+            this.out = out;
+        }
+
+        EventWriter event(byte event) {
+            try {
+                out.writeByte(event);
+            } catch (IOException e) {
+                error = e;
+            }
+            return this;
+        }
+
+        EventWriter string(String string) {
+            try {
+                writeString(string);
+            } catch (IOException e) {
+                error = e;
+            }
+            return this;
+        }
+
+        private void writeString(String string) throws IOException {
+            out.writeBoolean(string != null);
+            if (string != null) {
+                out.writeUTF(string);
+            }
+        }
+
+        EventWriter strings(String[] strings) {
+            integer(strings != null ? strings.length : -1);
+            if (strings != null) {
+                for (String string : strings) {
+                    string(string);
+                }
+            }
+            return this;
+        }
+
+        EventWriter integer(int value) {
+            try {
+                out.writeInt(value);
+            } catch (IOException e) {
+                error = e;
+            }
+            return this;
+        }
+
+        EventWriter bool(boolean value) {
+            try {
+                out.writeBoolean(value);
+            } catch (IOException e) {
+                error = e;
+            }
+            return this;
+        }
+
+        EventWriter value(Object value) {
+            try {
+                writeValue(value);
+            } catch (IOException e) {
+                error = e;
+            }
+            return this;
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                out.writeByte(ValueType.NULL);
+            } else if (value instanceof Boolean) {
+                out.writeByte(ValueType.BOOLEAN);
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof Byte) {
+                out.writeByte(ValueType.BYTE);
+                out.writeByte((Byte) value);
+            } else if (value instanceof Character) {
+                out.writeByte(ValueType.CHAR);
+                out.writeChar((Character) value);
+            } else if (value instanceof Short) {
+                out.writeByte(ValueType.SHORT);
+                out.writeShort((Short) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(ValueType.INT);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                out.writeByte(ValueType.LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Float) {
+                out.writeByte(ValueType.FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof Double) {
+                out.writeByte(ValueType.DOUBLE);
+                out.writeDouble((Double) value);
+            } else if (value instanceof String) {
+                out.writeByte(ValueType.STRING);
+                writeString((String) value);
+            } else if (value instanceof Type) {
+                out.writeByte(ValueType.TYPE);
+                writeString(((Type) value).getDescriptor());
+            } else {
+                writeArray(value);
+            }
+        }
+
+        private void writeArray(Object value) throws IOException {
+            if (value instanceof boolean[]) {
+                boolean[] array = (boolean[]) value;
+                out.writeByte(ValueType.BOOLEAN_ARRAY);
+                out.writeInt(array.length);
+                for (boolean element : array) {
+                    out.writeBoolean(element);
+                }
+            } else if (value instanceof byte[]) {
+                byte[] array = (byte[]) value;
+                out.writeByte(ValueType.BYTE_ARRAY);
+                out.writeInt(array.length);
+                out.write(array);
+            } else if (value instanceof char[]) {
+                char[] array = (char[]) value;
+                out.writeByte(ValueType.CHAR_ARRAY);
+                out.writeInt(array.length);
+                for (char element : array) {
+                    out.writeChar(element);
+                }
+            } else if (value instanceof short[]) {
+                short[] array = (short[]) value;
+                out.writeByte(ValueType.SHORT_ARRAY);
+                out.writeInt(array.length);
+                for (short element : array) {
+                    out.writeShort(element);
+                }
+            } else if (value instanceof int[]) {
+                int[] array = (int[]) value;
+                out.writeByte(ValueType.INT_ARRAY);
+                out.writeInt(array.length);
+                for (int element : array) {
+                    out.writeInt(element);
+                }
+            } else if (value instanceof long[]) {
+                long[] array = (long[]) value;
+                out.writeByte(ValueType.LONG_ARRAY);
+                out.writeInt(array.length);
+                for (long element : array) {
+                    out.writeLong(element);
+                }
+            } else if (value instanceof float[]) {
+                float[] array = (float[]) value;
+                out.writeByte(ValueType.FLOAT_ARRAY);
+                out.writeInt(array.length);
+                for (float element : array) {
+                    out.writeFloat(element);
+                }
+            } else if (value instanceof double[]) {
+                double[] array = (double[]) value;
+                out.writeByte(ValueType.DOUBLE_ARRAY);
+                out.writeInt(array.length);
+                for (double element : array) {
+                    out.writeDouble(element);
+                }
+            } else {
+                throw new IOException(String.format("Can't record value %s of type %s", value, value.getClass().getName()));
+            }
+        }
+
+        void checkNoError() throws IOException {
+            if (error != null) {
+                throw error;
+            }
+        }
+    }
+
+    private static class EventReader {
+        private final DataInputStream in;
+
+        EventReader(DataInputStream in) {
+            this.in = in;
+        }
+
+        void replayClass(ClassVisitor visitor) throws IOException {
+            for (byte event = in.readByte(); event != Event.END; event = in.readByte()) {
+                switch (event) {
+                    case Event.VISIT:
+                        visitor.visit(in.readInt(), in.readInt(), readString(), readString(), readString(), readStrings());
+                        break;
+                    case Event.SOURCE:
+                        visitor.visitSource(readString(), readString());
+                        break;
+                    case Event.OUTER_CLASS:
+                        visitor.visitOuterClass(readString(), readString(), readString());
+                        break;
+                    case Event.INNER_CLASS:
+                        visitor.visitInnerClass(readString(), readString(), readString(), in.readInt());
+                        break;
+                    case Event.FIELD:
+                        replayField(visitor.visitField(in.readInt(), readString(), readString(), readString(), readValue()));
+                        break;
+                    case Event.METHOD:
+                        replayMethod(visitor.visitMethod(in.readInt(), readString(), readString(), readString(), readStrings()));
+                        break;
+                    case Event.ANNOTATION:
+                        replayAnnotation(visitor.visitAnnotation(readString(), in.readBoolean()));
+                        break;
+                    default:
+                        throw unexpected(event);
+                }
+            }
+            visitor.visitEnd();
+        }
+
+        private void replayField(FieldVisitor visitor) throws IOException {
+            FieldVisitor target = visitor != null ? visitor : new FieldVisitor(ASM_API_VERSION) {
+            };
+            for (byte event = in.readByte(); event != Event.END; event = in.readByte()) {
+                if (event != Event.ANNOTATION) {
+                    throw unexpected(event);
+                }
+                replayAnnotation(target.visitAnnotation(readString(), in.readBoolean()));
+            }
+            target.visitEnd();
+        }
+
+        private void replayMethod(MethodVisitor visitor) throws IOException {
+            MethodVisitor target = visitor != null ? visitor : new MethodVisitor(ASM_API_VERSION) {
+            };
+            for (byte event = in.readByte(); event != Event.END; event = in.readByte()) {
+                switch (event) {
+                    case Event.CODE:
+                        target.visitCode();
+                        break;
+                    case Event.LINE_NUMBER:
+                        target.visitLineNumber(in.readInt(), new Label());
+                        break;
+                    case Event.FIELD_INSN:
+                        target.visitFieldInsn(in.readInt(), readString(), readString(), readString());
+                        break;
+                    case Event.METHOD_INSN:
+                        target.visitMethodInsn(in.readInt(), readString(), readString(), readString(), in.readBoolean());
+                        break;
+                    case Event.ANNOTATION:
+                        replayAnnotation(target.visitAnnotation(readString(), in.readBoolean()));
+                        break;
+                    case Event.ANNOTATION_DEFAULT:
+                        replayAnnotation(target.visitAnnotationDefault());
+                        break;
+                    default:
+                        throw unexpected(event);
+                }
+            }
+            target.visitEnd();
+        }
+
+        private void replayAnnotation(AnnotationVisitor visitor) throws IOException {
+            AnnotationVisitor target = visitor != null ? visitor : new AnnotationVisitor(ASM_API_VERSION) {
+            };
+            for (byte event = in.readByte(); event != Event.END; event = in.readByte()) {
+                switch (event) {
+                    case Event.VALUE:
+                        target.visit(readString(), readValue());
+                        break;
+                    case Event.ENUM:
+                        target.visitEnum(readString(), readString(), readString());
+                        break;
+                    case Event.ANNOTATION:
+                        replayAnnotation(target.visitAnnotation(readString(), readString()));
+                        break;
+                    case Event.ARRAY:
+                        replayAnnotation(target.visitArray(readString()));
+                        break;
+                    default:
+                        throw unexpected(event);
+                }
+            }
+            target.visitEnd();
+        }
+
+        private String readString() throws IOException {
+            return in.readBoolean() ? in.readUTF() : null;
+        }
+
+        private String[] readStrings() throws IOException {
+            int length = in.readInt();
+            if (length < 0) {
+                return null;
+            }
+            String[] result = new String[length];
+            for (int i = 0; i < length; i++) {
+                result[i] = readString();
+            }
+            return result;
+        }
+
+        private Object readValue() throws IOException {
+            byte type = in.readByte();
+            switch (type) {
+                case ValueType.NULL:
+                    return null;
+                case ValueType.BOOLEAN:
+                    return in.readBoolean();
+                case ValueType.BYTE:
+                    return in.readByte();
+                case ValueType.CHAR:
+                    return in.readChar();
+                case ValueType.SHORT:
+                    return in.readShort();
+                case ValueType.INT:
+                    return in.readInt();
+                case ValueType.LONG:
+                    return in.readLong();
+                case ValueType.FLOAT:
+                    return in.readFloat();
+                case ValueType.DOUBLE:
+                    return in.readDouble();
+                case ValueType.STRING:
+                    return readString();
+                case ValueType.TYPE:
+                    return Type.getType(readString());
+                default:
+                    return readArray(type);
+            }
+        }
+
+        private Object readArray(byte type) throws IOException {
+            int length = in.readInt();
+            switch (type) {
+                case ValueType.BOOLEAN_ARRAY: {
+                    boolean[] result = new boolean[length];
+                    for (int i = 0; i < length; i++) {
+                        result[i] = in.readBoolean();
+                    }
+                    return result;
+                }
+                case ValueType.BYTE_ARRAY: {
+                    byte[] result = new byte[length];
+                    in.readFully(result);
+                    return result;
+                }
+                case ValueType.CHAR_ARRAY: {
+                    char[] result = new char[length];
+                    for (int i = 0; i < length; i++) {
+                        result[i] = in.readChar();
+                    }
+                    return result;
+                }
+                case ValueType.SHORT_ARRAY: {
+                    short[] result = new short[length];
+                    for (int i = 0; i < length; i++) {
+                        result[i] = in.readShort();
+                    }
+                    return result;
+                }
+                case ValueType.INT_ARRAY: {
+                    int[] result = new int[length];
+                    for (int i = 0; i < length; i++) {
+                        result[i] = in.readInt();
+                    }
+                    return result;
+                }
+                case ValueType.LONG_ARRAY: {
+                    long[] result = new long[length];
+                    for (int i = 0; i < length; i++) {
+                        result[i] = in.readLong();
+                    }
+                    return result;
+                }
+                case ValueType.FLOAT_ARRAY: {
+                    float[] result = new float[length];
+                    for (int i = 0; i < length; i++) {
+                        result[i] = in.readFloat();
+                    }
+                    return result;
+                }
+                case ValueType.DOUBLE_ARRAY: {
+                    double[] result = new double[length];
+                    for (int i = 0; i < length; i++) {
+                        result[i] = in.readDouble();
+                    }
+                    return result;
+                }
+                default:
+                    throw new IOException("Unknown value type " + type);
+            }
+        }
+
+        private IOException unexpected(byte event) {
+            return new IOException("Unexpected event " + event + " in import cache entry");
+        }
+    }
+
+    // NOTE: We always record the complete class, even if the delegate is not interested in parts of it
+    //       (e.g. because the class has already been imported from a different location), since the next
+    //       import replaying this entry might need everything.
+    private static class RecordingClassVisitor extends ClassVisitor {
+        private final EventWriter writer;
+        private final boolean recordInstructions;
+
+        RecordingClassVisitor(EventWriter writer, ClassVisitor delegate, boolean recordInstructions) {
+            super(ASM_API_VERSION, delegate);
+            this.writer = writer;
+            this.recordInstructions = recordInstructions;
+        }
+
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            writer.event(Event.VISIT).integer(version).integer(access).string(name).string(signature).string(superName).strings(interfaces);
+            super.visit(version, access, name, signature, superName, interfaces);
+        }
+
+        @Override
+        public void visitSource(String source, String debug) {
+            writer.event(Event.SOURCE).string(source).string(debug);
+            super.visitSource(source, debug);
+        }
+
+        @Override
+        public void visitOuterClass(String owner, String name, String descriptor) {
+            writer.event(Event.OUTER_CLASS).string(owner).string(name).string(descriptor);
+            super.visitOuterClass(owner, name, descriptor);
+        }
+
+        @Override
+        public void visitInnerClass(String name, String outerName, String innerName, int access) {
+            writer.event(Event.INNER_CLASS).string(name).string(outerName).string(innerName).integer(access);
+            super.visitInnerClass(name, outerName, innerName, access);
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+            writer.event(Event.FIELD).integer(access).string(name).string(descriptor).string(signature).value(value);
+            return new RecordingFieldVisitor(writer, super.visitField(access, name, descriptor, signature, value));
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String descriptor, String signature, String[] exceptions) {
+            writer.event(Event.METHOD).integer(access).string(name).string(descriptor).string(signature).strings(exceptions);
+            return new RecordingMethodVisitor(writer, super.visitMethod(access, name, descriptor, signature, exceptions), recordInstructions);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            writer.event(Event.ANNOTATION).string(descriptor).bool(visible);
+            return new RecordingAnnotationVisitor(writer, super.visitAnnotation(descriptor, visible));
+        }
+
+        @Override
+        public void visitEnd() {
+            writer.event(Event.END);
+            super.visitEnd();
+        }
+    }
+
+    private static class RecordingFieldVisitor extends FieldVisitor {
+        private final EventWriter writer;
+
+        RecordingFieldVisitor(EventWriter writer, FieldVisitor delegate) {
+            super(ASM_API_VERSION, delegate);
+            this.writer = writer;
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            writer.event(Event.ANNOTATION).string(descriptor).bool(visible);
+            return new RecordingAnnotationVisitor(writer, super.visitAnnotation(descriptor, visible));
+        }
+
+        @Override
+        public void visitEnd() {
+            writer.event(Event.END);
+            super.visitEnd();
+        }
+    }
+
+    private static class RecordingMethodVisitor extends MethodVisitor {
+        private final EventWriter writer;
+        private final boolean recordInstructions;
+
+        RecordingMethodVisitor(EventWriter writer, MethodVisitor delegate, boolean recordInstructions) {
+            super(ASM_API_VERSION, delegate);
+            this.writer = writer;
+            this.recordInstructions = recordInstructions;
+        }
+
+        @Override
+        public void visitCode() {
+            writer.event(Event.CODE);
+            super.visitCode();
+        }
+
+        @Override
+        public void visitLineNumber(int line, Label start) {
+            writer.event(Event.LINE_NUMBER).integer(line);
+            super.visitLineNumber(line, start);
+        }
+
+        @Override
+        public void visitFieldInsn(int opcode, String owner, String name, String descriptor) {
+            if (recordInstructions) {
+                writer.event(Event.FIELD_INSN).integer(opcode).string(owner).string(name).string(descriptor);
+            }
+            super.visitFieldInsn(opcode, owner, name, descriptor);
+        }
+
+        @Override
+        public void visitMethodInsn(int opcode, String owner, String name, String descriptor, boolean isInterface) {
+            if (recordInstructions) {
+                writer.event(Event.METHOD_INSN).integer(opcode).string(owner).string(name).string(descriptor).bool(isInterface);
+            }
+            super.visitMethodInsn(opcode, owner, name, descriptor, isInterface);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            writer.event(Event.ANNOTATION).string(descriptor).bool(visible);
+            return new RecordingAnnotationVisitor(writer, super.visitAnnotation(descriptor, visible));
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotationDefault() {
+            writer.event(Event.ANNOTATION_DEFAULT);
+            return new RecordingAnnotationVisitor(writer, super.visitAnnotationDefault());
+        }
+
+        @Override
+        public void visitEnd() {
+            writer.event(Event.END);
+            super.visitEnd();
+        }
+    }
+
+    private static class RecordingAnnotationVisitor extends AnnotationVisitor {
+        private final EventWriter writer;
+
+        RecordingAnnotationVisitor(EventWriter writer, AnnotationVisitor delegate) {
+            super(ASM_API_VERSION, delegate);
+            this.writer = writer;
+        }
+
+        @Override
+        public void visit(String name, Object value) {
+            writer.event(Event.VALUE).string(name).value(value);
+            super.visit(name, value);
+        }
+
+        @Override
+        public void visitEnum(String name, String descriptor, String value) {
+            writer.event(Event.ENUM).string(name).string(descriptor).string(value);
+            super.visitEnum(name, descriptor, value);
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String name, String descriptor) {
+            writer.event(Event.ANNOTATION).string(name).string(descriptor);
+            return new RecordingAnnotationVisitor(writer, super.visitAnnotation(name, descriptor));
+        }
+
+        @Override
+        public AnnotationVisitor visitArray(String name) {
+            writer.event(Event.ARRAY).string(name);
+            return new RecordingAnnotationVisitor(writer, super.visitArray(name));
+        }
+
+        @Override
+        public void visitEnd() {
+            writer.event(Event.END);
+            super.visitEnd();
+        }
+    }
+}
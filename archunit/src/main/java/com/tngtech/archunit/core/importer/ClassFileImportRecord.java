@@ -15,7 +15,6 @@
  */
 package com.tngtech.archunit.core.importer;
 
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -34,6 +33,7 @@ import static com.google.common.base.Preconditions.checkState;
 class ClassFileImportRecord {
     private static final Logger LOG = LoggerFactory.getLogger(ClassFileImportRecord.class);
 
+    private final SymbolTable symbolTable = new SymbolTable();
     private final Map<String, JavaClass> classes = new HashMap<>();
 
     private final Map<String, String> superClassNamesByOwner = new HashMap<>();
@@ -53,38 +53,45 @@ class ClassFileImportRecord {
         checkState(!superClassNamesByOwner.containsKey(ownerName),
                 "Attempted to add %s as a second superclass to %s, this is most likely a bug",
                 superClassName, ownerName);
-        superClassNamesByOwner.put(ownerName, superClassName);
+        superClassNamesByOwner.put(symbolTable.intern(ownerName), symbolTable.intern(superClassName));
     }
 
     void addInterfaces(String ownerName, Set<String> interfaceNames) {
-        interfaceNamesByOwner.putAll(ownerName, interfaceNames);
+        String internedOwnerName = symbolTable.intern(ownerName);
+        for (String interfaceName : interfaceNames) {
+            interfaceNamesByOwner.put(internedOwnerName, symbolTable.intern(interfaceName));
+        }
     }
 
     void addField(String ownerName, DomainBuilders.JavaFieldBuilder fieldBuilder) {
-        fieldBuildersByOwner.put(ownerName, fieldBuilder);
+        fieldBuildersByOwner.put(symbolTable.intern(ownerName), fieldBuilder);
     }
 
     void addMethod(String ownerName, DomainBuilders.JavaMethodBuilder methodBuilder) {
-        methodBuildersByOwner.put(ownerName, methodBuilder);
+        methodBuildersByOwner.put(symbolTable.intern(ownerName), methodBuilder);
     }
 
     void addConstructor(String ownerName, DomainBuilders.JavaConstructorBuilder constructorBuilder) {
-        constructorBuildersByOwner.put(ownerName, constructorBuilder);
+        constructorBuildersByOwner.put(symbolTable.intern(ownerName), constructorBuilder);
     }
 
     void setStaticInitializer(String ownerName, DomainBuilders.JavaStaticInitializerBuilder builder) {
         checkState(!staticInitializerBuildersByOwner.containsKey(ownerName),
                 "Tried to add a second static initializer to %s, this is most likely a bug",
                 ownerName);
-        staticInitializerBuildersByOwner.put(ownerName, builder);
+        staticInitializerBuildersByOwner.put(symbolTable.intern(ownerName), builder);
     }
 
     void addAnnotations(String ownerName, Set<DomainBuilders.JavaAnnotationBuilder> annotations) {
-        this.annotationsByOwner.putAll(ownerName, annotations);
+        this.annotationsByOwner.putAll(symbolTable.intern(ownerName), annotations);
     }
 
     void setEnclosingClass(String ownerName, String enclosingClassName) {
-        enclosingClassNamesByOwner.register(ownerName, enclosingClassName);
+        enclosingClassNamesByOwner.register(symbolTable.intern(ownerName), symbolTable.intern(enclosingClassName));
+    }
+
+    SymbolTable getSymbolTable() {
+        return symbolTable;
     }
 
     Optional<String> getSuperClassFor(String name) {
@@ -143,10 +150,59 @@ class ClassFileImportRecord {
         return ImmutableSet.copyOf(rawConstructorCallRecords);
     }
 
-    void addAll(Collection<JavaClass> javaClasses) {
-        for (JavaClass javaClass : javaClasses) {
-            classes.put(javaClass.getName(), javaClass);
+    void add(DomainBuilders.JavaClassBuilder classBuilder) {
+        JavaClass javaClass = classBuilder.build();
+        classes.put(symbolTable.intern(javaClass.getName()), javaClass);
+    }
+
+    /**
+     * Adds all classes of another record, together with everything recorded about them, unless a class with the same
+     * name has already been recorded before. I.e. like for a sequential import the first occurrence of a class wins,
+     * if the records are merged in the order the class files were found.
+     */
+    void addNewClassesFrom(ClassFileImportRecord other) {
+        Set<String> newClassNames = new HashSet<>();
+        for (JavaClass javaClass : other.classes.values()) {
+            if (!classes.containsKey(javaClass.getName())) {
+                classes.put(symbolTable.intern(javaClass.getName()), javaClass);
+                newClassNames.add(javaClass.getName());
+            }
+        }
+
+        for (String ownerName : newClassNames) {
+            Optional<String> superClassName = other.getSuperClassFor(ownerName);
+            if (superClassName.isPresent()) {
+                setSuperClass(ownerName, superClassName.get());
+            }
+            addInterfaces(ownerName, other.getInterfaceNamesFor(ownerName));
+            String internedOwnerName = symbolTable.intern(ownerName);
+            fieldBuildersByOwner.putAll(internedOwnerName, other.getFieldBuildersFor(ownerName));
+            methodBuildersByOwner.putAll(internedOwnerName, other.getMethodBuildersFor(ownerName));
+            constructorBuildersByOwner.putAll(internedOwnerName, other.getConstructorBuildersFor(ownerName));
+            Optional<DomainBuilders.JavaStaticInitializerBuilder> staticInitializer = other.getStaticInitializerBuilderFor(ownerName);
+            if (staticInitializer.isPresent()) {
+                setStaticInitializer(ownerName, staticInitializer.get());
+            }
+            addAnnotations(ownerName, other.getAnnotationsFor(ownerName));
+            Optional<String> enclosingClassName = other.getEnclosingClassFor(ownerName);
+            if (enclosingClassName.isPresent()) {
+                setEnclosingClass(ownerName, enclosingClassName.get());
+            }
+        }
+
+        rawFieldAccessRecords.addAll(recordsWithCallerIn(newClassNames, other.rawFieldAccessRecords));
+        rawMethodCallRecords.addAll(recordsWithCallerIn(newClassNames, other.rawMethodCallRecords));
+        rawConstructorCallRecords.addAll(recordsWithCallerIn(newClassNames, other.rawConstructorCallRecords));
+    }
+
+    private static <RECORD extends RawAccessRecord> Set<RECORD> recordsWithCallerIn(Set<String> classNames, Set<RECORD> records) {
+        Set<RECORD> result = new HashSet<>();
+        for (RECORD record : records) {
+            if (classNames.contains(record.caller.getDeclaringClassName())) {
+                result.add(record);
+            }
         }
+        return result;
     }
 
     Map<String, JavaClass> getClasses() {
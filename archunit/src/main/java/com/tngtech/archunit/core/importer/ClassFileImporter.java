@@ -15,6 +15,7 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -25,13 +26,17 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 import java.util.jar.JarFile;
 
+import com.google.common.base.Predicate;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
+import com.google.common.collect.MapMaker;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.ArchUnitException.SnapshotException;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
@@ -80,7 +85,12 @@ import static java.util.Collections.singletonList;
 public final class ClassFileImporter {
     private static final Logger LOG = LoggerFactory.getLogger(ClassFileImporter.class);
 
+    // NOTE: Weak keys are compared by identity, so equal JavaClasses from different imports never share recorded class files
+    private static final ConcurrentMap<JavaClasses, RecordedClassFiles> classFilesForReimport = new MapMaker().weakKeys().makeMap();
+
     private final ImportOptions importOptions;
+    private final boolean reimportSupport;
+    private final boolean declarationsOnly;
 
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter() {
@@ -89,7 +99,13 @@ public final class ClassFileImporter {
 
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter(ImportOptions importOptions) {
+        this(importOptions, false, false);
+    }
+
+    private ClassFileImporter(ImportOptions importOptions, boolean reimportSupport, boolean declarationsOnly) {
         this.importOptions = importOptions;
+        this.reimportSupport = reimportSupport;
+        this.declarationsOnly = declarationsOnly;
     }
 
     /**
@@ -101,7 +117,40 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public ClassFileImporter withImportOption(ImportOption option) {
-        return new ClassFileImporter(importOptions.with(option));
+        return new ClassFileImporter(importOptions.with(option), reimportSupport, declarationsOnly);
+    }
+
+    /**
+     * Makes {@link JavaClasses} imported by the returned {@link ClassFileImporter} support a
+     * {@link #reimport(JavaClasses, Collection) reimport} without reading and parsing unchanged class files again.
+     * To do so, the parsed contents of all class files will be recorded while importing them and kept
+     * in memory as long as the imported {@link JavaClasses} are in use. Note that
+     * this object will not be modified, but instead a copy with adjusted behavior will be returned.
+     *
+     * @return A {@link ClassFileImporter} whose imported {@link JavaClasses} can be reimported without parsing unchanged class files
+     * @see #reimport(JavaClasses, Collection)
+     */
+    @PublicAPI(usage = ACCESS)
+    public ClassFileImporter withReimportSupport() {
+        return new ClassFileImporter(importOptions, true, declarationsOnly);
+    }
+
+    /**
+     * Makes the returned {@link ClassFileImporter} only import declarations, i.e. classes with their superclasses, interfaces,
+     * annotations, fields, methods and constructors, but skip the bodies of methods, constructors and static initializers.
+     * This speeds up the import and reduces the memory consumption considerably, but
+     * the imported {@link JavaClasses} will not contain any information about accesses (e.g. field accesses or method calls),
+     * and neither about dependencies, since those contain accesses as well. Any attempt to query such
+     * information will throw an exception (compare {@link JavaClass#isAccessInformationImported()}). Also code units will
+     * not know their line numbers. Thus this is only suitable for rules about declarations, like naming conventions,
+     * annotations or inheritance.<br>
+     * Note that this object will not be modified, but instead a copy with adjusted behavior will be returned.
+     *
+     * @return A {@link ClassFileImporter} which only imports declarations
+     */
+    @PublicAPI(usage = ACCESS)
+    public ClassFileImporter withDeclarationsOnly() {
+        return new ClassFileImporter(importOptions, reimportSupport, true);
     }
 
     /**
@@ -261,7 +310,7 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public JavaClasses importClasspath(ImportOptions options) {
-        return new ClassFileImporter(options).importLocations(Locations.inClassPath());
+        return new ClassFileImporter(options, reimportSupport, declarationsOnly).importLocations(Locations.inClassPath());
     }
 
     /**
@@ -329,11 +378,157 @@ public final class ClassFileImporter {
      */
     @PublicAPI(usage = ACCESS)
     public JavaClasses importLocations(Collection<Location> locations) {
+        if (reimportSupport) {
+            ClassFileProcessor processor = newClassFileProcessor();
+            ClassFileProcessor.RecordedImport recordedImport = processor.parseAndRecord(sourcesOf(locations));
+            return keepForReimport(processor.complete(recordedImport.getImportRecord()), recordedImport.getClassFiles());
+        }
+        return newClassFileProcessor().process(sourcesOf(locations));
+    }
+
+    /**
+     * Imports the classes of a previous import again, after some class files have been added, changed or removed.
+     * All classes of the previous import that originate from any of the supplied {@link Location locations} are discarded,
+     * then all class files currently found at these {@link Location locations} are imported (compare {@link #importLocations(Collection)}).
+     * E.g. to react to a changed or deleted class file, simply pass the {@link Location} of that class file,
+     * or pass the {@link Location} of a directory or JAR file, if it is not known which class files have changed exactly.
+     * <br><br>
+     * If the previous {@link JavaClasses} have been imported by a {@link ClassFileImporter} {@link #withReimportSupport() with reimport support},
+     * only the class files at the supplied {@link Location locations} will be read and parsed, for all other classes the
+     * parsed contents of their class files from before will be reused. Otherwise all sources of the previous {@link JavaClasses}
+     * will be imported again.
+     * <br><br>
+     * Note that this is no incremental import: In any case the whole class graph will be built again from scratch, i.e. the effort
+     * still grows with the number of all imported classes, no matter how few class files have changed. Only reading and parsing
+     * of unchanged class files is saved. The previous {@link JavaClasses} will not be modified and classes of the previous import
+     * and of the reimport must not be mixed.
+     *
+     * @param previous {@link JavaClasses} of a previous import
+     * @param changedLocations {@link Location Locations} of added, changed or removed class files
+     * @return The imported {@link JavaClasses} reflecting the changes
+     */
+    @PublicAPI(usage = ACCESS)
+    public JavaClasses reimport(JavaClasses previous, Collection<Location> changedLocations) {
+        RecordedClassFiles previousClassFiles = classFilesForReimport.get(previous);
+        if (previousClassFiles == null) {
+            LOG.debug("Classes to reimport were not imported with reimport support, importing all sources again");
+            return importLocations(ImmutableSet.<Location>builder()
+                    .addAll(changedLocations)
+                    .addAll(unchangedSourcesOf(previous, changedLocations))
+                    .build());
+        }
+
+        RecordedClassFiles changedClassFiles = newClassFileProcessor().record(sourcesOf(changedLocations));
+        RecordedClassFiles classFiles = previousClassFiles.replace(changedLocations, changedClassFiles);
+        return reimportSupport
+                ? completeAndKeepForReimport(classFiles)
+                : complete(classFiles);
+    }
+
+    /**
+     * Imports all class files at the given {@link Location locations} like {@link #importLocations(Collection)}, and additionally
+     * writes a snapshot of the completed class graph to the supplied file. Besides the imported classes, the snapshot contains
+     * all classes the imported classes refer to, e.g. the classes resolved by the configured {@link ClassResolver},
+     * together with their resolved class hierarchies, members, annotations and accesses.
+     * <br><br>
+     * The snapshot can later be loaded via {@link #importClassGraphSnapshot(Path)}, e.g. by several test JVMs, to obtain equivalent
+     * {@link JavaClasses} without locating, reading or parsing any class file and without resolving any class or access target again.
+     *
+     * @param locations {@link Location Locations} to import class files from
+     * @param snapshotFile The file to write the snapshot to, an existing file will be replaced
+     * @return The imported {@link JavaClasses}
+     */
+    @PublicAPI(usage = ACCESS)
+    public JavaClasses importLocationsAndWriteClassGraphSnapshot(Collection<Location> locations, Path snapshotFile) {
+        JavaClasses classes = importLocations(locations);
+        try {
+            ClassGraphSnapshot.write(classes, !declarationsOnly, snapshotFile);
+        } catch (IOException e) {
+            throw new SnapshotException(String.format("Couldn't write snapshot %s", snapshotFile), e);
+        }
+        return classes;
+    }
+
+    /**
+     * Imports {@link JavaClasses} from a snapshot written by {@link #importLocationsAndWriteClassGraphSnapshot(Collection, Path)}.
+     * Instead of importing class files, the completed class graph is rehydrated from the snapshot.
+     * The {@link ImportOption ImportOptions} and whether {@link #withDeclarationsOnly() declarations only} were imported
+     * are determined by the {@link ClassFileImporter} that wrote the snapshot, the configuration of this {@link ClassFileImporter}
+     * is not relevant.
+     * <br><br>
+     * Note that the snapshot does not track any changes of the class files it was created from. Thus, a snapshot must
+     * be written again whenever the imported classes or the classpath have changed.
+     *
+     * @param snapshotFile A file written by {@link #importLocationsAndWriteClassGraphSnapshot(Collection, Path)}
+     * @return The {@link JavaClasses} contained in the snapshot
+     */
+    @PublicAPI(usage = ACCESS)
+    public JavaClasses importClassGraphSnapshot(Path snapshotFile) {
+        try {
+            return ClassGraphSnapshot.read(snapshotFile);
+        } catch (IOException e) {
+            throw new SnapshotException(String.format("Couldn't read snapshot %s", snapshotFile), e);
+        }
+    }
+
+    private Set<Location> unchangedSourcesOf(JavaClasses classes, Collection<Location> changedLocations) {
+        Set<Location> result = new HashSet<>();
+        for (JavaClass javaClass : classes) {
+            if (javaClass.getSource().isPresent() && notOriginatingFrom(changedLocations).apply(javaClass)) {
+                result.add(Location.of(javaClass.getSource().get().getUri()));
+            }
+        }
+        return result;
+    }
+
+    private Predicate<JavaClass> notOriginatingFrom(Collection<Location> locations) {
+        final Set<String> locationPrefixes = new HashSet<>();
+        for (Location location : locations) {
+            locationPrefixes.add(location.asURI().toString());
+        }
+        return new Predicate<JavaClass>() {
+            @Override
+            public boolean apply(JavaClass input) {
+                if (!input.getSource().isPresent()) {
+                    return true;
+                }
+                String sourceUri = Location.of(input.getSource().get().getUri()).asURI().toString();
+                for (String prefix : locationPrefixes) {
+                    if (sourceUri.startsWith(prefix)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+    }
+
+    private JavaClasses completeAndKeepForReimport(RecordedClassFiles classFiles) {
+        return keepForReimport(complete(classFiles), classFiles);
+    }
+
+    private JavaClasses keepForReimport(JavaClasses classes, RecordedClassFiles classFiles) {
+        classFilesForReimport.put(classes, classFiles);
+        return classes;
+    }
+
+    // NOTE: The class files are replayed into fresh builders every time, since the builders of a previous import
+    //       are referenced by the completed classes of that import
+    private JavaClasses complete(RecordedClassFiles classFiles) {
+        ClassFileProcessor processor = newClassFileProcessor();
+        return processor.complete(processor.replay(classFiles));
+    }
+
+    private ClassFileProcessor newClassFileProcessor() {
+        return new ClassFileProcessor(declarationsOnly);
+    }
+
+    private ClassFileSource sourcesOf(Collection<Location> locations) {
         List<ClassFileSource> sources = new ArrayList<>();
         for (Location location : locations) {
             tryAdd(sources, location);
         }
-        return new ClassFileProcessor().process(unify(sources));
+        return unify(sources);
     }
 
     private void tryAdd(List<ClassFileSource> sources, Location location) {
@@ -15,10 +15,26 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.math.RoundingMode;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.math.IntMath;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
@@ -26,12 +42,11 @@ import com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType;
 import com.tngtech.archunit.core.importer.JavaClassProcessor.AccessHandler;
 import com.tngtech.archunit.core.importer.JavaClassProcessor.DeclarationHandler;
 import com.tngtech.archunit.core.importer.RawAccessRecord.CodeUnit;
-import com.tngtech.archunit.core.importer.RawAccessRecord.ConstructorTargetInfo;
-import com.tngtech.archunit.core.importer.RawAccessRecord.MethodTargetInfo;
 import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolver.ClassUriImporter;
 import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,23 +58,291 @@ class ClassFileProcessor {
 
     static final int ASM_API_VERSION = ASM7;
 
+    private static final int PARTITIONS_PER_THREAD = 4;
+    private static final ThreadFactory IMPORT_THREAD_FACTORY = new ThreadFactoryBuilder()
+            .setNameFormat("archunit-import-%d")
+            .setDaemon(true)
+            .build();
+
     private final ClassResolver.Factory classResolverFactory = new ClassResolver.Factory();
+    private final boolean declarationsOnly;
+
+    ClassFileProcessor() {
+        this(false);
+    }
+
+    ClassFileProcessor(boolean declarationsOnly) {
+        this.declarationsOnly = declarationsOnly;
+    }
 
     JavaClasses process(ClassFileSource source) {
+        return complete(parse(source));
+    }
+
+    // NOTE: The import cache replays all events of a class file, including the code, so for declarations only
+    //       it is cheaper to let the ClassReader skip the code instead
+    ClassFileImportRecord parse(ClassFileSource source) {
+        Optional<ClassFileImportCache> importCache = declarationsOnly
+                ? Optional.<ClassFileImportCache>absent()
+                : ClassFileImportCache.fromConfiguration();
+        int parallelism = ArchConfiguration.get().getImportParallelism();
+        return parallelism > 1
+                ? importInParallel(source, importCache, declarationsOnly, parallelism)
+                : importFrom(source, importCache, declarationsOnly);
+    }
+
+    /**
+     * Parses all class files like {@link #parse(ClassFileSource)}, but only records the ASM events of each class file,
+     * which can then be replayed any number of times via {@link #replay(RecordedClassFiles)}.
+     */
+    RecordedClassFiles record(ClassFileSource source) {
+        List<ClassFileLocation> locations = ImmutableList.copyOf(source);
+        int parallelism = ArchConfiguration.get().getImportParallelism();
+        return new RecordedClassFiles(parallelism > 1
+                ? recordInParallel(locations, declarationsOnly, parallelism)
+                : recordFrom(locations, declarationsOnly));
+    }
+
+    /**
+     * Parses all class files like {@link #parse(ClassFileSource)} and records the ASM events of each class file on the way,
+     * such that the class files can later be replayed via {@link #replay(RecordedClassFiles)} without parsing them again.
+     * In contrast to {@link #record(ClassFileSource)} followed by {@link #replay(RecordedClassFiles)}, each class file
+     * is only visited once.
+     */
+    RecordedImport parseAndRecord(ClassFileSource source) {
+        List<ClassFileLocation> locations = ImmutableList.copyOf(source);
+        int parallelism = ArchConfiguration.get().getImportParallelism();
+        return parallelism > 1
+                ? importAndRecordInParallel(locations, declarationsOnly, parallelism)
+                : importAndRecordFrom(locations, declarationsOnly);
+    }
+
+    ClassFileImportRecord replay(RecordedClassFiles classFiles) {
+        ClassFileImportRecord importRecord = new ClassFileImportRecord();
+        AccessHandler accessHandler = declarationsOnly ? new AccessHandler.NoOp() : new RecordAccessHandler(importRecord);
+        ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(importRecord);
+        for (RecordedClassFiles.Entry entry : classFiles.getEntries()) {
+            try {
+                JavaClassProcessor javaClassProcessor = new JavaClassProcessor(entry.getUri(), classDetailsRecorder, accessHandler);
+                ClassFileImportCache.replayEvents(entry.getEvents(), javaClassProcessor);
+                Optional<DomainBuilders.JavaClassBuilder> classBuilder = javaClassProcessor.getJavaClassBuilder();
+                if (classBuilder.isPresent()) {
+                    importRecord.add(classBuilder.get());
+                }
+            } catch (Exception e) {
+                LOG.warn(String.format("Couldn't import class from %s", entry.getUri()), e);
+            }
+        }
+        return importRecord;
+    }
+
+    JavaClasses complete(ClassFileImportRecord importRecord) {
+        ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(importRecord);
+        return new ClassGraphCreator(importRecord, getClassResolver(classDetailsRecorder), !declarationsOnly).complete();
+    }
+
+    private static ClassFileImportRecord importFrom(
+            Iterable<ClassFileLocation> locations, Optional<ClassFileImportCache> importCache, boolean declarationsOnly) {
+        ClassFileImportRecord importRecord = new ClassFileImportRecord();
+        AccessHandler accessHandler = declarationsOnly ? new AccessHandler.NoOp() : new RecordAccessHandler(importRecord);
+        int parsingOptions = parsingOptions(declarationsOnly);
+        ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(importRecord);
+        ClassFileBuffer buffer = new ClassFileBuffer();
+        for (ClassFileLocation location : locations) {
+            try (InputStream s = location.openStream()) {
+                JavaClassProcessor javaClassProcessor =
+                        new JavaClassProcessor(location.getUri(), classDetailsRecorder, accessHandler);
+                int length = buffer.readFully(s);
+                if (importCache.isPresent()) {
+                    importCache.get().accept(buffer.getBytes(), length, javaClassProcessor);
+                } else {
+                    new ClassReader(buffer.getBytes(), 0, length).accept(javaClassProcessor, parsingOptions);
+                }
+                Optional<DomainBuilders.JavaClassBuilder> classBuilder = javaClassProcessor.getJavaClassBuilder();
+                if (classBuilder.isPresent()) {
+                    importRecord.add(classBuilder.get());
+                }
+            } catch (Exception e) {
+                LOG.warn(String.format("Couldn't import class from %s", location.getUri()), e);
+            }
+        }
+        return importRecord;
+    }
+
+    private static RecordedImport importAndRecordFrom(List<ClassFileLocation> locations, boolean declarationsOnly) {
         ClassFileImportRecord importRecord = new ClassFileImportRecord();
-        RecordAccessHandler accessHandler = new RecordAccessHandler(importRecord);
+        AccessHandler accessHandler = declarationsOnly ? new AccessHandler.NoOp() : new RecordAccessHandler(importRecord);
         ClassDetailsRecorder classDetailsRecorder = new ClassDetailsRecorder(importRecord);
-        for (ClassFileLocation location : source) {
+        List<RecordedClassFiles.Entry> entries = new ArrayList<>();
+        ClassFileBuffer buffer = new ClassFileBuffer();
+        for (ClassFileLocation location : locations) {
             try (InputStream s = location.openStream()) {
                 JavaClassProcessor javaClassProcessor =
                         new JavaClassProcessor(location.getUri(), classDetailsRecorder, accessHandler);
-                new ClassReader(s).accept(javaClassProcessor, 0);
-                importRecord.addAll(javaClassProcessor.createJavaClass().asSet());
+                int length = buffer.readFully(s);
+                byte[] events = ClassFileImportCache.recordEvents(buffer.getBytes(), length, javaClassProcessor, !declarationsOnly);
+                entries.add(new RecordedClassFiles.Entry(location.getUri(), events));
+                Optional<DomainBuilders.JavaClassBuilder> classBuilder = javaClassProcessor.getJavaClassBuilder();
+                if (classBuilder.isPresent()) {
+                    importRecord.add(classBuilder.get());
+                }
             } catch (Exception e) {
                 LOG.warn(String.format("Couldn't import class from %s", location.getUri()), e);
             }
         }
-        return new ClassGraphCreator(importRecord, getClassResolver(classDetailsRecorder)).complete();
+        return new RecordedImport(importRecord, new RecordedClassFiles(entries));
+    }
+
+    // NOTE: Like for importInParallel(..) merging the partial results in the original order of the locations
+    //       yields the same result as a sequential import
+    private static RecordedImport importAndRecordInParallel(
+            List<ClassFileLocation> locations, final boolean declarationsOnly, int parallelism) {
+        int partitionSize = Math.max(1, IntMath.divide(locations.size(), parallelism * PARTITIONS_PER_THREAD, RoundingMode.CEILING));
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, IMPORT_THREAD_FACTORY);
+        try {
+            List<Future<RecordedImport>> partialImports = new ArrayList<>();
+            for (final List<ClassFileLocation> partition : Lists.partition(locations, partitionSize)) {
+                partialImports.add(executor.submit(new Callable<RecordedImport>() {
+                    @Override
+                    public RecordedImport call() {
+                        return importAndRecordFrom(partition, declarationsOnly);
+                    }
+                }));
+            }
+
+            ClassFileImportRecord importRecord = new ClassFileImportRecord();
+            List<RecordedClassFiles.Entry> entries = new ArrayList<>();
+            for (Future<RecordedImport> partialImport : partialImports) {
+                RecordedImport recordedImport = Futures.getUnchecked(partialImport);
+                importRecord.addNewClassesFrom(recordedImport.getImportRecord());
+                entries.addAll(recordedImport.getClassFiles().getEntries());
+            }
+            return new RecordedImport(importRecord, new RecordedClassFiles(entries));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // NOTE: Nothing is passed on while recording, the recorded events are only replayed afterwards
+    private static List<RecordedClassFiles.Entry> recordFrom(List<ClassFileLocation> locations, boolean declarationsOnly) {
+        List<RecordedClassFiles.Entry> result = new ArrayList<>();
+        ClassVisitor noOpVisitor = new ClassVisitor(ASM_API_VERSION) {
+        };
+        ClassFileBuffer buffer = new ClassFileBuffer();
+        for (ClassFileLocation location : locations) {
+            try (InputStream s = location.openStream()) {
+                int length = buffer.readFully(s);
+                byte[] events = ClassFileImportCache.recordEvents(buffer.getBytes(), length, noOpVisitor, !declarationsOnly);
+                result.add(new RecordedClassFiles.Entry(location.getUri(), events));
+            } catch (Exception e) {
+                LOG.warn(String.format("Couldn't import class from %s", location.getUri()), e);
+            }
+        }
+        return result;
+    }
+
+    private static List<RecordedClassFiles.Entry> recordInParallel(
+            List<ClassFileLocation> locations, final boolean declarationsOnly, int parallelism) {
+        int partitionSize = Math.max(1, IntMath.divide(locations.size(), parallelism * PARTITIONS_PER_THREAD, RoundingMode.CEILING));
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, IMPORT_THREAD_FACTORY);
+        try {
+            List<Future<List<RecordedClassFiles.Entry>>> partialEntries = new ArrayList<>();
+            for (final List<ClassFileLocation> partition : Lists.partition(locations, partitionSize)) {
+                partialEntries.add(executor.submit(new Callable<List<RecordedClassFiles.Entry>>() {
+                    @Override
+                    public List<RecordedClassFiles.Entry> call() {
+                        return recordFrom(partition, declarationsOnly);
+                    }
+                }));
+            }
+
+            List<RecordedClassFiles.Entry> result = new ArrayList<>();
+            for (Future<List<RecordedClassFiles.Entry>> partialEntry : partialEntries) {
+                result.addAll(Futures.getUnchecked(partialEntry));
+            }
+            return result;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int parsingOptions(boolean declarationsOnly) {
+        return declarationsOnly ? ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES : 0;
+    }
+
+    // NOTE: Each partition of consecutive locations is parsed into its own record by a single worker. Merging those
+    //       records in the original order of the locations yields the same result as a sequential import,
+    //       in particular concerning which class file wins if the same class is found at several locations.
+    private static ClassFileImportRecord importInParallel(
+            ClassFileSource source, final Optional<ClassFileImportCache> importCache, final boolean declarationsOnly, int parallelism) {
+        List<ClassFileLocation> locations = ImmutableList.copyOf(source);
+        int partitionSize = Math.max(1, IntMath.divide(locations.size(), parallelism * PARTITIONS_PER_THREAD, RoundingMode.CEILING));
+        LOG.debug("Importing {} class files using {} threads", locations.size(), parallelism);
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, IMPORT_THREAD_FACTORY);
+        try {
+            List<Future<ClassFileImportRecord>> partialRecords = new ArrayList<>();
+            for (final List<ClassFileLocation> partition : Lists.partition(locations, partitionSize)) {
+                partialRecords.add(executor.submit(new Callable<ClassFileImportRecord>() {
+                    @Override
+                    public ClassFileImportRecord call() {
+                        return importFrom(partition, importCache, declarationsOnly);
+                    }
+                }));
+            }
+
+            ClassFileImportRecord importRecord = new ClassFileImportRecord();
+            for (Future<ClassFileImportRecord> partialRecord : partialRecords) {
+                importRecord.addNewClassesFrom(Futures.getUnchecked(partialRecord));
+            }
+            return importRecord;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static class RecordedImport {
+        private final ClassFileImportRecord importRecord;
+        private final RecordedClassFiles classFiles;
+
+        private RecordedImport(ClassFileImportRecord importRecord, RecordedClassFiles classFiles) {
+            this.importRecord = importRecord;
+            this.classFiles = classFiles;
+        }
+
+        ClassFileImportRecord getImportRecord() {
+            return importRecord;
+        }
+
+        RecordedClassFiles getClassFiles() {
+            return classFiles;
+        }
+    }
+
+    // NOTE: The ClassReader does not keep any reference to the buffer after parsing, so we can reuse one buffer
+    //       for all class files imported by the same thread, instead of allocating (and growing) a new one each time
+    private static class ClassFileBuffer {
+        private static final int INITIAL_SIZE = 16 * 1024;
+
+        private byte[] bytes = new byte[INITIAL_SIZE];
+
+        int readFully(InputStream inputStream) throws IOException {
+            int length = 0;
+            int read;
+            while ((read = inputStream.read(bytes, length, bytes.length - length)) != -1) {
+                length += read;
+                if (length == bytes.length) {
+                    bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                }
+            }
+            return length;
+        }
+
+        byte[] getBytes() {
+            return bytes;
+        }
     }
 
     private static class ClassDetailsRecorder implements DeclarationHandler {
@@ -119,11 +402,13 @@ class ClassFileProcessor {
         private static final Logger LOG = LoggerFactory.getLogger(RecordAccessHandler.class);
 
         private final ClassFileImportRecord importRecord;
+        private final SymbolTable symbolTable;
         private CodeUnit codeUnit;
         private int lineNumber;
 
         private RecordAccessHandler(ClassFileImportRecord importRecord) {
             this.importRecord = importRecord;
+            this.symbolTable = importRecord.getSymbolTable();
         }
 
         @Override
@@ -140,7 +425,7 @@ class ClassFileProcessor {
         public void handleFieldInstruction(int opcode, String owner, String name, String desc) {
             AccessType accessType = AccessType.forOpCode(opcode);
             LOG.trace("Found {} access to field {}.{}:{} in line {}", accessType, owner, name, desc, lineNumber);
-            TargetInfo target = new RawAccessRecord.FieldTargetInfo(owner, name, desc);
+            TargetInfo target = symbolTable.fieldTarget(owner, name, desc);
             importRecord.registerFieldAccess(filled(new RawAccessRecord.ForField.Builder(), target)
                     .withAccessType(accessType)
                     .build());
@@ -150,10 +435,10 @@ class ClassFileProcessor {
         public void handleMethodInstruction(String owner, String name, String desc) {
             LOG.trace("Found call of method {}.{}:{} in line {}", owner, name, desc, lineNumber);
             if (CONSTRUCTOR_NAME.equals(name)) {
-                TargetInfo target = new ConstructorTargetInfo(owner, name, desc);
+                TargetInfo target = symbolTable.constructorTarget(owner, name, desc);
                 importRecord.registerConstructorCall(filled(new RawAccessRecord.Builder(), target).build());
             } else {
-                TargetInfo target = new MethodTargetInfo(owner, name, desc);
+                TargetInfo target = symbolTable.methodTarget(owner, name, desc);
                 importRecord.registerMethodCall(filled(new RawAccessRecord.Builder(), target).build());
             }
         }
@@ -168,28 +453,47 @@ class ClassFileProcessor {
 
     private ClassResolver getClassResolver(ClassDetailsRecorder classDetailsRecorder) {
         ClassResolver classResolver = classResolverFactory.create();
-        classResolver.setClassUriImporter(new UriImporterOfProcessor(classDetailsRecorder));
+        // NOTE: Like the import cache, the resolved class cache replays the code as well, which declarations only can skip
+        Optional<ResolvedClassCache> resolvedClassCache = declarationsOnly
+                ? Optional.<ResolvedClassCache>absent()
+                : ResolvedClassCache.fromConfiguration();
+        classResolver.setClassUriImporter(
+                new UriImporterOfProcessor(classDetailsRecorder, resolvedClassCache, parsingOptions(declarationsOnly)));
         return classResolver;
     }
 
     private static class UriImporterOfProcessor implements ClassUriImporter {
         private final DeclarationHandler declarationHandler;
+        private final Optional<ResolvedClassCache> resolvedClassCache;
+        private final int parsingOptions;
 
-        UriImporterOfProcessor(DeclarationHandler declarationHandler) {
+        UriImporterOfProcessor(DeclarationHandler declarationHandler, Optional<ResolvedClassCache> resolvedClassCache, int parsingOptions) {
             this.declarationHandler = declarationHandler;
+            this.resolvedClassCache = resolvedClassCache;
+            this.parsingOptions = parsingOptions;
         }
 
         @Override
         public Optional<JavaClass> tryImport(URI uri) {
-            try (InputStream inputStream = uri.toURL().openStream()) {
+            try {
                 JavaClassProcessor classProcessor = new JavaClassProcessor(uri, declarationHandler);
-                new ClassReader(inputStream).accept(classProcessor, 0);
+                if (resolvedClassCache.isPresent() && ResolvedClassCache.isCacheable(uri)) {
+                    resolvedClassCache.get().accept(uri, classProcessor);
+                } else {
+                    parse(uri, classProcessor);
+                }
                 return classProcessor.createJavaClass();
             } catch (Exception e) {
                 LOG.warn(String.format("Error during import from %s, falling back to simple import", uri), e);
                 return Optional.absent();
             }
         }
+
+        private void parse(URI uri, JavaClassProcessor classProcessor) throws IOException {
+            try (InputStream inputStream = uri.toURL().openStream()) {
+                new ClassReader(inputStream).accept(classProcessor, parsingOptions);
+            }
+        }
     }
 
 }
@@ -30,6 +30,7 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 
 import com.google.common.base.Function;
 import com.google.common.base.Predicate;
@@ -93,12 +94,16 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
             this(jarUrl, NormalizedResourceName.from(path), importOptions);
         }
 
+        // NOTE: We resolve the JAR file and its location only once per archive and filter the entries by name,
+        //       before we create any URI, since for large class paths the per entry overhead adds up considerably
         FromJar(URL jarUrl, NormalizedResourceName path, ImportOptions importOptions) {
             try {
                 JarURLConnection connection = (JarURLConnection) jarUrl.openConnection();
-                classFileLocations = FluentIterable.from(Collections.list(connection.getJarFile().entries()))
+                JarFile jarFile = connection.getJarFile();
+                Location jarLocation = Location.of(connection.getJarFileURL());
+                classFileLocations = FluentIterable.from(Collections.list(jarFile.entries()))
                         .filter(classFilesBeneath(path))
-                        .transform(toClassFilesInJarOf(connection))
+                        .transform(toClassFilesInJarOf(jarFile, jarLocation))
                         .filter(by(importOptions))
                         .transform(toInputStreamSupplier());
             } catch (IOException e) {
@@ -107,20 +112,21 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
         }
 
         private Predicate<JarEntry> classFilesBeneath(final NormalizedResourceName prefix) {
+            final String entryNamePrefix = prefix.toEntryName();
             return new Predicate<JarEntry>() {
                 @Override
                 public boolean apply(JarEntry input) {
-                    return input.getName().startsWith(prefix.toEntryName())
+                    return input.getName().startsWith(entryNamePrefix)
                             && FileToImport.isRelevant(input.getName());
                 }
             };
         }
 
-        private Function<JarEntry, ClassFileInJar> toClassFilesInJarOf(final JarURLConnection connection) {
+        private Function<JarEntry, ClassFileInJar> toClassFilesInJarOf(final JarFile jarFile, final Location jarLocation) {
             return new Function<JarEntry, ClassFileInJar>() {
                 @Override
                 public ClassFileInJar apply(JarEntry input) {
-                    return new ClassFileInJar(connection, input);
+                    return new ClassFileInJar(jarFile, input, jarLocation.append(input.getName()));
                 }
             };
         }
@@ -154,30 +160,26 @@ interface ClassFileSource extends Iterable<ClassFileLocation> {
         }
 
         private static class ClassFileInJar {
-            private final JarURLConnection connection;
+            private final JarFile jarFile;
             private final JarEntry jarEntry;
-            private final URI uri;
+            private final Location location;
 
-            private ClassFileInJar(JarURLConnection connection, JarEntry jarEntry) {
-                this.connection = connection;
+            private ClassFileInJar(JarFile jarFile, JarEntry jarEntry, Location location) {
+                this.jarFile = jarFile;
                 this.jarEntry = jarEntry;
-                this.uri = makeJarUri(jarEntry);
-            }
-
-            private URI makeJarUri(JarEntry input) {
-                return Location.of(connection.getJarFileURL()).append(input.getName()).asURI();
+                this.location = location;
             }
 
             URI getUri() {
-                return uri;
+                return location.asURI();
             }
 
             InputStream openStream() throws IOException {
-                return connection.getJarFile().getInputStream(jarEntry);
+                return jarFile.getInputStream(jarEntry);
             }
 
             boolean isIncludedIn(ImportOptions importOptions) {
-                return importOptions.include(Location.of(uri));
+                return importOptions.include(location);
             }
         }
     }
@@ -15,7 +15,6 @@
  */
 package com.tngtech.archunit.core.importer;
 
-import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 
@@ -31,13 +30,11 @@ import com.tngtech.archunit.core.domain.AccessTarget.MethodCallTarget;
 import com.tngtech.archunit.core.domain.DomainObjectCreationContext;
 import com.tngtech.archunit.core.domain.ImportContext;
 import com.tngtech.archunit.core.domain.JavaAnnotation;
-import com.tngtech.archunit.core.domain.JavaAnnotation.DefaultParameterVisitor;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaCodeUnit;
 import com.tngtech.archunit.core.domain.JavaConstructor;
 import com.tngtech.archunit.core.domain.JavaConstructorCall;
-import com.tngtech.archunit.core.domain.JavaEnumConstant;
 import com.tngtech.archunit.core.domain.JavaField;
 import com.tngtech.archunit.core.domain.JavaFieldAccess;
 import com.tngtech.archunit.core.domain.JavaMember;
@@ -61,6 +58,7 @@ class ClassGraphCreator implements ImportContext {
     private final ImportedClasses classes;
 
     private final ClassFileImportRecord importRecord;
+    private final boolean accessInformationImported;
 
     private final SetMultimap<JavaCodeUnit, FieldAccessRecord> processedFieldAccessRecords = HashMultimap.create();
     private final SetMultimap<JavaCodeUnit, AccessRecord<MethodCallTarget>> processedMethodCallRecords = HashMultimap.create();
@@ -69,8 +67,9 @@ class ClassGraphCreator implements ImportContext {
     private final Function<JavaClass, Set<String>> interfaceStrategy;
     private final MemberDependenciesByTarget memberDependenciesByTarget = new MemberDependenciesByTarget();
 
-    ClassGraphCreator(ClassFileImportRecord importRecord, ClassResolver classResolver) {
+    ClassGraphCreator(ClassFileImportRecord importRecord, ClassResolver classResolver, boolean accessInformationImported) {
         this.importRecord = importRecord;
+        this.accessInformationImported = accessInformationImported;
         classes = new ImportedClasses(importRecord.getClasses(), classResolver);
         superClassStrategy = createSuperClassStrategy();
         interfaceStrategy = createInterfaceStrategy();
@@ -95,10 +94,19 @@ class ClassGraphCreator implements ImportContext {
     }
 
     JavaClasses complete() {
-        ensureCallTargetsArePresent();
+        if (accessInformationImported) {
+            ensureCallTargetsArePresent();
+        }
         ensureClassHierarchies();
         completeMembers();
         completeAnnotations();
+        if (accessInformationImported) {
+            completeAccesses();
+        }
+        return createJavaClasses(classes.getDirectlyImported(), classes.getAll(), this);
+    }
+
+    private void completeAccesses() {
         for (RawAccessRecord.ForField fieldAccessRecord : importRecord.getRawFieldAccessRecords()) {
             tryProcess(fieldAccessRecord, AccessRecord.Factory.forFieldAccessRecord(), processedFieldAccessRecords);
         }
@@ -108,7 +116,6 @@ class ClassGraphCreator implements ImportContext {
         for (RawAccessRecord constructorCallRecord : importRecord.getRawConstructorCallRecords()) {
             tryProcess(constructorCallRecord, AccessRecord.Factory.forConstructorCallRecord(), processedConstructorCallRecords);
         }
-        return createJavaClasses(classes.getDirectlyImported(), classes.getAll(), this);
     }
 
     private void ensureCallTargetsArePresent() {
@@ -193,6 +200,11 @@ class ClassGraphCreator implements ImportContext {
         return result.build();
     }
 
+    @Override
+    public boolean isAccessInformationImported() {
+        return accessInformationImported;
+    }
+
     @Override
     public Set<JavaField> getFieldsOfType(JavaClass javaClass) {
         return memberDependenciesByTarget.getFieldsOfType(javaClass);
@@ -306,99 +318,4 @@ class ClassGraphCreator implements ImportContext {
     public JavaClass resolveClass(String fullyQualifiedClassName) {
         return classes.getOrResolve(fullyQualifiedClassName);
     }
-
-    private static class MemberDependenciesByTarget {
-        private final SetMultimap<JavaClass, JavaField> fieldTypeDependencies = HashMultimap.create();
-        private final SetMultimap<JavaClass, JavaMethod> methodParameterTypeDependencies = HashMultimap.create();
-        private final SetMultimap<JavaClass, JavaMethod> methodReturnTypeDependencies = HashMultimap.create();
-        private final SetMultimap<JavaClass, ThrowsDeclaration<JavaMethod>> methodsThrowsDeclarationDependencies = HashMultimap.create();
-        private final SetMultimap<JavaClass, JavaConstructor> constructorParameterTypeDependencies = HashMultimap.create();
-        private final SetMultimap<JavaClass, ThrowsDeclaration<JavaConstructor>> constructorThrowsDeclarationDependencies = HashMultimap.create();
-        private final SetMultimap<JavaClass, JavaAnnotation<?>> annotationTypeDependencies = HashMultimap.create();
-        private final SetMultimap<JavaClass, JavaAnnotation<?>> annotationParameterTypeDependencies = HashMultimap.create();
-
-        void registerFields(Set<JavaField> fields) {
-            for (JavaField field : fields) {
-                fieldTypeDependencies.put(field.getRawType(), field);
-            }
-        }
-
-        void registerMethods(Set<JavaMethod> methods) {
-            for (JavaMethod method : methods) {
-                for (JavaClass parameter : method.getRawParameterTypes()) {
-                    methodParameterTypeDependencies.put(parameter, method);
-                }
-                methodReturnTypeDependencies.put(method.getRawReturnType(), method);
-                for (ThrowsDeclaration<JavaMethod> throwsDeclaration : method.getThrowsClause()) {
-                    methodsThrowsDeclarationDependencies.put(throwsDeclaration.getRawType(), throwsDeclaration);
-                }
-            }
-        }
-
-        void registerConstructors(Set<JavaConstructor> constructors) {
-            for (JavaConstructor constructor : constructors) {
-                for (JavaClass parameter : constructor.getRawParameterTypes()) {
-                    constructorParameterTypeDependencies.put(parameter, constructor);
-                }
-                for (ThrowsDeclaration<JavaConstructor> throwsDeclaration : constructor.getThrowsClause()) {
-                    constructorThrowsDeclarationDependencies.put(throwsDeclaration.getRawType(), throwsDeclaration);
-                }
-            }
-        }
-
-        void registerAnnotations(Collection<? extends JavaAnnotation<?>> annotations) {
-            for (final JavaAnnotation<?> annotation : annotations) {
-                annotationTypeDependencies.put(annotation.getRawType(), annotation);
-                annotation.accept(new DefaultParameterVisitor() {
-                    @Override
-                    public void visitClass(String propertyName, JavaClass javaClass) {
-                        annotationParameterTypeDependencies.put(javaClass, annotation);
-                    }
-
-                    @Override
-                    public void visitEnumConstant(String propertyName, JavaEnumConstant enumConstant) {
-                        annotationParameterTypeDependencies.put(enumConstant.getDeclaringClass(), annotation);
-                    }
-
-                    @Override
-                    public void visitAnnotation(String propertyName, JavaAnnotation<?> memberAnnotation) {
-                        annotationParameterTypeDependencies.put(memberAnnotation.getRawType(), annotation);
-                        memberAnnotation.accept(this);
-                    }
-                });
-            }
-        }
-
-        Set<JavaField> getFieldsOfType(JavaClass javaClass) {
-            return fieldTypeDependencies.get(javaClass);
-        }
-
-        Set<JavaMethod> getMethodsWithParameterOfType(JavaClass javaClass) {
-            return methodParameterTypeDependencies.get(javaClass);
-        }
-
-        Set<JavaMethod> getMethodsWithReturnType(JavaClass javaClass) {
-            return methodReturnTypeDependencies.get(javaClass);
-        }
-
-        Set<ThrowsDeclaration<JavaMethod>> getMethodThrowsDeclarationsOfType(JavaClass javaClass) {
-            return methodsThrowsDeclarationDependencies.get(javaClass);
-        }
-
-        Set<JavaConstructor> getConstructorsWithParameterOfType(JavaClass javaClass) {
-            return constructorParameterTypeDependencies.get(javaClass);
-        }
-
-        Set<ThrowsDeclaration<JavaConstructor>> getConstructorThrowsDeclarationsOfType(JavaClass javaClass) {
-            return constructorThrowsDeclarationDependencies.get(javaClass);
-        }
-
-        Set<JavaAnnotation<?>> getAnnotationsOfType(JavaClass javaClass) {
-            return annotationTypeDependencies.get(javaClass);
-        }
-
-        Set<JavaAnnotation<?>> getAnnotationsWithParameterOfType(JavaClass javaClass) {
-            return annotationParameterTypeDependencies.get(javaClass);
-        }
-    }
 }
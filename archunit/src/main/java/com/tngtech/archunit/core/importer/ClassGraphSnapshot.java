@@ -0,0 +1,1054 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableBiMap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.AccessTarget.ConstructorCallTarget;
+import com.tngtech.archunit.core.domain.AccessTarget.FieldAccessTarget;
+import com.tngtech.archunit.core.domain.AccessTarget.MethodCallTarget;
+import com.tngtech.archunit.core.domain.DomainObjectCreationContext;
+import com.tngtech.archunit.core.domain.ImportContext;
+import com.tngtech.archunit.core.domain.JavaAnnotation;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaCodeUnit;
+import com.tngtech.archunit.core.domain.JavaConstructor;
+import com.tngtech.archunit.core.domain.JavaConstructorCall;
+import com.tngtech.archunit.core.domain.JavaEnumConstant;
+import com.tngtech.archunit.core.domain.JavaField;
+import com.tngtech.archunit.core.domain.JavaFieldAccess;
+import com.tngtech.archunit.core.domain.JavaFieldAccess.AccessType;
+import com.tngtech.archunit.core.domain.JavaMember;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.JavaMethodCall;
+import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.core.domain.JavaStaticInitializer;
+import com.tngtech.archunit.core.domain.JavaType;
+import com.tngtech.archunit.core.domain.Source;
+import com.tngtech.archunit.core.domain.ThrowsDeclaration;
+import com.tngtech.archunit.core.importer.DomainBuilders.ConstructorCallTargetBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.FieldAccessTargetBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaAnnotationBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaAnnotationBuilder.ValueBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaClassBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaCodeUnitBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaConstructorBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaConstructorCallBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaEnumConstantBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaFieldAccessBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaFieldBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaMemberBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaMethodBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaMethodCallBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.JavaStaticInitializerBuilder;
+import com.tngtech.archunit.core.importer.DomainBuilders.MethodCallTargetBuilder;
+import com.tngtech.archunit.core.importer.resolvers.ClassResolver;
+
+import static com.google.common.collect.Iterables.concat;
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.completeClassHierarchy;
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createJavaClassList;
+import static com.tngtech.archunit.core.domain.DomainObjectCreationContext.createJavaClasses;
+import static com.tngtech.archunit.core.importer.DomainBuilders.buildAnnotations;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * A snapshot of a completed class graph, i.e. of all classes taking part in an import together with their resolved
+ * class hierarchies, members, annotations and accesses. Every string is stored once within a string table and every class
+ * once within a class table, everything else only refers to these tables by index. E.g. a field access refers to its
+ * target owner by its index within the class table and to the field it resolves to by the index of the field
+ * within the fields of its owner.
+ * <br><br>
+ * Reading a snapshot rehydrates the class graph from these references via the {@link DomainBuilders}.
+ * No class file is parsed, no class is resolved and no access target is matched against any class hierarchy again.
+ */
+class ClassGraphSnapshot {
+    private static final int MAGIC = 0x41524347;
+    // NOTE: Must be increased whenever the layout of the snapshot changes
+    private static final int FORMAT_VERSION = 1;
+    private static final int NONE = -1;
+
+    private static final ImmutableBiMap<Byte, Class<?>> ARRAY_COMPONENT_TYPES = ImmutableBiMap.<Byte, Class<?>>builder()
+            .put(ValueType.BOOLEAN, boolean.class)
+            .put(ValueType.BYTE, byte.class)
+            .put(ValueType.CHAR, char.class)
+            .put(ValueType.SHORT, short.class)
+            .put(ValueType.INT, int.class)
+            .put(ValueType.LONG, long.class)
+            .put(ValueType.FLOAT, float.class)
+            .put(ValueType.DOUBLE, double.class)
+            .put(ValueType.STRING, String.class)
+            .put(ValueType.CLASS, JavaClass.class)
+            .put(ValueType.ENUM_CONSTANT, JavaEnumConstant.class)
+            .put(ValueType.ANNOTATION, JavaAnnotation.class)
+            .put(ValueType.OBJECT, Object.class)
+            .build();
+
+    private ClassGraphSnapshot() {
+    }
+
+    static void write(JavaClasses classes, boolean accessInformationImported, Path file) throws IOException {
+        Writer writer = new Writer(accessInformationImported);
+        for (JavaClass javaClass : classes) {
+            writer.select(javaClass);
+        }
+        writer.writeTo(file);
+    }
+
+    static JavaClasses read(Path file) throws IOException {
+        Reader reader;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            checkHeader(file, in);
+            reader = new Reader(in);
+        }
+        return reader.complete();
+    }
+
+    private static void checkHeader(Path file, DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException(String.format("%s is no snapshot of a class graph", file));
+        }
+        int formatVersion = in.readInt();
+        if (formatVersion != FORMAT_VERSION) {
+            throw new IOException(String.format(
+                    "Snapshot %s has the unsupported format version %d, it must be written again", file, formatVersion));
+        }
+    }
+
+    // NOTE: Almost all indexes, counts and line numbers are small, so we write them with a variable length,
+    //       shifted by one to also support NONE
+    private static void writeIndex(DataOutputStream out, int index) throws IOException {
+        int value = index + 1;
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readIndex(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int next = in.readUnsignedByte();
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value - 1;
+            }
+        }
+        throw new IOException("Invalid index within snapshot");
+    }
+
+    private static final class ClassFlag {
+        static final int INTERFACE = 1;
+        static final int ENUM = 1 << 1;
+        static final int ANONYMOUS = 1 << 2;
+        static final int MEMBER = 1 << 3;
+    }
+
+    private static final class ValueType {
+        static final byte BOOLEAN = 0;
+        static final byte BYTE = 1;
+        static final byte CHAR = 2;
+        static final byte SHORT = 3;
+        static final byte INT = 4;
+        static final byte LONG = 5;
+        static final byte FLOAT = 6;
+        static final byte DOUBLE = 7;
+        static final byte STRING = 8;
+        static final byte CLASS = 9;
+        static final byte ENUM_CONSTANT = 10;
+        static final byte ANNOTATION = 11;
+        static final byte ARRAY = 12;
+        static final byte OBJECT = 13;
+    }
+
+    /**
+     * Collects all classes reachable from the selected classes within the class table and writes them together with
+     * their members, annotations and accesses.
+     */
+    private static class Writer {
+        private final boolean accessInformationImported;
+        private final Map<String, Integer> stringIndexes = new HashMap<>();
+        private final List<String> strings = new ArrayList<>();
+        private final Map<JavaClass, Integer> classIndexes = new HashMap<>();
+        private final List<JavaClass> classes = new ArrayList<>();
+        private final List<Integer> selectedClassIndexes = new ArrayList<>();
+        private final Map<JavaMember, Integer> memberIndexes = new HashMap<>();
+
+        Writer(boolean accessInformationImported) {
+            this.accessInformationImported = accessInformationImported;
+        }
+
+        void select(JavaClass javaClass) {
+            selectedClassIndexes.add(indexOf(javaClass));
+        }
+
+        void writeTo(Path file) throws IOException {
+            ByteArrayOutputStream details = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(details)) {
+                // NOTE: Writing the details of a class adds all classes it refers to, i.e. the class table grows while we iterate
+                for (int i = 0; i < classes.size(); i++) {
+                    writeDetails(out, classes.get(i));
+                }
+            }
+
+            Path tempFile = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                    writeTables(out);
+                    details.writeTo(out);
+                }
+                Files.move(tempFile, file, REPLACE_EXISTING, ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        }
+
+        private void writeTables(DataOutputStream out) throws IOException {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeBoolean(accessInformationImported);
+
+            writeIndex(out, strings.size());
+            for (String string : strings) {
+                out.writeUTF(string);
+            }
+
+            writeIndex(out, classes.size());
+            for (JavaClass javaClass : classes) {
+                writeClassTableEntry(out, javaClass);
+            }
+
+            writeIndex(out, selectedClassIndexes.size());
+            for (int index : selectedClassIndexes) {
+                writeIndex(out, index);
+            }
+        }
+
+        private void writeClassTableEntry(DataOutputStream out, JavaClass javaClass) throws IOException {
+            writeIndex(out, indexOf(javaClass.getName()));
+            writeIndex(out, indexOf(javaClass.getSimpleName()));
+            out.writeByte(flagsOf(javaClass));
+            writeIndex(out, maskOf(javaClass.getModifiers()));
+            Optional<Source> source = javaClass.getSource();
+            writeIndex(out, source.isPresent() ? indexOf(source.get().getUri().toString()) : NONE);
+            writeIndex(out, source.isPresent() && source.get().getFileName().isPresent() ? indexOf(source.get().getFileName().get()) : NONE);
+        }
+
+        private int flagsOf(JavaClass javaClass) {
+            return (javaClass.isInterface() ? ClassFlag.INTERFACE : 0)
+                    | (javaClass.isEnum() ? ClassFlag.ENUM : 0)
+                    | (javaClass.isAnonymousClass() ? ClassFlag.ANONYMOUS : 0)
+                    | (javaClass.isMemberClass() ? ClassFlag.MEMBER : 0);
+        }
+
+        private int maskOf(Set<JavaModifier> modifiers) {
+            int result = 0;
+            for (JavaModifier modifier : modifiers) {
+                result |= 1 << modifier.ordinal();
+            }
+            return result;
+        }
+
+        private void writeDetails(DataOutputStream out, JavaClass javaClass) throws IOException {
+            writeOptionalClass(out, javaClass.getSuperClass());
+            writeClasses(out, javaClass.getInterfaces());
+            writeOptionalClass(out, javaClass.getEnclosingClass());
+            // NOTE: The component type of an array is resolved by name when the class graph is completed,
+            //       so it only has to be part of the class table
+            if (javaClass.tryGetComponentType().isPresent()) {
+                indexOf(javaClass.tryGetComponentType().get());
+            }
+            writeAnnotations(out, javaClass.getAnnotations());
+
+            writeIndex(out, javaClass.getFields().size());
+            for (JavaField field : javaClass.getFields()) {
+                writeMember(out, field);
+                writeIndex(out, indexOf(field.getRawType()));
+            }
+            writeIndex(out, javaClass.getMethods().size());
+            for (JavaMethod method : javaClass.getMethods()) {
+                writeCodeUnit(out, method);
+                writeOptionalValue(out, method.getDefaultValue());
+            }
+            writeIndex(out, javaClass.getConstructors().size());
+            for (JavaConstructor constructor : javaClass.getConstructors()) {
+                writeCodeUnit(out, constructor);
+            }
+            Optional<JavaStaticInitializer> staticInitializer = javaClass.getStaticInitializer();
+            out.writeBoolean(staticInitializer.isPresent());
+            if (staticInitializer.isPresent()) {
+                writeCodeUnit(out, staticInitializer.get());
+            }
+        }
+
+        private void writeMember(DataOutputStream out, JavaMember member) throws IOException {
+            writeIndex(out, indexOf(member.getName()));
+            writeIndex(out, indexOf(member.getDescriptor()));
+            writeIndex(out, maskOf(member.getModifiers()));
+            writeIndex(out, member.getSourceCodeLocation().getLineNumber());
+            writeAnnotations(out, member.getAnnotations());
+        }
+
+        private void writeCodeUnit(DataOutputStream out, JavaCodeUnit codeUnit) throws IOException {
+            writeMember(out, codeUnit);
+            writeIndex(out, indexOf(codeUnit.getRawReturnType()));
+            writeClasses(out, codeUnit.getRawParameterTypes());
+            writeClasses(out, codeUnit.getThrowsClause().getTypes());
+            if (accessInformationImported) {
+                writeAccesses(out, codeUnit);
+            }
+        }
+
+        private void writeAccesses(DataOutputStream out, JavaCodeUnit codeUnit) throws IOException {
+            writeIndex(out, codeUnit.getFieldAccesses().size());
+            for (JavaFieldAccess access : codeUnit.getFieldAccesses()) {
+                FieldAccessTarget target = access.getTarget();
+                writeIndex(out, indexOf(target.getOwner()));
+                writeIndex(out, indexOf(target.getName()));
+                writeIndex(out, indexOf(target.getRawType()));
+                writeIndex(out, access.getLineNumber());
+                out.writeByte(access.getAccessType().ordinal());
+                writeMemberReferences(out, target.resolveField().asSet());
+            }
+            writeIndex(out, codeUnit.getMethodCallsFromSelf().size());
+            for (JavaMethodCall call : codeUnit.getMethodCallsFromSelf()) {
+                MethodCallTarget target = call.getTarget();
+                writeIndex(out, indexOf(target.getOwner()));
+                writeIndex(out, indexOf(target.getName()));
+                writeClasses(out, target.getRawParameterTypes());
+                writeIndex(out, indexOf(target.getRawReturnType()));
+                writeIndex(out, call.getLineNumber());
+                writeMemberReferences(out, target.resolve());
+            }
+            writeIndex(out, codeUnit.getConstructorCallsFromSelf().size());
+            for (JavaConstructorCall call : codeUnit.getConstructorCallsFromSelf()) {
+                ConstructorCallTarget target = call.getTarget();
+                writeIndex(out, indexOf(target.getOwner()));
+                writeClasses(out, target.getRawParameterTypes());
+                writeIndex(out, indexOf(target.getRawReturnType()));
+                writeIndex(out, call.getLineNumber());
+                writeMemberReferences(out, target.resolveConstructor().asSet());
+            }
+        }
+
+        private void writeMemberReferences(DataOutputStream out, Collection<? extends JavaMember> members) throws IOException {
+            writeIndex(out, members.size());
+            for (JavaMember member : members) {
+                writeIndex(out, indexOf(member.getOwner()));
+                writeIndex(out, memberIndexOf(member));
+            }
+        }
+
+        // NOTE: Members are referred to by their index within the fields, methods and constructors of their owner,
+        //       which are written in exactly this order
+        private int memberIndexOf(JavaMember member) {
+            if (!memberIndexes.containsKey(member)) {
+                JavaClass owner = member.getOwner();
+                int index = 0;
+                for (JavaMember next : concat(owner.getFields(), owner.getMethods(), owner.getConstructors())) {
+                    memberIndexes.put(next, index++);
+                }
+            }
+            return memberIndexes.get(member);
+        }
+
+        private void writeAnnotations(DataOutputStream out, Collection<? extends JavaAnnotation<?>> annotations) throws IOException {
+            writeIndex(out, annotations.size());
+            for (JavaAnnotation<?> annotation : annotations) {
+                writeAnnotation(out, annotation);
+            }
+        }
+
+        private void writeAnnotation(DataOutputStream out, JavaAnnotation<?> annotation) throws IOException {
+            writeIndex(out, indexOf(annotation.getRawType()));
+            Map<String, Object> properties = annotation.getProperties();
+            writeIndex(out, properties.size());
+            for (Map.Entry<String, Object> property : properties.entrySet()) {
+                writeIndex(out, indexOf(property.getKey()));
+                writeValue(out, property.getValue());
+            }
+        }
+
+        private void writeOptionalValue(DataOutputStream out, Optional<Object> value) throws IOException {
+            out.writeBoolean(value.isPresent());
+            if (value.isPresent()) {
+                writeValue(out, value.get());
+            }
+        }
+
+        private void writeValue(DataOutputStream out, Object value) throws IOException {
+            if (value instanceof Boolean) {
+                out.writeByte(ValueType.BOOLEAN);
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof Byte) {
+                out.writeByte(ValueType.BYTE);
+                out.writeByte((Byte) value);
+            } else if (value instanceof Character) {
+                out.writeByte(ValueType.CHAR);
+                out.writeChar((Character) value);
+            } else if (value instanceof Short) {
+                out.writeByte(ValueType.SHORT);
+                out.writeShort((Short) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(ValueType.INT);
+                out.writeInt((Integer) value);
+            } else if (value instanceof Long) {
+                out.writeByte(ValueType.LONG);
+                out.writeLong((Long) value);
+            } else if (value instanceof Float) {
+                out.writeByte(ValueType.FLOAT);
+                out.writeFloat((Float) value);
+            } else if (value instanceof Double) {
+                out.writeByte(ValueType.DOUBLE);
+                out.writeDouble((Double) value);
+            } else if (value instanceof String) {
+                out.writeByte(ValueType.STRING);
+                writeIndex(out, indexOf((String) value));
+            } else if (value instanceof JavaClass) {
+                out.writeByte(ValueType.CLASS);
+                writeIndex(out, indexOf((JavaClass) value));
+            } else if (value instanceof JavaEnumConstant) {
+                out.writeByte(ValueType.ENUM_CONSTANT);
+                writeIndex(out, indexOf(((JavaEnumConstant) value).getDeclaringClass()));
+                writeIndex(out, indexOf(((JavaEnumConstant) value).name()));
+            } else if (value instanceof JavaAnnotation<?>) {
+                out.writeByte(ValueType.ANNOTATION);
+                writeAnnotation(out, (JavaAnnotation<?>) value);
+            } else if (value.getClass().isArray() && ARRAY_COMPONENT_TYPES.containsValue(value.getClass().getComponentType())) {
+                out.writeByte(ValueType.ARRAY);
+                out.writeByte(ARRAY_COMPONENT_TYPES.inverse().get(value.getClass().getComponentType()));
+                int length = Array.getLength(value);
+                writeIndex(out, length);
+                for (int i = 0; i < length; i++) {
+                    writeValue(out, Array.get(value, i));
+                }
+            } else {
+                throw new IOException(String.format("Can't write annotation value %s of type %s", value, value.getClass().getName()));
+            }
+        }
+
+        private void writeOptionalClass(DataOutputStream out, Optional<JavaClass> javaClass) throws IOException {
+            writeIndex(out, javaClass.isPresent() ? indexOf(javaClass.get()) : NONE);
+        }
+
+        private void writeClasses(DataOutputStream out, Collection<JavaClass> classes) throws IOException {
+            writeIndex(out, classes.size());
+            for (JavaClass javaClass : classes) {
+                writeIndex(out, indexOf(javaClass));
+            }
+        }
+
+        // NOTE: All strings of the class table are added right away, because the string table is written before the class table
+        private int indexOf(JavaClass javaClass) {
+            Integer index = classIndexes.get(javaClass);
+            if (index == null) {
+                index = classes.size();
+                classIndexes.put(javaClass, index);
+                classes.add(javaClass);
+                indexOf(javaClass.getName());
+                indexOf(javaClass.getSimpleName());
+                Optional<Source> source = javaClass.getSource();
+                if (source.isPresent()) {
+                    indexOf(source.get().getUri().toString());
+                    if (source.get().getFileName().isPresent()) {
+                        indexOf(source.get().getFileName().get());
+                    }
+                }
+            }
+            return index;
+        }
+
+        private int indexOf(String string) {
+            Integer index = stringIndexes.get(string);
+            if (index == null) {
+                index = strings.size();
+                stringIndexes.put(string, index);
+                strings.add(string);
+            }
+            return index;
+        }
+    }
+
+
+    /**
+     * Reads all tables and details of a snapshot and then completes the class graph from them, like the {@link ClassGraphCreator}
+     * completes the class graph from a {@link ClassFileImportRecord}. All types of members and accesses are rehydrated
+     * from the class table and all access targets from the member references, so nothing has to be resolved anymore.
+     */
+    private static class Reader implements ImportContext {
+        private final DataInputStream in;
+        private final boolean accessInformationImported;
+        private final String[] strings;
+        private final JavaClass[] classes;
+        private final Map<String, JavaClass> selectedClasses = new HashMap<>();
+        private final Map<String, JavaClass> allClasses = new HashMap<>();
+        private final ImportedClasses importedClasses;
+        private final Map<JavaClass, ClassDetails> detailsByClass = new HashMap<>();
+        private final Map<JavaCodeUnit, CodeUnitAccesses> accessesByCodeUnit = new HashMap<>();
+        private final Map<Integer, Set<JavaModifier>> modifiersByMask = new HashMap<>();
+        private final MemberDependenciesByTarget memberDependenciesByTarget = new MemberDependenciesByTarget();
+
+        Reader(DataInputStream in) throws IOException {
+            this.in = in;
+            accessInformationImported = in.readBoolean();
+
+            strings = new String[readIndex(in)];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = in.readUTF();
+            }
+
+            classes = new JavaClass[readIndex(in)];
+            for (int i = 0; i < classes.length; i++) {
+                classes[i] = readClassTableEntry();
+                allClasses.put(classes[i].getName(), classes[i]);
+            }
+            importedClasses = new ImportedClasses(allClasses, new NoClassResolution());
+
+            int numberOfSelectedClasses = readIndex(in);
+            for (int i = 0; i < numberOfSelectedClasses; i++) {
+                JavaClass selectedClass = readClass();
+                selectedClasses.put(selectedClass.getName(), selectedClass);
+            }
+
+            for (JavaClass javaClass : classes) {
+                detailsByClass.put(javaClass, readDetails());
+            }
+        }
+
+        JavaClasses complete() {
+            for (JavaClass javaClass : classes) {
+                completeClassHierarchy(javaClass, this);
+            }
+            for (JavaClass javaClass : classes) {
+                DomainObjectCreationContext.completeMembers(javaClass, this);
+            }
+            for (JavaClass javaClass : classes) {
+                DomainObjectCreationContext.completeAnnotations(javaClass, this);
+                for (JavaMember member : concat(javaClass.getFields(), javaClass.getMethods(), javaClass.getConstructors())) {
+                    memberDependenciesByTarget.registerAnnotations(member.getAnnotations());
+                }
+            }
+            return createJavaClasses(selectedClasses, allClasses, this);
+        }
+
+        private JavaClass readClassTableEntry() throws IOException {
+            JavaType type = JavaType.From.name(readString());
+            String simpleName = readString();
+            int flags = in.readByte();
+            JavaClassBuilder builder = new JavaClassBuilder()
+                    .withType(type)
+                    .withInterface((flags & ClassFlag.INTERFACE) != 0)
+                    .withEnum((flags & ClassFlag.ENUM) != 0)
+                    .withAnonymousClass((flags & ClassFlag.ANONYMOUS) != 0)
+                    .withMemberClass((flags & ClassFlag.MEMBER) != 0)
+                    .withModifiers(readModifiers());
+            if (!type.getSimpleName().equals(simpleName)) {
+                builder.withSimpleName(simpleName);
+            }
+            Optional<String> sourceUri = readOptionalString();
+            Optional<String> sourceFileName = readOptionalString();
+            if (sourceUri.isPresent()) {
+                builder.withSourceUri(URI.create(sourceUri.get()));
+            }
+            if (sourceFileName.isPresent()) {
+                builder.withSourceFileName(sourceFileName.get());
+            }
+            return builder.build();
+        }
+
+        private ClassDetails readDetails() throws IOException {
+            Optional<JavaClass> superClass = readOptionalClass();
+            List<JavaClass> interfaces = readClasses();
+            Optional<JavaClass> enclosingClass = readOptionalClass();
+            ClassDetails details = new ClassDetails(superClass, interfaces, enclosingClass, readAnnotations());
+
+            int numberOfFields = readIndex(in);
+            for (int i = 0; i < numberOfFields; i++) {
+                details.fieldBuilders.add(readMember(new JavaFieldBuilder()).withRawType(readClass()));
+            }
+            int numberOfMethods = readIndex(in);
+            for (int i = 0; i < numberOfMethods; i++) {
+                JavaMethodBuilder builder = readCodeUnit(new JavaMethodBuilder(), details.methodAccesses);
+                if (in.readBoolean()) {
+                    builder.withAnnotationDefaultValue(readValue());
+                }
+                details.methodBuilders.add(builder);
+            }
+            int numberOfConstructors = readIndex(in);
+            for (int i = 0; i < numberOfConstructors; i++) {
+                details.constructorBuilders.add(readCodeUnit(new JavaConstructorBuilder(), details.constructorAccesses));
+            }
+            if (in.readBoolean()) {
+                List<CodeUnitAccesses> staticInitializerAccesses = new ArrayList<>();
+                details.staticInitializerBuilder = Optional.of(readCodeUnit(new JavaStaticInitializerBuilder(), staticInitializerAccesses));
+                details.staticInitializerAccesses = staticInitializerAccesses.get(0);
+            }
+            return details;
+        }
+
+        private <BUILDER extends JavaMemberBuilder<?, BUILDER>> BUILDER readMember(BUILDER builder) throws IOException {
+            builder.withName(readString())
+                    .withDescriptor(readString())
+                    .withModifiers(readModifiers())
+                    .recordLineNumber(readIndex(in));
+            return builder.withAnnotations(readAnnotations());
+        }
+
+        private <BUILDER extends JavaCodeUnitBuilder<?, BUILDER>> BUILDER readCodeUnit(
+                BUILDER builder, List<CodeUnitAccesses> accesses) throws IOException {
+
+            readMember(builder)
+                    .withRawReturnType(readClass())
+                    .withRawParameterTypes(readClasses())
+                    .withRawThrowsClause(readClasses());
+            accesses.add(accessInformationImported ? readAccesses() : new CodeUnitAccesses());
+            return builder;
+        }
+
+        private CodeUnitAccesses readAccesses() throws IOException {
+            CodeUnitAccesses result = new CodeUnitAccesses();
+            int numberOfFieldAccesses = readIndex(in);
+            for (int i = 0; i < numberOfFieldAccesses; i++) {
+                FieldAccessTargetBuilder target = new FieldAccessTargetBuilder()
+                        .withOwner(readClass())
+                        .withName(readString())
+                        .withType(readClass());
+                JavaFieldAccessBuilder access = new JavaFieldAccessBuilder()
+                        .withLineNumber(readIndex(in))
+                        .withAccessType(AccessType.values()[in.readByte()]);
+                final Supplier<List<JavaMember>> fields = readMemberReferences();
+                target.withField(Suppliers.memoize(new Supplier<Optional<JavaField>>() {
+                    @Override
+                    public Optional<JavaField> get() {
+                        return fields.get().isEmpty() ? Optional.<JavaField>absent() : Optional.of((JavaField) fields.get().get(0));
+                    }
+                }));
+                result.fieldAccesses.add(access.withTarget(target.build()));
+            }
+            int numberOfMethodCalls = readIndex(in);
+            for (int i = 0; i < numberOfMethodCalls; i++) {
+                MethodCallTargetBuilder target = new MethodCallTargetBuilder()
+                        .withOwner(readClass())
+                        .withName(readString())
+                        .withParameters(createJavaClassList(readClasses()))
+                        .withReturnType(readClass());
+                JavaMethodCallBuilder call = new JavaMethodCallBuilder().withLineNumber(readIndex(in));
+                final Supplier<List<JavaMember>> methods = readMemberReferences();
+                target.withMethods(Suppliers.memoize(new Supplier<Set<JavaMethod>>() {
+                    @Override
+                    public Set<JavaMethod> get() {
+                        ImmutableSet.Builder<JavaMethod> result = ImmutableSet.builder();
+                        for (JavaMember method : methods.get()) {
+                            result.add((JavaMethod) method);
+                        }
+                        return result.build();
+                    }
+                }));
+                result.methodCalls.add(call.withTarget(target.build()));
+            }
+            int numberOfConstructorCalls = readIndex(in);
+            for (int i = 0; i < numberOfConstructorCalls; i++) {
+                ConstructorCallTargetBuilder target = new ConstructorCallTargetBuilder()
+                        .withOwner(readClass())
+                        .withParameters(createJavaClassList(readClasses()))
+                        .withReturnType(readClass());
+                JavaConstructorCallBuilder call = new JavaConstructorCallBuilder().withLineNumber(readIndex(in));
+                final Supplier<List<JavaMember>> constructors = readMemberReferences();
+                target.withConstructor(Suppliers.memoize(new Supplier<Optional<JavaConstructor>>() {
+                    @Override
+                    public Optional<JavaConstructor> get() {
+                        return constructors.get().isEmpty()
+                                ? Optional.<JavaConstructor>absent()
+                                : Optional.of((JavaConstructor) constructors.get().get(0));
+                    }
+                }));
+                result.constructorCalls.add(call.withTarget(target.build()));
+            }
+            return result;
+        }
+
+        // NOTE: The referenced members only exist after all members have been completed, so we resolve them lazily
+        private Supplier<List<JavaMember>> readMemberReferences() throws IOException {
+            int numberOfReferences = readIndex(in);
+            final int[] classIndexes = new int[numberOfReferences];
+            final int[] memberIndexes = new int[numberOfReferences];
+            for (int i = 0; i < numberOfReferences; i++) {
+                classIndexes[i] = readIndex(in);
+                memberIndexes[i] = readIndex(in);
+            }
+            return Suppliers.memoize(new Supplier<List<JavaMember>>() {
+                @Override
+                public List<JavaMember> get() {
+                    ImmutableList.Builder<JavaMember> result = ImmutableList.builder();
+                    for (int i = 0; i < classIndexes.length; i++) {
+                        result.add(detailsByClass.get(classes[classIndexes[i]]).getMember(memberIndexes[i]));
+                    }
+                    return result.build();
+                }
+            });
+        }
+
+        private Set<JavaAnnotationBuilder> readAnnotations() throws IOException {
+            int numberOfAnnotations = readIndex(in);
+            if (numberOfAnnotations == 0) {
+                return ImmutableSet.of();
+            }
+            ImmutableSet.Builder<JavaAnnotationBuilder> result = ImmutableSet.builder();
+            for (int i = 0; i < numberOfAnnotations; i++) {
+                result.add(readAnnotation());
+            }
+            return result.build();
+        }
+
+        private JavaAnnotationBuilder readAnnotation() throws IOException {
+            JavaClass type = readClass();
+            JavaAnnotationBuilder result = new JavaAnnotationBuilder()
+                    .withType(JavaType.From.name(type.getName()))
+                    .withRawType(type);
+            int numberOfProperties = readIndex(in);
+            for (int i = 0; i < numberOfProperties; i++) {
+                result.addProperty(readString(), readValue());
+            }
+            return result;
+        }
+
+        private ValueBuilder readValue() throws IOException {
+            byte valueType = in.readByte();
+            switch (valueType) {
+                case ValueType.BOOLEAN:
+                    return ValueBuilder.ofFinished(in.readBoolean());
+                case ValueType.BYTE:
+                    return ValueBuilder.ofFinished(in.readByte());
+                case ValueType.CHAR:
+                    return ValueBuilder.ofFinished(in.readChar());
+                case ValueType.SHORT:
+                    return ValueBuilder.ofFinished(in.readShort());
+                case ValueType.INT:
+                    return ValueBuilder.ofFinished(in.readInt());
+                case ValueType.LONG:
+                    return ValueBuilder.ofFinished(in.readLong());
+                case ValueType.FLOAT:
+                    return ValueBuilder.ofFinished(in.readFloat());
+                case ValueType.DOUBLE:
+                    return ValueBuilder.ofFinished(in.readDouble());
+                case ValueType.STRING:
+                    return ValueBuilder.ofFinished(readString());
+                case ValueType.CLASS:
+                    return ValueBuilder.ofFinished(readClass());
+                case ValueType.ENUM_CONSTANT:
+                    return ValueBuilder.ofFinished(new JavaEnumConstantBuilder()
+                            .withDeclaringClass(readClass())
+                            .withName(readString())
+                            .build());
+                case ValueType.ANNOTATION:
+                    return ValueBuilder.from(readAnnotation());
+                case ValueType.ARRAY:
+                    Class<?> componentType = ARRAY_COMPONENT_TYPES.get(in.readByte());
+                    if (componentType == null) {
+                        throw new IOException("Invalid array component type within snapshot");
+                    }
+                    int length = readIndex(in);
+                    List<ValueBuilder> elements = new ArrayList<>(length);
+                    for (int i = 0; i < length; i++) {
+                        elements.add(readValue());
+                    }
+                    return ValueBuilder.ofArray(componentType, elements);
+                default:
+                    throw new IOException(String.format("Invalid annotation value type %d within snapshot", valueType));
+            }
+        }
+
+        private Set<JavaModifier> readModifiers() throws IOException {
+            int mask = readIndex(in);
+            Set<JavaModifier> result = modifiersByMask.get(mask);
+            if (result == null) {
+                EnumSet<JavaModifier> modifiers = EnumSet.noneOf(JavaModifier.class);
+                for (JavaModifier modifier : JavaModifier.values()) {
+                    if ((mask & (1 << modifier.ordinal())) != 0) {
+                        modifiers.add(modifier);
+                    }
+                }
+                result = Sets.immutableEnumSet(modifiers);
+                modifiersByMask.put(mask, result);
+            }
+            return result;
+        }
+
+        private Optional<JavaClass> readOptionalClass() throws IOException {
+            int index = readIndex(in);
+            return index == NONE ? Optional.<JavaClass>absent() : Optional.of(classes[index]);
+        }
+
+        private JavaClass readClass() throws IOException {
+            return classes[readIndex(in)];
+        }
+
+        private List<JavaClass> readClasses() throws IOException {
+            int numberOfClasses = readIndex(in);
+            if (numberOfClasses == 0) {
+                return ImmutableList.of();
+            }
+            JavaClass[] result = new JavaClass[numberOfClasses];
+            for (int i = 0; i < numberOfClasses; i++) {
+                result[i] = readClass();
+            }
+            return ImmutableList.copyOf(result);
+        }
+
+        private Optional<String> readOptionalString() throws IOException {
+            int index = readIndex(in);
+            return index == NONE ? Optional.<String>absent() : Optional.of(strings[index]);
+        }
+
+        private String readString() throws IOException {
+            return strings[readIndex(in)];
+        }
+
+        @Override
+        public Optional<JavaClass> createSuperClass(JavaClass owner) {
+            return detailsByClass.get(owner).superClass;
+        }
+
+        @Override
+        public Set<JavaClass> createInterfaces(JavaClass owner) {
+            return ImmutableSet.copyOf(detailsByClass.get(owner).interfaces);
+        }
+
+        @Override
+        public Set<JavaField> createFields(JavaClass owner) {
+            ClassDetails details = detailsByClass.get(owner);
+            ImmutableSet.Builder<JavaField> result = ImmutableSet.builder();
+            for (JavaFieldBuilder builder : details.fieldBuilders) {
+                JavaField field = builder.build(owner, importedClasses.byTypeName());
+                details.fields.add(field);
+                result.add(field);
+            }
+            Set<JavaField> fields = result.build();
+            memberDependenciesByTarget.registerFields(fields);
+            return fields;
+        }
+
+        @Override
+        public Set<JavaMethod> createMethods(JavaClass owner) {
+            ClassDetails details = detailsByClass.get(owner);
+            Set<JavaMethod> methods = buildCodeUnits(owner, details.methodBuilders, details.methodAccesses, details.methods);
+            memberDependenciesByTarget.registerMethods(methods);
+            return methods;
+        }
+
+        @Override
+        public Set<JavaConstructor> createConstructors(JavaClass owner) {
+            ClassDetails details = detailsByClass.get(owner);
+            Set<JavaConstructor> constructors = buildCodeUnits(owner, details.constructorBuilders, details.constructorAccesses, details.constructors);
+            memberDependenciesByTarget.registerConstructors(constructors);
+            return constructors;
+        }
+
+        private <CODE_UNIT extends JavaCodeUnit> Set<CODE_UNIT> buildCodeUnits(JavaClass owner,
+                List<? extends JavaCodeUnitBuilder<CODE_UNIT, ?>> builders, List<CodeUnitAccesses> accesses, List<JavaMember> members) {
+
+            ImmutableSet.Builder<CODE_UNIT> result = ImmutableSet.builder();
+            for (int i = 0; i < builders.size(); i++) {
+                CODE_UNIT codeUnit = builders.get(i).build(owner, importedClasses.byTypeName());
+                accessesByCodeUnit.put(codeUnit, accesses.get(i));
+                members.add(codeUnit);
+                result.add(codeUnit);
+            }
+            return result.build();
+        }
+
+        @Override
+        public Optional<JavaStaticInitializer> createStaticInitializer(JavaClass owner) {
+            ClassDetails details = detailsByClass.get(owner);
+            if (!details.staticInitializerBuilder.isPresent()) {
+                return Optional.absent();
+            }
+            JavaStaticInitializer staticInitializer = details.staticInitializerBuilder.get().build(owner, importedClasses.byTypeName());
+            accessesByCodeUnit.put(staticInitializer, details.staticInitializerAccesses);
+            return Optional.of(staticInitializer);
+        }
+
+        @Override
+        public Map<String, JavaAnnotation<JavaClass>> createAnnotations(JavaClass owner) {
+            Map<String, JavaAnnotation<JavaClass>> annotations =
+                    buildAnnotations(owner, detailsByClass.get(owner).annotations, importedClasses.byTypeName());
+            memberDependenciesByTarget.registerAnnotations(annotations.values());
+            return annotations;
+        }
+
+        @Override
+        public Optional<JavaClass> createEnclosingClass(JavaClass owner) {
+            return detailsByClass.get(owner).enclosingClass;
+        }
+
+        @Override
+        public Set<JavaFieldAccess> getFieldAccessesFor(JavaCodeUnit codeUnit) {
+            ImmutableSet.Builder<JavaFieldAccess> result = ImmutableSet.builder();
+            for (JavaFieldAccessBuilder access : accessesByCodeUnit.get(codeUnit).fieldAccesses) {
+                result.add(access.withOrigin(codeUnit).build());
+            }
+            return result.build();
+        }
+
+        @Override
+        public Set<JavaMethodCall> getMethodCallsFor(JavaCodeUnit codeUnit) {
+            ImmutableSet.Builder<JavaMethodCall> result = ImmutableSet.builder();
+            for (JavaMethodCallBuilder call : accessesByCodeUnit.get(codeUnit).methodCalls) {
+                result.add(call.withOrigin(codeUnit).build());
+            }
+            return result.build();
+        }
+
+        @Override
+        public Set<JavaConstructorCall> getConstructorCallsFor(JavaCodeUnit codeUnit) {
+            ImmutableSet.Builder<JavaConstructorCall> result = ImmutableSet.builder();
+            for (JavaConstructorCallBuilder call : accessesByCodeUnit.get(codeUnit).constructorCalls) {
+                result.add(call.withOrigin(codeUnit).build());
+            }
+            return result.build();
+        }
+
+        @Override
+        public boolean isAccessInformationImported() {
+            return accessInformationImported;
+        }
+
+        @Override
+        public Set<JavaField> getFieldsOfType(JavaClass javaClass) {
+            return memberDependenciesByTarget.getFieldsOfType(javaClass);
+        }
+
+        @Override
+        public Set<JavaMethod> getMethodsWithParameterOfType(JavaClass javaClass) {
+            return memberDependenciesByTarget.getMethodsWithParameterOfType(javaClass);
+        }
+
+        @Override
+        public Set<JavaMethod> getMethodsWithReturnType(JavaClass javaClass) {
+            return memberDependenciesByTarget.getMethodsWithReturnType(javaClass);
+        }
+
+        @Override
+        public Set<ThrowsDeclaration<JavaMethod>> getMethodThrowsDeclarationsOfType(JavaClass javaClass) {
+            return memberDependenciesByTarget.getMethodThrowsDeclarationsOfType(javaClass);
+        }
+
+        @Override
+        public Set<JavaConstructor> getConstructorsWithParameterOfType(JavaClass javaClass) {
+            return memberDependenciesByTarget.getConstructorsWithParameterOfType(javaClass);
+        }
+
+        @Override
+        public Set<ThrowsDeclaration<JavaConstructor>> getConstructorThrowsDeclarationsOfType(JavaClass javaClass) {
+            return memberDependenciesByTarget.getConstructorThrowsDeclarationsOfType(javaClass);
+        }
+
+        @Override
+        public Set<JavaAnnotation<?>> getAnnotationsOfType(JavaClass javaClass) {
+            return memberDependenciesByTarget.getAnnotationsOfType(javaClass);
+        }
+
+        @Override
+        public Set<JavaAnnotation<?>> getAnnotationsWithParameterOfType(JavaClass javaClass) {
+            return memberDependenciesByTarget.getAnnotationsWithParameterOfType(javaClass);
+        }
+
+        @Override
+        public JavaClass resolveClass(String fullyQualifiedClassName) {
+            return importedClasses.getOrResolve(fullyQualifiedClassName);
+        }
+    }
+
+    /**
+     * Everything read about a class, until the class graph is completed. Members are referred to by their index within
+     * the fields, methods and constructors of the class, in exactly this order.
+     */
+    private static class ClassDetails {
+        private final Optional<JavaClass> superClass;
+        private final List<JavaClass> interfaces;
+        private final Optional<JavaClass> enclosingClass;
+        private final Set<JavaAnnotationBuilder> annotations;
+        private final List<JavaFieldBuilder> fieldBuilders = new ArrayList<>();
+        private final List<JavaMethodBuilder> methodBuilders = new ArrayList<>();
+        private final List<CodeUnitAccesses> methodAccesses = new ArrayList<>();
+        private final List<JavaConstructorBuilder> constructorBuilders = new ArrayList<>();
+        private final List<CodeUnitAccesses> constructorAccesses = new ArrayList<>();
+        private Optional<JavaStaticInitializerBuilder> staticInitializerBuilder = Optional.absent();
+        private CodeUnitAccesses staticInitializerAccesses;
+        private final List<JavaMember> fields = new ArrayList<>();
+        private final List<JavaMember> methods = new ArrayList<>();
+        private final List<JavaMember> constructors = new ArrayList<>();
+
+        ClassDetails(Optional<JavaClass> superClass, List<JavaClass> interfaces,
+                Optional<JavaClass> enclosingClass, Set<JavaAnnotationBuilder> annotations) {
+            this.superClass = superClass;
+            this.interfaces = interfaces;
+            this.enclosingClass = enclosingClass;
+            this.annotations = annotations;
+        }
+
+        JavaMember getMember(int index) {
+            if (index < fields.size()) {
+                return fields.get(index);
+            }
+            int methodIndex = index - fields.size();
+            return methodIndex < methods.size() ? methods.get(methodIndex) : constructors.get(methodIndex - methods.size());
+        }
+    }
+
+    private static class CodeUnitAccesses {
+        private final List<JavaFieldAccessBuilder> fieldAccesses = new ArrayList<>();
+        private final List<JavaMethodCallBuilder> methodCalls = new ArrayList<>();
+        private final List<JavaConstructorCallBuilder> constructorCalls = new ArrayList<>();
+    }
+
+    // NOTE: A snapshot contains every class of the class graph, so there is nothing left to resolve
+    private static class NoClassResolution implements ClassResolver {
+        @Override
+        public void setClassUriImporter(ClassUriImporter classUriImporter) {
+        }
+
+        @Override
+        public Optional<JavaClass> tryResolve(String typeName) {
+            return Optional.absent();
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.tngtech.archunit.Internal;
+import com.tngtech.archunit.base.Optional;
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.tngtech.archunit.base.ClassLoaders.getCurrentClassLoader;
+import static com.tngtech.archunit.core.importer.ClassFileProcessor.ASM_API_VERSION;
+import static java.util.Collections.singletonList;
+
+/**
+ * Reads only the headers of class files, i.e. the name, the supertypes and the annotation types of a class
+ * and of its members. In contrast to the {@link ClassFileImporter} neither code nor annotation values are parsed,
+ * and no class graph is built, which makes this suitable to cheaply find candidate classes, e.g. during test discovery.
+ */
+@Internal
+public final class ClassHeaderScanner {
+    private static final Logger LOG = LoggerFactory.getLogger(ClassHeaderScanner.class);
+
+    private static final int PARSING_OPTIONS = ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+
+    public Map<String, ClassHeader> scanPackages(Collection<String> packages) {
+        Set<Location> locations = new LinkedHashSet<>();
+        for (String pkg : packages) {
+            locations.addAll(Locations.ofPackage(pkg));
+        }
+        return scanLocations(locations);
+    }
+
+    public Map<String, ClassHeader> scanUrl(URL url) {
+        return scanLocations(Locations.of(singletonList(url)));
+    }
+
+    public Map<String, ClassHeader> scanLocations(Collection<Location> locations) {
+        Map<String, ClassHeader> result = new HashMap<>();
+        ImportOptions importOptions = new ImportOptions();
+        for (Location location : locations) {
+            for (ClassFileLocation classFile : tryGetClassFiles(location, importOptions)) {
+                tryScan(classFile, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Scans the header of the class file of the given class, as found on the classpath, without loading the class.
+     *
+     * @param className The fully qualified name of the class
+     * @return The {@link ClassHeader} of the class, or {@link Optional#absent()} if no valid class file could be found
+     */
+    public Optional<ClassHeader> tryScanFromClassPath(String className) {
+        URL url = getCurrentClassLoader(getClass()).getResource(className.replace('.', '/') + ".class");
+        if (url == null) {
+            return Optional.absent();
+        }
+        try (InputStream s = url.openStream()) {
+            return Optional.of(scan(s));
+        } catch (Exception e) {
+            LOG.warn(String.format("Couldn't scan class header from %s", url), e);
+            return Optional.absent();
+        }
+    }
+
+    private Iterable<ClassFileLocation> tryGetClassFiles(Location location, ImportOptions importOptions) {
+        try {
+            return location.asClassFileSource(importOptions);
+        } catch (Exception e) {
+            LOG.warn(String.format("Couldn't derive %s from %s",
+                    ClassFileSource.class.getSimpleName(), location), e);
+            return Collections.emptyList();
+        }
+    }
+
+    // NOTE: Like the import, the first class file found for a name wins, if the same class is present in several locations
+    private void tryScan(ClassFileLocation classFile, Map<String, ClassHeader> result) {
+        try (InputStream s = classFile.openStream()) {
+            ClassHeader header = scan(s);
+            if (!result.containsKey(header.getName())) {
+                result.put(header.getName(), header);
+            }
+        } catch (Exception e) {
+            LOG.warn(String.format("Couldn't scan class header from %s", classFile.getUri()), e);
+        }
+    }
+
+    private ClassHeader scan(InputStream classFile) throws IOException {
+        HeaderVisitor visitor = new HeaderVisitor();
+        new ClassReader(classFile).accept(visitor, PARSING_OPTIONS);
+        return visitor.createHeader();
+    }
+
+    @Internal
+    public static final class ClassHeader {
+        private final String name;
+        private final Optional<String> superclassName;
+        private final List<String> interfaceNames;
+        private final Set<String> annotationTypeNames;
+        private final Set<String> memberAnnotationTypeNames;
+
+        private ClassHeader(String name, Optional<String> superclassName, List<String> interfaceNames,
+                Set<String> annotationTypeNames, Set<String> memberAnnotationTypeNames) {
+            this.name = name;
+            this.superclassName = superclassName;
+            this.interfaceNames = Collections.unmodifiableList(interfaceNames);
+            this.annotationTypeNames = Collections.unmodifiableSet(annotationTypeNames);
+            this.memberAnnotationTypeNames = Collections.unmodifiableSet(memberAnnotationTypeNames);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Optional<String> getSuperclassName() {
+            return superclassName;
+        }
+
+        public List<String> getInterfaceNames() {
+            return interfaceNames;
+        }
+
+        /**
+         * @return The names of all types of annotations declared on this class
+         */
+        public Set<String> getAnnotationTypeNames() {
+            return annotationTypeNames;
+        }
+
+        /**
+         * @return The names of all types of annotations declared on any field or method of this class
+         */
+        public Set<String> getMemberAnnotationTypeNames() {
+            return memberAnnotationTypeNames;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "{" + name + "}";
+        }
+    }
+
+    private static class HeaderVisitor extends ClassVisitor {
+        private String name;
+        private Optional<String> superclassName = Optional.absent();
+        private final List<String> interfaceNames = new ArrayList<>();
+        private final Set<String> annotationTypeNames = new HashSet<>();
+        private final Set<String> memberAnnotationTypeNames = new HashSet<>();
+
+        private final FieldVisitor fieldVisitor = new FieldVisitor(ASM_API_VERSION) {
+            @Override
+            public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+                memberAnnotationTypeNames.add(typeNameOf(desc));
+                return null;
+            }
+        };
+
+        private final MethodVisitor methodVisitor = new MethodVisitor(ASM_API_VERSION) {
+            @Override
+            public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+                memberAnnotationTypeNames.add(typeNameOf(desc));
+                return null;
+            }
+        };
+
+        HeaderVisitor() {
+            super(ASM_API_VERSION);
+        }
+
+        // NOTE: Like the import, we do not consider java.lang.Object the superclass of an interface, even though ASM reports it
+        @Override
+        public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
+            this.name = Type.getObjectType(name).getClassName();
+            boolean isInterface = (access & Opcodes.ACC_INTERFACE) != 0;
+            if (superName != null && !isInterface) {
+                superclassName = Optional.of(Type.getObjectType(superName).getClassName());
+            }
+            for (String anInterface : interfaces) {
+                interfaceNames.add(Type.getObjectType(anInterface).getClassName());
+            }
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
+            annotationTypeNames.add(typeNameOf(desc));
+            return null;
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String desc, String signature, Object value) {
+            return fieldVisitor;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(int access, String name, String desc, String signature, String[] exceptions) {
+            return methodVisitor;
+        }
+
+        ClassHeader createHeader() {
+            return new ClassHeader(name, superclassName, interfaceNames, annotationTypeNames, memberAnnotationTypeNames);
+        }
+
+        private static String typeNameOf(String descriptor) {
+            return Type.getType(descriptor).getClassName();
+        }
+    }
+}
@@ -15,6 +15,7 @@
  */
 package com.tngtech.archunit.core.importer;
 
+import java.lang.reflect.Array;
 import java.net.URI;
 import java.util.Collections;
 import java.util.HashSet;
@@ -133,8 +134,9 @@ public final class DomainBuilders {
             return self();
         }
 
+        // NOTE: Most members have no annotations at all, so we don't want to keep an empty HashSet per member
         SELF withAnnotations(Set<JavaAnnotationBuilder> annotations) {
-            this.annotations = annotations;
+            this.annotations = ImmutableSet.copyOf(annotations);
             return self();
         }
 
@@ -198,6 +200,7 @@ public final class DomainBuilders {
     @Internal
     public static final class JavaFieldBuilder extends JavaMemberBuilder<JavaField, JavaFieldBuilder> {
         private JavaType type;
+        private JavaClass rawType;
 
         JavaFieldBuilder() {
         }
@@ -207,8 +210,14 @@ public final class DomainBuilders {
             return self();
         }
 
+        // NOTE: Used to rehydrate a field from a ClassGraphSnapshot, where the type has been resolved already
+        JavaFieldBuilder withRawType(JavaClass rawType) {
+            this.rawType = rawType;
+            return self();
+        }
+
         public JavaClass getType() {
-            return get(type.getName());
+            return rawType != null ? rawType : get(type.getName());
         }
 
         @Override
@@ -222,6 +231,9 @@ public final class DomainBuilders {
         private JavaType returnType;
         private List<JavaType> parameters;
         private List<JavaType> throwsDeclarations;
+        private JavaClass rawReturnType;
+        private List<JavaClass> rawParameterTypes;
+        private List<JavaClass> rawThrowsDeclarations;
 
         private JavaCodeUnitBuilder() {
         }
@@ -241,16 +253,34 @@ public final class DomainBuilders {
             return self();
         }
 
+        // NOTE: The raw types are only set to rehydrate a code unit from a ClassGraphSnapshot,
+        //       where all types have been resolved already
+        SELF withRawReturnType(JavaClass rawReturnType) {
+            this.rawReturnType = rawReturnType;
+            return self();
+        }
+
+        SELF withRawParameterTypes(List<JavaClass> rawParameterTypes) {
+            this.rawParameterTypes = rawParameterTypes;
+            return self();
+        }
+
+        SELF withRawThrowsClause(List<JavaClass> rawThrowsDeclarations) {
+            this.rawThrowsDeclarations = rawThrowsDeclarations;
+            return self();
+        }
+
         public JavaClass getReturnType() {
-            return get(returnType.getName());
+            return rawReturnType != null ? rawReturnType : get(returnType.getName());
         }
 
         public JavaClassList getParameters() {
-            return createJavaClassList(asJavaClasses(parameters));
+            return createJavaClassList(rawParameterTypes != null ? rawParameterTypes : asJavaClasses(parameters));
         }
 
         public <CODE_UNIT extends JavaCodeUnit> ThrowsClause<CODE_UNIT> getThrowsClause(CODE_UNIT codeUnit) {
-            return createThrowsClause(codeUnit, asJavaClasses(this.throwsDeclarations));
+            List<JavaClass> types = rawThrowsDeclarations != null ? rawThrowsDeclarations : asJavaClasses(this.throwsDeclarations);
+            return createThrowsClause(codeUnit, types);
         }
 
         private List<JavaClass> asJavaClasses(List<JavaType> javaTypes) {
@@ -411,6 +441,7 @@ public final class DomainBuilders {
     @Internal
     public static final class JavaAnnotationBuilder {
         private JavaType type;
+        private JavaClass rawType;
         private final Map<String, ValueBuilder> values = new LinkedHashMap<>();
         private ClassesByTypeName importedClasses;
 
@@ -422,6 +453,12 @@ public final class DomainBuilders {
             return this;
         }
 
+        // NOTE: Used to rehydrate an annotation from a ClassGraphSnapshot, where the type has been resolved already
+        JavaAnnotationBuilder withRawType(JavaClass rawType) {
+            this.rawType = rawType;
+            return this;
+        }
+
         JavaType getJavaType() {
             return type;
         }
@@ -432,7 +469,7 @@ public final class DomainBuilders {
         }
 
         public JavaClass getType() {
-            return importedClasses.get(type.getName());
+            return rawType != null ? rawType : importedClasses.get(type.getName());
         }
 
         public <T extends HasDescription> Map<String, Object> getValues(T owner) {
@@ -443,12 +480,12 @@ public final class DomainBuilders {
                     result.put(entry.getKey(), value.get());
                 }
             }
-            addDefaultValues(result, importedClasses);
+            addDefaultValues(result);
             return result.build();
         }
 
-        private void addDefaultValues(ImmutableMap.Builder<String, Object> result, ClassesByTypeName importedClasses) {
-            for (JavaMethod method : importedClasses.get(type.getName()).getMethods()) {
+        private void addDefaultValues(ImmutableMap.Builder<String, Object> result) {
+            for (JavaMethod method : getType().getMethods()) {
                 if (!values.containsKey(method.getName()) && method.getDefaultValue().isPresent()) {
                     result.put(method.getName(), method.getDefaultValue().get());
                 }
@@ -480,6 +517,19 @@ public final class DomainBuilders {
                     }
                 };
             }
+
+            static ValueBuilder ofArray(final Class<?> componentType, final List<ValueBuilder> elements) {
+                return new ValueBuilder() {
+                    @Override
+                    <T extends HasDescription> Optional<Object> build(T owner, ClassesByTypeName importedClasses) {
+                        Object result = Array.newInstance(componentType, elements.size());
+                        for (int i = 0; i < elements.size(); i++) {
+                            Array.set(result, i, elements.get(i).build(owner, importedClasses).get());
+                        }
+                        return Optional.of(result);
+                    }
+                };
+            }
         }
     }
 
@@ -89,6 +89,10 @@ class JavaClassProcessor extends ClassVisitor {
         return javaClassBuilder != null ? Optional.of(javaClassBuilder.build()) : Optional.<JavaClass>absent();
     }
 
+    Optional<DomainBuilders.JavaClassBuilder> getJavaClassBuilder() {
+        return Optional.fromNullable(javaClassBuilder);
+    }
+
     @Override
     public void visitSource(String source, String debug) {
         if (!importAborted() && source != null) {
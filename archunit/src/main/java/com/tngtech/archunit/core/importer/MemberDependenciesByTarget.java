@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.util.Collection;
+import java.util.Set;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.SetMultimap;
+import com.tngtech.archunit.core.domain.JavaAnnotation;
+import com.tngtech.archunit.core.domain.JavaAnnotation.DefaultParameterVisitor;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaConstructor;
+import com.tngtech.archunit.core.domain.JavaEnumConstant;
+import com.tngtech.archunit.core.domain.JavaField;
+import com.tngtech.archunit.core.domain.JavaMethod;
+import com.tngtech.archunit.core.domain.ThrowsDeclaration;
+
+class MemberDependenciesByTarget {
+    private final SetMultimap<JavaClass, JavaField> fieldTypeDependencies = HashMultimap.create();
+    private final SetMultimap<JavaClass, JavaMethod> methodParameterTypeDependencies = HashMultimap.create();
+    private final SetMultimap<JavaClass, JavaMethod> methodReturnTypeDependencies = HashMultimap.create();
+    private final SetMultimap<JavaClass, ThrowsDeclaration<JavaMethod>> methodsThrowsDeclarationDependencies = HashMultimap.create();
+    private final SetMultimap<JavaClass, JavaConstructor> constructorParameterTypeDependencies = HashMultimap.create();
+    private final SetMultimap<JavaClass, ThrowsDeclaration<JavaConstructor>> constructorThrowsDeclarationDependencies = HashMultimap.create();
+    private final SetMultimap<JavaClass, JavaAnnotation<?>> annotationTypeDependencies = HashMultimap.create();
+    private final SetMultimap<JavaClass, JavaAnnotation<?>> annotationParameterTypeDependencies = HashMultimap.create();
+
+    void registerFields(Set<JavaField> fields) {
+        for (JavaField field : fields) {
+            fieldTypeDependencies.put(field.getRawType(), field);
+        }
+    }
+
+    void registerMethods(Set<JavaMethod> methods) {
+        for (JavaMethod method : methods) {
+            for (JavaClass parameter : method.getRawParameterTypes()) {
+                methodParameterTypeDependencies.put(parameter, method);
+            }
+            methodReturnTypeDependencies.put(method.getRawReturnType(), method);
+            for (ThrowsDeclaration<JavaMethod> throwsDeclaration : method.getThrowsClause()) {
+                methodsThrowsDeclarationDependencies.put(throwsDeclaration.getRawType(), throwsDeclaration);
+            }
+        }
+    }
+
+    void registerConstructors(Set<JavaConstructor> constructors) {
+        for (JavaConstructor constructor : constructors) {
+            for (JavaClass parameter : constructor.getRawParameterTypes()) {
+                constructorParameterTypeDependencies.put(parameter, constructor);
+            }
+            for (ThrowsDeclaration<JavaConstructor> throwsDeclaration : constructor.getThrowsClause()) {
+                constructorThrowsDeclarationDependencies.put(throwsDeclaration.getRawType(), throwsDeclaration);
+            }
+        }
+    }
+
+    void registerAnnotations(Collection<? extends JavaAnnotation<?>> annotations) {
+        for (final JavaAnnotation<?> annotation : annotations) {
+            annotationTypeDependencies.put(annotation.getRawType(), annotation);
+            annotation.accept(new DefaultParameterVisitor() {
+                @Override
+                public void visitClass(String propertyName, JavaClass javaClass) {
+                    annotationParameterTypeDependencies.put(javaClass, annotation);
+                }
+
+                @Override
+                public void visitEnumConstant(String propertyName, JavaEnumConstant enumConstant) {
+                    annotationParameterTypeDependencies.put(enumConstant.getDeclaringClass(), annotation);
+                }
+
+                @Override
+                public void visitAnnotation(String propertyName, JavaAnnotation<?> memberAnnotation) {
+                    annotationParameterTypeDependencies.put(memberAnnotation.getRawType(), annotation);
+                    memberAnnotation.accept(this);
+                }
+            });
+        }
+    }
+
+    Set<JavaField> getFieldsOfType(JavaClass javaClass) {
+        return fieldTypeDependencies.get(javaClass);
+    }
+
+    Set<JavaMethod> getMethodsWithParameterOfType(JavaClass javaClass) {
+        return methodParameterTypeDependencies.get(javaClass);
+    }
+
+    Set<JavaMethod> getMethodsWithReturnType(JavaClass javaClass) {
+        return methodReturnTypeDependencies.get(javaClass);
+    }
+
+    Set<ThrowsDeclaration<JavaMethod>> getMethodThrowsDeclarationsOfType(JavaClass javaClass) {
+        return methodsThrowsDeclarationDependencies.get(javaClass);
+    }
+
+    Set<JavaConstructor> getConstructorsWithParameterOfType(JavaClass javaClass) {
+        return constructorParameterTypeDependencies.get(javaClass);
+    }
+
+    Set<ThrowsDeclaration<JavaConstructor>> getConstructorThrowsDeclarationsOfType(JavaClass javaClass) {
+        return constructorThrowsDeclarationDependencies.get(javaClass);
+    }
+
+    Set<JavaAnnotation<?>> getAnnotationsOfType(JavaClass javaClass) {
+        return annotationTypeDependencies.get(javaClass);
+    }
+
+    Set<JavaAnnotation<?>> getAnnotationsWithParameterOfType(JavaClass javaClass) {
+        return annotationParameterTypeDependencies.get(javaClass);
+    }
+}
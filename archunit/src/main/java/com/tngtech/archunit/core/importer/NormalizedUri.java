@@ -18,21 +18,26 @@ package com.tngtech.archunit.core.importer;
 import java.net.URI;
 import java.util.List;
 import java.util.Objects;
+import java.util.regex.Pattern;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
 
 class NormalizedUri {
+    private static final Pattern MULTIPLE_SLASHES_AFTER_SCHEME = Pattern.compile("://*");
+    private static final Pattern SCHEME_PREFIX = Pattern.compile("^.*:");
+    private static final Splitter PATH_SPLITTER = Splitter.on("/").omitEmptyStrings();
+
     private final URI uri;
     private final String firstSegment;
     private final String tailSegments;
 
     private NormalizedUri(URI uri) {
         String uriString = uri.normalize().toString();
-        uriString = uriString.replaceAll("://*", ":/"); // this is how getClass().getResource(..) returns URLs
+        uriString = MULTIPLE_SLASHES_AFTER_SCHEME.matcher(uriString).replaceAll(":/"); // this is how getClass().getResource(..) returns URLs
         uriString = !uriString.endsWith("/") && !uriString.endsWith(".class") ? uriString + "/" : uriString; // we always want folders to end in '/'
         this.uri = URI.create(uriString);
-        List<String> path = Splitter.on("/").omitEmptyStrings().splitToList(this.uri.toString().replaceAll("^.*:", ""));
+        List<String> path = PATH_SPLITTER.splitToList(SCHEME_PREFIX.matcher(this.uri.toString()).replaceAll(""));
         firstSegment = path.get(0);
         tailSegments = path.size() < 2 ? "" : Joiner.on("/").join(path.subList(1, path.size()));
     }
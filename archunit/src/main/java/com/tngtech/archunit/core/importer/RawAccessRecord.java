@@ -48,16 +48,18 @@ class RawAccessRecord {
     final CodeUnit caller;
     final TargetInfo target;
     final int lineNumber;
+    private final int hashCode;
 
     RawAccessRecord(CodeUnit caller, TargetInfo target, int lineNumber) {
         this.caller = checkNotNull(caller);
         this.target = checkNotNull(target);
         this.lineNumber = lineNumber;
+        this.hashCode = Objects.hash(caller, target, lineNumber);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(caller, target, lineNumber);
+        return hashCode;
     }
 
     @Override
@@ -69,9 +71,10 @@ class RawAccessRecord {
             return false;
         }
         final RawAccessRecord other = (RawAccessRecord) obj;
-        return Objects.equals(this.caller, other.caller) &&
-                Objects.equals(this.target, other.target) &&
-                Objects.equals(this.lineNumber, other.lineNumber);
+        return this.hashCode == other.hashCode &&
+                this.lineNumber == other.lineNumber &&
+                Objects.equals(this.caller, other.caller) &&
+                Objects.equals(this.target, other.target);
     }
 
     @Override
@@ -148,11 +151,13 @@ class RawAccessRecord {
         final JavaType owner;
         final String name;
         final String desc;
+        private final int hashCode;
 
-        TargetInfo(String owner, String name, String desc) {
-            this.owner = JavaTypeImporter.createFromAsmObjectTypeName(owner);
+        TargetInfo(JavaType owner, String name, String desc) {
+            this.owner = owner;
             this.name = name;
             this.desc = desc;
+            this.hashCode = Objects.hash(owner, name, desc);
         }
 
         <T extends HasName & HasDescriptor & HasOwner<JavaClass>> boolean matches(T member) {
@@ -179,7 +184,7 @@ class RawAccessRecord {
 
         @Override
         public int hashCode() {
-            return Objects.hash(owner, name, desc);
+            return hashCode;
         }
 
         @Override
@@ -191,7 +196,8 @@ class RawAccessRecord {
                 return false;
             }
             final TargetInfo other = (TargetInfo) obj;
-            return Objects.equals(this.owner, other.owner) &&
+            return this.hashCode == other.hashCode &&
+                    Objects.equals(this.owner, other.owner) &&
                     Objects.equals(this.name, other.name) &&
                     Objects.equals(this.desc, other.desc);
         }
@@ -357,7 +363,7 @@ class RawAccessRecord {
     }
 
     static class FieldTargetInfo extends TargetInfo {
-        FieldTargetInfo(String owner, String name, String desc) {
+        FieldTargetInfo(JavaType owner, String name, String desc) {
             super(owner, name, desc);
         }
 
@@ -369,7 +375,7 @@ class RawAccessRecord {
     }
 
     static class ConstructorTargetInfo extends TargetInfo {
-        ConstructorTargetInfo(String owner, String name, String desc) {
+        ConstructorTargetInfo(JavaType owner, String name, String desc) {
             super(owner, name, desc);
         }
 
@@ -385,7 +391,7 @@ class RawAccessRecord {
     }
 
     static class MethodTargetInfo extends TargetInfo {
-        MethodTargetInfo(String owner, String name, String desc) {
+        MethodTargetInfo(JavaType owner, String name, String desc) {
             super(owner, name, desc);
         }
 
@@ -443,7 +449,7 @@ class RawAccessRecord {
 
         @Override
         public int hashCode() {
-            return 31 * super.hashCode() + Objects.hash(accessType);
+            return 31 * super.hashCode() + Objects.hashCode(accessType);
         }
 
         @Override
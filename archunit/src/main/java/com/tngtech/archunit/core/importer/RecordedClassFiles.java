@@ -0,0 +1,111 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * The recorded ASM events (compare {@link ClassFileImportCache}) of all class files of an import, in the order
+ * the class files were found. In contrast to the domain builders, these records are immutable, thus they can be replayed
+ * into fresh builders any number of times, e.g. to reimport the classes without parsing the class files again.
+ */
+class RecordedClassFiles {
+    private final List<Entry> entries;
+
+    RecordedClassFiles(List<Entry> entries) {
+        this.entries = ImmutableList.copyOf(entries);
+    }
+
+    List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * Replaces all entries originating from any of the supplied {@link Location locations} by the supplied entries
+     * freshly recorded from these {@link Location locations}. To keep the precedence of class files with the same name,
+     * the new entries of a location take the place of the first former entry of that location. Entries of
+     * {@link Location locations} that did not contribute any entry before are appended.
+     */
+    RecordedClassFiles replace(Collection<Location> locations, RecordedClassFiles entriesOfLocations) {
+        List<String> locationPrefixes = new ArrayList<>();
+        Map<String, List<Entry>> newEntriesByLocation = new LinkedHashMap<>();
+        for (Location location : locations) {
+            String prefix = location.asURI().toString();
+            locationPrefixes.add(prefix);
+            newEntriesByLocation.put(prefix, new ArrayList<Entry>());
+        }
+        for (Entry entry : entriesOfLocations.entries) {
+            String location = findLocationOf(entry, locationPrefixes);
+            if (location != null) {
+                newEntriesByLocation.get(location).add(entry);
+            }
+        }
+
+        List<Entry> result = new ArrayList<>();
+        Set<String> replacedLocations = new HashSet<>();
+        for (Entry entry : entries) {
+            String location = findLocationOf(entry, locationPrefixes);
+            if (location == null) {
+                result.add(entry);
+            } else if (replacedLocations.add(location)) {
+                result.addAll(newEntriesByLocation.get(location));
+            }
+        }
+        for (Map.Entry<String, List<Entry>> newEntries : newEntriesByLocation.entrySet()) {
+            if (replacedLocations.add(newEntries.getKey())) {
+                result.addAll(newEntries.getValue());
+            }
+        }
+        return new RecordedClassFiles(result);
+    }
+
+    private static String findLocationOf(Entry entry, List<String> locationPrefixes) {
+        String uri = Location.of(entry.getUri()).asURI().toString();
+        for (String prefix : locationPrefixes) {
+            if (uri.startsWith(prefix)) {
+                return prefix;
+            }
+        }
+        return null;
+    }
+
+    static class Entry {
+        private final URI uri;
+        private final byte[] events;
+
+        Entry(URI uri, byte[] events) {
+            this.uri = uri;
+            this.events = events;
+        }
+
+        URI getUri() {
+            return uri;
+        }
+
+        byte[] getEvents() {
+            return events;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.io.ByteStreams;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.Optional;
+import org.objectweb.asm.ClassVisitor;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * Cache of classes resolved from the classpath, shared by all imports within the JVM. If many imports resolve the same
+ * classes (e.g. {@link Object} or {@link String}), each of those classes only has to be located and parsed once.
+ * To keep the imported class graphs isolated, the cache does not store any domain objects, but the recorded parser events
+ * of each class file, which are replayed into each import separately. Since accesses are never imported for resolved classes,
+ * the recorded events do not contain any field or method instructions, which makes replaying them considerably cheaper.
+ * <br><br>
+ * The cache is disabled by default and can be enabled by configuring
+ * <pre><code>{@value ArchConfiguration#RESOLVED_CLASS_CACHE_SIZE}=[maximum number of cached classes]</code></pre>
+ * within {@value ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME}. Only class files from archives (i.e. JAR files
+ * or the JDK) are cached, since class files within directories might still change during the lifetime of the JVM.
+ */
+public final class ResolvedClassCache {
+    private static Optional<ResolvedClassCache> instance = Optional.absent();
+
+    private final int maximumSize;
+    private final Cache<URI, byte[]> recordedEventsByUri;
+
+    private ResolvedClassCache(int maximumSize) {
+        this.maximumSize = maximumSize;
+        recordedEventsByUri = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    void accept(URI uri, ClassVisitor classVisitor) throws IOException {
+        byte[] recordedEvents = recordedEventsByUri.getIfPresent(uri);
+        if (recordedEvents != null) {
+            ClassFileImportCache.replayEvents(recordedEvents, classVisitor);
+            return;
+        }
+
+        byte[] classFile;
+        try (InputStream inputStream = uri.toURL().openStream()) {
+            classFile = ByteStreams.toByteArray(inputStream);
+        }
+        recordedEventsByUri.put(uri, ClassFileImportCache.recordEvents(classFile, classFile.length, classVisitor, false));
+    }
+
+    static boolean isCacheable(URI uri) {
+        return "jar".equals(uri.getScheme()) || "jrt".equals(uri.getScheme());
+    }
+
+    static synchronized Optional<ResolvedClassCache> fromConfiguration() {
+        int configuredSize = ArchConfiguration.get().getResolvedClassCacheSize();
+        if (configuredSize <= 0) {
+            return Optional.absent();
+        }
+        if (!instance.isPresent() || instance.get().maximumSize != configuredSize) {
+            instance = Optional.of(new ResolvedClassCache(configuredSize));
+        }
+        return instance;
+    }
+
+    /**
+     * @return The {@link Statistics} of the resolved class cache, if the cache is enabled
+     */
+    @PublicAPI(usage = ACCESS)
+    public static Optional<Statistics> getStatistics() {
+        Optional<ResolvedClassCache> cache = fromConfiguration();
+        return cache.isPresent()
+                ? Optional.of(new Statistics(cache.get().recordedEventsByUri.stats(), cache.get().recordedEventsByUri.size()))
+                : Optional.<Statistics>absent();
+    }
+
+    /**
+     * Removes all cached classes, e.g. if class files on the classpath have been replaced.
+     */
+    @PublicAPI(usage = ACCESS)
+    public static void invalidateAll() {
+        Optional<ResolvedClassCache> cache = fromConfiguration();
+        if (cache.isPresent()) {
+            cache.get().recordedEventsByUri.invalidateAll();
+        }
+    }
+
+    /**
+     * Snapshot of hit and miss statistics of the {@link ResolvedClassCache}, counted since the cache was enabled.
+     */
+    public static final class Statistics {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final long size;
+
+        private Statistics(CacheStats stats, long size) {
+            hitCount = stats.hitCount();
+            missCount = stats.missCount();
+            evictionCount = stats.evictionCount();
+            this.size = size;
+        }
+
+        /**
+         * @return Number of resolved classes, that have been taken from the cache
+         */
+        @PublicAPI(usage = ACCESS)
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        /**
+         * @return Number of resolved classes, that have not been found in the cache and had to be parsed
+         */
+        @PublicAPI(usage = ACCESS)
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * @return Number of cached classes, that have been removed, because the cache exceeded its maximum size
+         */
+        @PublicAPI(usage = ACCESS)
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * @return Number of classes currently cached
+         */
+        @PublicAPI(usage = ACCESS)
+        public long getSize() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "{hitCount=" + hitCount + ", missCount=" + missCount
+                    + ", evictionCount=" + evictionCount + ", size=" + size + '}';
+        }
+    }
+}
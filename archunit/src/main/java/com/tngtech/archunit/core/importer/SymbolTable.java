@@ -0,0 +1,80 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.core.importer;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.tngtech.archunit.core.domain.JavaType;
+import com.tngtech.archunit.core.importer.RawAccessRecord.ConstructorTargetInfo;
+import com.tngtech.archunit.core.importer.RawAccessRecord.FieldTargetInfo;
+import com.tngtech.archunit.core.importer.RawAccessRecord.MethodTargetInfo;
+import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
+
+/**
+ * Interns the symbols referenced by the instructions of the imported class files. Usually the same field or method
+ * is accessed many times from all over the imported classes, so all {@link RawAccessRecord RawAccessRecords}
+ * of one import share a single {@link TargetInfo} per distinct target. Besides saving memory, equal targets can
+ * then mostly be compared by identity, and the owner type of each target only has to be parsed once.
+ * Likewise the {@link ClassFileImportRecord} interns the class names it records by owner.
+ * <br><br>
+ * Note that a {@link SymbolTable} is not thread safe, i.e. each thread importing class files needs its own.
+ * Since each thread records into its own {@link ClassFileImportRecord}, there is one table per record.
+ */
+class SymbolTable {
+    private final Map<String, JavaType> typesByAsmObjectTypeName = new HashMap<>();
+    private final Map<String, String> strings = new HashMap<>();
+    private final Map<TargetInfo, TargetInfo> targets = new HashMap<>();
+
+    TargetInfo fieldTarget(String owner, String name, String desc) {
+        return intern(new FieldTargetInfo(typeOf(owner), intern(name), intern(desc)));
+    }
+
+    TargetInfo constructorTarget(String owner, String name, String desc) {
+        return intern(new ConstructorTargetInfo(typeOf(owner), intern(name), intern(desc)));
+    }
+
+    TargetInfo methodTarget(String owner, String name, String desc) {
+        return intern(new MethodTargetInfo(typeOf(owner), intern(name), intern(desc)));
+    }
+
+    private JavaType typeOf(String asmObjectTypeName) {
+        JavaType type = typesByAsmObjectTypeName.get(asmObjectTypeName);
+        if (type == null) {
+            type = JavaTypeImporter.createFromAsmObjectTypeName(asmObjectTypeName);
+            typesByAsmObjectTypeName.put(asmObjectTypeName, type);
+        }
+        return type;
+    }
+
+    String intern(String string) {
+        String interned = strings.get(string);
+        if (interned == null) {
+            strings.put(string, string);
+            return string;
+        }
+        return interned;
+    }
+
+    private TargetInfo intern(TargetInfo target) {
+        TargetInfo interned = targets.get(target);
+        if (interned == null) {
+            targets.put(target, target);
+            return target;
+        }
+        return interned;
+    }
+}
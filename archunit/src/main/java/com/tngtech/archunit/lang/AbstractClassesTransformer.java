@@ -15,10 +15,15 @@
  */
 package com.tngtech.archunit.lang;
 
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.Guava;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 
 import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
@@ -37,11 +42,34 @@ public abstract class AbstractClassesTransformer<T> implements ClassesTransforme
 
     @Override
     public final DescribedIterable<T> transform(JavaClasses collection) {
-        return DescribedIterable.From.iterable(doTransform(collection), description);
+        Optional<DescribedPredicate<JavaClass>> selector = getClassSelector();
+        Iterable<T> transformed = selector.isPresent() && selector.get() != DescribedPredicate.<JavaClass>alwaysTrue()
+                ? AbstractClassesTransformer.<T>selectCached(collection, selector.get())
+                : doTransform(collection);
+        return DescribedIterable.From.iterable(transformed, description);
+    }
+
+    // If a class selector is present, the transformed objects are JavaClasses, i.e. T is a supertype of JavaClass
+    @SuppressWarnings("unchecked")
+    private static <T> Iterable<T> selectCached(JavaClasses classes, final DescribedPredicate<JavaClass> selector) {
+        return (Iterable<T>) ClassesTransformationCache.get(classes, selector, new ClassesTransformationCache.Transformation<List<JavaClass>>() {
+            @Override
+            public List<JavaClass> apply(JavaClasses classes) {
+                return ImmutableList.copyOf(Guava.Iterables.filter(classes, selector));
+            }
+        });
     }
 
     public abstract Iterable<T> doTransform(JavaClasses collection);
 
+    /**
+     * @return The predicate selecting the transformed objects from the imported classes, if this transformer
+     *         does not transform the classes, but only filters them (compare {@link ClassesIdentityTransformer})
+     */
+    Optional<DescribedPredicate<JavaClass>> getClassSelector() {
+        return Optional.absent();
+    }
+
     @Override
     public final ClassesTransformer<T> that(final DescribedPredicate<? super T> predicate) {
         return new AbstractClassesTransformer<T>(description + " that " + predicate.getDescription()) {
@@ -50,6 +78,14 @@ public abstract class AbstractClassesTransformer<T> implements ClassesTransforme
                 Iterable<T> transformed = AbstractClassesTransformer.this.doTransform(collection);
                 return Guava.Iterables.filter(transformed, predicate);
             }
+
+            @Override
+            Optional<DescribedPredicate<JavaClass>> getClassSelector() {
+                Optional<DescribedPredicate<JavaClass>> selector = AbstractClassesTransformer.this.getClassSelector();
+                return selector.isPresent()
+                        ? Optional.<DescribedPredicate<JavaClass>>of(selector.get().and(asClassPredicate(predicate)))
+                        : Optional.<DescribedPredicate<JavaClass>>absent();
+            }
         };
     }
 
@@ -65,9 +101,20 @@ public abstract class AbstractClassesTransformer<T> implements ClassesTransforme
             public Iterable<T> doTransform(JavaClasses collection) {
                 return AbstractClassesTransformer.this.doTransform(collection);
             }
+
+            @Override
+            Optional<DescribedPredicate<JavaClass>> getClassSelector() {
+                return AbstractClassesTransformer.this.getClassSelector();
+            }
         };
     }
 
+    // If a class selector is present, the transformed objects are JavaClasses, i.e. T is a supertype of JavaClass
+    @SuppressWarnings("unchecked")
+    private static <T> DescribedPredicate<? super JavaClass> asClassPredicate(DescribedPredicate<? super T> predicate) {
+        return (DescribedPredicate<? super JavaClass>) predicate;
+    }
+
     @Override
     public String toString() {
         return ClassesTransformer.class.getSimpleName() + "{" + getDescription() + "}";
@@ -58,6 +58,19 @@ public abstract class ArchCondition<T> {
     public void finish(ConditionEvents events) {
     }
 
+    /**
+     * Declares whether {@link #check(Object, ConditionEvents)} may be called concurrently for different objects,
+     * if rules are evaluated in parallel (compare {@link com.tngtech.archunit.ArchConfiguration#setEvaluationParallelism(int)}).<br>
+     * This is the case, if {@link #check(Object, ConditionEvents)} only adds events about the checked object and does not
+     * modify any state shared between checks. Conditions that collect state over all checked objects, e.g. to report
+     * violations within {@link #finish(ConditionEvents)}, must not be checked concurrently, which is the default.
+     *
+     * @return {@code true}, if this condition can be checked for several objects at the same time
+     */
+    public boolean supportsConcurrentCheck() {
+        return false;
+    }
+
     public ArchCondition<T> and(ArchCondition<? super T> condition) {
         return new AndCondition<>(this, condition.<T>forSubType());
     }
@@ -86,6 +99,11 @@ public abstract class ArchCondition<T> {
             public void finish(ConditionEvents events) {
                 ArchCondition.this.finish(events);
             }
+
+            @Override
+            public boolean supportsConcurrentCheck() {
+                return ArchCondition.this.supportsConcurrentCheck();
+            }
         };
     }
 
@@ -129,6 +147,16 @@ public abstract class ArchCondition<T> {
             }
         }
 
+        @Override
+        public boolean supportsConcurrentCheck() {
+            for (ArchCondition<T> condition : conditions) {
+                if (!condition.supportsConcurrentCheck()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         List<ConditionWithEvents<T>> evaluateConditions(T item) {
             List<ConditionWithEvents<T>> evaluate = new ArrayList<>();
             for (ArchCondition<T> condition : conditions) {
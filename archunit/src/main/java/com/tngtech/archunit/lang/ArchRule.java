@@ -25,10 +25,12 @@ import com.google.common.base.Predicate;
 import com.google.common.collect.ImmutableSet;
 import com.tngtech.archunit.Internal;
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.Optional;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.properties.CanOverrideDescription;
+import com.tngtech.archunit.lang.ConditionCheck.SelectiveCondition;
 import com.tngtech.archunit.lang.extension.ArchUnitExtensions;
 import com.tngtech.archunit.lang.extension.EvaluatedRule;
 import com.tngtech.archunit.lang.syntax.ArchRuleDefinition;
@@ -174,7 +176,7 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
             return rule.getDescription() + ", because " + reason;
         }
 
-        private static class SimpleArchRule<T> implements ArchRule {
+        static class SimpleArchRule<T> implements ArchRule {
             private final Priority priority;
             private final ClassesTransformer<T> classesTransformer;
             private final ArchCondition<T> condition;
@@ -205,16 +207,47 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
 
             @Override
             public EvaluationResult evaluate(JavaClasses classes) {
+                return evaluate(classes, ConditionEvents.forEvaluation());
+            }
+
+            EvaluationResult evaluate(JavaClasses classes, ConditionEvents events) {
+                Iterable<T> allObjects = initCondition(classes);
+                ConditionCheck.checkAll(condition, allObjects, events);
+                return finishCondition(events);
+            }
+
+            Iterable<T> initCondition(JavaClasses classes) {
                 Iterable<T> allObjects = classesTransformer.transform(classes);
                 condition.init(allObjects);
-                ConditionEvents events = new ConditionEvents();
-                for (T object : allObjects) {
-                    condition.check(object, events);
-                }
+                return allObjects;
+            }
+
+            EvaluationResult finishCondition(ConditionEvents events) {
                 condition.finish(events);
                 return new EvaluationResult(this, events, priority);
             }
 
+            /**
+             * @return The condition of this rule restricted to the selected classes, if this rule only checks
+             *         (some of) the imported classes with a condition that has no state shared between checks.
+             *         Such a condition can be checked together with the conditions of other rules (compare {@link RuleSet}).
+             */
+            Optional<SelectiveCondition<JavaClass>> getConditionOfSelectedClasses() {
+                if (!(classesTransformer instanceof AbstractClassesTransformer<?>) || !condition.supportsConcurrentCheck()) {
+                    return Optional.absent();
+                }
+                Optional<DescribedPredicate<JavaClass>> selector = ((AbstractClassesTransformer<T>) classesTransformer).getClassSelector();
+                return selector.isPresent()
+                        ? Optional.of(new SelectiveCondition<>(selector.get(), asClassCondition(condition)))
+                        : Optional.<SelectiveCondition<JavaClass>>absent();
+            }
+
+            // If a class selector is present, the checked objects are JavaClasses, i.e. T is a supertype of JavaClass
+            @SuppressWarnings("unchecked")
+            private ArchCondition<JavaClass> asClassCondition(ArchCondition<T> condition) {
+                return (ArchCondition<JavaClass>) condition;
+            }
+
             @Override
             public String getDescription() {
                 return overriddenDescription.isPresent() ?
@@ -229,6 +262,14 @@ public interface ArchRule extends CanBeEvaluated, CanOverrideDescription<ArchRul
         }
     }
 
+    /**
+     * A rule that is evaluated by an underlying rule, e.g. once the definition of the rule is complete.
+     */
+    @Internal
+    interface Delegating {
+        ArchRule getDelegate();
+    }
+
     @Internal
     interface Transformation {
         ArchRule apply(ArchRule rule);
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import com.tngtech.archunit.Internal;
+import com.tngtech.archunit.base.DescribedPredicate;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+/**
+ * Transforms {@link JavaClasses} into the imported classes themselves. Rules on such classes, possibly filtered by
+ * some predicate, can be checked together with other rules on classes, compare {@link RuleSet}.
+ */
+@Internal
+public final class ClassesIdentityTransformer extends AbstractClassesTransformer<JavaClass> {
+    public ClassesIdentityTransformer() {
+        super("classes");
+    }
+
+    @Override
+    public Iterable<JavaClass> doTransform(JavaClasses collection) {
+        return collection;
+    }
+
+    @Override
+    Optional<DescribedPredicate<JavaClass>> getClassSelector() {
+        return Optional.<DescribedPredicate<JavaClass>>of(DescribedPredicate.<JavaClass>alwaysTrue());
+    }
+}
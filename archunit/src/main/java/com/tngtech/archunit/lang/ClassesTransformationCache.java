@@ -0,0 +1,66 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.MapMaker;
+import com.tngtech.archunit.Internal;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+/**
+ * Caches the results of transforming {@link JavaClasses}, e.g. the classes selected by a predicate, so rules sharing the
+ * same "given" clause (like {@code classes().that().resideInAPackage("..domain..")}) can reuse the transformed objects.
+ * Results are cached per {@link JavaClasses} instance (i.e. by identity, not by equality) and are released together
+ * with the {@link JavaClasses}. Thus a cached result must never reference the {@link JavaClasses} it was created from.<br>
+ * The key of a result must identify the transformation, i.e. equal keys must always lead to equal results.
+ * Built-in predicates are equal by value, all others by identity.
+ */
+@Internal
+public final class ClassesTransformationCache {
+    private static final ConcurrentMap<JavaClasses, ConcurrentMap<Object, Object>> resultsByClasses = new MapMaker().weakKeys().makeMap();
+
+    private ClassesTransformationCache() {
+    }
+
+    @SuppressWarnings("unchecked") // the key identifies the transformation and thus the type of the result
+    public static <R> R get(JavaClasses classes, Object key, Transformation<R> transformation) {
+        ConcurrentMap<Object, Object> results = resultsOf(classes);
+        Object result = results.get(key);
+        if (result == null) {
+            result = transformation.apply(classes);
+            Object concurrentResult = results.putIfAbsent(key, result);
+            result = concurrentResult != null ? concurrentResult : result;
+        }
+        return (R) result;
+    }
+
+    private static ConcurrentMap<Object, Object> resultsOf(JavaClasses classes) {
+        ConcurrentMap<Object, Object> results = resultsByClasses.get(classes);
+        if (results == null) {
+            results = new ConcurrentHashMap<>();
+            ConcurrentMap<Object, Object> concurrentResults = resultsByClasses.putIfAbsent(classes, results);
+            results = concurrentResults != null ? concurrentResults : results;
+        }
+        return results;
+    }
+
+    @Internal
+    public interface Transformation<R> {
+        R apply(JavaClasses classes);
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import com.google.common.collect.Lists;
+import com.google.common.math.IntMath;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.DescribedPredicate;
+
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static java.util.Collections.singletonList;
+
+class ConditionCheck {
+    private static final int PARTITIONS_PER_THREAD = 4;
+    private static final ThreadFactory EVALUATION_THREAD_FACTORY = new ThreadFactoryBuilder()
+            .setNameFormat("archunit-evaluation-%d")
+            .setDaemon(true)
+            .build();
+
+    /**
+     * Checks all objects with the condition, adding the resulting events to the supplied events.
+     */
+    static <T> void checkAll(ArchCondition<T> condition, Iterable<T> objects, ConditionEvents events) {
+        SelectiveCondition<T> checkAllObjects = new SelectiveCondition<>(DescribedPredicate.<T>alwaysTrue(), condition);
+        checkAll(singletonList(checkAllObjects), objects, singletonList(events));
+    }
+
+    /**
+     * Checks each object with every condition that selects the object, walking the objects only once.
+     *
+     * @return The events of each condition, in the order of the conditions
+     */
+    static <T> List<ConditionEvents> checkAll(List<SelectiveCondition<T>> conditions, Iterable<T> objects) {
+        List<ConditionEvents> events = newEvents(conditions.size());
+        checkAll(conditions, objects, events);
+        return events;
+    }
+
+    private static <T> void checkAll(List<SelectiveCondition<T>> conditions, Iterable<T> objects, List<ConditionEvents> events) {
+        int parallelism = ArchConfiguration.get().getEvaluationParallelism();
+        if (parallelism > 1 && allSupportConcurrentCheck(conditions)) {
+            List<T> objectsToCheck = Lists.newArrayList(objects);
+            if (objectsToCheck.size() > 1) {
+                checkInParallel(conditions, objectsToCheck, parallelism, events);
+            } else {
+                checkSequentially(conditions, objectsToCheck, events);
+            }
+        } else {
+            checkSequentially(conditions, objects, events);
+        }
+    }
+
+    private static <T> boolean allSupportConcurrentCheck(List<SelectiveCondition<T>> conditions) {
+        for (SelectiveCondition<T> condition : conditions) {
+            if (!condition.condition.supportsConcurrentCheck()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static <T> void checkSequentially(List<SelectiveCondition<T>> conditions, Iterable<T> objects, List<ConditionEvents> events) {
+        for (T object : objects) {
+            boolean allLimitsReached = true;
+            for (int i = 0; i < conditions.size(); i++) {
+                ConditionEvents eventsOfCondition = events.get(i);
+                if (eventsOfCondition.isViolationLimitReached()) {
+                    eventsOfCondition.markObjectsSkipped();
+                } else {
+                    conditions.get(i).check(object, eventsOfCondition);
+                    allLimitsReached = false;
+                }
+            }
+            if (allLimitsReached) {
+                break;
+            }
+        }
+    }
+
+    // NOTE: Each partition of consecutive objects is checked into its own events by a single worker. Merging those
+    //       events in the original order of the objects yields the same events in the same order as a sequential check.
+    private static <T> void checkInParallel(
+            final List<SelectiveCondition<T>> conditions, List<T> objects, int parallelism, List<ConditionEvents> events) {
+        int partitionSize = Math.max(1, IntMath.divide(objects.size(), parallelism * PARTITIONS_PER_THREAD, RoundingMode.CEILING));
+
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, EVALUATION_THREAD_FACTORY);
+        try {
+            List<Future<List<ConditionEvents>>> partialEvents = new ArrayList<>();
+            for (final List<T> partition : Lists.partition(objects, partitionSize)) {
+                partialEvents.add(executor.submit(new Callable<List<ConditionEvents>>() {
+                    @Override
+                    public List<ConditionEvents> call() {
+                        List<ConditionEvents> eventsOfPartition = newEvents(conditions.size());
+                        checkSequentially(conditions, partition, eventsOfPartition);
+                        return eventsOfPartition;
+                    }
+                }));
+            }
+
+            for (Iterator<Future<List<ConditionEvents>>> partialEvent = partialEvents.iterator(); partialEvent.hasNext(); ) {
+                List<ConditionEvents> eventsOfPartition = getUnchecked(partialEvent.next());
+                for (int i = 0; i < events.size(); i++) {
+                    events.get(i).addAll(eventsOfPartition.get(i));
+                }
+                if (allViolationLimitsReached(events) && partialEvent.hasNext()) {
+                    // the remaining partitions cannot contribute any further events, so they are cancelled by shutting down the executor
+                    for (ConditionEvents eventsOfCondition : events) {
+                        eventsOfCondition.markObjectsSkipped();
+                    }
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean allViolationLimitsReached(List<ConditionEvents> events) {
+        for (ConditionEvents eventsOfCondition : events) {
+            if (!eventsOfCondition.isViolationLimitReached()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<ConditionEvents> newEvents(int count) {
+        List<ConditionEvents> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(ConditionEvents.forEvaluation());
+        }
+        return events;
+    }
+
+    // Failures of a condition should surface the same way they would for a sequential check
+    private static List<ConditionEvents> getUnchecked(Future<List<ConditionEvents>> partialEvent) {
+        try {
+            return Futures.getUnchecked(partialEvent);
+        } catch (UncheckedExecutionException e) {
+            throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+
+    static class SelectiveCondition<T> {
+        private final DescribedPredicate<? super T> selector;
+        private final ArchCondition<T> condition;
+
+        SelectiveCondition(DescribedPredicate<? super T> selector, ArchCondition<T> condition) {
+            this.selector = selector;
+            this.condition = condition;
+        }
+
+        private void check(T object, ConditionEvents events) {
+            if (selector.apply(object)) {
+                condition.check(object, events);
+            }
+        }
+    }
+}
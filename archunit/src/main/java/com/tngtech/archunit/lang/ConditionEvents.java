@@ -25,6 +25,7 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Multimap;
 import com.google.common.reflect.TypeToken;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.Optional;
 
@@ -35,14 +36,80 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
 
     @PublicAPI(usage = ACCESS)
     public ConditionEvents() {
+        this(ViolationLimit.NONE, Optional.<ConditionEvent.Handler>absent());
+    }
+
+    private ConditionEvents(ViolationLimit violationLimit, Optional<ConditionEvent.Handler> violationStream) {
+        this.violationLimit = violationLimit;
+        this.violationStream = violationStream;
     }
 
     private final Multimap<Type, ConditionEvent> eventsByViolation = ArrayListMultimap.create();
+    private final ViolationLimit violationLimit;
+    private final Optional<ConditionEvent.Handler> violationStream;
+    private int numberOfViolations = 0;
+    private boolean violationLimitExceeded = false;
+    private boolean objectsSkipped = false;
     private Optional<String> informationAboutNumberOfViolations = Optional.absent();
 
+    /**
+     * @return Events for the evaluation of a rule, limited as configured (compare
+     *         {@link ArchConfiguration#setStopEvaluationAtFirstViolation(boolean)} and {@link ArchConfiguration#setMaxViolationsPerRule(int)})
+     */
+    static ConditionEvents forEvaluation() {
+        return new ConditionEvents(ViolationLimit.fromConfiguration(), Optional.<ConditionEvent.Handler>absent());
+    }
+
+    /**
+     * @return Events for the evaluation of a rule, limited like {@link #forEvaluation()}, that pass each violation
+     *         to the supplied handler as soon as it is added. Neither violations nor allowed events are retained,
+     *         i.e. these events will always be empty.
+     */
+    static ConditionEvents forStreamingEvaluation(ConditionEvent.Handler violationHandler) {
+        return new ConditionEvents(ViolationLimit.fromConfiguration(), Optional.of(violationHandler));
+    }
+
     @PublicAPI(usage = ACCESS)
     public void add(ConditionEvent event) {
-        eventsByViolation.get(Type.from(event.isViolation())).add(event);
+        if (!event.isViolation()) {
+            if (violationLimit.retainAllowedEvents() && !violationStream.isPresent()) {
+                eventsByViolation.put(Type.ALLOWED, event);
+            }
+        } else if (violationLimit.allows(numberOfViolations)) {
+            numberOfViolations++;
+            if (violationStream.isPresent()) {
+                event.handleWith(violationStream.get());
+            } else {
+                eventsByViolation.put(Type.VIOLATION, event);
+            }
+        } else {
+            violationLimitExceeded = true;
+        }
+    }
+
+    void addAll(ConditionEvents events) {
+        for (ConditionEvent event : events.eventsByViolation.values()) {
+            add(event);
+        }
+        violationLimitExceeded = violationLimitExceeded || events.violationLimitExceeded;
+        objectsSkipped = objectsSkipped || events.objectsSkipped;
+        if (events.informationAboutNumberOfViolations.isPresent()) {
+            informationAboutNumberOfViolations = events.informationAboutNumberOfViolations;
+        }
+    }
+
+    /**
+     * @return {@code true}, if no further objects need to be checked, because the configured limit of violations has been reached
+     */
+    boolean isViolationLimitReached() {
+        return violationLimitExceeded || (violationLimit.stopAtLimit && numberOfViolations >= violationLimit.maxViolations);
+    }
+
+    /**
+     * Records that some objects were not checked at all, because the limit of violations had already been reached
+     */
+    void markObjectsSkipped() {
+        objectsSkipped = true;
     }
 
     /**
@@ -98,7 +165,17 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
         for (ConditionEvent event : getViolating()) {
             result.addAll(event.getDescriptionLines());
         }
-        return new FailureMessages(result, informationAboutNumberOfViolations);
+        return new FailureMessages(result, informationAboutNumberOfViolations.or(informationAboutLimitedViolations(result.size())));
+    }
+
+    private Optional<String> informationAboutLimitedViolations(int numberOfReportedViolations) {
+        if (violationLimitExceeded) {
+            return Optional.of("more than " + numberOfReportedViolations + " times");
+        }
+        if (objectsSkipped) {
+            return Optional.of("at least " + numberOfReportedViolations + " times");
+        }
+        return Optional.absent();
     }
 
     /**
@@ -160,11 +237,36 @@ public final class ConditionEvents implements Iterable<ConditionEvent> {
                 '}';
     }
 
-    private enum Type {
-        ALLOWED, VIOLATION;
+    private static class ViolationLimit {
+        private static final ViolationLimit NONE = new ViolationLimit(Integer.MAX_VALUE, false);
+
+        private final int maxViolations;
+        private final boolean stopAtLimit;
 
-        private static Type from(boolean violation) {
-            return violation ? VIOLATION : ALLOWED;
+        private ViolationLimit(int maxViolations, boolean stopAtLimit) {
+            this.maxViolations = maxViolations;
+            this.stopAtLimit = stopAtLimit;
         }
+
+        boolean retainAllowedEvents() {
+            return this == NONE;
+        }
+
+        boolean allows(int numberOfViolations) {
+            return numberOfViolations < maxViolations;
+        }
+
+        static ViolationLimit fromConfiguration() {
+            ArchConfiguration configuration = ArchConfiguration.get();
+            if (configuration.stopEvaluationAtFirstViolation()) {
+                return new ViolationLimit(1, true);
+            }
+            int maxViolations = configuration.getMaxViolationsPerRule();
+            return maxViolations > 0 ? new ViolationLimit(maxViolations, false) : NONE;
+        }
+    }
+
+    private enum Type {
+        ALLOWED, VIOLATION
     }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.lang.ArchRule.Factory.SimpleArchRule;
+import com.tngtech.archunit.lang.ConditionCheck.SelectiveCondition;
+import com.tngtech.archunit.lang.syntax.ArchRuleDefinition;
+
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+
+/**
+ * A set of {@link ArchRule ArchRules} to be evaluated together. The results are the same as if each rule
+ * was evaluated by itself, but all rules checking (some of) the imported classes, e.g.
+ * <pre><code>
+ * classes().that().resideInAPackage("..service..").should().onlyAccessClassesThat()...
+ * </code></pre>
+ * are checked while walking the imported classes only once. This applies to rules with a condition that has no state
+ * shared between checks (compare {@link ArchCondition#supportsConcurrentCheck()}), since the checks of those rules
+ * are interleaved. All other rules are simply evaluated one after another.
+ * <br><br>
+ * Note that the events of all rules checked together are kept in memory until all classes have been checked,
+ * so evaluating rules together only pays off if there is enough heap for all of them.
+ * Thus this is never used implicitly, e.g. a {@link CompositeArchRule} still evaluates its rules one after another.
+ */
+public final class RuleSet {
+    private final List<ArchRule> rules;
+
+    private RuleSet(List<ArchRule> rules) {
+        this.rules = rules;
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public static RuleSet of(ArchRule... rules) {
+        return of(Arrays.asList(rules));
+    }
+
+    @PublicAPI(usage = ACCESS)
+    public static RuleSet of(Collection<? extends ArchRule> rules) {
+        return new RuleSet(ImmutableList.copyOf(rules));
+    }
+
+    /**
+     * @param classes The classes to evaluate the rules against
+     * @return One {@link EvaluationResult} per rule, in the order of the rules
+     */
+    @PublicAPI(usage = ACCESS)
+    public List<EvaluationResult> evaluate(JavaClasses classes) {
+        EvaluationResult[] results = new EvaluationResult[rules.size()];
+        List<Integer> indexesOfClassRules = new ArrayList<>();
+        List<SimpleArchRule<?>> classRules = new ArrayList<>();
+        List<SelectiveCondition<JavaClass>> classConditions = new ArrayList<>();
+        for (int i = 0; i < rules.size(); i++) {
+            ArchRule rule = unwrap(rules.get(i));
+            Optional<SelectiveCondition<JavaClass>> classCondition = rule instanceof SimpleArchRule<?>
+                    ? ((SimpleArchRule<?>) rule).getConditionOfSelectedClasses()
+                    : Optional.<SelectiveCondition<JavaClass>>absent();
+            if (classCondition.isPresent()) {
+                indexesOfClassRules.add(i);
+                classRules.add((SimpleArchRule<?>) rule);
+                classConditions.add(classCondition.get());
+            } else {
+                results[i] = rules.get(i).evaluate(classes);
+            }
+        }
+
+        for (SimpleArchRule<?> rule : classRules) {
+            rule.initCondition(classes);
+        }
+        List<ConditionEvents> events = ConditionCheck.checkAll(classConditions, classes);
+        for (int i = 0; i < classRules.size(); i++) {
+            results[indexesOfClassRules.get(i)] = classRules.get(i).finishCondition(events.get(i));
+        }
+        return ImmutableList.copyOf(results);
+    }
+
+    /**
+     * Evaluates the rules one after another and passes each violation to the supplied sink as soon as it is found.
+     * Contrary to {@link #evaluate(JavaClasses)} the violations of rules defined via {@link ArchRuleDefinition}
+     * are not retained, thus the memory needed for the evaluation does not grow with the number of violations.
+     * Other rules (e.g. rules that need to compare all their violations, like frozen rules) are evaluated
+     * as usual and pass their violations to the sink once they are evaluated.
+     * <br><br>
+     * Note that the violations are passed in the order they are found. In particular they are neither sorted
+     * nor deduplicated like the details of a {@link FailureReport} (compare {@link ViolationSinks#sorted(ViolationSinks.ClosableSink)}).
+     *
+     * @param classes The classes to evaluate the rules against
+     * @param sink The sink to pass all violations to
+     * @return The number of violations passed to the sink
+     */
+    @PublicAPI(usage = ACCESS)
+    public int evaluate(JavaClasses classes, ViolationSink sink) {
+        int numberOfViolations = 0;
+        for (ArchRule rule : rules) {
+            CountingHandler handler = new CountingHandler(rule, sink);
+            ArchRule evaluatedRule = unwrap(rule);
+            if (evaluatedRule instanceof SimpleArchRule<?>) {
+                ((SimpleArchRule<?>) evaluatedRule).evaluate(classes, ConditionEvents.forStreamingEvaluation(handler));
+            } else {
+                rule.evaluate(classes).handleViolations(handler.asViolationHandler());
+            }
+            numberOfViolations += handler.numberOfViolations;
+        }
+        return numberOfViolations;
+    }
+
+    private static ArchRule unwrap(ArchRule rule) {
+        ArchRule result = rule;
+        while (result instanceof ArchRule.Delegating) {
+            result = ((ArchRule.Delegating) result).getDelegate();
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{rules=" + rules + "}";
+    }
+
+    private static class CountingHandler implements ConditionEvent.Handler {
+        private final HasDescription rule;
+        private final ViolationSink sink;
+        private int numberOfViolations = 0;
+
+        CountingHandler(HasDescription rule, ViolationSink sink) {
+            this.rule = rule;
+            this.sink = sink;
+        }
+
+        @Override
+        public void handle(Collection<?> violatingObjects, String message) {
+            numberOfViolations++;
+            sink.handle(rule, violatingObjects, message);
+        }
+
+        ViolationHandler<Object> asViolationHandler() {
+            return new ViolationHandler<Object>() {
+                @Override
+                public void handle(Collection<Object> violatingObjects, String message) {
+                    CountingHandler.this.handle(violatingObjects, message);
+                }
+            };
+        }
+    }
+}
@@ -19,23 +19,66 @@ import java.util.Collections;
 import java.util.List;
 
 import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.HasDescription;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
 import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
 import static java.util.Collections.singletonList;
 
+/**
+ * A {@link ConditionEvent} about a single object with a single line of description. The message can either be supplied
+ * directly, or it can be rendered on demand, i.e. only once the description of the event is actually requested
+ * (e.g. to report a violation). The latter avoids creating messages for the many events that are never reported,
+ * like most of the satisfied events of a rule.
+ */
 @PublicAPI(usage = ACCESS)
 public final class SimpleConditionEvent implements ConditionEvent {
     private final Object correspondingObject;
     private final boolean conditionSatisfied;
-    private final String message;
+    private final HasDescription message;
 
     public SimpleConditionEvent(Object correspondingObject, boolean conditionSatisfied, String message) {
+        this(correspondingObject, conditionSatisfied, new FixedMessage(message));
+        checkMessageNotEmptyForViolation(message);
+    }
+
+    /**
+     * @param correspondingObject The object this event is about
+     * @param conditionSatisfied Whether the object satisfies the condition
+     * @param messageTemplate A template for the message, which is formatted like {@link String#format(String, Object...)}
+     *                        using the supplied arguments, but only once the message is requested.
+     *                        Like the formatted message, the template may not be empty for a violation.
+     * @param args The arguments for the message template
+     */
+    public SimpleConditionEvent(Object correspondingObject, boolean conditionSatisfied, String messageTemplate, Object... args) {
+        this(correspondingObject, conditionSatisfied, new FormattedMessage(messageTemplate, args));
+        checkMessageNotEmptyForViolation(messageTemplate);
+    }
+
+    /**
+     * @param correspondingObject The object this event is about
+     * @param conditionSatisfied Whether the object satisfies the condition
+     * @param message Supplies the message via {@link HasDescription#getDescription()}, once the message is requested.
+     *                E.g. the corresponding object itself, if it describes the event
+     *                (like a {@link com.tngtech.archunit.core.domain.JavaAccess JavaAccess}).
+     *                The message may not be empty for a violation, which is checked once the message is requested.
+     */
+    public SimpleConditionEvent(Object correspondingObject, boolean conditionSatisfied, HasDescription message) {
         this.correspondingObject = correspondingObject;
         this.conditionSatisfied = conditionSatisfied;
-        this.message = message;
-        checkArgument(conditionSatisfied || !this.message.trim().isEmpty(), "Message may not be empty for violation");
+        this.message = checkNotNull(message);
+    }
+
+    private void checkMessageNotEmptyForViolation(String message) {
+        checkArgument(conditionSatisfied || !message.trim().isEmpty(), "Message may not be empty for violation");
+    }
+
+    private String getMessage() {
+        String result = message.getDescription();
+        checkMessageNotEmptyForViolation(result);
+        return result;
     }
 
     @Override
@@ -50,12 +93,12 @@ public final class SimpleConditionEvent implements ConditionEvent {
 
     @Override
     public List<String> getDescriptionLines() {
-        return singletonList(message);
+        return singletonList(getMessage());
     }
 
     @Override
     public void handleWith(Handler handler) {
-        handler.handle(Collections.singleton(correspondingObject), message);
+        handler.handle(Collections.singleton(correspondingObject), getMessage());
     }
 
     @Override
@@ -63,7 +106,7 @@ public final class SimpleConditionEvent implements ConditionEvent {
         return toStringHelper(this)
                 .add("correspondingObject", correspondingObject)
                 .add("conditionSatisfied", conditionSatisfied)
-                .add("message", message)
+                .add("message", message.getDescription())
                 .toString();
     }
 
@@ -71,7 +114,49 @@ public final class SimpleConditionEvent implements ConditionEvent {
         return new SimpleConditionEvent(correspondingObject, false, message);
     }
 
+    /**
+     * @see #SimpleConditionEvent(Object, boolean, String, Object...)
+     */
+    public static ConditionEvent violated(Object correspondingObject, String messageTemplate, Object... args) {
+        return new SimpleConditionEvent(correspondingObject, false, messageTemplate, args);
+    }
+
     public static ConditionEvent satisfied(Object correspondingObject, String message) {
         return new SimpleConditionEvent(correspondingObject, true, message);
     }
+
+    /**
+     * @see #SimpleConditionEvent(Object, boolean, String, Object...)
+     */
+    public static ConditionEvent satisfied(Object correspondingObject, String messageTemplate, Object... args) {
+        return new SimpleConditionEvent(correspondingObject, true, messageTemplate, args);
+    }
+
+    private static class FixedMessage implements HasDescription {
+        private final String message;
+
+        FixedMessage(String message) {
+            this.message = checkNotNull(message);
+        }
+
+        @Override
+        public String getDescription() {
+            return message;
+        }
+    }
+
+    private static class FormattedMessage implements HasDescription {
+        private final String template;
+        private final Object[] args;
+
+        FormattedMessage(String template, Object[] args) {
+            this.template = checkNotNull(template);
+            this.args = args;
+        }
+
+        @Override
+        public String getDescription() {
+            return String.format(template, args);
+        }
+    }
 }
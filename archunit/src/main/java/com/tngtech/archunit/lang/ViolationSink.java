@@ -0,0 +1,37 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.util.Collection;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
+
+/**
+ * Receives the violations of rules while the rules are evaluated, instead of collecting them into a {@link FailureReport}
+ * (compare {@link RuleSet#evaluate(JavaClasses, ViolationSink)}). Like a {@link ViolationHandler}, a sink is passed
+ * the violating objects together with the message, but in addition it is told which rule has been violated.
+ * <br><br>
+ * Some sinks writing violations to files can be found in {@link ViolationSinks}.
+ */
+@PublicAPI(usage = INHERITANCE, state = EXPERIMENTAL)
+public interface ViolationSink {
+    void handle(HasDescription rule, Collection<?> violatingObjects, String message);
+}
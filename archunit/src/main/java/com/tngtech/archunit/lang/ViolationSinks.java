@@ -0,0 +1,439 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.lang;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.base.ArchUnitException.ViolationSinkException;
+import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.core.domain.JavaClasses;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.io.Files.createParentDirs;
+import static com.tngtech.archunit.PublicAPI.State.EXPERIMENTAL;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Offers {@link ViolationSink ViolationSinks} to write the violations found by
+ * {@link RuleSet#evaluate(JavaClasses, ViolationSink)} to files, e.g.
+ * <br><br>
+ * <pre><code>
+ * try (ClosableSink sink = ViolationSinks.sorted(ViolationSinks.plainTextFile(new File("violations.txt")))) {
+ *     RuleSet.of(rules).evaluate(classes, sink);
+ * }
+ * </code></pre>
+ * Failures to write violations are reported as {@link ViolationSinkException}.
+ */
+@PublicAPI(usage = ACCESS, state = EXPERIMENTAL)
+public final class ViolationSinks {
+    private static final int DEFAULT_MAX_VIOLATIONS_IN_MEMORY = 100_000;
+
+    private ViolationSinks() {
+    }
+
+    /**
+     * Writes violations as plain text, i.e. for each violated rule a line
+     * <pre><code>
+     * Rule '${rule.description}' was violated:
+     * </code></pre>
+     * followed by the messages of the violations of this rule.
+     * A new header is written each time the violated rule changes.
+     *
+     * @param file The file to write violations to, will be overwritten if it exists
+     * @return A sink writing violations to the file as plain text
+     */
+    @PublicAPI(usage = ACCESS)
+    public static ClosableSink plainTextFile(File file) {
+        return new PlainTextSink(file);
+    }
+
+    /**
+     * Writes each violation as a single line containing a JSON object like
+     * <pre><code>
+     * {"rule":"${rule.description}","message":"${message}"}
+     * </code></pre>
+     *
+     * @param file The file to write violations to, will be overwritten if it exists
+     * @return A sink writing violations to the file as line delimited JSON
+     */
+    @PublicAPI(usage = ACCESS)
+    public static ClosableSink jsonLinesFile(File file) {
+        return new JsonLinesSink(file);
+    }
+
+    /**
+     * @see #sorted(ClosableSink, int)
+     */
+    @PublicAPI(usage = ACCESS)
+    public static ClosableSink sorted(ClosableSink sink) {
+        return sorted(sink, DEFAULT_MAX_VIOLATIONS_IN_MEMORY);
+    }
+
+    /**
+     * Passes violations to the supplied sink in the same order a {@link FailureReport} lists them, i.e. grouped by rule
+     * in the order the rules were first violated, and sorted and deduplicated by message within each rule.
+     * All violations are passed on once this sink is closed, at which point the supplied sink is closed as well.
+     * <br><br>
+     * To keep the needed memory bounded, at most {@code maxViolationsInMemory} violations are held in memory.
+     * Further violations are sorted in chunks of this size, which are written to temporary files and merged
+     * in the end (i.e. an external merge sort). Thus the violating objects cannot be passed on,
+     * the supplied sink will only receive the rule and the message of each violation.
+     *
+     * @param sink The sink to pass the sorted violations to
+     * @param maxViolationsInMemory The maximal number of violations to hold in memory
+     * @return A sink passing sorted violations to the supplied sink
+     */
+    @PublicAPI(usage = ACCESS)
+    public static ClosableSink sorted(ClosableSink sink, int maxViolationsInMemory) {
+        checkArgument(maxViolationsInMemory > 0, "Max violations in memory must be positive, but was %s", maxViolationsInMemory);
+        return new SortingSink(sink, maxViolationsInMemory);
+    }
+
+    /**
+     * A {@link ViolationSink} that needs to be closed once all violations have been passed
+     * (e.g. to release the file it writes to).
+     */
+    @PublicAPI(usage = INHERITANCE, state = EXPERIMENTAL)
+    public interface ClosableSink extends ViolationSink, Closeable {
+        /**
+         * @throws ViolationSinkException if the violations could not be written
+         */
+        @Override
+        void close();
+    }
+
+    private abstract static class FileSink implements ClosableSink {
+        private final File file;
+        private final Writer writer;
+
+        FileSink(File file) {
+            this.file = file;
+            try {
+                createParentDirs(file);
+                writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), UTF_8));
+            } catch (IOException e) {
+                throw new ViolationSinkException("Could not open " + file.getAbsolutePath(), e);
+            }
+        }
+
+        @Override
+        public void handle(HasDescription rule, Collection<?> violatingObjects, String message) {
+            try {
+                write(rule, message, writer);
+            } catch (IOException e) {
+                throw new ViolationSinkException("Could not write violation to " + file.getAbsolutePath(), e);
+            }
+        }
+
+        abstract void write(HasDescription rule, String message, Writer writer) throws IOException;
+
+        @Override
+        public void close() {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                throw new ViolationSinkException("Could not write violations to " + file.getAbsolutePath(), e);
+            }
+        }
+    }
+
+    private static class PlainTextSink extends FileSink {
+        private HasDescription lastRule;
+
+        PlainTextSink(File file) {
+            super(file);
+        }
+
+        @Override
+        void write(HasDescription rule, String message, Writer writer) throws IOException {
+            if (rule != lastRule) {
+                if (lastRule != null) {
+                    writer.write(System.lineSeparator());
+                }
+                writer.write(String.format("Rule '%s' was violated:%n", rule.getDescription()));
+                lastRule = rule;
+            }
+            writer.write(message);
+            writer.write(System.lineSeparator());
+        }
+    }
+
+    private static class JsonLinesSink extends FileSink {
+        JsonLinesSink(File file) {
+            super(file);
+        }
+
+        @Override
+        void write(HasDescription rule, String message, Writer writer) throws IOException {
+            writer.write("{\"rule\":");
+            writeJsonString(rule.getDescription(), writer);
+            writer.write(",\"message\":");
+            writeJsonString(message, writer);
+            writer.write("}\n");
+        }
+
+        private static void writeJsonString(String string, Writer writer) throws IOException {
+            writer.write('"');
+            for (int i = 0; i < string.length(); i++) {
+                char c = string.charAt(i);
+                switch (c) {
+                    case '"':
+                        writer.write("\\\"");
+                        break;
+                    case '\\':
+                        writer.write("\\\\");
+                        break;
+                    case '\n':
+                        writer.write("\\n");
+                        break;
+                    case '\r':
+                        writer.write("\\r");
+                        break;
+                    case '\t':
+                        writer.write("\\t");
+                        break;
+                    default:
+                        if (c < ' ') {
+                            writer.write(String.format("\\u%04x", (int) c));
+                        } else {
+                            writer.write(c);
+                        }
+                }
+            }
+            writer.write('"');
+        }
+    }
+
+    private static class SortingSink implements ClosableSink {
+        private final ClosableSink sink;
+        private final int maxViolationsInMemory;
+        private final Map<HasDescription, Integer> ruleIndexes = new IdentityHashMap<>();
+        private final List<HasDescription> rules = new ArrayList<>();
+        private final List<Violation> violationsInMemory = new ArrayList<>();
+        private final List<File> sortedChunks = new ArrayList<>();
+
+        SortingSink(ClosableSink sink, int maxViolationsInMemory) {
+            this.sink = sink;
+            this.maxViolationsInMemory = maxViolationsInMemory;
+        }
+
+        @Override
+        public void handle(HasDescription rule, Collection<?> violatingObjects, String message) {
+            violationsInMemory.add(new Violation(indexOf(rule), message));
+            if (violationsInMemory.size() >= maxViolationsInMemory) {
+                writeSortedChunk();
+            }
+        }
+
+        private int indexOf(HasDescription rule) {
+            Integer index = ruleIndexes.get(rule);
+            if (index == null) {
+                index = rules.size();
+                ruleIndexes.put(rule, index);
+                rules.add(rule);
+            }
+            return index;
+        }
+
+        private void writeSortedChunk() {
+            Collections.sort(violationsInMemory);
+            try {
+                File chunk = File.createTempFile("archunit-violations", ".chunk");
+                chunk.deleteOnExit();
+                sortedChunks.add(chunk);
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(chunk)))) {
+                    for (Violation violation : violationsInMemory) {
+                        violation.writeTo(out);
+                    }
+                }
+            } catch (IOException e) {
+                throw new ViolationSinkException("Could not write sorted violations to temporary file", e);
+            }
+            violationsInMemory.clear();
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (sortedChunks.isEmpty()) {
+                    Collections.sort(violationsInMemory);
+                    passOn(violationsInMemory);
+                } else {
+                    if (!violationsInMemory.isEmpty()) {
+                        writeSortedChunk();
+                    }
+                    passOnMergedChunks();
+                }
+            } finally {
+                for (File chunk : sortedChunks) {
+                    chunk.delete();
+                }
+                sink.close();
+            }
+        }
+
+        private void passOn(List<Violation> sortedViolations) {
+            Violation last = null;
+            for (Violation violation : sortedViolations) {
+                last = passOnIfNew(violation, last);
+            }
+        }
+
+        private void passOnMergedChunks() {
+            List<ChunkReader> readers = new ArrayList<>();
+            try {
+                PriorityQueue<ChunkReader> queue = new PriorityQueue<>();
+                for (File chunk : sortedChunks) {
+                    ChunkReader reader = new ChunkReader(chunk);
+                    readers.add(reader);
+                    if (reader.hasNext()) {
+                        queue.add(reader);
+                    }
+                }
+                Violation last = null;
+                while (!queue.isEmpty()) {
+                    ChunkReader reader = queue.poll();
+                    last = passOnIfNew(reader.next(), last);
+                    if (reader.hasNext()) {
+                        queue.add(reader);
+                    }
+                }
+            } catch (IOException e) {
+                throw new ViolationSinkException("Could not read sorted violations from temporary file", e);
+            } finally {
+                for (ChunkReader reader : readers) {
+                    reader.close();
+                }
+            }
+        }
+
+        private Violation passOnIfNew(Violation violation, Violation last) {
+            if (!violation.equals(last)) {
+                sink.handle(rules.get(violation.ruleIndex), Collections.emptyList(), violation.message);
+            }
+            return violation;
+        }
+    }
+
+    private static class Violation implements Comparable<Violation> {
+        private final int ruleIndex;
+        private final String message;
+
+        Violation(int ruleIndex, String message) {
+            this.ruleIndex = ruleIndex;
+            this.message = message;
+        }
+
+        void writeTo(DataOutputStream out) throws IOException {
+            byte[] messageBytes = message.getBytes(UTF_8);
+            out.writeInt(ruleIndex);
+            out.writeInt(messageBytes.length);
+            out.write(messageBytes);
+        }
+
+        static Violation readFrom(DataInputStream in) throws IOException {
+            int ruleIndex = in.readInt();
+            byte[] messageBytes = new byte[in.readInt()];
+            in.readFully(messageBytes);
+            return new Violation(ruleIndex, new String(messageBytes, UTF_8));
+        }
+
+        @Override
+        public int compareTo(Violation other) {
+            int result = Integer.compare(ruleIndex, other.ruleIndex);
+            return result != 0 ? result : message.compareTo(other.message);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * ruleIndex + message.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Violation other = (Violation) obj;
+            return ruleIndex == other.ruleIndex && message.equals(other.message);
+        }
+    }
+
+    private static class ChunkReader implements Comparable<ChunkReader> {
+        private final DataInputStream in;
+        private Violation next;
+
+        ChunkReader(File chunk) throws IOException {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(chunk)));
+            next = readNext();
+        }
+
+        boolean hasNext() {
+            return next != null;
+        }
+
+        Violation next() throws IOException {
+            Violation result = next;
+            next = readNext();
+            return result;
+        }
+
+        private Violation readNext() throws IOException {
+            try {
+                return Violation.readFrom(in);
+            } catch (EOFException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public int compareTo(ChunkReader other) {
+            return next.compareTo(other.next);
+        }
+
+        void close() {
+            try {
+                in.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
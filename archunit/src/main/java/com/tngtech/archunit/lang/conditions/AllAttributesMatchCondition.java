@@ -38,6 +38,11 @@ abstract class AllAttributesMatchCondition<T> extends ArchCondition<JavaClass> {
 
     abstract Collection<T> relevantAttributes(JavaClass item);
 
+    @Override
+    public boolean supportsConcurrentCheck() {
+        return condition.supportsConcurrentCheck();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
@@ -993,8 +993,33 @@ public final class ArchConditions {
         return new DoesConditionByPredicate<>(declareThrowableOfType);
     }
 
-    private static <T extends HasDescription & HasSourceCodeLocation> String createMessage(T object, String message) {
-        return object.getDescription() + " " + message + " in " + object.getSourceCodeLocation();
+    private static <T extends HasDescription & HasSourceCodeLocation> HasDescription createMessage(
+            T object, String messageTemplate, Object... args) {
+        return new ObjectMessage(object, messageTemplate, args);
+    }
+
+    /**
+     * Describes an event about an object as "{object} {message} in {source code location}". The message is only
+     * rendered once it is requested, since most events of a rule are satisfied and never reported.
+     */
+    private static class ObjectMessage implements HasDescription {
+        private final HasDescription object;
+        private final HasSourceCodeLocation location;
+        private final String messageTemplate;
+        private final Object[] args;
+
+        <T extends HasDescription & HasSourceCodeLocation> ObjectMessage(T object, String messageTemplate, Object[] args) {
+            this.object = object;
+            this.location = object;
+            this.messageTemplate = messageTemplate;
+            this.args = args;
+        }
+
+        @Override
+        public String getDescription() {
+            String message = args.length == 0 ? messageTemplate : String.format(messageTemplate, args);
+            return object.getDescription() + " " + message + " in " + location.getSourceCodeLocation();
+        }
     }
 
     private static final IsConditionByPredicate<JavaClass> BE_TOP_LEVEL_CLASSES =
@@ -1028,35 +1053,48 @@ public final class ArchConditions {
 
     private static class ModifierCondition<T extends HasModifiers & HasDescription & HasSourceCodeLocation> extends ArchCondition<T> {
         private final JavaModifier modifier;
+        private final String modifierName;
 
         ModifierCondition(JavaModifier modifier) {
             super("modifier " + modifier);
             this.modifier = modifier;
+            this.modifierName = modifier.toString().toLowerCase();
+        }
+
+        @Override
+        public boolean supportsConcurrentCheck() {
+            return true;
         }
 
         @Override
         public void check(T hasModifiers, ConditionEvents events) {
             boolean satisfied = hasModifiers.getModifiers().contains(modifier);
-            String infix = (satisfied ? "is " : "is not ") + modifier.toString().toLowerCase();
-            events.add(new SimpleConditionEvent(hasModifiers, satisfied, createMessage(hasModifiers, infix)));
+            HasDescription message = createMessage(hasModifiers, "%s %s", satisfied ? "is" : "is not", modifierName);
+            events.add(new SimpleConditionEvent(hasModifiers, satisfied, message));
         }
     }
 
     private static class ImplementsCondition extends ArchCondition<JavaClass> {
         private final DescribedPredicate<? super JavaClass> implement;
+        private final String satisfiedDescription;
+        private final String violatedDescription;
 
         ImplementsCondition(DescribedPredicate<? super JavaClass> implement) {
             super(implement.getDescription());
             this.implement = implement;
+            this.satisfiedDescription = implement.getDescription().replace("implement", "implements");
+            this.violatedDescription = implement.getDescription().replace("implement", "does not implement");
+        }
+
+        @Override
+        public boolean supportsConcurrentCheck() {
+            return true;
         }
 
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean satisfied = implement.apply(javaClass);
-            String description = satisfied
-                    ? implement.getDescription().replace("implement", "implements")
-                    : implement.getDescription().replace("implement", "does not implement");
-            String message = createMessage(javaClass, description);
+            HasDescription message = createMessage(javaClass, "%s", satisfied ? satisfiedDescription : violatedDescription);
             events.add(new SimpleConditionEvent(javaClass, satisfied, message));
         }
     }
@@ -1068,11 +1106,15 @@ public final class ArchConditions {
             super("be interfaces");
         }
 
+        @Override
+        public boolean supportsConcurrentCheck() {
+            return true;
+        }
+
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean isInterface = javaClass.isInterface();
-            String message = createMessage(javaClass,
-                    (isInterface ? "is an" : "is not an") + " interface");
+            HasDescription message = createMessage(javaClass, isInterface ? "is an interface" : "is not an interface");
             events.add(new SimpleConditionEvent(javaClass, isInterface, message));
         }
     }
@@ -1084,11 +1126,15 @@ public final class ArchConditions {
             super("be enums");
         }
 
+        @Override
+        public boolean supportsConcurrentCheck() {
+            return true;
+        }
+
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean isEnum = javaClass.isEnum();
-            String message = createMessage(javaClass,
-                    (isEnum ? "is an" : "is not an") + " enum");
+            HasDescription message = createMessage(javaClass, isEnum ? "is an enum" : "is not an enum");
             events.add(new SimpleConditionEvent(javaClass, isEnum, message));
         }
     }
@@ -1129,11 +1175,15 @@ public final class ArchConditions {
             this.className = className;
         }
 
+        @Override
+        public boolean supportsConcurrentCheck() {
+            return true;
+        }
+
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean itemEquivalentToClazz = javaClass.getName().equals(className);
-            String message = createMessage(javaClass,
-                    (itemEquivalentToClazz ? "is " : "is not ") + className);
+            HasDescription message = createMessage(javaClass, "%s %s", itemEquivalentToClazz ? "is" : "is not", className);
             events.add(new SimpleConditionEvent(javaClass, itemEquivalentToClazz, message));
         }
     }
@@ -1148,11 +1198,15 @@ public final class ArchConditions {
             this.name = name;
         }
 
+        @Override
+        public boolean supportsConcurrentCheck() {
+            return true;
+        }
+
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean satisfied = haveSimpleName.apply(javaClass);
-            String message = createMessage(javaClass,
-                    String.format("%s simple name '%s'", satisfied ? "has" : "does not have", name));
+            HasDescription message = createMessage(javaClass, "%s simple name '%s'", satisfied ? "has" : "does not have", name);
             events.add(new SimpleConditionEvent(javaClass, satisfied, message));
         }
     }
@@ -1167,15 +1221,19 @@ public final class ArchConditions {
             this.prefix = prefix;
         }
 
+        @Override
+        public boolean supportsConcurrentCheck() {
+            return true;
+        }
+
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean satisfied = predicate.apply(javaClass);
-            String message = String.format("simple name of %s %s with '%s' in %s",
+            events.add(new SimpleConditionEvent(javaClass, satisfied, "simple name of %s %s with '%s' in %s",
                     javaClass.getName(),
                     satisfied ? "starts" : "does not start",
                     prefix,
-                    javaClass.getSourceCodeLocation());
-            events.add(new SimpleConditionEvent(javaClass, satisfied, message));
+                    javaClass.getSourceCodeLocation()));
         }
     }
 
@@ -1189,15 +1247,19 @@ public final class ArchConditions {
             this.infix = infix;
         }
 
+        @Override
+        public boolean supportsConcurrentCheck() {
+            return true;
+        }
+
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean satisfied = predicate.apply(javaClass);
-            String message = String.format("simple name of %s %s '%s' in %s",
+            events.add(new SimpleConditionEvent(javaClass, satisfied, "simple name of %s %s '%s' in %s",
                     javaClass.getName(),
                     satisfied ? "contains" : "does not contain",
                     infix,
-                    javaClass.getSourceCodeLocation());
-            events.add(new SimpleConditionEvent(javaClass, satisfied, message));
+                    javaClass.getSourceCodeLocation()));
         }
     }
 
@@ -1211,15 +1273,19 @@ public final class ArchConditions {
             this.suffix = suffix;
         }
 
+        @Override
+        public boolean supportsConcurrentCheck() {
+            return true;
+        }
+
         @Override
         public void check(JavaClass javaClass, ConditionEvents events) {
             boolean satisfied = predicate.apply(javaClass);
-            String message = String.format("simple name of %s %s with '%s' in %s",
+            events.add(new SimpleConditionEvent(javaClass, satisfied, "simple name of %s %s with '%s' in %s",
                     javaClass.getName(),
                     satisfied ? "ends" : "does not end",
                     suffix,
-                    javaClass.getSourceCodeLocation());
-            events.add(new SimpleConditionEvent(javaClass, satisfied, message));
+                    javaClass.getSourceCodeLocation()));
         }
     }
 
@@ -1233,11 +1299,15 @@ public final class ArchConditions {
             this.regex = regex;
         }
 
+        @Override
+        public boolean supportsConcurrentCheck() {
+            return true;
+        }
+
         @Override
         public void check(T item, ConditionEvents events) {
             boolean satisfied = matcher.apply(item);
-            String message = createMessage(item,
-                    String.format("%s '%s'", satisfied ? "matches" : "does not match", regex));
+            HasDescription message = createMessage(item, "%s '%s'", satisfied ? "matches" : "does not match", regex);
             events.add(new SimpleConditionEvent(item, satisfied, message));
         }
     }
@@ -1251,11 +1321,15 @@ public final class ArchConditions {
             this.predicate = predicate;
         }
 
+        @Override
+        public boolean supportsConcurrentCheck() {
+            return true;
+        }
+
         @Override
         public void check(T item, ConditionEvents events) {
             boolean satisfied = predicate.apply(item);
-            String message = createMessage(item,
-                    (satisfied ? "does " : "does not ") + predicate.getDescription());
+            HasDescription message = createMessage(item, "%s %s", satisfied ? "does" : "does not", predicate.getDescription());
             events.add(new SimpleConditionEvent(item, satisfied, message));
         }
     }
@@ -1274,11 +1348,15 @@ public final class ArchConditions {
             this.predicate = predicate.forSubType();
         }
 
+        @Override
+        public boolean supportsConcurrentCheck() {
+            return true;
+        }
+
         @Override
         public void check(T member, ConditionEvents events) {
             boolean satisfied = predicate.apply(member);
-            String message = createMessage(member,
-                    (satisfied ? "is " : "is not ") + eventDescription);
+            HasDescription message = createMessage(member, "%s %s", satisfied ? "is" : "is not", eventDescription);
             events.add(new SimpleConditionEvent(member, satisfied, message));
         }
     }
@@ -1291,10 +1369,15 @@ public final class ArchConditions {
             this.rawType = rawType.forSubType();
         }
 
+        @Override
+        public boolean supportsConcurrentCheck() {
+            return true;
+        }
+
         @Override
         public void check(T object, ConditionEvents events) {
             boolean satisfied = rawType.apply(object);
-            String message = createMessage(object, (satisfied ? "has " : "does not have ") + rawType.getDescription());
+            HasDescription message = createMessage(object, "%s %s", satisfied ? "has" : "does not have", rawType.getDescription());
             events.add(new SimpleConditionEvent(object, satisfied, message));
         }
     }
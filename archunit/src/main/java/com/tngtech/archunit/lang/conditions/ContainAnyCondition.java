@@ -44,6 +44,11 @@ class ContainAnyCondition<T> extends ArchCondition<Collection<? extends T>> {
         }
     }
 
+    @Override
+    public boolean supportsConcurrentCheck() {
+        return condition.supportsConcurrentCheck();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
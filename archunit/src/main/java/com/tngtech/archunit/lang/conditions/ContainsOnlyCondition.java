@@ -43,6 +43,11 @@ class ContainsOnlyCondition<T> extends ArchCondition<Collection<? extends T>> {
         }
     }
 
+    @Override
+    public boolean supportsConcurrentCheck() {
+        return condition.supportsConcurrentCheck();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
@@ -29,8 +29,13 @@ class DependencyCondition extends ArchCondition<Dependency> {
         this.conditionPredicate = conditionPredicate;
     }
 
+    @Override
+    public boolean supportsConcurrentCheck() {
+        return true;
+    }
+
     @Override
     public void check(Dependency item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, conditionPredicate.apply(item), item.getDescription()));
+        events.add(new SimpleConditionEvent(item, conditionPredicate.apply(item), item));
     }
 }
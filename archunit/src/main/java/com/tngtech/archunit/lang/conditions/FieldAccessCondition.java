@@ -34,9 +34,14 @@ class FieldAccessCondition extends ArchCondition<JavaFieldAccess> {
         this.fieldAccessIdentifier = fieldAccessIdentifier;
     }
 
+    @Override
+    public boolean supportsConcurrentCheck() {
+        return true;
+    }
+
     @Override
     public void check(JavaFieldAccess item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, fieldAccessIdentifier.apply(item), item.getDescription()));
+        events.add(new SimpleConditionEvent(item, fieldAccessIdentifier.apply(item), item));
     }
 
     static class FieldGetAccessCondition extends FieldAccessCondition {
@@ -29,8 +29,13 @@ class JavaAccessCondition<T extends JavaAccess<?>> extends ArchCondition<T> {
         this.predicate = predicate;
     }
 
+    @Override
+    public boolean supportsConcurrentCheck() {
+        return true;
+    }
+
     @Override
     public void check(T item, ConditionEvents events) {
-        events.add(new SimpleConditionEvent(item, predicate.apply(item), item.getDescription()));
+        events.add(new SimpleConditionEvent(item, predicate.apply(item), item));
     }
 }
@@ -50,6 +50,11 @@ class NeverCondition<T> extends ArchCondition<T> {
         }
     }
 
+    @Override
+    public boolean supportsConcurrentCheck() {
+        return condition.supportsConcurrentCheck();
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "{condition=" + condition + "}";
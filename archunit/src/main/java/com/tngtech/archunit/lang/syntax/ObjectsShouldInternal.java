@@ -29,7 +29,7 @@ import com.tngtech.archunit.lang.Priority;
 
 import static com.google.common.base.Preconditions.checkState;
 
-class ObjectsShouldInternal<T> implements ArchRule {
+class ObjectsShouldInternal<T> implements ArchRule, ArchRule.Delegating {
     private final Supplier<ArchRule> finishedRule = Suppliers.memoize(new FinishedRule());
 
     final ConditionAggregator<T> conditionAggregator;
@@ -91,6 +91,11 @@ class ObjectsShouldInternal<T> implements ArchRule {
         return finishedRule.get().as(newDescription);
     }
 
+    @Override
+    public ArchRule getDelegate() {
+        return finishedRule.get();
+    }
+
     @Override
     public String toString() {
         return finishedRule.get().getDescription();
@@ -24,16 +24,12 @@ import com.tngtech.archunit.core.domain.JavaField;
 import com.tngtech.archunit.core.domain.JavaMember;
 import com.tngtech.archunit.core.domain.JavaMethod;
 import com.tngtech.archunit.lang.AbstractClassesTransformer;
+import com.tngtech.archunit.lang.ClassesIdentityTransformer;
 import com.tngtech.archunit.lang.ClassesTransformer;
 
 class Transformers {
     static ClassesTransformer<JavaClass> classes() {
-        return new AbstractClassesTransformer<JavaClass>("classes") {
-            @Override
-            public Iterable<JavaClass> doTransform(JavaClasses collection) {
-                return collection;
-            }
-        };
+        return new ClassesIdentityTransformer();
     }
 
     static ClassesTransformer<JavaMember> members() {
@@ -22,9 +22,12 @@ final class CycleConfiguration {
     private static final String MAX_NUMBER_OF_CYCLES_TO_DETECT_DEFAULT_VALUE = "100";
     static final String MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME = "cycles.maxNumberOfDependenciesPerEdge";
     private static final String MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_DEFAULT_VALUE = "20";
+    static final String REPORT_MODE_PROPERTY_NAME = "cycles.reportMode";
+    private static final String REPORT_MODE_DEFAULT_VALUE = ReportMode.ELEMENTARY_CYCLES.name();
 
     private final int maxCyclesToDetect;
     private final int maxDependenciesPerEdge;
+    private final ReportMode reportMode;
 
     CycleConfiguration() {
         String configuredMaxCyclesToDetect = ArchConfiguration.get()
@@ -35,6 +38,10 @@ final class CycleConfiguration {
                 .getPropertyOrDefault(MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME,
                         MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_DEFAULT_VALUE);
         maxDependenciesPerEdge = Integer.parseInt(configuredMaxDependenciesPerEdge);
+
+        String configuredReportMode = ArchConfiguration.get()
+                .getPropertyOrDefault(REPORT_MODE_PROPERTY_NAME, REPORT_MODE_DEFAULT_VALUE);
+        reportMode = ReportMode.valueOf(configuredReportMode.trim().toUpperCase());
     }
 
     int getMaxNumberOfCyclesToDetect() {
@@ -44,4 +51,24 @@ final class CycleConfiguration {
     int getMaxNumberOfDependenciesToShowPerEdge() {
         return maxDependenciesPerEdge;
     }
+
+    ReportMode getReportMode() {
+        return reportMode;
+    }
+
+    enum ReportMode {
+        /**
+         * Reports every elementary cycle (up to the configured maximum number of cycles to detect).
+         * The number of elementary cycles can grow exponentially with the size of the graph.
+         */
+        ELEMENTARY_CYCLES,
+        /**
+         * Reports each strongly connected component with more than one node (i.e. each set of mutually dependent nodes)
+         * once, together with some representative cycles covering all nodes of the component.
+         * Finding the components takes effort linear in the size of the graph. Finding the representative cycles
+         * takes one breadth first search through the component per reported cycle, and the number of reported cycles
+         * per component is limited by the configured maximum number of cycles to detect.
+         */
+        STRONGLY_CONNECTED_COMPONENTS
+    }
 }
@@ -15,7 +15,9 @@
  */
 package com.tngtech.archunit.library.dependencies;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -51,15 +53,52 @@ class Graph<T, ATTACHMENT> {
 
     Cycles<T, ATTACHMENT> findCycles() {
         Map<Integer, Map<Integer, Edge<T, ATTACHMENT>>> edgesByTargetIndexByOriginIndex = indexEdgesByTargetIndexByOriginIndex(nodes, outgoingEdges);
-        JohnsonCycleFinder johnsonCycleFinder = new JohnsonCycleFinder(createPrimitiveGraph());
+        ParallelJohnsonCycleFinder cycleFinder = new ParallelJohnsonCycleFinder(createPrimitiveGraph());
         ImmutableList.Builder<Cycle<T, ATTACHMENT>> result = ImmutableList.builder();
-        JohnsonCycleFinder.Result cycles = johnsonCycleFinder.findCycles();
+        JohnsonCycleFinder.Result cycles = cycleFinder.findCycles();
         for (int[] rawCycle : cycles) {
             result.add(mapToCycle(edgesByTargetIndexByOriginIndex, rawCycle));
         }
         return new Cycles<>(result.build(), cycles.maxNumberOfCyclesReached());
     }
 
+    /**
+     * Finds all strongly connected components of more than one node, i.e. all maximal sets of nodes
+     * that are mutually reachable, and a couple of representative cycles for each component (compare
+     * {@link RepresentativeCycleFinder}). Finding the components is linear in the size of the graph. Each representative
+     * cycle takes another search linear in the size of its component, so the effort is bounded by
+     * {@code maxNumberOfCyclesPerComponent} times the size of the graph. In contrast to {@link #findCycles()} the effort
+     * does not depend on how many elementary cycles the graph contains.
+     */
+    List<CyclicComponent<T, ATTACHMENT>> findCyclicComponents(int maxNumberOfCyclesPerComponent) {
+        Map<Integer, Map<Integer, Edge<T, ATTACHMENT>>> edgesByTargetIndexByOriginIndex = indexEdgesByTargetIndexByOriginIndex(nodes, outgoingEdges);
+        PrimitiveGraph primitiveGraph = createPrimitiveGraph();
+        List<T> nodesByIndex = getNodesByIndex();
+        RepresentativeCycleFinder cycleFinder = new RepresentativeCycleFinder(primitiveGraph);
+
+        ImmutableList.Builder<CyclicComponent<T, ATTACHMENT>> result = ImmutableList.builder();
+        for (int[] component : new TarjanComponentFinder(primitiveGraph).findAllNonTrivialStronglyConnectedComponents()) {
+            ImmutableList.Builder<T> componentNodes = ImmutableList.builder();
+            for (int nodeIndex : component) {
+                componentNodes.add(nodesByIndex.get(nodeIndex));
+            }
+            ImmutableList.Builder<Cycle<T, ATTACHMENT>> cycles = ImmutableList.builder();
+            for (int[] rawCycle : cycleFinder.findCyclesCovering(component, maxNumberOfCyclesPerComponent)) {
+                cycles.add(mapToCycle(edgesByTargetIndexByOriginIndex, rawCycle));
+            }
+            result.add(new CyclicComponent<>(componentNodes.build(), cycles.build()));
+        }
+        return result.build();
+    }
+
+    private List<T> getNodesByIndex() {
+        List<T> result = new ArrayList<>(Collections.<T>nCopies(nodes.size(), null));
+        for (Map.Entry<T, Integer> nodeToIndex : nodes.entrySet()) {
+            result.set(nodeToIndex.getValue(), nodeToIndex.getKey());
+        }
+        return result;
+    }
+
     private PrimitiveGraph createPrimitiveGraph() {
         int[][] edges = new int[nodes.size()][];
         for (Map.Entry<T, Integer> nodeToIndex : nodes.entrySet()) {
@@ -126,4 +165,30 @@ class Graph<T, ATTACHMENT> {
             return cycles;
         }
     }
+
+    static class CyclicComponent<T, ATTACHMENT> {
+        private final List<T> nodes;
+        private final List<Cycle<T, ATTACHMENT>> representativeCycles;
+
+        private CyclicComponent(List<T> nodes, List<Cycle<T, ATTACHMENT>> representativeCycles) {
+            this.nodes = nodes;
+            this.representativeCycles = representativeCycles;
+        }
+
+        List<T> getNodes() {
+            return nodes;
+        }
+
+        List<Cycle<T, ATTACHMENT>> getRepresentativeCycles() {
+            return representativeCycles;
+        }
+
+        @Override
+        public String toString() {
+            return "CyclicComponent{" +
+                    "nodes=" + nodes +
+                    ", representativeCycles=" + representativeCycles +
+                    '}';
+        }
+    }
 }
@@ -19,6 +19,8 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 
+import com.google.common.base.Function;
+import com.google.common.collect.Ordering;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -149,5 +151,35 @@ class JohnsonCycleFinder {
         public Iterator<int[]> iterator() {
             return cycles.iterator();
         }
+
+        /**
+         * Combines the results of searching disjoint strongly connected components of the same graph.
+         * Since a sequential search finds the cycles of all components in the order of the nodes they start with,
+         * ordering all cycles by their start node (keeping the order of cycles with the same start node)
+         * and applying the limit afterwards yields the same result as a sequential search of the whole graph.
+         * Note that this requires each partial result to be computed with the same limit.
+         */
+        static Result combine(List<Result> partialResults) {
+            List<int[]> allCycles = new ArrayList<>();
+            boolean anyMaxNumberOfCyclesReached = false;
+            for (Result partialResult : partialResults) {
+                allCycles.addAll(partialResult.cycles);
+                anyMaxNumberOfCyclesReached = anyMaxNumberOfCyclesReached || partialResult.maxNumberOfCyclesReached;
+            }
+
+            Result result = new Result();
+            for (int[] cycle : Ordering.natural().onResultOf(START_NODE).sortedCopy(allCycles)) {
+                result.add(cycle);
+            }
+            result.maxNumberOfCyclesReached = result.maxNumberOfCyclesReached || anyMaxNumberOfCyclesReached;
+            return result;
+        }
+
+        private static final Function<int[], Integer> START_NODE = new Function<int[], Integer>() {
+            @Override
+            public Integer apply(int[] cycle) {
+                return cycle[0];
+            }
+        };
     }
 }
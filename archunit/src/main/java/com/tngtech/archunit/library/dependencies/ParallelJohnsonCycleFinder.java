@@ -0,0 +1,132 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.tngtech.archunit.ArchConfiguration;
+
+import static com.google.common.base.Throwables.throwIfUnchecked;
+import static java.util.Arrays.binarySearch;
+import static java.util.Arrays.copyOf;
+
+/**
+ * Searches the cycles of a graph like {@link JohnsonCycleFinder}, but searches disjoint strongly connected components
+ * concurrently.
+ * <br><br>
+ * Each cycle lies completely within one strongly connected component of the whole graph. Furthermore, all strongly
+ * connected components {@link JohnsonCycleFinder} processes while searching the whole graph are contained in one of these
+ * components. Thus we can determine the components once (compare
+ * {@link TarjanComponentFinder#findAllNonTrivialStronglyConnectedComponents()}) and run an independent
+ * {@link JohnsonCycleFinder} with its own {@link JohnsonComponent} on the sub graph induced by each component.
+ * Since components are sorted in ascending order, the sub graph can use the position within the component as node index
+ * and still process the nodes in the same order as a search of the whole graph would.
+ * The partial results are then combined in a deterministic way (compare {@link JohnsonCycleFinder.Result#combine(List)}),
+ * i.e. the result is the same as the result of a sequential search.
+ */
+class ParallelJohnsonCycleFinder {
+    private static final ThreadFactory CYCLE_SEARCH_THREAD_FACTORY = new ThreadFactoryBuilder()
+            .setNameFormat("archunit-cycle-search-%d")
+            .setDaemon(true)
+            .build();
+
+    private final PrimitiveGraph primitiveGraph;
+
+    ParallelJohnsonCycleFinder(PrimitiveGraph primitiveGraph) {
+        this.primitiveGraph = primitiveGraph;
+    }
+
+    JohnsonCycleFinder.Result findCycles() {
+        int parallelism = ArchConfiguration.get().getEvaluationParallelism();
+        if (parallelism <= 1) {
+            return new JohnsonCycleFinder(primitiveGraph).findCycles();
+        }
+
+        List<int[]> components = new TarjanComponentFinder(primitiveGraph).findAllNonTrivialStronglyConnectedComponents();
+        if (components.size() <= 1) {
+            return new JohnsonCycleFinder(primitiveGraph).findCycles();
+        }
+        return findCyclesInParallel(components, Math.min(parallelism, components.size()));
+    }
+
+    private JohnsonCycleFinder.Result findCyclesInParallel(List<int[]> components, int parallelism) {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, CYCLE_SEARCH_THREAD_FACTORY);
+        try {
+            List<Future<JohnsonCycleFinder.Result>> partialResults = new ArrayList<>();
+            for (final int[] component : components) {
+                partialResults.add(executor.submit(new Callable<JohnsonCycleFinder.Result>() {
+                    @Override
+                    public JohnsonCycleFinder.Result call() {
+                        return findCyclesWithin(component);
+                    }
+                }));
+            }
+
+            List<JohnsonCycleFinder.Result> results = new ArrayList<>();
+            for (Future<JohnsonCycleFinder.Result> partialResult : partialResults) {
+                results.add(getUnchecked(partialResult));
+            }
+            return JohnsonCycleFinder.Result.combine(results);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private JohnsonCycleFinder.Result findCyclesWithin(int[] sortedComponent) {
+        JohnsonCycleFinder.Result result = new JohnsonCycleFinder(createSubGraph(sortedComponent)).findCycles();
+        for (int[] cycle : result) {
+            for (int i = 0; i < cycle.length; i++) {
+                cycle[i] = sortedComponent[cycle[i]];
+            }
+        }
+        return result;
+    }
+
+    private PrimitiveGraph createSubGraph(int[] sortedComponent) {
+        int[][] edges = new int[sortedComponent.length][];
+        int[] tempTargets = new int[sortedComponent.length];
+        for (int i = 0; i < sortedComponent.length; i++) {
+            int numberOfTargets = 0;
+            for (int target : primitiveGraph.getAdjacentNodesOf(sortedComponent[i])) {
+                int targetIndexInComponent = binarySearch(sortedComponent, target);
+                if (targetIndexInComponent >= 0) {
+                    tempTargets[numberOfTargets++] = targetIndexInComponent;
+                }
+            }
+            edges[i] = copyOf(tempTargets, numberOfTargets);
+        }
+        return new PrimitiveGraph(edges);
+    }
+
+    // Failures of a search should surface the same way they would for a sequential search
+    private static JohnsonCycleFinder.Result getUnchecked(Future<JohnsonCycleFinder.Result> partialResult) {
+        try {
+            return Futures.getUnchecked(partialResult);
+        } catch (UncheckedExecutionException e) {
+            throwIfUnchecked(e.getCause());
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.dependencies;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Finds a small set of cycles within a strongly connected component (as found by {@link TarjanComponentFinder}),
+ * such that every node of the component is part of at least one of these cycles.
+ * <br><br>
+ * We iterate the nodes of the component in ascending order and for each node not covered so far we look for the
+ * shortest cycle through this node by a breadth first search restricted to the component. Since every node of a
+ * strongly connected component of size greater than 1 lies on some cycle within this component, such a cycle always exists.
+ * Each search is linear in the size of the component, so the total effort is the number of returned cycles times
+ * the size of the component. In the worst case (e.g. a long chain of nodes with edges back and forth) this is
+ * quadratic in the size of the component, unless the number of cycles is limited. Still, in contrast to
+ * {@link JohnsonCycleFinder} the effort does not depend on the (potentially exponential) number of elementary cycles
+ * within the component.
+ * <br><br>
+ * Like {@link JohnsonCycleFinder} a found cycle is represented as an array of node indexes, where each node
+ * has an edge to the next one and the last node has an edge back to the first one.
+ */
+class RepresentativeCycleFinder {
+    private static final int UNSET = -1;
+
+    private final PrimitiveGraph graph;
+    private final boolean[] partOfComponent;
+    private final boolean[] covered;
+    private final int[] predecessors;
+    private final int[] queue;
+
+    RepresentativeCycleFinder(PrimitiveGraph graph) {
+        this.graph = graph;
+        partOfComponent = new boolean[graph.getSize()];
+        covered = new boolean[graph.getSize()];
+        predecessors = new int[graph.getSize()];
+        queue = new int[graph.getSize()];
+    }
+
+    /**
+     * @param component The node indexes of a strongly connected component of size greater than 1
+     * @param maxNumberOfCycles The maximum number of cycles to return, even if not all nodes are covered yet
+     * @return Cycles through the nodes of the component, each node being part of at least one cycle
+     * if {@code maxNumberOfCycles} is not reached
+     */
+    List<int[]> findCyclesCovering(int[] component, int maxNumberOfCycles) {
+        for (int node : component) {
+            partOfComponent[node] = true;
+            covered[node] = false;
+        }
+
+        List<int[]> result = new ArrayList<>();
+        for (int node : component) {
+            if (result.size() >= maxNumberOfCycles) {
+                break;
+            }
+            if (!covered[node]) {
+                int[] cycle = findShortestCycleThrough(node, component);
+                for (int cycleNode : cycle) {
+                    covered[cycleNode] = true;
+                }
+                result.add(cycle);
+            }
+        }
+
+        for (int node : component) {
+            partOfComponent[node] = false;
+        }
+        return result;
+    }
+
+    private int[] findShortestCycleThrough(int startNode, int[] component) {
+        for (int node : component) {
+            predecessors[node] = UNSET;
+        }
+
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = startNode;
+        predecessors[startNode] = startNode;
+        while (head < tail) {
+            int current = queue[head++];
+            for (int target : graph.getAdjacentNodesOf(current)) {
+                if (target == startNode) {
+                    return backtrackCycle(startNode, current);
+                }
+                if (partOfComponent[target] && predecessors[target] == UNSET) {
+                    predecessors[target] = current;
+                    queue[tail++] = target;
+                }
+            }
+        }
+        throw new IllegalStateException(String.format(
+                "Node %d is not part of a cycle within component %s", startNode, Arrays.toString(component)));
+    }
+
+    private int[] backtrackCycle(int startNode, int lastNode) {
+        int length = 1;
+        for (int node = lastNode; node != startNode; node = predecessors[node]) {
+            length++;
+        }
+
+        int[] cycle = new int[length];
+        int index = length - 1;
+        for (int node = lastNode; node != startNode; node = predecessors[node]) {
+            cycle[index--] = node;
+        }
+        cycle[0] = startNode;
+        return cycle;
+    }
+}
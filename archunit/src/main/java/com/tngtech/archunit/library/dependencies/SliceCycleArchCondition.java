@@ -17,6 +17,7 @@ package com.tngtech.archunit.library.dependencies;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -45,6 +46,7 @@ import org.slf4j.LoggerFactory;
 import static com.google.common.collect.MultimapBuilder.hashKeys;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.ReportMode.STRONGLY_CONNECTED_COMPONENTS;
 
 class SliceCycleArchCondition extends ArchCondition<Slice> {
     private static final Logger log = LoggerFactory.getLogger(SliceCycleArchCondition.class);
@@ -78,6 +80,15 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
 
     @Override
     public void finish(ConditionEvents events) {
+        if (eventRecorder.cycleConfiguration.getReportMode() == STRONGLY_CONNECTED_COMPONENTS) {
+            recordCyclicComponents(events);
+        } else {
+            recordCycles(events);
+        }
+        releaseResources();
+    }
+
+    private void recordCycles(ConditionEvents events) {
         Graph.Cycles<Slice, Dependency> cycles = graph.findCycles();
         if (cycles.maxNumberOfCyclesReached()) {
             events.setInformationAboutNumberOfViolations(String.format(
@@ -88,7 +99,13 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
         for (Cycle<Slice, Dependency> cycle : cycles) {
             eventRecorder.record(cycle, events);
         }
-        releaseResources();
+    }
+
+    private void recordCyclicComponents(ConditionEvents events) {
+        int maxNumberOfCyclesPerComponent = eventRecorder.cycleConfiguration.getMaxNumberOfCyclesToDetect();
+        for (Graph.CyclicComponent<Slice, Dependency> component : graph.findCyclicComponents(maxNumberOfCyclesPerComponent)) {
+            eventRecorder.record(component, events);
+        }
     }
 
     private void releaseResources() {
@@ -168,6 +185,7 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
 
     private static class EventRecorder {
         private static final String MESSAGE_TEMPLATE = "Cycle detected: %s%n%s";
+        private static final String COMPONENT_MESSAGE_TEMPLATE = "Cyclic dependencies between %d slices detected: %s%n%s";
         private static final Function<Edge<Slice, Dependency>, String> GET_FROM_NODE_DESCRIPTION = new Function<Edge<Slice, Dependency>, String>() {
             @Override
             public String apply(Edge<Slice, Dependency> input) {
@@ -187,13 +205,35 @@ class SliceCycleArchCondition extends ArchCondition<Slice> {
             events.add(newEvent(cycle));
         }
 
+        void record(Graph.CyclicComponent<Slice, Dependency> component, ConditionEvents events) {
+            events.add(newEvent(component));
+        }
+
         private ConditionEvent newEvent(Cycle<Slice, Dependency> cycle) {
+            return new SimpleConditionEvent(cycle, false, createCycleMessage(cycle));
+        }
+
+        private ConditionEvent newEvent(Graph.CyclicComponent<Slice, Dependency> component) {
+            List<String> sliceDescriptions = new ArrayList<>();
+            for (Slice slice : component.getNodes()) {
+                sliceDescriptions.add(slice.getDescription());
+            }
+            Collections.sort(sliceDescriptions);
+            List<String> cycleMessages = new ArrayList<>();
+            for (Cycle<Slice, Dependency> cycle : component.getRepresentativeCycles()) {
+                cycleMessages.add(createCycleMessage(cycle));
+            }
+            String message = String.format(COMPONENT_MESSAGE_TEMPLATE,
+                    sliceDescriptions.size(), Joiner.on(", ").join(sliceDescriptions),
+                    Joiner.on(System.lineSeparator()).join(cycleMessages));
+            return new SimpleConditionEvent(component, false, message);
+        }
+
+        private String createCycleMessage(Cycle<Slice, Dependency> cycle) {
             Map<String, Edge<Slice, Dependency>> descriptionsToEdges = sortEdgesByDescription(cycle);
             String description = createDescription(descriptionsToEdges.keySet());
             String details = createDetails(descriptionsToEdges);
-            return new SimpleConditionEvent(cycle,
-                    false,
-                    String.format(MESSAGE_TEMPLATE, description, details));
+            return String.format(MESSAGE_TEMPLATE, description, details);
         }
 
         private Map<String, Edge<Slice, Dependency>> sortEdgesByDescription(Cycle<Slice, Dependency> cycle) {
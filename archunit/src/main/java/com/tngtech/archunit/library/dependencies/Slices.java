@@ -22,9 +22,11 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import com.google.common.base.Joiner;
+import com.google.common.collect.ImmutableList;
 import com.tngtech.archunit.PublicAPI;
 import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -36,6 +38,7 @@ import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.properties.CanOverrideDescription;
 import com.tngtech.archunit.lang.ArchRule;
+import com.tngtech.archunit.lang.ClassesTransformationCache;
 import com.tngtech.archunit.lang.ClassesTransformer;
 import com.tngtech.archunit.lang.syntax.PredicateAggregator;
 
@@ -209,17 +212,29 @@ public final class Slices implements DescribedIterable<Slice>, CanOverrideDescri
         }
 
         public Slices transform(Iterable<Dependency> dependencies) {
-            return new Slices(transform(toTargetClasses(dependencies)));
+            return new Slices(transformUncached(toTargetClasses(dependencies)));
         }
 
         @Override
         public Slices transform(JavaClasses classes) {
-            Slices slices = createSlices(classes);
+            return finish(ClassesTransformationCache.get(classes, sliceAssignment, new ClassesTransformationCache.Transformation<Slices>() {
+                @Override
+                public Slices apply(JavaClasses classes) {
+                    return createSlices(classes);
+                }
+            }));
+        }
+
+        private Slices transformUncached(JavaClasses classes) {
+            return finish(createSlices(classes));
+        }
+
+        private Slices finish(Slices slices) {
             if (namingPattern.isPresent()) {
                 slices = slices.namingSlices(namingPattern.get());
             }
             if (predicate.isPresent()) {
-                slices = new Slices(Guava.Iterables.filter(slices, predicate.get()));
+                slices = new Slices(ImmutableList.copyOf(Guava.Iterables.filter(slices, predicate.get())));
             }
             return slices.as(getDescription());
         }
@@ -323,14 +338,15 @@ public final class Slices implements DescribedIterable<Slice>, CanOverrideDescri
 
     private static class PackageMatchingSliceIdentifier implements SliceAssignment {
         private final String packageIdentifier;
+        private final PackageMatcher matcher;
 
         private PackageMatchingSliceIdentifier(String packageIdentifier) {
             this.packageIdentifier = checkNotNull(packageIdentifier);
+            this.matcher = PackageMatcher.of(packageIdentifier);
         }
 
         @Override
         public SliceIdentifier getIdentifierOf(JavaClass javaClass) {
-            PackageMatcher matcher = PackageMatcher.of(packageIdentifier);
             Optional<List<String>> result = matcher.match(javaClass.getPackageName()).transform(TO_GROUPS);
             List<String> parts = result.or(Collections.<String>emptyList());
             return parts.isEmpty() ? SliceIdentifier.ignore() : SliceIdentifier.of(parts);
@@ -344,5 +360,22 @@ public final class Slices implements DescribedIterable<Slice>, CanOverrideDescri
         private static String slicesMatchingDescription(String packageIdentifier) {
             return "'" + packageIdentifier + "'";
         }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(packageIdentifier);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final PackageMatchingSliceIdentifier other = (PackageMatchingSliceIdentifier) obj;
+            return Objects.equals(this.packageIdentifier, other.packageIdentifier);
+        }
     }
 }
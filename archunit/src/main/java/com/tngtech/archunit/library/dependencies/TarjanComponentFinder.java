@@ -39,8 +39,10 @@ import static java.util.Arrays.sort;
  * <br><br>
  * Note that we keep track of all Tarjan specific state within {@link #graph}.
  * <br><br>
- * Also note that we always only need to find the strongly connected component containing the next unvisited node in ascending order.
- * Thus we do not need to find all strongly connected components, but only the next relevant one to apply Johnson's algorithm to.
+ * Also note that to apply Johnson's algorithm we always only need to find the strongly connected component containing the next
+ * unvisited node in ascending order. Thus we do not need to find all strongly connected components, but only the next relevant one.
+ * To merely report the cyclic parts of the graph, we can on the other hand find all components at once
+ * (compare {@link #findAllNonTrivialStronglyConnectedComponents()}).
  */
 class TarjanComponentFinder {
     static final int[] NO_COMPONENT_FOUND = new int[0];
@@ -69,16 +71,44 @@ class TarjanComponentFinder {
         return nextComponent;
     }
 
+    /**
+     * Returns all strongly connected components of the graph consisting of more than one node within a single
+     * depth first search, i.e. in time linear to the size of the graph.<br>
+     * The components are ordered by their lowest node index and each returned array of node indexes
+     * is sorted in ascending order.
+     */
+    List<int[]> findAllNonTrivialStronglyConnectedComponents() {
+        List<int[]> components = new ArrayList<>();
+        for (int j = 0; j < graph.getSize(); j++) {
+            if (graph.isVisitationIndexUnset(j)) {
+                components.addAll(findNonTrivialStronglyConnectedComponents(j, 0));
+            }
+        }
+        reset();
+
+        for (int[] component : components) {
+            sort(component);
+        }
+        return Ordering.natural().onResultOf(FIRST_OF_INT_ARRAY).sortedCopy(components);
+    }
+
+    // NOTE: A component found from some start node is not necessarily the component with the lowest node index,
+    //       since a start node with a higher index might reach a component, while a lower node not reachable from there
+    //       belongs to another component. However, once we reach start node j, all nodes below j have been visited,
+    //       so any component found thereafter can only contain nodes >= j.
     private int[] findNonTrivialLowestStronglyConnectedComponentInSubGraphInducedByLowerBound(int lowerIndexBound) {
-        for (int j = lowerIndexBound; j < graph.getSize(); j++) {
+        List<int[]> components = new ArrayList<>();
+        int lowestNodeOfComponents = Integer.MAX_VALUE;
+        for (int j = lowerIndexBound; j < graph.getSize() && lowestNodeOfComponents > j; j++) {
             if (graph.isVisitationIndexUnset(j)) {
-                List<int[]> components = findNonTrivialStronglyConnectedComponents(j, lowerIndexBound);
-                if (!components.isEmpty()) {
-                    return findComponentWithLowestNode(components);
+                List<int[]> newComponents = findNonTrivialStronglyConnectedComponents(j, lowerIndexBound);
+                for (int[] component : newComponents) {
+                    lowestNodeOfComponents = Math.min(lowestNodeOfComponents, Ints.min(component));
                 }
+                components.addAll(newComponents);
             }
         }
-        return NO_COMPONENT_FOUND;
+        return components.isEmpty() ? NO_COMPONENT_FOUND : findComponentWithLowestNode(components);
     }
 
     private List<int[]> findNonTrivialStronglyConnectedComponents(int nodeToVisit, int lowerIndexBound) {
@@ -129,6 +159,13 @@ class TarjanComponentFinder {
         return componentWithLowestNodeIndex;
     }
 
+    private static final Function<int[], Integer> FIRST_OF_INT_ARRAY = new Function<int[], Integer>() {
+        @Override
+        public Integer apply(int[] input) {
+            return input[0];
+        }
+    };
+
     private static final Function<int[], Integer> MINIMUM_OF_INT_ARRAY = new Function<int[], Integer>() {
         @Override
         public Integer apply(int[] input) {
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.freeze;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.common.io.ByteStreams;
+import com.tngtech.archunit.PublicAPI;
+import com.tngtech.archunit.lang.ArchRule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkState;
+import static com.tngtech.archunit.PublicAPI.Usage.ACCESS;
+import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.FREEZE_STORE_PROPERTY_NAME;
+import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.TextFileBasedViolationStore.ALLOW_STORE_CREATION_DEFAULT;
+import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.TextFileBasedViolationStore.ALLOW_STORE_CREATION_PROPERTY_NAME;
+import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.TextFileBasedViolationStore.ALLOW_STORE_UPDATE_DEFAULT;
+import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.TextFileBasedViolationStore.ALLOW_STORE_UPDATE_PROPERTY_NAME;
+import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.TextFileBasedViolationStore.STORED_RULES_FILE_NAME;
+import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.TextFileBasedViolationStore.STORE_PATH_DEFAULT;
+import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.TextFileBasedViolationStore.STORE_PATH_PROPERTY_NAME;
+import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.TextFileBasedViolationStore.fromText;
+import static com.tngtech.archunit.library.freeze.ViolationStoreFactory.TextFileBasedViolationStore.toText;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * A {@link ViolationStore} that can safely be shared by several processes at the same time, e.g. by test tasks running
+ * in parallel forks against the same store folder. It can be selected within
+ * {@value com.tngtech.archunit.ArchConfiguration#ARCHUNIT_PROPERTIES_RESOURCE_NAME} via
+ * <pre><code>freeze.store=com.tngtech.archunit.library.freeze.ConcurrentFileBasedViolationStore</code></pre>
+ * It uses the same layout and the same properties {@code freeze.store.default.path},
+ * {@code freeze.store.default.allowStoreCreation} and {@code freeze.store.default.allowStoreUpdate} as the default store.
+ * In contrast to the default store
+ * <ul>
+ *     <li>all updates are done while holding a lock on the store folder and replace files atomically,
+ *         so concurrent processes never see or produce partially written files</li>
+ *     <li>violation files are only written if the violations have actually changed</li>
+ *     <li>the index of stored rules is shared by all instances within the same JVM
+ *         and only read again if the file has been changed in the meantime</li>
+ *     <li>rules with at least {@code freeze.store.default.compressionThreshold} violations (default: 1000) are stored
+ *         compressed with GZIP. The decompressed content is the same line based format as for uncompressed rules,
+ *         i.e. one violation per line. Note that these compressed files can only be read by this store.</li>
+ * </ul>
+ * Note that the store creates the lock file {@code stored.rules.lock} within the store folder and writes new content
+ * to temporary files {@code *.tmp} within the same folder, before moving them to their final location. The temporary
+ * files are deleted right away, but might be left over if a process is killed while updating the store.
+ * Since the store folder is usually kept under version control, these files should be ignored (e.g. via {@code .gitignore}).
+ */
+@PublicAPI(usage = ACCESS)
+public final class ConcurrentFileBasedViolationStore implements ViolationStore {
+    private static final Logger log = LoggerFactory.getLogger(ConcurrentFileBasedViolationStore.class);
+
+    private static final String LOCK_FILE_NAME = STORED_RULES_FILE_NAME + ".lock";
+    private static final String COMPRESSED_FILE_SUFFIX = ".gz";
+    private static final String COMPRESSION_THRESHOLD_PROPERTY_NAME = "default.compressionThreshold";
+    private static final String COMPRESSION_THRESHOLD_DEFAULT = "1000";
+
+    private static final ConcurrentMap<File, StoreIndex> indexesByStoreFolder = new ConcurrentHashMap<>();
+
+    private boolean storeUpdateAllowed;
+    private int compressionThreshold;
+    private File storeFolder;
+    private StoreIndex index;
+
+    @PublicAPI(usage = ACCESS)
+    public ConcurrentFileBasedViolationStore() {
+    }
+
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public void initialize(Properties properties) {
+        boolean storeCreationAllowed = Boolean.parseBoolean(properties.getProperty(ALLOW_STORE_CREATION_PROPERTY_NAME, ALLOW_STORE_CREATION_DEFAULT));
+        storeUpdateAllowed = Boolean.parseBoolean(properties.getProperty(ALLOW_STORE_UPDATE_PROPERTY_NAME, ALLOW_STORE_UPDATE_DEFAULT));
+        compressionThreshold = Integer.parseInt(properties.getProperty(COMPRESSION_THRESHOLD_PROPERTY_NAME, COMPRESSION_THRESHOLD_DEFAULT));
+        storeFolder = canonical(new File(properties.getProperty(STORE_PATH_PROPERTY_NAME, STORE_PATH_DEFAULT)));
+        ensureExistence(storeFolder);
+
+        File storedRulesFile = new File(storeFolder, STORED_RULES_FILE_NAME);
+        log.info("Initializing {} at {}", ConcurrentFileBasedViolationStore.class.getSimpleName(), storedRulesFile.getAbsolutePath());
+        index = getIndex(storeFolder);
+        index.initialize(storeCreationAllowed);
+    }
+
+    private static File canonical(File file) {
+        try {
+            return file.getCanonicalFile();
+        } catch (IOException e) {
+            throw new StoreInitializationFailedException(e);
+        }
+    }
+
+    private static void ensureExistence(File folder) {
+        checkState(folder.exists() && folder.isDirectory() || folder.mkdirs(), "Cannot create folder %s", folder.getAbsolutePath());
+    }
+
+    private static StoreIndex getIndex(File storeFolder) {
+        StoreIndex newIndex = new StoreIndex(storeFolder);
+        StoreIndex existingIndex = indexesByStoreFolder.putIfAbsent(storeFolder, newIndex);
+        return existingIndex != null ? existingIndex : newIndex;
+    }
+
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public boolean contains(ArchRule rule) {
+        return index.getFileName(rule.getDescription()) != null;
+    }
+
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public void save(final ArchRule rule, final List<String> violations) {
+        log.debug("Storing evaluated rule '{}' with {} violations", rule.getDescription(), violations.size());
+        if (!storeUpdateAllowed) {
+            throw new StoreUpdateFailedException(String.format(
+                    "Updating frozen violations is disabled (enable by configuration %s.%s=true)",
+                    FREEZE_STORE_PROPERTY_NAME, ALLOW_STORE_UPDATE_PROPERTY_NAME));
+        }
+
+        final boolean compress = violations.size() >= compressionThreshold;
+        final byte[] content = serialize(violations, compress);
+        index.update(new StoreIndex.Update() {
+            @Override
+            public List<File> apply(Properties storedRules) throws IOException {
+                String oldFileName = storedRules.getProperty(rule.getDescription());
+                String newFileName = fileNameFor(oldFileName, compress);
+                File ruleFile = new File(storeFolder, newFileName);
+                if (!ruleFile.exists() || !Arrays.equals(readRuleFile(ruleFile), content)) {
+                    writeAtomically(content, ruleFile);
+                } else {
+                    log.debug("Stored violations of rule '{}' are unchanged", rule.getDescription());
+                }
+                if (newFileName.equals(oldFileName)) {
+                    return Collections.emptyList();
+                }
+                storedRules.setProperty(rule.getDescription(), newFileName);
+                return oldFileName != null
+                        ? Collections.singletonList(new File(storeFolder, oldFileName))
+                        : Collections.<File>emptyList();
+            }
+        });
+    }
+
+    private static String fileNameFor(String oldFileName, boolean compress) {
+        String ruleId = oldFileName == null ? UUID.randomUUID().toString()
+                : oldFileName.endsWith(COMPRESSED_FILE_SUFFIX)
+                ? oldFileName.substring(0, oldFileName.length() - COMPRESSED_FILE_SUFFIX.length())
+                : oldFileName;
+        return compress ? ruleId + COMPRESSED_FILE_SUFFIX : ruleId;
+    }
+
+    @Override
+    @PublicAPI(usage = ACCESS)
+    public List<String> getViolations(ArchRule rule) {
+        String ruleFileName = index.getFileName(rule.getDescription());
+        checkArgument(ruleFileName != null, "No rule stored with description '%s'", rule.getDescription());
+        List<String> result = deserialize(readRuleFile(new File(storeFolder, ruleFileName)), ruleFileName.endsWith(COMPRESSED_FILE_SUFFIX));
+        log.debug("Retrieved stored rule '{}' with {} violations", rule.getDescription(), result.size());
+        return result;
+    }
+
+    private static byte[] readRuleFile(File ruleFile) {
+        try (InputStream in = new FileInputStream(ruleFile)) {
+            return ByteStreams.toByteArray(in);
+        } catch (IOException e) {
+            throw new StoreReadException(e);
+        }
+    }
+
+    private static byte[] serialize(List<String> violations, boolean compress) {
+        byte[] text = toText(violations).getBytes(UTF_8);
+        if (!compress) {
+            return text;
+        }
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(result)) {
+            out.write(text);
+        } catch (IOException e) {
+            throw new StoreUpdateFailedException(e);
+        }
+        return result.toByteArray();
+    }
+
+    private static List<String> deserialize(byte[] content, boolean compressed) {
+        byte[] text = compressed ? decompress(content) : content;
+        return fromText(new String(text, UTF_8));
+    }
+
+    private static byte[] decompress(byte[] content) {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return ByteStreams.toByteArray(in);
+        } catch (IOException e) {
+            throw new StoreReadException(e);
+        }
+    }
+
+    // Writes a temporary file next to the target first, so readers either see the old or the new content
+    private static void writeAtomically(byte[] content, File target) throws IOException {
+        File tempFile = File.createTempFile(target.getName(), ".tmp", target.getParentFile());
+        try {
+            Files.write(tempFile.toPath(), content);
+            try {
+                Files.move(tempFile.toPath(), target.toPath(), ATOMIC_MOVE, REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile.toPath(), target.toPath(), REPLACE_EXISTING);
+            }
+        } finally {
+            tempFile.delete();
+        }
+    }
+
+    /**
+     * The mapping of rule descriptions to violation files ({@code stored.rules}) of one store folder.
+     * Lookups use the properties loaded last, unless the file has been modified since then.
+     * Updates always load the current state of the file while holding the lock of the store folder,
+     * so updates of other processes in the meantime are never lost. An update is applied to a copy of the loaded
+     * properties, which only replaces them once the file has been written successfully. Files that became obsolete
+     * by the update are only deleted afterwards, since readers without the lock might still look them up
+     * via the former content of the file.
+     */
+    private static class StoreIndex {
+        private final File storedRulesFile;
+        private final File lockFile;
+        private Properties storedRules;
+        private long loadedLastModified;
+        private long loadedLength;
+
+        StoreIndex(File storeFolder) {
+            storedRulesFile = new File(storeFolder, STORED_RULES_FILE_NAME);
+            lockFile = new File(storeFolder, LOCK_FILE_NAME);
+        }
+
+        synchronized void initialize(boolean storeCreationAllowed) {
+            if (!storedRulesFile.exists()) {
+                if (!storeCreationAllowed) {
+                    throw new StoreInitializationFailedException(String.format(
+                            "Creating new violation store is disabled (enable by configuration %s.%s=true)",
+                            FREEZE_STORE_PROPERTY_NAME, ALLOW_STORE_CREATION_PROPERTY_NAME));
+                }
+                try {
+                    storedRulesFile.createNewFile();
+                } catch (IOException e) {
+                    throw new StoreInitializationFailedException(String.format(
+                            "Cannot create rule store at %s", storedRulesFile.getAbsolutePath()), e);
+                }
+            }
+            reloadIfModified();
+        }
+
+        synchronized String getFileName(String ruleDescription) {
+            reloadIfModified();
+            return storedRules.getProperty(ruleDescription);
+        }
+
+        private void reloadIfModified() {
+            if (storedRules == null || storedRulesFile.lastModified() != loadedLastModified || storedRulesFile.length() != loadedLength) {
+                reload();
+            }
+        }
+
+        private void reload() {
+            loadedLastModified = storedRulesFile.lastModified();
+            loadedLength = storedRulesFile.length();
+            Properties result = new Properties();
+            try (FileInputStream inputStream = new FileInputStream(storedRulesFile)) {
+                result.load(inputStream);
+            } catch (IOException e) {
+                throw new StoreReadException(e);
+            }
+            storedRules = result;
+        }
+
+        // Threads within this JVM are serialized by the monitor, since a FileLock is held on behalf of the whole JVM
+        synchronized void update(Update update) {
+            try (RandomAccessFile lockAccess = new RandomAccessFile(lockFile, "rw");
+                 FileChannel lockChannel = lockAccess.getChannel();
+                 FileLock ignored = lockChannel.lock()) {
+
+                reload();
+                Properties updatedRules = (Properties) storedRules.clone();
+                List<File> obsoleteFiles = update.apply(updatedRules);
+                if (!updatedRules.equals(storedRules)) {
+                    writeStoredRules(updatedRules);
+                }
+                for (File obsoleteFile : obsoleteFiles) {
+                    obsoleteFile.delete();
+                }
+            } catch (IOException e) {
+                throw new StoreUpdateFailedException(e);
+            }
+        }
+
+        private void writeStoredRules(Properties updatedRules) throws IOException {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            updatedRules.store(content, "");
+            writeAtomically(content.toByteArray(), storedRulesFile);
+            storedRules = updatedRules;
+            loadedLastModified = storedRulesFile.lastModified();
+            loadedLength = storedRulesFile.length();
+        }
+
+        interface Update {
+            /**
+             * @return Files that are obsolete as soon as the updated rules have been stored
+             */
+            List<File> apply(Properties storedRules) throws IOException;
+        }
+    }
+}
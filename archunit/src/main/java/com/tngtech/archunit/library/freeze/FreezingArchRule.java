@@ -15,10 +15,14 @@
  */
 package com.tngtech.archunit.library.freeze;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
 
 import com.tngtech.archunit.ArchConfiguration;
@@ -202,8 +206,19 @@ public final class FreezingArchRule implements ArchRule {
         private final List<String> storedUnsolvedViolations = new ArrayList<>();
 
         CategorizedViolations(ViolationLineMatcher matcher, EvaluationResult actualResult, List<String> storedViolations) {
+            List<String> actualViolations = actualResult.getFailureReport().getDetails();
+            if (matcher instanceof NormalizingViolationLineMatcher) {
+                categorizeByNormalizedViolations((NormalizingViolationLineMatcher) matcher, actualViolations, storedViolations);
+            } else {
+                categorizeByComparingAllViolations(matcher, actualViolations, storedViolations);
+            }
+            storedSolvedViolations = new ArrayList<>(storedViolations);
+            storedSolvedViolations.removeAll(new HashSet<>(storedUnsolvedViolations));
+        }
+
+        private void categorizeByComparingAllViolations(ViolationLineMatcher matcher, List<String> actualViolations, List<String> storedViolations) {
             List<String> storedViolationsLeft = new ArrayList<>(storedViolations);
-            for (String actualViolation : actualResult.getFailureReport().getDetails()) {
+            for (String actualViolation : actualViolations) {
                 for (Iterator<String> iterator = storedViolationsLeft.iterator(); iterator.hasNext(); ) {
                     String storedViolation = iterator.next();
                     if (matcher.matches(actualViolation, storedViolation)) {
@@ -214,8 +229,30 @@ public final class FreezingArchRule implements ArchRule {
                     }
                 }
             }
-            storedSolvedViolations = new ArrayList<>(storedViolations);
-            storedSolvedViolations.removeAll(storedUnsolvedViolations);
+        }
+
+        // Each occurring violation is associated with the first stored violation left that matches,
+        // exactly like comparing all violations would, but by looking up the stored violations by their normalized form
+        private void categorizeByNormalizedViolations(
+                NormalizingViolationLineMatcher matcher, List<String> actualViolations, List<String> storedViolations) {
+
+            Map<String, Queue<String>> storedViolationsLeftByNormalizedViolation = new HashMap<>();
+            for (String storedViolation : storedViolations) {
+                String normalizedViolation = matcher.normalize(storedViolation);
+                Queue<String> storedViolationsWithSameNormalizedViolation = storedViolationsLeftByNormalizedViolation.get(normalizedViolation);
+                if (storedViolationsWithSameNormalizedViolation == null) {
+                    storedViolationsWithSameNormalizedViolation = new ArrayDeque<>();
+                    storedViolationsLeftByNormalizedViolation.put(normalizedViolation, storedViolationsWithSameNormalizedViolation);
+                }
+                storedViolationsWithSameNormalizedViolation.add(storedViolation);
+            }
+            for (String actualViolation : actualViolations) {
+                Queue<String> matchingStoredViolations = storedViolationsLeftByNormalizedViolation.get(matcher.normalize(actualViolation));
+                if (matchingStoredViolations != null && !matchingStoredViolations.isEmpty()) {
+                    knownActualViolations.add(actualViolation);
+                    storedUnsolvedViolations.add(matchingStoredViolations.poll());
+                }
+            }
         }
 
         Set<String> getKnownActualViolations() {
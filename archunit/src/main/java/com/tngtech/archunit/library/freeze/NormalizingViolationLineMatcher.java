@@ -0,0 +1,39 @@
+/*
+ * Copyright 2014-2020 TNG Technology Consulting GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.tngtech.archunit.library.freeze;
+
+import com.tngtech.archunit.PublicAPI;
+
+import static com.tngtech.archunit.PublicAPI.Usage.INHERITANCE;
+
+/**
+ * A {@link ViolationLineMatcher} that can map each line to a canonical form, such that two lines match
+ * if and only if their canonical forms are equal, i.e.
+ * <pre><code>matches(first, second) == normalize(first).equals(normalize(second))</code></pre>
+ * This allows {@link FreezingArchRule} to look up stored violations by their canonical form,
+ * instead of comparing every occurring violation with every stored violation, which makes a big difference
+ * for rules with many frozen violations.
+ */
+@PublicAPI(usage = INHERITANCE)
+public interface NormalizingViolationLineMatcher extends ViolationLineMatcher {
+
+    /**
+     * @param line A line from the description of a violation, either occurring or stored
+     * @return The canonical form of this line, equal to the canonical form of another line if and only if
+     * both lines {@link #matches(String, String) match}
+     */
+    String normalize(String line);
+}
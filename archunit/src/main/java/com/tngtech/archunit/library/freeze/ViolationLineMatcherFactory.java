@@ -46,7 +46,7 @@ class ViolationLineMatcherFactory {
      * ignores numbers that are potentially line numbers (digits following a ':' and preceding a ')')
      * or compiler-generated numbers of anonymous classes or lambda expressions (digits following a '$').
      */
-    private static class FuzzyViolationLineMatcher implements ViolationLineMatcher {
+    private static class FuzzyViolationLineMatcher implements NormalizingViolationLineMatcher {
         @Override
         public boolean matches(String str1, String str2) {
             // Compare relevant substrings, in a more performant way than a regex solution like this:
@@ -64,6 +64,18 @@ class ViolationLineMatcherFactory {
             return !relevantPart1.hasNext() && !relevantPart2.hasNext();
         }
 
+        // Since every relevant part but the last one ends with the first ':' or '$' within this part,
+        // the concatenation of all relevant parts determines these parts, i.e. equal concatenations imply matching lines
+        @Override
+        public String normalize(String line) {
+            StringBuilder result = new StringBuilder(line.length());
+            RelevantPartIterator relevantPart = new RelevantPartIterator(line);
+            while (relevantPart.hasNext()) {
+                relevantPart.appendNextTo(result);
+            }
+            return result.toString();
+        }
+
         static class RelevantPartIterator {
             private final String str;
             private final int length;
@@ -87,10 +99,19 @@ class ViolationLineMatcherFactory {
             }
 
             public String next() {
-                end = Math.min(nextIndexOfCharacterOrEndOfString(':'), nextIndexOfCharacterOrEndOfString('$'));
+                moveEndToEndOfRelevantPart();
                 return str.substring(start, end + 1);
             }
 
+            void appendNextTo(StringBuilder builder) {
+                moveEndToEndOfRelevantPart();
+                builder.append(str, start, end + 1);
+            }
+
+            private void moveEndToEndOfRelevantPart() {
+                end = Math.min(nextIndexOfCharacterOrEndOfString(':'), nextIndexOfCharacterOrEndOfString('$'));
+            }
+
             private int nextIndexOfCharacterOrEndOfString(char ch) {
                 int i = str.indexOf(ch, start);
                 return i >= 0 ? i : length - 1;
@@ -66,13 +66,13 @@ class ViolationStoreFactory {
         private static final Logger log = LoggerFactory.getLogger(TextFileBasedViolationStore.class);
 
         private static final Pattern UNESCAPED_LINE_BREAK_PATTERN = Pattern.compile("(?<!\\\\)\n");
-        private static final String STORE_PATH_PROPERTY_NAME = "default.path";
-        private static final String STORE_PATH_DEFAULT = "archunit_store";
-        private static final String STORED_RULES_FILE_NAME = "stored.rules";
-        private static final String ALLOW_STORE_CREATION_PROPERTY_NAME = "default.allowStoreCreation";
-        private static final String ALLOW_STORE_CREATION_DEFAULT = "false";
-        private static final String ALLOW_STORE_UPDATE_PROPERTY_NAME = "default.allowStoreUpdate";
-        private static final String ALLOW_STORE_UPDATE_DEFAULT = "true";
+        static final String STORE_PATH_PROPERTY_NAME = "default.path";
+        static final String STORE_PATH_DEFAULT = "archunit_store";
+        static final String STORED_RULES_FILE_NAME = "stored.rules";
+        static final String ALLOW_STORE_CREATION_PROPERTY_NAME = "default.allowStoreCreation";
+        static final String ALLOW_STORE_CREATION_DEFAULT = "false";
+        static final String ALLOW_STORE_UPDATE_PROPERTY_NAME = "default.allowStoreUpdate";
+        static final String ALLOW_STORE_UPDATE_DEFAULT = "true";
 
         private boolean storeCreationAllowed;
         private boolean storeUpdateAllowed;
@@ -130,23 +130,38 @@ class ViolationStoreFactory {
         }
 
         private void write(List<String> violations, File ruleDetails) {
-            String updatedViolations = Joiner.on("\n").join(escape(violations));
             try {
-                Files.write(updatedViolations, ruleDetails, UTF_8);
+                Files.write(toText(violations), ruleDetails, UTF_8);
             } catch (IOException e) {
                 throw new StoreUpdateFailedException(e);
             }
         }
 
-        private List<String> escape(List<String> violations) {
+        /**
+         * @return The violations as stored within a violation file, i.e. one violation per line with line breaks
+         * within a violation escaped
+         */
+        static String toText(List<String> violations) {
+            return Joiner.on("\n").join(escape(violations));
+        }
+
+        /**
+         * @return The violations contained in the text of a violation file written by {@link #toText(List)}
+         */
+        static List<String> fromText(String violationsText) {
+            List<String> lines = Splitter.on(UNESCAPED_LINE_BREAK_PATTERN).splitToList(ensureUnixLineBreaks(violationsText));
+            return unescape(lines);
+        }
+
+        private static List<String> escape(List<String> violations) {
             return replaceCharacter(violations, "\n", "\\\n");
         }
 
-        private List<String> unescape(List<String> violations) {
+        private static List<String> unescape(List<String> violations) {
             return replaceCharacter(violations, "\\\n", "\n");
         }
 
-        private List<String> replaceCharacter(List<String> violations, String characterToReplace, String replacement) {
+        private static List<String> replaceCharacter(List<String> violations, String characterToReplace, String replacement) {
             List<String> result = new ArrayList<>();
             for (String violation : violations) {
                 result.add(violation.replace(characterToReplace, replacement));
@@ -182,21 +197,18 @@ class ViolationStoreFactory {
         }
 
         private List<String> readLines(String ruleDetailsFileName) {
-            String violationsText = readStoreFile(ruleDetailsFileName);
-            List<String> lines = Splitter.on(UNESCAPED_LINE_BREAK_PATTERN).splitToList(violationsText);
-            return unescape(lines);
+            return fromText(readStoreFile(ruleDetailsFileName));
         }
 
         private String readStoreFile(String fileName) {
             try {
-                String result = new String(toByteArray(new File(storeFolder, fileName)), UTF_8);
-                return ensureUnixLineBreaks(result);
+                return new String(toByteArray(new File(storeFolder, fileName)), UTF_8);
             } catch (IOException e) {
                 throw new StoreReadException(e);
             }
         }
 
-        private String ensureUnixLineBreaks(String string) {
+        private static String ensureUnixLineBreaks(String string) {
             return string.replaceAll("\r\n", "\n");
         }
 
@@ -59,13 +59,23 @@ public class ArchConfigurationTest {
     public void simple_properties_explicitly_set() {
         writeProperties(
                 ArchConfiguration.RESOLVE_MISSING_DEPENDENCIES_FROM_CLASS_PATH, true,
-                ArchConfiguration.ENABLE_MD5_IN_CLASS_SOURCES, true
+                ArchConfiguration.ENABLE_MD5_IN_CLASS_SOURCES, true,
+                ArchConfiguration.IMPORT_PARALLELISM, 4,
+                ArchConfiguration.EVALUATION_PARALLELISM, 3,
+                ArchConfiguration.STOP_EVALUATION_AT_FIRST_VIOLATION, true,
+                ArchConfiguration.MAX_VIOLATIONS_PER_RULE, 20,
+                ArchConfiguration.RESOLVED_CLASS_CACHE_SIZE, 500
         );
 
         ArchConfiguration configuration = testConfiguration(PROPERTIES_FILE_NAME);
 
         assertThat(configuration.resolveMissingDependenciesFromClassPath()).isTrue();
         assertThat(configuration.md5InClassSourcesEnabled()).isTrue();
+        assertThat(configuration.getImportParallelism()).isEqualTo(4);
+        assertThat(configuration.getEvaluationParallelism()).isEqualTo(3);
+        assertThat(configuration.stopEvaluationAtFirstViolation()).isTrue();
+        assertThat(configuration.getMaxViolationsPerRule()).isEqualTo(20);
+        assertThat(configuration.getResolvedClassCacheSize()).isEqualTo(500);
         assertThat(configuration.getClassResolver()).isAbsent();
         assertThat(configuration.getClassResolverArguments()).isEmpty();
     }
@@ -281,6 +291,18 @@ public class ArchConfigurationTest {
                 .as("configuration.resolveMissingDependenciesFromClassPath()").isTrue();
         assertThat(configuration.md5InClassSourcesEnabled())
                 .as("configuration.md5InClassSourcesEnabled()").isFalse();
+        assertThat(configuration.getImportParallelism())
+                .as("configuration.getImportParallelism()").isEqualTo(1);
+        assertThat(configuration.getEvaluationParallelism())
+                .as("configuration.getEvaluationParallelism()").isEqualTo(1);
+        assertThat(configuration.stopEvaluationAtFirstViolation())
+                .as("configuration.stopEvaluationAtFirstViolation()").isFalse();
+        assertThat(configuration.getMaxViolationsPerRule())
+                .as("configuration.getMaxViolationsPerRule()").isEqualTo(0);
+        assertThat(configuration.getImportCacheDirectory())
+                .as("configuration.getImportCacheDirectory()").isAbsent();
+        assertThat(configuration.getResolvedClassCacheSize())
+                .as("configuration.getResolvedClassCacheSize()").isEqualTo(0);
     }
 
     private ArchConfiguration testConfiguration(String resourceName) {
@@ -53,6 +53,50 @@ public class DescribedPredicateTest {
         assertThat(alwaysTrue().or(alwaysTrue())).accepts(new Object());
     }
 
+    @Test
+    public void and_evaluates_cheap_predicate_first() {
+        CountingPredicate expensive = new CountingPredicate("expensive", true);
+        DescribedPredicate<Object> predicate = expensive.and(new CheapPredicate("cheap", false));
+
+        assertThat(predicate).rejects(new Object()).hasDescription("expensive and cheap");
+        assertThat(expensive.evaluations).as("evaluations of expensive predicate").isZero();
+    }
+
+    @Test
+    public void or_evaluates_cheap_predicate_first() {
+        CountingPredicate expensive = new CountingPredicate("expensive", false);
+        DescribedPredicate<Object> predicate = expensive.or(new CheapPredicate("cheap", true));
+
+        assertThat(predicate).accepts(new Object()).hasDescription("expensive or cheap");
+        assertThat(expensive.evaluations).as("evaluations of expensive predicate").isZero();
+    }
+
+    @Test
+    public void composed_cheap_predicates_are_evaluated_first() {
+        CountingPredicate expensive = new CountingPredicate("expensive", true);
+        DescribedPredicate<Object> cheap = not(new CheapPredicate("first", true).or(new CheapPredicate("second", false))).as("cheap");
+
+        assertThat(expensive.and(cheap)).rejects(new Object());
+        assertThat(expensive.evaluations).as("evaluations of expensive predicate").isZero();
+
+        assertThat(expensive.and(cheap.and(expensive))).rejects(new Object());
+        assertThat(expensive.evaluations).as("evaluations of expensive predicate").isEqualTo(1);
+    }
+
+    @Test
+    public void composed_predicates_are_equal_if_their_components_are_equal() {
+        DescribedPredicate<Integer> component = new CountingPredicate("component", true).forSubType();
+
+        assertThat(not(equalTo(1).or(lessThan(0))).and(component).as("composed"))
+                .isEqualTo(not(equalTo(1).or(lessThan(0))).and(component).as("composed"));
+        assertThat(not(equalTo(1).or(lessThan(0))).and(component).as("composed"))
+                .isNotEqualTo(not(equalTo(1).or(lessThan(0))).and(component).as("other"))
+                .isNotEqualTo(not(equalTo(2).or(lessThan(0))).and(component).as("composed"))
+                .isNotEqualTo(not(equalTo(1).or(lessThan(0))).and(new CountingPredicate("component", true)).as("composed"));
+        assertThat(not(equalTo(1).or(lessThan(0))).and(component).as("composed").hashCode())
+                .isEqualTo(not(equalTo(1).or(lessThan(0))).and(component).as("composed").hashCode());
+    }
+
     @Test
     public void equalTo_works() {
         assertThat(equalTo(5))
@@ -212,6 +256,36 @@ public class DescribedPredicateTest {
         };
     }
 
+    private static class CountingPredicate extends DescribedPredicate<Object> {
+        private final boolean result;
+        private int evaluations = 0;
+
+        CountingPredicate(String description, boolean result) {
+            super(description);
+            this.result = result;
+        }
+
+        @Override
+        public boolean apply(Object input) {
+            evaluations++;
+            return result;
+        }
+    }
+
+    private static class CheapPredicate extends DescribedPredicate<Object> implements CheapToEvaluate {
+        private final boolean result;
+
+        CheapPredicate(String description, boolean result) {
+            super(description);
+            this.result = result;
+        }
+
+        @Override
+        public boolean apply(Object input) {
+            return result;
+        }
+    }
+
     private abstract static class NotScenario {
         private final String expectedPrefix;
 
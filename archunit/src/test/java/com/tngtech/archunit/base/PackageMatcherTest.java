@@ -44,7 +44,10 @@ public class PackageMatcherTest {
             "..pkg..            | some.random.pkg.maybe.anywhere | true",
             "..p..              | s.r.p.m.a                      | true",
             "*..pkg..*          | some.random.pkg.maybe.anywhere | true",
-            "*..p..*            | s.r.p.m.a                      | true"
+            "*..p..*            | s.r.p.m.a                      | true",
+            "some(pkg)          | somepkg                        | true",
+            "some(.*)           | some.pkg                       | true",
+            "some(.*)           | somepkg                        | false"
     }, splitBy = "\\|")
     public void match(String matcher, String target, boolean matches) {
         assertThat(PackageMatcher.of(matcher).matches(target))
@@ -73,6 +76,9 @@ public class PackageMatcherTest {
             "so(*)me | some | null",
             "(**)so | awe.some.aso | awe.some.a",
             "so(**) | soan.some.we | an.some.we",
+            "(..some.(*)) | a.some.pkg | a.some.pkg:pkg",
+            "..(**).(*) | a.b.c.d | c:d",
+            "(**)..(*) | a.b.c.d | a.b.c:d",
     }, splitBy = "\\|")
     public void capture_groups(String matcher, String target, String groupString) {
         assertThat(PackageMatcher.of(matcher).match(target).isPresent())
@@ -122,6 +128,18 @@ public class PackageMatcherTest {
         PackageMatcher.of(illegalPackageIdentifier);
     }
 
+    @Test
+    public void memoizes_result_per_package() {
+        PackageMatcher matcher = PackageMatcher.of("some.(*).pkg");
+
+        Optional<Result> first = matcher.match("some.arbitrary.pkg");
+        Optional<Result> second = matcher.match("some.arbitrary.pkg");
+
+        assertThat(first.get()).isSameAs(second.get());
+        assertThat(first.get().getGroup(0)).isEqualTo("some.arbitrary.pkg");
+        assertThat(first.get().getGroup(1)).isEqualTo("arbitrary");
+    }
+
     @Test
     public void transform_match_to_groups() {
         Optional<Result> result = PackageMatcher.of("com.(*)..service.(**)")
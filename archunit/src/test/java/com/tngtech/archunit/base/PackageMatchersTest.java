@@ -1,5 +1,6 @@
 package com.tngtech.archunit.base;
 
+import com.google.common.collect.ImmutableList;
 import org.junit.Test;
 
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
@@ -20,4 +21,25 @@ public class PackageMatchersTest {
         assertThat(PackageMatchers.of("..foo..", "..bar.."))
                 .hasDescription("matches any of ['..foo..', '..bar..']");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void matches_packages_repeatedly_with_the_same_result() {
+        PackageMatchers matchers = PackageMatchers.of("..match..", "some.(*).pkg");
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(matchers)
+                    .accepts("foo.match.bar")
+                    .accepts("some.arbitrary.pkg")
+                    .rejects("foo.bar")
+                    .rejects("some.arbitrary.other.pkg");
+        }
+    }
+
+    @Test
+    public void equal_matchers_share_their_memoized_results() {
+        PackageMatchers first = PackageMatchers.of("..match..", "..other..");
+        PackageMatchers second = PackageMatchers.of(ImmutableList.of("..match..", "..other.."));
+
+        assertThat(second).isSameAs(first);
+    }
+}
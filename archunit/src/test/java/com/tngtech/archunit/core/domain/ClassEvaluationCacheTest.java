@@ -0,0 +1,58 @@
+package com.tngtech.archunit.core.domain;
+
+import java.lang.annotation.Retention;
+
+import com.tngtech.archunit.base.DescribedPredicate;
+import org.junit.Test;
+
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.simpleName;
+import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
+import static com.tngtech.archunit.core.domain.properties.CanBeAnnotated.Predicates.metaAnnotatedWith;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassEvaluationCacheTest {
+    @Test
+    public void independently_built_rules_share_one_evaluation_per_class() {
+        JavaClasses classes = importClasses(Annotated.class, NotAnnotated.class, SomeAnnotation.class);
+        ClassEvaluationCache cache = classes.get(Annotated.class).getEvaluationCache();
+
+        int matchesOfFirstRule = countMatches(classes, simpleName("Irrelevant").or(metaAnnotatedWith(Retention.class)));
+        long evaluationsOfFirstRule = cache.getNumberOfEvaluations();
+        int matchesOfSecondRule = countMatches(classes, metaAnnotatedWith(Retention.class.getName()));
+
+        assertThat(matchesOfFirstRule).as("matches of first rule").isEqualTo(1);
+        assertThat(matchesOfSecondRule).as("matches of second rule").isEqualTo(1);
+        assertThat(evaluationsOfFirstRule).as("evaluations of first rule").isEqualTo(classes.size());
+        assertThat(cache.getNumberOfEvaluations()).as("evaluations of both rules").isEqualTo(evaluationsOfFirstRule);
+    }
+
+    @Test
+    public void classes_of_different_imports_do_not_share_results() {
+        JavaClass first = importClasses(Annotated.class, SomeAnnotation.class).get(Annotated.class);
+        JavaClass second = importClasses(Annotated.class, SomeAnnotation.class).get(Annotated.class);
+
+        assertThat(first.getEvaluationCache()).isNotNull().isNotSameAs(second.getEvaluationCache());
+    }
+
+    private int countMatches(JavaClasses classes, DescribedPredicate<? super JavaClass> rule) {
+        int result = 0;
+        for (JavaClass javaClass : classes) {
+            if (rule.apply(javaClass)) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    @Retention(RUNTIME)
+    @interface SomeAnnotation {
+    }
+
+    @SomeAnnotation
+    private static class Annotated {
+    }
+
+    private static class NotAnnotated {
+    }
+}
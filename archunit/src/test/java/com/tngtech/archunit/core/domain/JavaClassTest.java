@@ -8,6 +8,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
@@ -214,6 +215,23 @@ public class JavaClassTest {
                         Object.class.getName());
     }
 
+    @Test
+    public void class_hierarchy_is_only_computed_once() {
+        JavaClasses classes = importClasses(ChildWithFieldAndMethod.class, ParentWithFieldAndMethod.class, InterfaceWithFieldAndMethod.class);
+        JavaClass child = classes.get(ChildWithFieldAndMethod.class);
+        JavaClass parent = classes.get(ParentWithFieldAndMethod.class);
+
+        assertThat(child.getClassHierarchy()).isSameAs(child.getClassHierarchy());
+        assertThat(child.getAllSuperClasses()).isSameAs(child.getAllSuperClasses());
+        assertThat(child.getAllInterfaces()).isSameAs(child.getAllInterfaces());
+        assertThat(child.getAllClassesSelfIsAssignableTo()).isSameAs(child.getAllClassesSelfIsAssignableTo());
+        assertThat(parent.getAllSubClasses()).isSameAs(parent.getAllSubClasses()).containsOnly(child);
+
+        assertThat(child.isAssignableTo(InterfaceWithFieldAndMethod.class.getName())).as("child assignable to interface").isTrue();
+        assertThat(parent.isAssignableFrom(ChildWithFieldAndMethod.class.getName())).as("parent assignable from child").isTrue();
+        assertThat(child.isAssignableTo("not.Imported")).as("child assignable to unknown type").isFalse();
+    }
+
     @Test
     public void isAnnotatedWith_type() {
         assertThat(importClassWithContext(Parent.class).isAnnotatedWith(SomeAnnotation.class))
@@ -260,6 +278,20 @@ public class JavaClassTest {
                 .as("Parent is meta-annotated with @" + Retention.class.getSimpleName()).isTrue();
     }
 
+    @Test
+    public void isMetaAnnotatedWith_typeName_evaluates_many_type_names_correctly() {
+        JavaClass clazz = importClassesWithContext(Parent.class, SomeAnnotation.class).get(Parent.class);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(clazz.isMetaAnnotatedWith("some.Annotation" + i)).as("meta-annotated with some.Annotation" + i).isFalse();
+        }
+
+        assertThat(clazz.isMetaAnnotatedWith(Retention.class.getName()))
+                .as("Parent is meta-annotated with @" + Retention.class.getSimpleName()).isTrue();
+        assertThat(clazz.isMetaAnnotatedWith(Retention.class.getName()))
+                .as("Parent is meta-annotated with @" + Retention.class.getSimpleName()).isTrue();
+    }
+
     @Test
     public void isMetaAnnotatedWith_predicate() {
         JavaClass clazz = importClassesWithContext(Parent.class, SomeAnnotation.class).get(Parent.class);
@@ -285,6 +317,25 @@ public class JavaClassTest {
                 .contains(javaClass, javaClass.getSuperClass().get());
     }
 
+    @Test
+    public void accesses_are_only_collected_once() {
+        JavaClass javaClass = importClasses(ClassWithTwoFieldsAndTwoMethods.class, SuperClassWithFieldAndMethod.class, Parent.class)
+                .get(ClassWithTwoFieldsAndTwoMethods.class);
+        JavaClass anotherClass = importClassWithContext(Object.class);
+        simulateCall().from(javaClass.getMethod("stringMethod"), 8).to(anotherClass.getMethod("toString"));
+
+        assertThat(javaClass.getAccessesFromSelf()).isSameAs(javaClass.getAccessesFromSelf()).isNotEmpty();
+        assertThat(javaClass.getAllAccessesFromSelf()).isSameAs(javaClass.getAllAccessesFromSelf());
+        assertThat(javaClass.getFieldAccessesFromSelf()).isSameAs(javaClass.getFieldAccessesFromSelf());
+        assertThat(javaClass.getCallsFromSelf()).isSameAs(javaClass.getCallsFromSelf());
+        assertThat(javaClass.getMethodCallsFromSelf()).isSameAs(javaClass.getMethodCallsFromSelf());
+        assertThat(javaClass.getConstructorCallsFromSelf()).isSameAs(javaClass.getConstructorCallsFromSelf());
+        assertThat(anotherClass.getAccessesToSelf()).isSameAs(anotherClass.getAccessesToSelf());
+        assertThat(anotherClass.getFieldAccessesToSelf()).isSameAs(anotherClass.getFieldAccessesToSelf());
+        assertThat(anotherClass.getMethodCallsToSelf()).isSameAs(anotherClass.getMethodCallsToSelf());
+        assertThat(anotherClass.getConstructorCallsToSelf()).isSameAs(anotherClass.getConstructorCallsToSelf());
+    }
+
     @Test
     public void JavaClass_is_equivalent_to_reflect_type() {
         JavaClass list = importClassWithContext(List.class);
@@ -787,6 +838,26 @@ public class JavaClassTest {
         assertThat(assignableTo(System.class)).hasDescription("assignable to java.lang.System");
     }
 
+    @Test
+    public void predicate_assignableTo_does_not_cache_results_of_user_defined_predicates() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        DescribedPredicate<JavaClass> countingPredicate = new DescribedPredicate<JavaClass>("counting") {
+            @Override
+            public boolean apply(JavaClass input) {
+                evaluations.incrementAndGet();
+                return false;
+            }
+        };
+        JavaClass javaClass = classWithHierarchy(ArrayList.class);
+
+        assertThat(assignableTo(countingPredicate)).rejects(javaClass);
+        int evaluationsOfFirstPredicate = evaluations.get();
+        assertThat(assignableTo(countingPredicate)).rejects(javaClass);
+
+        assertThat(evaluationsOfFirstPredicate).as("evaluations of first predicate").isGreaterThan(0);
+        assertThat(evaluations.get()).as("evaluations of both predicates").isEqualTo(2 * evaluationsOfFirstPredicate);
+    }
+
     @DataProvider
     public static Object[][] implement_match_cases() {
         return testForEach(
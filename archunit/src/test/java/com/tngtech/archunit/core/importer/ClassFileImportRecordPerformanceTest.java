@@ -0,0 +1,69 @@
+package com.tngtech.archunit.core.importer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.Slow;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reports the heap retained by the {@link ClassFileImportRecord} of a larger import and the time to parse it.
+ * The numbers can be compared between revisions by running this test alone, e.g.
+ * <pre><code>./gradlew :archunit:test --tests '*ClassFileImportRecordPerformanceTest' -PallTests -i</code></pre>
+ */
+@Category(Slow.class)
+public class ClassFileImportRecordPerformanceTest {
+    private static final Logger LOG = LoggerFactory.getLogger(ClassFileImportRecordPerformanceTest.class);
+    private static final String PACKAGE_TO_IMPORT = "com.google.common";
+    private static final int NUMBER_OF_ROUNDS = 5;
+
+    @Test
+    public void reports_retained_heap_and_parse_time_of_import_record() {
+        ClassFileSource source = classFileSourceOf(PACKAGE_TO_IMPORT);
+
+        for (int round = 1; round <= NUMBER_OF_ROUNDS; round++) {
+            long heapBefore = usedHeapAfterGc();
+            long start = System.nanoTime();
+            ClassFileImportRecord record = new ClassFileProcessor().parse(source);
+            long parseMillis = (System.nanoTime() - start) / 1000000;
+            long retainedBytes = usedHeapAfterGc() - heapBefore;
+
+            int numberOfAccessRecords = record.getAccessRecords().size();
+            assertThat(numberOfAccessRecords).as("number of access records").isPositive();
+            LOG.info("Round {}: Parsed {} classes with {} access records in {} ms, import record retains {} MB",
+                    round, record.getClasses().size(), numberOfAccessRecords, parseMillis, retainedBytes / (1024 * 1024));
+        }
+    }
+
+    private ClassFileSource classFileSourceOf(String packageName) {
+        final List<ClassFileLocation> classFileLocations = new ArrayList<>();
+        for (Location location : Locations.ofPackage(packageName)) {
+            for (ClassFileLocation classFileLocation : location.asClassFileSource(new ImportOptions())) {
+                classFileLocations.add(classFileLocation);
+            }
+        }
+        return new ClassFileSource() {
+            @Override
+            public Iterator<ClassFileLocation> iterator() {
+                return ImmutableList.copyOf(classFileLocations).iterator();
+            }
+        };
+    }
+
+    private static long usedHeapAfterGc() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
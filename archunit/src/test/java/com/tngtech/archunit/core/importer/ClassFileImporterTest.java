@@ -10,6 +10,7 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.net.JarURLConnection;
 import java.net.MalformedURLException;
+import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLConnection;
@@ -33,6 +34,8 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import com.tngtech.archunit.ArchConfiguration;
+import com.tngtech.archunit.base.ArchUnitException.AccessInformationNotImportedException;
+import com.tngtech.archunit.base.ArchUnitException.SnapshotException;
 import com.tngtech.archunit.base.DescribedPredicate;
 import com.tngtech.archunit.base.ForwardingCollection;
 import com.tngtech.archunit.base.Optional;
@@ -183,6 +186,7 @@ import org.assertj.core.util.Objects;
 import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 
@@ -242,6 +246,8 @@ public class ClassFileImporterTest {
     public final LogTestRule logTest = new LogTestRule();
     @Rule
     public final IndependentClasspathRule independentClasspathRule = new IndependentClasspathRule();
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
 
     @After
     public void tearDown() {
@@ -2054,6 +2060,174 @@ public class ClassFileImporterTest {
         logTest.assertLogMessage(Level.WARN, "Evil.class");
     }
 
+    @Test
+    public void imports_declarations_only() {
+        JavaClasses classes = new ClassFileImporter().withDeclarationsOnly().importClasses(CallsOtherMethod.class, CallsOwnMethod.class);
+        JavaClass classThatCallsOtherMethod = classes.get(CallsOtherMethod.class);
+
+        assertThat(classThatCallsOtherMethod.isAccessInformationImported()).as("access information imported").isFalse();
+        assertThat(classThatCallsOtherMethod.getField("other").getRawType()).isEqualTo(classes.get(CallsOwnMethod.class));
+        assertThat(classThatCallsOtherMethod.getMethod("getFromOther").getRawReturnType()).matches(String.class);
+        assertThat(classes.get(CallsOwnMethod.class).getFieldsWithTypeOfSelf())
+                .containsOnly(classThatCallsOtherMethod.getField("other"));
+    }
+
+    @Test
+    public void rejects_querying_accesses_of_declarations_only_import() {
+        JavaClass classThatCallsOtherMethod = new ClassFileImporter().withDeclarationsOnly().importClass(CallsOtherMethod.class);
+
+        thrown.expect(AccessInformationNotImportedException.class);
+        thrown.expectMessage(CallsOtherMethod.class.getName());
+        thrown.expectMessage("declarations only");
+
+        classThatCallsOtherMethod.getMethodCallsFromSelf();
+    }
+
+    @Test
+    public void reimport_reflects_added_changed_and_removed_class_files() throws Exception {
+        File folder = temporaryFolder.newFolder();
+        copyClassFile(ClassToImportOne.class, folder);
+        copyClassFile(ClassToImportTwo.class, folder);
+        ClassFileImporter importer = new ClassFileImporter().withReimportSupport();
+        JavaClasses previous = importer.importPath(folder.toPath());
+
+        File removedClassFile = new File(folder, ClassToImportTwo.class.getSimpleName() + ".class");
+        Files.delete(removedClassFile.toPath());
+        copyClassFile(EnumToImport.class, folder);
+        File addedClassFile = new File(folder, EnumToImport.class.getSimpleName() + ".class");
+
+        JavaClasses reimported = importer.reimport(previous,
+                ImmutableSet.of(Location.of(removedClassFile.toPath()), Location.of(addedClassFile.toPath())));
+
+        assertThatClasses(reimported).matchInAnyOrder(ClassToImportOne.class, EnumToImport.class);
+        assertThat(reimported.get(ClassToImportOne.class)).isNotSameAs(previous.get(ClassToImportOne.class));
+        assertThat(reimported.get(ClassToImportOne.class).getFields()).hasSameSizeAs(previous.get(ClassToImportOne.class).getFields());
+        assertThatClasses(previous).matchInAnyOrder(ClassToImportOne.class, ClassToImportTwo.class);
+    }
+
+    @Test
+    public void reimport_does_not_modify_previous_classes() throws Exception {
+        File folder = temporaryFolder.newFolder();
+        copyClassFile(CallsOtherMethod.class, folder);
+        copyClassFile(CallsOwnMethod.class, folder);
+        ClassFileImporter importer = new ClassFileImporter().withReimportSupport();
+        JavaClasses previous = importer.importPath(folder.toPath());
+        JavaClass previousClass = previous.get(CallsOtherMethod.class);
+
+        File changedClassFile = new File(folder, CallsOwnMethod.class.getSimpleName() + ".class");
+        JavaClasses reimported = importer.reimport(previous, ImmutableSet.of(Location.of(changedClassFile.toPath())));
+
+        assertThat(reimported.get(CallsOtherMethod.class)).isNotSameAs(previousClass);
+        assertThat(previousClass.getMethod("getFromOther").getOwner()).isSameAs(previousClass);
+        assertThat(previousClass.getField("other").getRawType()).isSameAs(previous.get(CallsOwnMethod.class));
+        assertThatCall(getOnlyElement(previousClass.getMethodCallsFromSelf()))
+                .isFrom(previousClass.getCodeUnitWithParameterTypes("getFromOther"))
+                .isTo(previous.get(CallsOwnMethod.class).getMethod("getString"));
+        JavaClass reimportedClass = reimported.get(CallsOtherMethod.class);
+        assertThat(reimportedClass.getField("other").getRawType()).isSameAs(reimported.get(CallsOwnMethod.class));
+    }
+
+    @Test
+    public void reimport_keeps_the_class_of_the_first_location_if_a_class_is_found_several_times() throws Exception {
+        File firstFolder = temporaryFolder.newFolder();
+        File secondFolder = temporaryFolder.newFolder();
+        copyClassFile(ClassToImportOne.class, firstFolder);
+        copyClassFile(ClassToImportOne.class, secondFolder);
+        ClassFileImporter importer = new ClassFileImporter().withReimportSupport();
+        JavaClasses previous = importer.importPaths(firstFolder.toPath(), secondFolder.toPath());
+
+        URI sourceOfPreviousClass = previous.get(ClassToImportOne.class).getSource().get().getUri();
+
+        for (File changedFolder : ImmutableList.of(firstFolder, secondFolder)) {
+            JavaClasses reimported = importer.reimport(previous, ImmutableSet.of(Location.of(changedFolder.toPath())));
+
+            assertThat(reimported.get(ClassToImportOne.class).getSource().get().getUri())
+                    .as("source after reimport of " + changedFolder)
+                    .isEqualTo(sourceOfPreviousClass);
+        }
+    }
+
+    @Test
+    public void reimport_imports_all_sources_again_without_reimport_support() throws Exception {
+        File folder = temporaryFolder.newFolder();
+        copyClassFile(ClassToImportOne.class, folder);
+        copyClassFile(ClassToImportTwo.class, folder);
+        JavaClasses previous = new ClassFileImporter().importPath(folder.toPath());
+
+        File removedClassFile = new File(folder, ClassToImportTwo.class.getSimpleName() + ".class");
+        Files.delete(removedClassFile.toPath());
+
+        JavaClasses reimported = new ClassFileImporter().reimport(previous, ImmutableSet.of(Location.of(removedClassFile.toPath())));
+
+        assertThatClasses(reimported).matchInAnyOrder(ClassToImportOne.class);
+    }
+
+    @Test
+    public void imports_classes_from_snapshot() throws Exception {
+        Path snapshotFile = temporaryFolder.newFolder().toPath().resolve("classes.snapshot");
+        JavaClasses imported = new ClassFileImporter().importLocationsAndWriteClassGraphSnapshot(ImmutableSet.<Location>builder()
+                .addAll(Locations.ofClass(CallsOtherMethod.class))
+                .addAll(Locations.ofClass(CallsOwnMethod.class))
+                .build(), snapshotFile);
+
+        JavaClasses classes = new ClassFileImporter().importClassGraphSnapshot(snapshotFile);
+
+        assertThatClasses(classes).matchInAnyOrder(CallsOtherMethod.class, CallsOwnMethod.class);
+        JavaClass classThatCallsOtherMethod = classes.get(CallsOtherMethod.class);
+        assertThat(classThatCallsOtherMethod.isAccessInformationImported()).as("access information imported").isTrue();
+        assertThat(classThatCallsOtherMethod.getSource().get().getUri())
+                .isEqualTo(imported.get(CallsOtherMethod.class).getSource().get().getUri());
+        assertThatCall(getOnlyElement(classThatCallsOtherMethod.getMethodCallsFromSelf()))
+                .isFrom(classThatCallsOtherMethod.getCodeUnitWithParameterTypes("getFromOther"))
+                .isTo(classes.get(CallsOwnMethod.class).getMethod("getString"))
+                .inLineNumber(7);
+        assertThat(classes.get(CallsOwnMethod.class).getMethod("getString").getAccessesToSelf())
+                .as("accesses to method from snapshot").hasSize(1);
+        JavaClass resolvedClass = classThatCallsOtherMethod.getMethod("getFromOther").getRawReturnType();
+        assertThat(resolvedClass.getMethods()).as("methods of class resolved from snapshot").isNotEmpty();
+    }
+
+    @Test
+    public void imports_annotations_from_snapshot() throws Exception {
+        Path snapshotFile = temporaryFolder.newFolder().toPath().resolve("classes.snapshot");
+        new ClassFileImporter().importLocationsAndWriteClassGraphSnapshot(
+                Locations.ofClass(ClassWithComplexAnnotations.class), snapshotFile);
+
+        JavaClass clazz = new ClassFileImporter().importClassGraphSnapshot(snapshotFile).get(ClassWithComplexAnnotations.class);
+
+        JavaAnnotation<JavaClass> annotation = clazz.getAnnotationOfType(TypeAnnotationWithEnumAndArrayValue.class.getName());
+        assertThat((JavaEnumConstant) annotation.get("value").get()).isEquivalentTo(OTHER_VALUE);
+        assertThat(((JavaEnumConstant[]) annotation.get("enumArrayWithDefault").get())).matches(OTHER_VALUE);
+        JavaAnnotation<?>[] subAnnotationArray = (JavaAnnotation<?>[]) annotation.get("subAnnotationArray").get();
+        assertThat(subAnnotationArray[0].get("value").get()).isEqualTo("otherFirst");
+        assertThat(subAnnotationArray[0].getOwner()).isEqualTo(annotation);
+        assertThat((JavaClass[]) annotation.get("classes").get()).matchExactly(Serializable.class, String.class);
+        assertThat(clazz).matches(ClassWithComplexAnnotations.class);
+    }
+
+    @Test
+    public void imports_declarations_only_from_snapshot() throws Exception {
+        Path snapshotFile = temporaryFolder.newFolder().toPath().resolve("classes.snapshot");
+        new ClassFileImporter().withDeclarationsOnly()
+                .importLocationsAndWriteClassGraphSnapshot(Locations.ofClass(CallsOtherMethod.class), snapshotFile);
+
+        JavaClass clazz = new ClassFileImporter().importClassGraphSnapshot(snapshotFile).get(CallsOtherMethod.class);
+
+        assertThat(clazz.isAccessInformationImported()).as("access information imported").isFalse();
+        assertThat(clazz.getMethod("getFromOther").getRawReturnType()).matches(String.class);
+    }
+
+    @Test
+    public void rejects_importing_file_that_is_no_snapshot() throws Exception {
+        File noSnapshot = temporaryFolder.newFile();
+        Files.write(noSnapshot.toPath(), "no snapshot".getBytes(UTF_8));
+
+        thrown.expect(SnapshotException.class);
+        thrown.expectMessage(noSnapshot.getName());
+
+        new ClassFileImporter().importClassGraphSnapshot(noSnapshot.toPath());
+    }
+
     @Test
     public void class_has_source_of_import() throws Exception {
         ArchConfiguration.get().setMd5InClassSourcesEnabled(true);
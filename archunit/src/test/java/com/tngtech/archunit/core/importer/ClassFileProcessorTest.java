@@ -1,13 +1,36 @@
 package com.tngtech.archunit.core.importer;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.base.Optional;
+import com.tngtech.archunit.core.domain.JavaAccess;
+import com.tngtech.archunit.core.domain.JavaAnnotation;
 import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.domain.JavaMember;
 import com.tngtech.archunit.core.importer.resolvers.ClassResolverFromClasspath;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import static com.tngtech.archunit.testutil.Assertions.assertThat;
 
 public class ClassFileProcessorTest {
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void ClassResolverFromClassPath_resolves_robustly() {
         Optional<JavaClass> resolved = new ClassResolverFromClasspath()
@@ -15,4 +38,129 @@ public class ClassFileProcessorTest {
 
         assertThat(resolved).isAbsent();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void parallel_import_yields_the_same_classes_as_sequential_import() {
+        JavaClasses importedSequentially = new ClassFileImporter().importPackages("com.tngtech.archunit.core");
+
+        ArchConfiguration.get().setImportParallelism(4);
+        JavaClasses importedInParallel = new ClassFileImporter().importPackages("com.tngtech.archunit.core");
+
+        assertThat(importedInParallel.size()).isEqualTo(importedSequentially.size());
+        assertThat(describe(importedInParallel)).isEqualTo(describe(importedSequentially));
+    }
+
+    @Test
+    public void import_from_cache_yields_the_same_classes_as_import_without_cache() throws IOException {
+        JavaClasses importedWithoutCache = new ClassFileImporter().importPackages("com.tngtech.archunit.core");
+
+        File cacheDirectory = temporaryFolder.newFolder();
+        ArchConfiguration.get().setImportCacheDirectory(cacheDirectory.getAbsolutePath());
+        JavaClasses importedFillingCache = new ClassFileImporter().importPackages("com.tngtech.archunit.core");
+
+        assertThat(cacheDirectory.list()).as("cache entries").isNotEmpty();
+
+        JavaClasses importedFromCache = new ClassFileImporter().importPackages("com.tngtech.archunit.core");
+
+        assertThat(describe(importedFillingCache)).isEqualTo(describe(importedWithoutCache));
+        assertThat(describe(importedFromCache)).isEqualTo(describe(importedWithoutCache));
+    }
+
+    @Test
+    public void import_with_corrupt_cache_entries_parses_and_records_the_class_files_again() throws IOException {
+        JavaClasses importedWithoutCache = new ClassFileImporter().importPackages("com.tngtech.archunit.core");
+        File cacheDirectory = temporaryFolder.newFolder();
+        ArchConfiguration.get().setImportCacheDirectory(cacheDirectory.getAbsolutePath());
+        new ClassFileImporter().importPackages("com.tngtech.archunit.core");
+
+        Map<File, byte[]> validEntries = new TreeMap<>();
+        for (File entry : cacheDirectory.listFiles()) {
+            byte[] content = Files.readAllBytes(entry.toPath());
+            validEntries.put(entry, content);
+            Files.write(entry.toPath(), Arrays.copyOf(content, content.length / 2));
+        }
+
+        JavaClasses importedFromCorruptCache = new ClassFileImporter().importPackages("com.tngtech.archunit.core");
+
+        assertThat(describe(importedFromCorruptCache)).isEqualTo(describe(importedWithoutCache));
+        for (Map.Entry<File, byte[]> validEntry : validEntries.entrySet()) {
+            assertThat(Files.readAllBytes(validEntry.getKey().toPath()))
+                    .as("rewritten cache entry " + validEntry.getKey().getName())
+                    .isEqualTo(validEntry.getValue());
+        }
+        assertThat(cacheDirectory.list()).as("cache entries").hasSameSizeAs(validEntries.keySet());
+    }
+
+    @Test
+    public void resolved_class_cache_yields_the_same_classes_as_resolution_without_cache() {
+        JavaClass resolvedWithoutCache = resolvedSuperClassOf(SubClassOfJdkClass.class);
+
+        ArchConfiguration.get().setResolvedClassCacheSize(100);
+        JavaClass resolvedFillingCache = resolvedSuperClassOf(SubClassOfJdkClass.class);
+        ResolvedClassCache.Statistics statisticsBefore = ResolvedClassCache.getStatistics().get();
+        JavaClass resolvedFromCache = resolvedSuperClassOf(SubClassOfJdkClass.class);
+        ResolvedClassCache.Statistics statisticsAfter = ResolvedClassCache.getStatistics().get();
+
+        assertThat(statisticsAfter.getHitCount()).as("cache hits").isGreaterThan(statisticsBefore.getHitCount());
+        assertThat(statisticsAfter.getSize()).as("cache size").isGreaterThan(0);
+        assertThat(describe(resolvedFillingCache)).isEqualTo(describe(resolvedWithoutCache));
+        assertThat(describe(resolvedFromCache)).isEqualTo(describe(resolvedWithoutCache));
+    }
+
+    @Test
+    public void resolved_class_cache_is_disabled_by_default() {
+        assertThat(ResolvedClassCache.getStatistics()).isAbsent();
+    }
+
+    private JavaClass resolvedSuperClassOf(Class<?> clazz) {
+        JavaClass superClass = new ClassFileImporter().importClass(clazz).getSuperClass().get();
+        assertThat(superClass.getSource()).as("source of resolved superclass").isPresent();
+        return superClass;
+    }
+
+    private Set<String> describe(JavaClass javaClass) {
+        Set<String> details = new TreeSet<>();
+        for (JavaClass superType : javaClass.getAllInterfaces()) {
+            details.add("interface: " + superType.getName());
+        }
+        for (JavaMember member : javaClass.getMembers()) {
+            details.add("member: " + member.getFullName() + " " + member.getModifiers());
+        }
+        for (JavaAnnotation<?> annotation : javaClass.getAnnotations()) {
+            details.add("annotation: " + annotation.getRawType().getName());
+        }
+        return details;
+    }
+
+    private Map<String, Set<String>> describe(JavaClasses classes) {
+        Map<String, Set<String>> result = new TreeMap<>();
+        for (JavaClass javaClass : classes) {
+            Set<String> details = new TreeSet<>();
+            details.add("source: " + javaClass.getSource().get().getUri());
+            for (JavaClass superType : javaClass.getAllInterfaces()) {
+                details.add("interface: " + superType.getName());
+            }
+            for (JavaClass superType : javaClass.getClassHierarchy()) {
+                details.add("hierarchy: " + superType.getName());
+            }
+            for (JavaMember member : javaClass.getMembers()) {
+                details.add("member: " + member.getFullName() + " " + member.getModifiers());
+                for (JavaAnnotation<?> annotation : member.getAnnotations()) {
+                    details.add("member annotation: " + member.getFullName() + " " + annotation.getRawType().getName());
+                }
+            }
+            for (JavaAnnotation<?> annotation : javaClass.getAnnotations()) {
+                details.add("annotation: " + annotation.getRawType().getName() + " " + annotation.getProperties().keySet());
+            }
+            for (JavaAccess<?> access : javaClass.getAccessesFromSelf()) {
+                details.add("access: " + access.getDescription());
+            }
+            result.put(javaClass.getName(), details);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unused")
+    private static class SubClassOfJdkClass extends ArrayList<String> {
+    }
+}
@@ -0,0 +1,59 @@
+package com.tngtech.archunit.core.importer;
+
+import java.nio.file.Path;
+
+import com.tngtech.archunit.Slow;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reports the time to load a class graph snapshot of a larger package, compared to importing the package from scratch.
+ * The numbers can be compared between revisions by running this test alone, e.g.
+ * <pre><code>./gradlew :archunit:test --tests '*ClassGraphSnapshotPerformanceTest' -PallTests -i</code></pre>
+ */
+@Category(Slow.class)
+public class ClassGraphSnapshotPerformanceTest {
+    private static final Logger LOG = LoggerFactory.getLogger(ClassGraphSnapshotPerformanceTest.class);
+    private static final String PACKAGE_TO_IMPORT = "com.google.common";
+    private static final int NUMBER_OF_ROUNDS = 5;
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void reports_time_to_load_snapshot_of_a_large_package() throws Exception {
+        Path snapshotFile = temporaryFolder.newFolder().toPath().resolve("classes.snapshot");
+        new ClassFileImporter().importLocationsAndWriteClassGraphSnapshot(Locations.ofPackage(PACKAGE_TO_IMPORT), snapshotFile);
+
+        for (int round = 1; round <= NUMBER_OF_ROUNDS; round++) {
+            long start = nanoTimeAfterGc();
+            JavaClasses plainImport = new ClassFileImporter().importPackages(PACKAGE_TO_IMPORT);
+            long plainImportMillis = millisSince(start);
+
+            start = nanoTimeAfterGc();
+            JavaClasses loaded = new ClassFileImporter().importClassGraphSnapshot(snapshotFile);
+            long loadMillis = millisSince(start);
+
+            assertThat(loaded.size()).as("number of classes loaded from snapshot").isEqualTo(plainImport.size());
+            LOG.info("Round {}: Imported {} classes in {} ms, loaded them from a snapshot in {} ms",
+                    round, plainImport.size(), plainImportMillis, loadMillis);
+        }
+    }
+
+    // NOTE: Each import leaves a lot of garbage, which should not be collected while measuring the next one
+    private static long nanoTimeAfterGc() {
+        System.gc();
+        return System.nanoTime();
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1000000;
+    }
+}
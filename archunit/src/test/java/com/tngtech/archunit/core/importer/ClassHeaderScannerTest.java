@@ -0,0 +1,58 @@
+package com.tngtech.archunit.core.importer;
+
+import java.util.Collections;
+import java.util.Map;
+
+import com.tngtech.archunit.core.importer.ClassHeaderScanner.ClassHeader;
+import com.tngtech.archunit.core.importer.testexamples.annotatedclassimport.ClassWithOneAnnotation;
+import com.tngtech.archunit.core.importer.testexamples.annotatedclassimport.SimpleAnnotation;
+import com.tngtech.archunit.core.importer.testexamples.annotationfieldimport.ClassWithAnnotatedFields;
+import com.tngtech.archunit.core.importer.testexamples.annotationmethodimport.ClassWithAnnotatedMethods;
+import com.tngtech.archunit.core.importer.testexamples.classhierarchyimport.BaseClass;
+import com.tngtech.archunit.core.importer.testexamples.classhierarchyimport.ParentInterface;
+import com.tngtech.archunit.core.importer.testexamples.classhierarchyimport.SubClass;
+import com.tngtech.archunit.core.importer.testexamples.classhierarchyimport.SubInterface;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClassHeaderScannerTest {
+    @Test
+    public void scans_supertypes() {
+        Map<String, ClassHeader> headers = new ClassHeaderScanner().scanPackages(
+                Collections.singleton(SubClass.class.getPackage().getName()));
+
+        ClassHeader subClass = headers.get(SubClass.class.getName());
+        assertThat(subClass.getSuperclassName().get()).isEqualTo(BaseClass.class.getName());
+        assertThat(subClass.getInterfaceNames()).containsExactly(SubInterface.class.getName());
+
+        ClassHeader subInterface = headers.get(SubInterface.class.getName());
+        assertThat(subInterface.getSuperclassName().isPresent()).as("interface has superclass").isFalse();
+        assertThat(subInterface.getInterfaceNames()).containsExactly(ParentInterface.class.getName());
+    }
+
+    @Test
+    public void scans_annotation_types_of_class_and_members() {
+        Map<String, ClassHeader> headers = new ClassHeaderScanner().scanLocations(Locations.ofClass(ClassWithOneAnnotation.class));
+        assertThat(headers.get(ClassWithOneAnnotation.class.getName()).getAnnotationTypeNames())
+                .containsExactly(SimpleAnnotation.class.getName());
+
+        headers = new ClassHeaderScanner().scanLocations(Locations.ofClass(ClassWithAnnotatedFields.class));
+        assertThat(headers.get(ClassWithAnnotatedFields.class.getName()).getMemberAnnotationTypeNames())
+                .contains(ClassWithAnnotatedFields.FieldAnnotationWithStringValue.class.getName(),
+                        ClassWithAnnotatedFields.FieldAnnotationWithIntValue.class.getName());
+
+        headers = new ClassHeaderScanner().scanLocations(Locations.ofClass(ClassWithAnnotatedMethods.class));
+        assertThat(headers.get(ClassWithAnnotatedMethods.class.getName()).getMemberAnnotationTypeNames())
+                .contains(ClassWithAnnotatedMethods.MethodAnnotationWithStringValue.class.getName(),
+                        ClassWithAnnotatedMethods.MethodAnnotationWithIntValue.class.getName());
+    }
+
+    @Test
+    public void scans_class_from_classpath() {
+        ClassHeader header = new ClassHeaderScanner().tryScanFromClassPath(SubClass.class.getName()).get();
+
+        assertThat(header.getName()).isEqualTo(SubClass.class.getName());
+        assertThat(new ClassHeaderScanner().tryScanFromClassPath("not.Existing").isPresent()).as("header present").isFalse();
+    }
+}
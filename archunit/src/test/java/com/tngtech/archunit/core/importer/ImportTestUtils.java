@@ -400,6 +400,11 @@ public class ImportTestUtils {
             return Collections.emptySet();
         }
 
+        @Override
+        public boolean isAccessInformationImported() {
+            return true;
+        }
+
         @Override
         public Set<JavaField> getFieldsOfType(JavaClass javaClass) {
             return Collections.emptySet();
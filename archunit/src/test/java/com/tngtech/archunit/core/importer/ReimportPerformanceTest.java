@@ -0,0 +1,62 @@
+package com.tngtech.archunit.core.importer;
+
+import java.util.Collections;
+
+import com.google.common.base.Strings;
+import com.tngtech.archunit.Slow;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reports the time to reimport a larger package after a single class file has changed, compared to importing the package
+ * from scratch. Since a reimport builds the whole class graph again, only the parsing of the unchanged class files is saved.
+ * The numbers can be compared between revisions by running this test alone, e.g.
+ * <pre><code>./gradlew :archunit:test --tests '*ReimportPerformanceTest' -PallTests -i</code></pre>
+ */
+@Category(Slow.class)
+public class ReimportPerformanceTest {
+    private static final Logger LOG = LoggerFactory.getLogger(ReimportPerformanceTest.class);
+    private static final String PACKAGE_TO_IMPORT = "com.google.common";
+    private static final Class<?> CHANGED_CLASS = Strings.class;
+    private static final int NUMBER_OF_ROUNDS = 5;
+
+    @Test
+    public void reports_time_to_reimport_a_single_changed_class_of_a_large_package() {
+        Location changedClassFile = Location.of(CHANGED_CLASS.getResource(CHANGED_CLASS.getSimpleName() + ".class"));
+
+        for (int round = 1; round <= NUMBER_OF_ROUNDS; round++) {
+            long start = nanoTimeAfterGc();
+            JavaClasses plainImport = new ClassFileImporter().importPackages(PACKAGE_TO_IMPORT);
+            long plainImportMillis = millisSince(start);
+
+            ClassFileImporter importer = new ClassFileImporter().withReimportSupport();
+            start = nanoTimeAfterGc();
+            JavaClasses previous = importer.importPackages(PACKAGE_TO_IMPORT);
+            long importWithReimportSupportMillis = millisSince(start);
+
+            start = nanoTimeAfterGc();
+            JavaClasses reimported = importer.reimport(previous, Collections.singleton(changedClassFile));
+            long reimportMillis = millisSince(start);
+
+            assertThat(reimported.size()).as("number of reimported classes").isEqualTo(plainImport.size());
+            assertThat(reimported.get(CHANGED_CLASS)).isNotSameAs(previous.get(CHANGED_CLASS));
+            LOG.info("Round {}: Imported {} classes in {} ms, with reimport support in {} ms, reimported one changed class in {} ms",
+                    round, plainImport.size(), plainImportMillis, importWithReimportSupportMillis, reimportMillis);
+        }
+    }
+
+    // NOTE: Each import leaves a lot of garbage, which should not be collected while measuring the next one
+    private static long nanoTimeAfterGc() {
+        System.gc();
+        return System.nanoTime();
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1000000;
+    }
+}
@@ -0,0 +1,37 @@
+package com.tngtech.archunit.core.importer;
+
+import com.tngtech.archunit.core.importer.RawAccessRecord.TargetInfo;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SymbolTableTest {
+    private final SymbolTable symbolTable = new SymbolTable();
+
+    @Test
+    public void returns_the_same_target_for_equal_symbols() {
+        TargetInfo first = symbolTable.methodTarget("java/lang/String", "length", "()I");
+        TargetInfo second = symbolTable.methodTarget(new String("java/lang/String"), new String("length"), new String("()I"));
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    public void distinguishes_targets_of_different_kinds() {
+        TargetInfo fieldTarget = symbolTable.fieldTarget("some/Owner", "member", "I");
+        TargetInfo methodTarget = symbolTable.methodTarget("some/Owner", "member", "I");
+
+        assertThat(fieldTarget).isNotEqualTo(methodTarget);
+        assertThat(fieldTarget).isInstanceOf(RawAccessRecord.FieldTargetInfo.class);
+        assertThat(methodTarget).isInstanceOf(RawAccessRecord.MethodTargetInfo.class);
+    }
+
+    @Test
+    public void shares_owner_types_between_targets() {
+        TargetInfo constructorTarget = symbolTable.constructorTarget("some/Owner", "<init>", "()V");
+        TargetInfo fieldTarget = symbolTable.fieldTarget("some/Owner", "field", "I");
+
+        assertThat(constructorTarget.owner.getName()).isEqualTo("some.Owner");
+        assertThat(fieldTarget.owner).isSameAs(constructorTarget.owner);
+    }
+}
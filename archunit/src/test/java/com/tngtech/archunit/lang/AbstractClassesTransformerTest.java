@@ -2,6 +2,7 @@ package com.tngtech.archunit.lang;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.tngtech.archunit.base.DescribedIterable;
 import com.tngtech.archunit.base.DescribedPredicate;
@@ -65,6 +66,47 @@ public class AbstractClassesTransformerTest {
         assertThat(transformed.getDescription()).isEqualTo("override");
     }
 
+    @Test
+    public void filtered_identity_transformer_selects_classes_by_predicate() {
+        AbstractClassesTransformer<JavaClass> transformer = (AbstractClassesTransformer<JavaClass>) new ClassesIdentityTransformer()
+                .as("all")
+                .that(DescribedPredicate.<JavaClass>alwaysFalse().as("none"));
+
+        JavaClasses classes = importClassesWithContext(AbstractClassesTransformer.class, AbstractClassesTransformerTest.class);
+
+        assertThat(transformer.transform(classes)).isEmpty();
+        assertThat(transformer.getClassSelector().isPresent()).as("class selector present").isTrue();
+        assertThat(transformer.getClassSelector().get().apply(classes.get(AbstractClassesTransformerTest.class))).isFalse();
+    }
+
+    @Test
+    public void identity_transformers_selecting_classes_by_the_same_predicate_share_the_selection() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        DescribedPredicate<JavaClass> countingPredicate = new DescribedPredicate<JavaClass>("counting") {
+            @Override
+            public boolean apply(JavaClass input) {
+                evaluations.incrementAndGet();
+                return input.isEquivalentTo(AbstractClassesTransformerTest.class);
+            }
+        };
+        JavaClasses classes = importClassesWithContext(AbstractClassesTransformer.class, AbstractClassesTransformerTest.class);
+
+        DescribedIterable<JavaClass> first = new ClassesIdentityTransformer().that(countingPredicate).transform(classes);
+        DescribedIterable<JavaClass> second = new ClassesIdentityTransformer().as("other").that(countingPredicate).transform(classes);
+
+        assertThat(first).containsExactly(classes.get(AbstractClassesTransformerTest.class));
+        assertThat(second).containsExactly(classes.get(AbstractClassesTransformerTest.class));
+        assertThat(second.getDescription()).isEqualTo("other that counting");
+        assertThat(evaluations.get()).as("evaluations of predicate").isEqualTo(classes.size());
+    }
+
+    @Test
+    public void transformer_changing_classes_does_not_select_classes() {
+        AbstractClassesTransformer<String> transformer = (AbstractClassesTransformer<String>) toNameTransformer().that(endInTest());
+
+        assertThat(transformer.getClassSelector().isPresent()).as("class selector present").isFalse();
+    }
+
     private AbstractClassesTransformer<String> toNameTransformer() {
         return new AbstractClassesTransformer<String>("changeMe") {
             @Override
@@ -0,0 +1,83 @@
+package com.tngtech.archunit.lang;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.tngtech.archunit.Slow;
+import com.tngtech.archunit.core.domain.JavaAccess;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.tngtech.archunit.core.domain.JavaAccess.Predicates.target;
+import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.name;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(Slow.class)
+public class AccessRulesPerformanceTest {
+    private static final Logger LOG = LoggerFactory.getLogger(AccessRulesPerformanceTest.class);
+    private static final int NUMBER_OF_RULES = 80;
+    private static final int NUMBER_OF_ROUNDS = 5;
+    private static final String PACKAGE_TO_IMPORT = "com.tngtech.archunit";
+
+    /**
+     * Every rule queries the accesses of every class again. Compares collecting the accesses of every class
+     * for the first time with querying them again, and reports the time to evaluate many access rules once the JVM
+     * is warmed up.
+     */
+    @Test
+    public void evaluating_many_access_rules_reuses_the_accesses_of_each_class() {
+        JavaClasses classes = new ClassFileImporter().importPackages(PACKAGE_TO_IMPORT);
+
+        long start = System.nanoTime();
+        Map<JavaClass, Set<JavaAccess<?>>> firstAccesses = new IdentityHashMap<>();
+        for (JavaClass javaClass : classes) {
+            firstAccesses.put(javaClass, javaClass.getAccessesFromSelf());
+        }
+        long firstQueryMicros = (System.nanoTime() - start) / 1000;
+
+        start = System.nanoTime();
+        for (JavaClass javaClass : classes) {
+            assertThat(javaClass.getAccessesFromSelf())
+                    .as("accesses of %s queried again", javaClass.getName())
+                    .isSameAs(firstAccesses.get(javaClass));
+        }
+        long repeatedQueryMicros = (System.nanoTime() - start) / 1000;
+        LOG.info("Queried accesses of {} classes for the first time in {} us, again in {} us",
+                classes.size(), firstQueryMicros, repeatedQueryMicros);
+
+        List<ArchRule> rules = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_RULES; i++) {
+            rules.add(ruleNumber(i));
+        }
+        for (int round = 0; round < NUMBER_OF_ROUNDS; round++) {
+            start = System.nanoTime();
+            for (ArchRule rule : rules) {
+                EvaluationResult result = rule.evaluate(classes);
+
+                assertThat(result.hasViolation()).as("rule '%s' has violation", rule.getDescription()).isFalse();
+            }
+            LOG.info("Evaluated {} access rules in {} ms (round {})", rules.size(), (System.nanoTime() - start) / 1000000, round + 1);
+        }
+    }
+
+    private ArchRule ruleNumber(int i) {
+        switch (i % 3) {
+            case 0:
+                return noClasses().should().accessClassesThat().haveFullyQualifiedName("not.Existing" + i);
+            case 1:
+                return classes().should().onlyAccessClassesThat().haveNameNotMatching(".*NotExisting" + i);
+            default:
+                return noClasses().should().callMethodWhere(target(name("notExisting" + i)));
+        }
+    }
+}
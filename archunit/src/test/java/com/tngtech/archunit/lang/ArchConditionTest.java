@@ -170,6 +170,17 @@ public class ArchConditionTest {
         assertThat(two.eventsFromFinish).isEqualTo(events);
     }
 
+    @Test
+    @UseDataProvider("conditionCombinations")
+    public void join_supports_concurrent_check_only_if_all_conditions_do(ConditionCombination combination) {
+        ArchCondition<String> concurrent = concurrentCondition("concurrent");
+
+        assertThat(combination.combine(concurrent, concurrentCondition("other")).supportsConcurrentCheck()).isTrue();
+        assertThat(combination.combine(concurrent, someCondition("sequential")).supportsConcurrentCheck()).isFalse();
+        assertThat(concurrent.as("changed").supportsConcurrentCheck()).isTrue();
+        assertThat(never(concurrent).supportsConcurrentCheck()).isTrue();
+    }
+
     @Test
     @UseDataProvider("conditionCombinations")
     public void and_joins_descriptions(ConditionCombination combination) {
@@ -259,6 +270,15 @@ public class ArchConditionTest {
         return new ConditionWithInitAndFinish(description);
     }
 
+    private static ArchCondition<String> concurrentCondition(String description) {
+        return new ConditionWithInitAndFinish(description) {
+            @Override
+            public boolean supportsConcurrentCheck() {
+                return true;
+            }
+        };
+    }
+
     private ConditionEvent greaterThanEvent(Integer item, int number) {
         return new SimpleConditionEvent(item, item > number,
                 String.format("%d is%s greater than %d",
@@ -2,19 +2,24 @@ package com.tngtech.archunit.lang;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
 import com.google.common.base.Joiner;
 import com.google.common.base.Splitter;
+import com.google.common.collect.Sets;
 import com.google.common.io.Files;
+import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.core.domain.JavaClass;
 import com.tngtech.archunit.core.domain.JavaClasses;
 import com.tngtech.archunit.core.domain.JavaClassesTest;
 import com.tngtech.archunit.lang.ArchConditionTest.ConditionWithInitAndFinish;
 import com.tngtech.archunit.lang.syntax.ArchRuleDefinition;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
 import org.hamcrest.Description;
 import org.hamcrest.TypeSafeMatcher;
 import org.junit.After;
@@ -30,12 +35,15 @@ import static com.tngtech.archunit.lang.ArchRule.Assertions.ARCHUNIT_IGNORE_PATT
 import static com.tngtech.archunit.lang.Priority.HIGH;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.all;
 import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static java.lang.Thread.currentThread;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class ArchRuleTest {
     @Rule
     public final ExpectedException thrown = ExpectedException.none();
+    @Rule
+    public final ArchConfigurationRule archConfigurationRule = new ArchConfigurationRule();
 
     @Before
     public void setUp() {
@@ -158,6 +166,80 @@ public class ArchRuleTest {
         assertThat(condition.eventsFromFinish.getViolating()).hasSize(1);
     }
 
+    @Test
+    public void objects_are_checked_concurrently_if_configured_and_supported_by_the_condition() {
+        ArchConfiguration.get().setEvaluationParallelism(4);
+        ConditionRecordingThreads condition = new ConditionRecordingThreads(true);
+
+        all(numbers(100)).should(condition).evaluate(importClasses(getClass()));
+
+        assertThat(condition.checkingThreads).isNotEmpty().doesNotContain(currentThread());
+        assertThat(condition.violationsFromFinish).hasSize(50);
+        for (int i = 0; i < 50; i++) {
+            assertThat(condition.violationsFromFinish.get(i)).isEqualTo((2 * i + 1) + " is odd");
+        }
+    }
+
+    @Test
+    public void objects_are_checked_sequentially_if_concurrent_check_is_not_supported_by_the_condition() {
+        ArchConfiguration.get().setEvaluationParallelism(4);
+        ConditionRecordingThreads condition = new ConditionRecordingThreads(false);
+
+        all(numbers(100)).should(condition).evaluate(importClasses(getClass()));
+
+        assertThat(condition.checkingThreads).containsOnly(currentThread());
+        assertThat(condition.violationsFromFinish).hasSize(50);
+    }
+
+    @Test
+    public void evaluation_stops_at_first_violation_if_configured() {
+        ArchConfiguration.get().setStopEvaluationAtFirstViolation(true);
+        ConditionCountingChecks condition = new ConditionCountingChecks();
+
+        EvaluationResult result = all(numbers(100)).should(condition).evaluate(importClasses(getClass()));
+
+        assertThat(condition.numberOfChecks).isEqualTo(2);
+        assertThat(result.getFailureReport().getDetails()).containsExactly("1 is odd");
+        assertThat(result.getFailureReport().toString()).contains("(at least 1 times)");
+    }
+
+    @Test
+    public void evaluation_stops_once_more_violations_than_configured_have_been_found() {
+        ArchConfiguration.get().setMaxViolationsPerRule(3);
+        ConditionCountingChecks condition = new ConditionCountingChecks();
+
+        EvaluationResult result = all(numbers(100)).should(condition).evaluate(importClasses(getClass()));
+
+        assertThat(condition.numberOfChecks).isEqualTo(8);
+        assertThat(result.getFailureReport().getDetails()).containsExactly("1 is odd", "3 is odd", "5 is odd");
+        assertThat(result.getFailureReport().toString()).contains("(more than 3 times)");
+    }
+
+    @Test
+    public void evaluation_reports_all_violations_if_the_configured_maximum_is_not_exceeded() {
+        ArchConfiguration.get().setMaxViolationsPerRule(50);
+        ConditionCountingChecks condition = new ConditionCountingChecks();
+
+        EvaluationResult result = all(numbers(100)).should(condition).evaluate(importClasses(getClass()));
+
+        assertThat(condition.numberOfChecks).isEqualTo(100);
+        assertThat(result.getFailureReport().getDetails()).hasSize(50);
+        assertThat(result.getFailureReport().toString()).contains("(50 times)");
+    }
+
+    private ClassesTransformer<Integer> numbers(final int count) {
+        return new AbstractClassesTransformer<Integer>("numbers") {
+            @Override
+            public Iterable<Integer> doTransform(JavaClasses collection) {
+                List<Integer> result = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                    result.add(i);
+                }
+                return result;
+            }
+        };
+    }
+
     private ClassesTransformer<String> strings() {
         return new AbstractClassesTransformer<String>("strings") {
             @Override
@@ -249,6 +331,49 @@ public class ArchRuleTest {
                 }
             };
 
+    private static class ConditionRecordingThreads extends ArchCondition<Integer> {
+        private final boolean supportsConcurrentCheck;
+        final Set<Thread> checkingThreads = Sets.newConcurrentHashSet();
+        final List<String> violationsFromFinish = new ArrayList<>();
+
+        ConditionRecordingThreads(boolean supportsConcurrentCheck) {
+            super("record threads");
+            this.supportsConcurrentCheck = supportsConcurrentCheck;
+        }
+
+        @Override
+        public void check(Integer item, ConditionEvents events) {
+            checkingThreads.add(currentThread());
+            events.add(new SimpleConditionEvent(item, item % 2 == 0, item + " is odd"));
+        }
+
+        @Override
+        public void finish(ConditionEvents events) {
+            for (ConditionEvent event : events.getViolating()) {
+                violationsFromFinish.addAll(event.getDescriptionLines());
+            }
+        }
+
+        @Override
+        public boolean supportsConcurrentCheck() {
+            return supportsConcurrentCheck;
+        }
+    }
+
+    private static class ConditionCountingChecks extends ArchCondition<Integer> {
+        int numberOfChecks = 0;
+
+        ConditionCountingChecks() {
+            super("count checks");
+        }
+
+        @Override
+        public void check(Integer item, ConditionEvents events) {
+            numberOfChecks++;
+            events.add(new SimpleConditionEvent(item, item % 2 == 0, item + " is odd"));
+        }
+    }
+
     private static class ClassAccessingStringTwoTimes {
         void execute() {
             "foo".length();
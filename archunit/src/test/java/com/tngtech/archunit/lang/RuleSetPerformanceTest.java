@@ -0,0 +1,75 @@
+package com.tngtech.archunit.lang;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.tngtech.archunit.Slow;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.tngtech.archunit.core.domain.JavaAccess.Predicates.target;
+import static com.tngtech.archunit.core.domain.properties.HasName.Predicates.name;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Category(Slow.class)
+public class RuleSetPerformanceTest {
+    private static final Logger LOG = LoggerFactory.getLogger(RuleSetPerformanceTest.class);
+    private static final int NUMBER_OF_RULES = 80;
+    private static final int NUMBER_OF_ROUNDS = 5;
+    private static final JavaClasses classes = new ClassFileImporter().importPackages("com.tngtech.archunit");
+
+    /**
+     * Compares evaluating many rules on classes one after another with evaluating them as a {@link RuleSet},
+     * which walks the imported classes only once. Note that the fused evaluation has to keep the events of all rules
+     * until the last class has been checked, so with a small heap the additional garbage collection
+     * can eat up the gain.
+     */
+    @Test
+    public void evaluating_rules_as_rule_set_yields_the_same_results_as_evaluating_them_one_by_one() {
+        List<ArchRule> rules = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_RULES; i++) {
+            rules.add(ruleNumber(i));
+        }
+
+        for (int round = 0; round < NUMBER_OF_ROUNDS; round++) {
+            long start = System.nanoTime();
+            List<EvaluationResult> expectedResults = new ArrayList<>();
+            for (ArchRule rule : rules) {
+                expectedResults.add(rule.evaluate(classes));
+            }
+            long oneByOneMillis = (System.nanoTime() - start) / 1000000;
+
+            start = System.nanoTime();
+            List<EvaluationResult> results = RuleSet.of(rules).evaluate(classes);
+            long ruleSetMillis = (System.nanoTime() - start) / 1000000;
+
+            LOG.info("Evaluated {} rules one by one in {} ms, as rule set in {} ms", rules.size(), oneByOneMillis, ruleSetMillis);
+            for (int i = 0; i < rules.size(); i++) {
+                assertThat(results.get(i).getFailureReport().getDetails())
+                        .as("failure details of rule '%s'", rules.get(i).getDescription())
+                        .isEqualTo(expectedResults.get(i).getFailureReport().getDetails());
+            }
+        }
+    }
+
+    private ArchRule ruleNumber(int i) {
+        switch (i % 4) {
+            case 0:
+                return noClasses().should().accessClassesThat().haveFullyQualifiedName("not.Existing" + i);
+            case 1:
+                return classes().that().resideInAPackage("..lang..")
+                        .should().onlyAccessClassesThat().haveNameNotMatching(".*NotExisting" + i);
+            case 2:
+                return noClasses().should().callMethodWhere(target(name("notExisting" + i)));
+            default:
+                return noClasses().that().resideInAPackage("..core..")
+                        .should().dependOnClassesThat().resideInAPackage("com.google.common.collect..");
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.tngtech.archunit.lang;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import org.junit.Test;
+
+import static com.tngtech.archunit.base.DescribedPredicate.lessThanOrEqualTo;
+import static com.tngtech.archunit.core.domain.TestUtils.importClasses;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.members;
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RuleSetTest {
+    private final JavaClasses classes = importClasses(Object.class, String.class, List.class, ArrayList.class);
+
+    @Test
+    public void evaluates_rules_with_the_same_results_as_evaluating_each_rule() {
+        List<ArchRule> rules = new ArrayList<>();
+        rules.add(classes().that().haveSimpleNameStartingWith("S").should().beInterfaces());
+        rules.add(noClasses().should().accessClassesThat().haveSimpleName("String"));
+        rules.add(members().should().haveNameMatching("[a-z].*"));
+        rules.add(classes().should().haveSimpleNameEndingWith("List").as("only lists"));
+        rules.add(classes().should().containNumberOfElements(lessThanOrEqualTo(2)));
+
+        List<EvaluationResult> results = RuleSet.of(rules).evaluate(classes);
+
+        assertThat(results).hasSameSizeAs(rules);
+        for (int i = 0; i < rules.size(); i++) {
+            EvaluationResult expected = rules.get(i).evaluate(classes);
+            assertThat(results.get(i).getFailureReport().getDetails())
+                    .as("failure details of rule '%s'", rules.get(i).getDescription())
+                    .isEqualTo(expected.getFailureReport().getDetails());
+            assertThat(results.get(i).getFailureReport().toString())
+                    .isEqualTo(expected.getFailureReport().toString());
+        }
+    }
+
+    @Test
+    public void checks_each_class_for_all_rules_on_classes_before_checking_the_next_class() {
+        List<String> checks = new ArrayList<>();
+
+        RuleSet.of(
+                classes().should(recordChecks("first", checks, true)),
+                classes().that().haveSimpleName("String").should(recordChecks("second", checks, true))
+        ).evaluate(importClasses(Object.class, String.class));
+
+        assertThat(checks).containsExactly(
+                "first: " + Object.class.getName(),
+                "first: " + String.class.getName(),
+                "second: " + String.class.getName());
+    }
+
+    @Test
+    public void evaluates_rules_with_conditions_not_supporting_concurrent_checks_one_after_another() {
+        List<String> checks = new ArrayList<>();
+
+        RuleSet.of(
+                classes().should(recordChecks("first", checks, false)),
+                classes().should(recordChecks("second", checks, true))
+        ).evaluate(importClasses(Object.class, String.class));
+
+        assertThat(checks).containsExactly(
+                "first: " + Object.class.getName(),
+                "first: " + String.class.getName(),
+                "second: " + Object.class.getName(),
+                "second: " + String.class.getName());
+    }
+
+    @Test
+    public void evaluates_rules_on_other_objects_by_themselves() {
+        ArchRule rule = members().should().haveNameMatching("[a-z].*");
+
+        List<EvaluationResult> results = RuleSet.of(rule).evaluate(classes);
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getFailureReport().getDetails())
+                .isEqualTo(rule.evaluate(classes).getFailureReport().getDetails());
+    }
+
+    @Test
+    public void passes_violations_of_each_rule_to_sink() {
+        ArchRule first = classes().should().haveSimpleNameEndingWith("List");
+        ArchRule second = noClasses().should().accessClassesThat().haveSimpleName("String");
+        ArchRule third = CompositeArchRule.of(classes().should().beInterfaces()).and(members().should().haveNameMatching("[a-z].*"));
+        RecordingSink sink = new RecordingSink();
+
+        int numberOfViolations = RuleSet.of(first, second, third).evaluate(classes, sink);
+
+        List<String> expected = new ArrayList<>();
+        for (ArchRule rule : asList(first, second, third)) {
+            for (String detail : rule.evaluate(classes).getFailureReport().getDetails()) {
+                expected.add(rule.getDescription() + ": " + detail);
+            }
+        }
+        assertThat(sink.violations).containsOnlyElementsOf(expected).hasSameSizeAs(expected);
+        assertThat(numberOfViolations).isEqualTo(expected.size());
+    }
+
+    @Test
+    public void passes_violations_to_sink_as_soon_as_they_are_found() {
+        final RecordingSink sink = new RecordingSink();
+
+        RuleSet.of(classes().should(new ArchCondition<JavaClass>("be violated") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                sink.violations.add("check " + item.getSimpleName());
+                events.add(SimpleConditionEvent.violated(item, item.getSimpleName()));
+            }
+        }).as("rule")).evaluate(importClasses(Object.class, String.class), sink);
+
+        assertThat(sink.violations).containsExactly("check Object", "rule: Object", "check String", "rule: String");
+    }
+
+    private static class RecordingSink implements ViolationSink {
+        private final List<String> violations = new ArrayList<>();
+
+        @Override
+        public void handle(HasDescription rule, Collection<?> violatingObjects, String message) {
+            violations.add(rule.getDescription() + ": " + message);
+        }
+    }
+
+    private static ArchCondition<JavaClass> recordChecks(final String name, final List<String> checks, final boolean concurrent) {
+        return new ArchCondition<JavaClass>("be recorded") {
+            @Override
+            public void check(JavaClass item, ConditionEvents events) {
+                checks.add(name + ": " + item.getName());
+            }
+
+            @Override
+            public boolean supportsConcurrentCheck() {
+                return concurrent;
+            }
+        };
+    }
+}
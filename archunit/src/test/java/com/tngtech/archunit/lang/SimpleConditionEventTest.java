@@ -4,12 +4,18 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import com.tngtech.archunit.base.HasDescription;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 import static com.google.common.collect.Iterables.getOnlyElement;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class SimpleConditionEventTest {
+    @Rule
+    public final ExpectedException thrown = ExpectedException.none();
+
     @Test
     public void passes_corresponding_object_as_single_element_collection_with_message() {
         final List<String> messages = new ArrayList<>();
@@ -27,4 +33,93 @@ public class SimpleConditionEventTest {
         SimpleConditionEvent.violated(88, "violated").handleWith(handler);
         assertThat(messages).containsExactly("88: violated");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void formats_message_template_only_once_message_is_requested() {
+        CountingToString arg = new CountingToString("arg");
+
+        ConditionEvent event = SimpleConditionEvent.violated(88, "violated by %s", arg);
+        assertThat(arg.calls).as("calls of toString() before message is requested").isZero();
+
+        assertThat(event.getDescriptionLines()).containsExactly("violated by arg");
+        assertThat(arg.calls).isEqualTo(1);
+    }
+
+    @Test
+    public void renders_message_of_described_object_on_demand() {
+        CountingToString message = new CountingToString("described");
+
+        ConditionEvent event = new SimpleConditionEvent(77, false, message);
+        assertThat(message.calls).as("calls of getDescription() before message is requested").isZero();
+
+        assertThat(event.getDescriptionLines()).containsExactly("described");
+    }
+
+    @Test
+    public void inverted_event_keeps_message() {
+        CountingToString message = new CountingToString("message");
+        ConditionEvents events = new ConditionEvents();
+
+        new SimpleConditionEvent(77, true, "the %s", message).addInvertedTo(events);
+
+        assertThat(message.calls).isZero();
+        ConditionEvent inverted = getOnlyElement(events);
+        assertThat(inverted.isViolation()).as("inverted event is violation").isTrue();
+        assertThat(inverted.getDescriptionLines()).containsExactly("the message");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejects_empty_message_for_violation() {
+        SimpleConditionEvent.violated(88, " ");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejects_empty_message_template_for_violation() {
+        SimpleConditionEvent.violated(88, " ", new Object[0]);
+    }
+
+    @Test
+    public void rejects_empty_formatted_message_for_violation_once_message_is_requested() {
+        ConditionEvent event = SimpleConditionEvent.violated(88, "%s", " ");
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Message may not be empty for violation");
+        event.getDescriptionLines();
+    }
+
+    @Test
+    public void rejects_empty_described_message_for_violation_once_message_is_requested() {
+        ConditionEvent event = new SimpleConditionEvent(88, false, new CountingToString(""));
+
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Message may not be empty for violation");
+        event.getDescriptionLines();
+    }
+
+    @Test
+    public void accepts_empty_message_for_satisfied_event() {
+        ConditionEvent event = new SimpleConditionEvent(77, true, new CountingToString(""));
+
+        assertThat(event.getDescriptionLines()).containsExactly("");
+    }
+
+    private static class CountingToString implements HasDescription {
+        private final String value;
+        private int calls;
+
+        CountingToString(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String getDescription() {
+            return toString();
+        }
+
+        @Override
+        public String toString() {
+            calls++;
+            return value;
+        }
+    }
+}
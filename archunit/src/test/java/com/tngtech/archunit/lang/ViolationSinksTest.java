@@ -0,0 +1,120 @@
+package com.tngtech.archunit.lang;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.io.Files;
+import com.tngtech.archunit.base.HasDescription;
+import com.tngtech.archunit.lang.ViolationSinks.ClosableSink;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ViolationSinksTest {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final HasDescription first = rule("first");
+    private final HasDescription second = rule("second");
+
+    @Test
+    public void writes_violations_as_plain_text_grouped_by_rule() throws IOException {
+        File file = new File(temporaryFolder.getRoot(), "some/folder/violations.txt");
+
+        try (ClosableSink sink = ViolationSinks.plainTextFile(file)) {
+            sink.handle(first, Collections.emptyList(), "one");
+            sink.handle(first, Collections.emptyList(), "two");
+            sink.handle(second, Collections.emptyList(), "three");
+        }
+
+        assertThat(Files.toString(file, UTF_8)).isEqualTo(
+                "Rule 'first' was violated:" + LINE_SEPARATOR +
+                        "one" + LINE_SEPARATOR +
+                        "two" + LINE_SEPARATOR +
+                        LINE_SEPARATOR +
+                        "Rule 'second' was violated:" + LINE_SEPARATOR +
+                        "three" + LINE_SEPARATOR);
+    }
+
+    @Test
+    public void writes_violations_as_json_lines() throws IOException {
+        File file = temporaryFolder.newFile("violations.jsonl");
+
+        try (ClosableSink sink = ViolationSinks.jsonLinesFile(file)) {
+            sink.handle(rule("some \"rule\""), Collections.emptyList(), "one");
+            sink.handle(first, Collections.emptyList(), "multi\nline\\message\twith\u0001control");
+        }
+
+        assertThat(Files.readLines(file, UTF_8)).containsExactly(
+                "{\"rule\":\"some \\\"rule\\\"\",\"message\":\"one\"}",
+                "{\"rule\":\"first\",\"message\":\"multi\\nline\\\\message\\twith\\u0001control\"}");
+    }
+
+    @Test
+    public void sorts_violations_by_rule_and_message_in_memory() {
+        RecordingSink recordingSink = new RecordingSink();
+
+        try (ClosableSink sink = ViolationSinks.sorted(recordingSink)) {
+            passUnsortedViolationsTo(sink);
+            assertThat(recordingSink.violations).as("violations passed before closing").isEmpty();
+        }
+
+        assertThat(recordingSink.violations).containsExactly("second: a", "second: b", "second: c", "first: a", "first: d");
+        assertThat(recordingSink.closed).as("sink closed").isTrue();
+    }
+
+    @Test
+    public void sorts_violations_exceeding_memory_limit_by_merging_sorted_chunks() {
+        RecordingSink recordingSink = new RecordingSink();
+
+        try (ClosableSink sink = ViolationSinks.sorted(recordingSink, 2)) {
+            passUnsortedViolationsTo(sink);
+        }
+
+        assertThat(recordingSink.violations).containsExactly("second: a", "second: b", "second: c", "first: a", "first: d");
+        assertThat(recordingSink.closed).as("sink closed").isTrue();
+    }
+
+    private void passUnsortedViolationsTo(ClosableSink sink) {
+        sink.handle(second, Collections.emptyList(), "c");
+        sink.handle(first, Collections.emptyList(), "d");
+        sink.handle(second, Collections.emptyList(), "a");
+        sink.handle(second, Collections.emptyList(), "c");
+        sink.handle(first, Collections.emptyList(), "a");
+        sink.handle(second, Collections.emptyList(), "b");
+        sink.handle(first, Collections.emptyList(), "d");
+    }
+
+    private static HasDescription rule(final String description) {
+        return new HasDescription() {
+            @Override
+            public String getDescription() {
+                return description;
+            }
+        };
+    }
+
+    private static class RecordingSink implements ClosableSink {
+        private final List<String> violations = new ArrayList<>();
+        private boolean closed = false;
+
+        @Override
+        public void handle(HasDescription rule, Collection<?> violatingObjects, String message) {
+            violations.add(rule.getDescription() + ": " + message);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
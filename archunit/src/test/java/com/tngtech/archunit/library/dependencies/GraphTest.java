@@ -2,6 +2,7 @@ package com.tngtech.archunit.library.dependencies;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
 import java.util.Set;
@@ -15,6 +16,8 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Range;
 import com.tngtech.archunit.ArchConfiguration;
 import com.tngtech.archunit.library.dependencies.Graph.Cycles;
+import com.tngtech.archunit.testutil.ArchConfigurationRule;
+import org.junit.Rule;
 import org.junit.Test;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -30,6 +33,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class GraphTest {
     private static final Random random = new Random();
 
+    @Rule
+    public final ArchConfigurationRule configurationRule = new ArchConfigurationRule();
+
     @Test
     public void graph_without_cycles() {
         Graph<String, String> graph = new Graph<>();
@@ -150,6 +156,43 @@ public class GraphTest {
         assertThat(graph.findCycles()).isNotEmpty();
     }
 
+    @Test
+    public void cycles_of_component_not_reachable_from_a_lower_node_are_detected() {
+        Graph<Integer, Integer> graph = new Graph<>();
+        graph.addNodes(ImmutableList.of(0, 1, 2, 3, 4));
+        graph.addEdges(ImmutableSet.of(
+                integerEdge(0, 2),
+                integerEdge(2, 3),
+                integerEdge(3, 2),
+                integerEdge(1, 4),
+                integerEdge(4, 1)));
+
+        assertThat(graph.findCycles()).containsExactly(
+                createCycle(ImmutableList.of(1, 4, 1)),
+                createCycle(ImmutableList.of(2, 3, 2)));
+    }
+
+    @Test
+    public void cycles_found_in_parallel_equal_cycles_found_sequentially() {
+        Graph<String, String> graph = new Graph<>();
+        for (int i = 0; i < 10; i++) {
+            Cycle<String, String> first = randomCycle(2 + random.nextInt(4));
+            Cycle<String, String> second = randomCycle(2 + random.nextInt(4));
+            addCycles(graph, first, second);
+            addCrossLink(graph, first, second);
+            addCrossLink(graph, second, first);
+        }
+        ArchConfiguration.get().setProperty(MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME, "15");
+
+        ArchConfiguration.get().setEvaluationParallelism(1);
+        Cycles<String, String> sequentialCycles = graph.findCycles();
+        ArchConfiguration.get().setEvaluationParallelism(4);
+        Cycles<String, String> parallelCycles = graph.findCycles();
+
+        assertThat(parallelCycles).containsExactlyElementsOf(sequentialCycles);
+        assertThat(parallelCycles.maxNumberOfCyclesReached()).isEqualTo(sequentialCycles.maxNumberOfCyclesReached());
+    }
+
     // This test covers some edge cases, e.g. if too many nodes stay blocked
     @Test
     public void finds_cycles_in_real_life_graph() {
@@ -163,6 +206,45 @@ public class GraphTest {
         assertThat(cycles.maxNumberOfCyclesReached()).as("maximum number of cycles reached").isTrue();
     }
 
+    @Test
+    public void cyclic_components_are_detected_with_cycles_covering_all_their_nodes() {
+        Graph<String, String> graph = new Graph<>();
+        Cycle<String, String> first = randomCycle(3);
+        Cycle<String, String> second = randomCycle(4);
+        Cycle<String, String> separate = randomCycle(2);
+        addCycles(graph, first, second, separate);
+        addCrossLink(graph, first, second);
+        addCrossLink(graph, second, first);
+        graph.addNodes(singleton("acyclic"));
+        graph.addEdges(singleEdge("acyclic", first.getEdges().get(0).getFrom()));
+
+        List<Graph.CyclicComponent<String, String>> components = graph.findCyclicComponents(100);
+
+        assertThat(components).hasSize(2);
+        for (Graph.CyclicComponent<String, String> component : components) {
+            Set<String> nodesOfCycles = new HashSet<>();
+            for (Cycle<String, String> cycle : component.getRepresentativeCycles()) {
+                for (Edge<String, String> edge : cycle.getEdges()) {
+                    nodesOfCycles.add(edge.getFrom());
+                }
+            }
+            assertThat(nodesOfCycles).containsOnlyElementsOf(component.getNodes());
+            assertThat(component.getNodes()).containsOnlyElementsOf(nodesOfCycles);
+        }
+        assertThat(components.get(0).getNodes()).hasSize(7);
+        assertThat(components.get(1).getNodes()).hasSize(2);
+    }
+
+    @Test
+    public void cyclic_components_limit_the_number_of_representative_cycles() {
+        Graph<Integer, Integer> completeGraph = createCompleteGraph(5);
+
+        Graph.CyclicComponent<Integer, Integer> component = getOnlyElement(completeGraph.findCyclicComponents(1));
+
+        assertThat(component.getNodes()).containsExactly(0, 1, 2, 3, 4);
+        assertThat(component.getRepresentativeCycles()).containsExactly(createCycle(ImmutableList.of(0, 1, 0)));
+    }
+
     @SuppressWarnings("unchecked")
     private Graph<Integer, Integer> createCompleteGraph(int n) {
         ContiguousSet<Integer> integers = ContiguousSet.create(Range.closedOpen(0, n), integers());
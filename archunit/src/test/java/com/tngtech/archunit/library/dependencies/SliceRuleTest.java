@@ -23,6 +23,7 @@ import org.junit.runner.RunWith;
 import static com.google.common.math.IntMath.factorial;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_CYCLES_TO_DETECT_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.CycleConfiguration.MAX_NUMBER_OF_DEPENDENCIES_TO_SHOW_PER_EDGE_PROPERTY_NAME;
+import static com.tngtech.archunit.library.dependencies.CycleConfiguration.REPORT_MODE_PROPERTY_NAME;
 import static com.tngtech.archunit.library.dependencies.SlicesRuleDefinition.slices;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$;
 import static com.tngtech.java.junit.dataprovider.DataProviders.$$;
@@ -147,6 +148,18 @@ public class SliceRuleTest {
                 "Dependencies of Slice threedependencies"));
     }
 
+    @Test
+    public void reports_strongly_connected_components_instead_of_all_cycles_if_configured() {
+        ArchConfiguration.get().setProperty(REPORT_MODE_PROPERTY_NAME, "strongly_connected_components");
+
+        String failureReport = getFailureReportForCyclesInRootPackageOf(CompleteSevenNodesGraphRoot.class);
+
+        assertThat(failureReport).as("failure report")
+                .contains("(1 times)")
+                .contains("Cyclic dependencies between 7 slices detected: Slice ");
+        assertThat(countCyclesInMessage(failureReport)).as("number of representative cycles").isBetween(1, 6);
+    }
+
     private List<String> filterLinesMatching(String text, final String regex) {
         return FluentIterable.from(Splitter.on(lineSeparator()).split(text))
                 .filter(new Predicate<String>() {
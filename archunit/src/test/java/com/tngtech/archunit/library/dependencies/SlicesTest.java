@@ -5,6 +5,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 import com.google.common.collect.ImmutableSet;
@@ -107,6 +108,36 @@ public class SlicesTest {
                 .isAbsent();
     }
 
+    @Test
+    public void slices_with_same_assignment_are_assigned_only_once_per_imported_classes() {
+        final AtomicInteger assignments = new AtomicInteger();
+        SliceAssignment countingAssignment = new SliceAssignment() {
+            @Override
+            public String getDescription() {
+                return "counting";
+            }
+
+            @Override
+            public SliceIdentifier getIdentifierOf(JavaClass javaClass) {
+                assignments.incrementAndGet();
+                return SliceIdentifier.of(javaClass.getPackageName());
+            }
+        };
+        JavaClasses classes = importClassesWithContext(Object.class, List.class);
+
+        Slices first = Slices.assignedFrom(countingAssignment).transform(classes);
+        Slices second = Slices.assignedFrom(countingAssignment).namingSlices("Renamed $1").as("other").transform(classes);
+
+        assertThat(assignments.get()).as("number of assignments").isEqualTo(classes.size());
+        assertThat(first).extractingResultOf("getDescription").containsOnly("Slice java.lang", "Slice java.util");
+        assertThat(second).extractingResultOf("getDescription").containsOnly("Renamed java.lang", "Renamed java.util");
+        assertThat(second.getDescription()).isEqualTo("other");
+
+        Slices.assignedFrom(countingAssignment).transform(importClassesWithContext(Object.class, List.class));
+
+        assertThat(assignments.get()).as("number of assignments after new import").isEqualTo(2 * classes.size());
+    }
+
     private Slice getSliceOf(Class<?> clazz, Slices slices) {
         return tryGetSliceOf(clazz, slices).get();
     }
@@ -0,0 +1,190 @@
+package com.tngtech.archunit.library.freeze;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.collect.ImmutableList;
+import com.tngtech.archunit.lang.ArchRule;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.classes;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConcurrentFileBasedViolationStoreTest {
+    private static final int NUMBER_OF_STORES = 8;
+    private static final int RULES_PER_STORE = 10;
+    private static final int NUMBER_OF_PROCESSES = 4;
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File storeFolder;
+
+    @Before
+    public void setUp() throws Exception {
+        storeFolder = temporaryFolder.newFolder();
+    }
+
+    @Test
+    public void concurrent_saves_of_several_stores_lose_no_rules() throws Exception {
+        final CyclicBarrier allStoresInitialized = new CyclicBarrier(NUMBER_OF_STORES);
+        ExecutorService executor = Executors.newFixedThreadPool(NUMBER_OF_STORES);
+        try {
+            List<Future<?>> saves = new ArrayList<>();
+            for (int i = 0; i < NUMBER_OF_STORES; i++) {
+                final int storeNumber = i;
+                saves.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        ViolationStore store = newStore();
+                        allStoresInitialized.await();
+                        for (int j = 0; j < RULES_PER_STORE; j++) {
+                            store.save(rule("rule " + storeNumber + "/" + j), ImmutableList.of("violation of " + storeNumber + "/" + j));
+                        }
+                        return null;
+                    }
+                }));
+            }
+            for (Future<?> save : saves) {
+                save.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Properties storedRules = readProperties(new File(storeFolder, "stored.rules"));
+        assertThat(storedRules).as("stored rules").hasSize(NUMBER_OF_STORES * RULES_PER_STORE);
+        ViolationStore store = newStore();
+        for (int i = 0; i < NUMBER_OF_STORES; i++) {
+            for (int j = 0; j < RULES_PER_STORE; j++) {
+                assertThat(store.getViolations(rule("rule " + i + "/" + j))).containsOnly("violation of " + i + "/" + j);
+            }
+        }
+    }
+
+    @Test
+    public void concurrent_saves_of_several_processes_lose_no_rules() throws Exception {
+        List<Process> processes = new ArrayList<>();
+        List<File> logFiles = new ArrayList<>();
+        for (int i = 0; i < NUMBER_OF_PROCESSES; i++) {
+            File logFile = temporaryFolder.newFile();
+            processes.add(new ProcessBuilder(
+                    new File(System.getProperty("java.home"), "bin/java").getAbsolutePath(),
+                    "-cp", System.getProperty("java.class.path"),
+                    SavingProcess.class.getName(), storeFolder.getAbsolutePath(), String.valueOf(i))
+                    .redirectErrorStream(true)
+                    .redirectOutput(logFile)
+                    .start());
+            logFiles.add(logFile);
+        }
+        for (int i = 0; i < processes.size(); i++) {
+            assertThat(processes.get(i).waitFor())
+                    .as("exit value of process %d with output%n%s", i, new String(Files.readAllBytes(logFiles.get(i).toPath()), UTF_8))
+                    .isZero();
+        }
+
+        Properties storedRules = readProperties(new File(storeFolder, "stored.rules"));
+        assertThat(storedRules).as("stored rules").hasSize(NUMBER_OF_PROCESSES * RULES_PER_STORE);
+        ViolationStore store = newStore();
+        for (int i = 0; i < NUMBER_OF_PROCESSES; i++) {
+            for (int j = 0; j < RULES_PER_STORE; j++) {
+                assertThat(store.getViolations(rule("rule " + i + "/" + j))).containsOnly("violation of " + i + "/" + j);
+            }
+        }
+    }
+
+    @Test
+    public void saving_unchanged_violations_writes_no_file() throws IOException {
+        ViolationStore store = newStore();
+        store.save(defaultRule(), ImmutableList.of("first violation", "second violation"));
+        File storedRulesFile = new File(storeFolder, "stored.rules");
+        File ruleFile = new File(storeFolder, readProperties(storedRulesFile).getProperty(defaultRule().getDescription()));
+        long pastTimestamp = 1000000000L;
+        assertThat(storedRulesFile.setLastModified(pastTimestamp) && ruleFile.setLastModified(pastTimestamp))
+                .as("timestamps could be reset").isTrue();
+
+        store.save(defaultRule(), ImmutableList.of("first violation", "second violation"));
+
+        assertThat(storedRulesFile.lastModified()).as("last modified of " + storedRulesFile.getName()).isEqualTo(pastTimestamp);
+        assertThat(ruleFile.lastModified()).as("last modified of " + ruleFile.getName()).isEqualTo(pastTimestamp);
+    }
+
+    @Test
+    public void replaces_violation_file_if_compression_changes() throws IOException {
+        ViolationStore store = newStore();
+        store.save(defaultRule(), ImmutableList.of("first violation", "second violation", "third violation"));
+        String compressedFileName = readProperties(new File(storeFolder, "stored.rules")).getProperty(defaultRule().getDescription());
+
+        store.save(defaultRule(), ImmutableList.of("first violation"));
+
+        String uncompressedFileName = readProperties(new File(storeFolder, "stored.rules")).getProperty(defaultRule().getDescription());
+        assertThat(compressedFileName).isEqualTo(uncompressedFileName + ".gz");
+        assertThat(new File(storeFolder, compressedFileName)).doesNotExist();
+        assertThat(store.getViolations(defaultRule())).containsOnly("first violation");
+    }
+
+    private ViolationStore newStore() {
+        return newStore(storeFolder);
+    }
+
+    private static ViolationStore newStore(File storeFolder) {
+        ViolationStore store = new ConcurrentFileBasedViolationStore();
+        store.initialize(propertiesOf(
+                "default.path", storeFolder.getAbsolutePath(),
+                "default.allowStoreCreation", String.valueOf(true),
+                "default.compressionThreshold", String.valueOf(3)));
+        return store;
+    }
+
+    private Properties readProperties(File file) throws IOException {
+        Properties properties = new Properties();
+        try (FileInputStream inputStream = new FileInputStream(file)) {
+            properties.load(inputStream);
+        }
+        return properties;
+    }
+
+    private static Properties propertiesOf(String... keyValuePairs) {
+        Properties result = new Properties();
+        LinkedList<String> keyValues = new LinkedList<>(asList(keyValuePairs));
+        while (!keyValues.isEmpty()) {
+            result.setProperty(keyValues.poll(), keyValues.poll());
+        }
+        return result;
+    }
+
+    private ArchRule defaultRule() {
+        return rule("default rule");
+    }
+
+    private static ArchRule rule(String description) {
+        return classes().should().bePublic().as(description);
+    }
+
+    // NOTE: Stores within one JVM share the index of a store folder, so only separate processes compete for the file lock
+    public static class SavingProcess {
+        public static void main(String[] args) {
+            ViolationStore store = newStore(new File(args[0]));
+            String processNumber = args[1];
+            for (int j = 0; j < RULES_PER_STORE; j++) {
+                store.save(rule("rule " + processNumber + "/" + j), ImmutableList.of("violation of " + processNumber + "/" + j));
+            }
+        }
+    }
+}
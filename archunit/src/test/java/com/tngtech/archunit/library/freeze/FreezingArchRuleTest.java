@@ -197,6 +197,35 @@ public class FreezingArchRuleTest {
                 .hasOnlyViolations("and new");
     }
 
+    @Test
+    public void associates_violations_via_normalized_form_if_matcher_can_normalize_lines() {
+        TestViolationStore violationStore = new TestViolationStore();
+
+        createFrozen(violationStore, rule("some description")
+                .withViolations("first #1# violation", "second #1# violation", "second #2# violation", "solved violation"));
+
+        ArchRule frozen = freeze(rule("some description")
+                .withViolations("second #3# violation", "first #3# violation", "second #4# violation", "second #5# violation"))
+                .persistIn(violationStore)
+                .associateViolationLinesVia(new NormalizingViolationLineMatcher() {
+                    @Override
+                    public String normalize(String line) {
+                        return line.replaceAll("#.*#", "");
+                    }
+
+                    @Override
+                    public boolean matches(String lineFromFirstViolation, String lineFromSecondViolation) {
+                        return normalize(lineFromFirstViolation).equals(normalize(lineFromSecondViolation));
+                    }
+                });
+
+        assertThat(frozen)
+                .checking(importClasses(getClass()))
+                .hasOnlyViolations("second #5# violation");
+        assertThat(violationStore.getViolations(frozen))
+                .containsExactly("second #1# violation", "first #1# violation", "second #2# violation");
+    }
+
     @Test
     public void fails_on_an_increased_violation_count_of_the_same_violation_compared_to_frozen_ones() {
         TestViolationStore violationStore = new TestViolationStore();
@@ -274,6 +303,35 @@ public class FreezingArchRuleTest {
                 .hasOnlyViolations(frozenViolations[1], "third violation");
     }
 
+    @Test
+    public void concurrent_file_based_violation_store_works() throws IOException {
+        ArchConfiguration.get().setProperty("freeze.store", ConcurrentFileBasedViolationStore.class.getName());
+        ArchConfiguration.get().setProperty("freeze.store.default.compressionThreshold", "3");
+        useTemporaryDefaultStorePath();
+        ArchConfiguration.get().setProperty(ALLOW_STORE_CREATION_PROPERTY_NAME, "true");
+
+        FreezingArchRule frozen = freeze(rule("some description")
+                .withViolations("first violation", "second\nviolation", "third violation"));
+
+        assertThat(frozen)
+                .checking(importClasses(getClass()))
+                .hasNoViolation();
+
+        frozen = freeze(rule("some description")
+                .withViolations("first violation", "second\nviolation", "fourth violation"));
+
+        assertThat(frozen)
+                .checking(importClasses(getClass()))
+                .hasOnlyViolations("fourth violation");
+
+        frozen = freeze(rule("some description")
+                .withViolations("second\nviolation", "third violation"));
+
+        assertThat(frozen)
+                .checking(importClasses(getClass()))
+                .hasOnlyViolations("third violation");
+    }
+
     @Test
     public void existing_violation_store_can_be_updated_when_creation_is_disabled() throws IOException {
         useTemporaryDefaultStorePath();
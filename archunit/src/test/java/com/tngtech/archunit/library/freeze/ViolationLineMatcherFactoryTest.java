@@ -53,5 +53,9 @@ public class ViolationLineMatcherFactoryTest {
         assertThat(defaultMatcher.matches(str1, str2))
                 .as(String.format("'%s' matches '%s'", str1, str2))
                 .isEqualTo(expected);
+        assertThat(((NormalizingViolationLineMatcher) defaultMatcher).normalize(str1)
+                .equals(((NormalizingViolationLineMatcher) defaultMatcher).normalize(str2)))
+                .as(String.format("'%s' normalized equals '%s' normalized", str1, str2))
+                .isEqualTo(expected);
     }
 }